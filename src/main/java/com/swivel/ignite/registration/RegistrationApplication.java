@@ -3,12 +3,14 @@ package com.swivel.ignite.registration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Registration Application
  */
 @SpringBootApplication
 @EnableEurekaClient
+@EnableScheduling
 public class RegistrationApplication {
 
     public static void main(String[] args) {
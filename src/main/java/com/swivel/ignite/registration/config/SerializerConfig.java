@@ -0,0 +1,28 @@
+package com.swivel.ignite.registration.config;
+
+import com.swivel.ignite.registration.serializer.GeneratedSerializerModule;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serializer configuration
+ * <p>
+ * Registers the serializers generated at compile time for the hot response types with the object mappers of the
+ * JSON, CBOR and Smile message converters.
+ */
+@Configuration
+public class SerializerConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        GeneratedSerializerModule module = new GeneratedSerializerModule();
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter)
+                ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper().registerModule(module);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.swivel.ignite.registration.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.swivel.ignite.registration.dto.request.BatchOperationRequestDto;
+import com.swivel.ignite.registration.dto.request.BatchRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.registration.dto.response.BatchOperationResponseDto;
+import com.swivel.ignite.registration.dto.response.BatchResponseDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.ExpectedOutcomeException;
+import com.swivel.ignite.registration.exception.InvalidBatchReferenceException;
+import com.swivel.ignite.registration.exception.PasswordHashingBusyException;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Batch Controller
+ * <p>
+ * Executes an ordered list of student/ tuition operations in one HTTP round trip. Params and body values of an
+ * operation may reference the response data of an earlier successful operation as ${operationId.field}.
+ * A transactional batch runs every operation in one DB transaction, stops at the first failed operation and
+ * rolls back. Calls to the payment microservice made by delete operations are not rolled back.
+ * Every login/ create operation takes a token of the client rate limit, the same as a request to its own endpoint.
+ */
+@RestController
+@RequestMapping("api/v1/batch")
+@Slf4j
+public class BatchController extends Controller {
+
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("\\$\\{([^.}]+)\\.([^}]+)}");
+    private static final String STUDENT_ID = "studentId";
+    private static final String TUITION_ID = "tuitionId";
+    private final StudentController studentController;
+    private final TuitionController tuitionController;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final RateLimitService rateLimitService;
+    private final int maxOperations;
+
+    @Autowired
+    public BatchController(StudentController studentController, TuitionController tuitionController,
+                           PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                           RateLimitService rateLimitService,
+                           @Value("${registration.batch.maxOperations}") int maxOperations) {
+        this.studentController = studentController;
+        this.tuitionController = tuitionController;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.rateLimitService = rateLimitService;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * This method executes a batch of operations
+     *
+     * @param requestDto batch request dto
+     * @param request    http request, identifying the client of the rate limit
+     * @return success(result of every operation)/ error response
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_UTF8_VALUE, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> executeBatch(@RequestBody BatchRequestDto requestDto,
+                                                        HttpServletRequest request) {
+        try {
+            if (!requestDto.isRequiredAvailable()) {
+                log.error("Required fields missing in batch request DTO for executing batch");
+                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            if (requestDto.getOperations().size() > maxOperations) {
+                log.error("Too many operations: {} for executing batch", requestDto.getOperations().size());
+                return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_OPERATIONS);
+            }
+            String clientIp = request.getRemoteAddr();
+            List<BatchOperationResponseDto> results = new ArrayList<>();
+            boolean rolledBack = false;
+            if (requestDto.isTransactional()) {
+                Boolean succeeded = transactionTemplate.execute(status -> {
+                    boolean allSucceeded = executeOperations(requestDto.getOperations(), results, clientIp, true);
+                    if (!allSucceeded)
+                        status.setRollbackOnly();
+                    return allSucceeded;
+                });
+                rolledBack = !Boolean.TRUE.equals(succeeded);
+            } else {
+                executeOperations(requestDto.getOperations(), results, clientIp, false);
+            }
+            BatchResponseDto responseDto = new BatchResponseDto(requestDto.isTransactional(), rolledBack, results);
+            log.debug("Executed batch of {} operations. rolledBack: {}", results.size(), rolledBack);
+            return getSuccessResponse(SuccessResponseStatusType.EXECUTED_BATCH, responseDto);
+        } catch (TransactionException e) {
+            log.error("Executing transactional batch was failed", e);
+            return getInternalServerErrorResponse();
+        }
+    }
+
+    /**
+     * This method executes the operations in order and collects their results
+     *
+     * @param operations    operations
+     * @param results       results of the operations
+     * @param clientIp      client ip
+     * @param stopOnFailure true to skip all operations after the first failed one
+     * @return true if every operation succeeded
+     */
+    private boolean executeOperations(List<BatchOperationRequestDto> operations,
+                                      List<BatchOperationResponseDto> results, String clientIp,
+                                      boolean stopOnFailure) {
+        Map<String, JsonNode> resultData = new HashMap<>();
+        boolean allSucceeded = true;
+        for (BatchOperationRequestDto operation : operations) {
+            if (!allSucceeded && stopOnFailure) {
+                results.add(new BatchOperationResponseDto(operation.getId(), operation.getType(),
+                        HttpStatus.FAILED_DEPENDENCY.value(), null));
+                continue;
+            }
+            ResponseEntity<ResponseWrapper> response;
+            if (isRateLimited(operation) && !rateLimitService.tryAcquireClient(clientIp)) {
+                log.debug("Throttled batch operation: {} of client: {}", operation.getId(), clientIp);
+                response = getTooManyRequestsResponse(ErrorResponseStatusType.CLIENT_RATE_LIMITED);
+            } else {
+                response = executeOperation(operation, resultData);
+            }
+            results.add(new BatchOperationResponseDto(operation.getId(), operation.getType(),
+                    response.getStatusCodeValue(), response.getBody()));
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                allSucceeded = false;
+            } else if (operation.getId() != null && response.getBody() instanceof SuccessResponseWrapper) {
+                resultData.put(operation.getId(),
+                        objectMapper.valueToTree(((SuccessResponseWrapper) response.getBody()).getData()));
+            }
+        }
+        return allSucceeded;
+    }
+
+    /**
+     * This method checks whether the operation is one of the login/ create operations taking a client token
+     *
+     * @param operation operation
+     * @return true if the operation is rate limited
+     */
+    private boolean isRateLimited(BatchOperationRequestDto operation) {
+        switch (operation.getType()) {
+            case CREATE_STUDENT:
+            case LOGIN_STUDENT:
+            case CREATE_TUITION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * This method executes a single operation through the matching controller action
+     *
+     * @param operation  operation
+     * @param resultData response data of the earlier successful operations by operation id
+     * @return response of the controller action
+     */
+    private ResponseEntity<ResponseWrapper> executeOperation(BatchOperationRequestDto operation,
+                                                             Map<String, JsonNode> resultData) {
+        try {
+            Map<String, String> params = new HashMap<>();
+            for (Map.Entry<String, String> param : operation.getParams().entrySet()) {
+                params.put(param.getKey(), resolve(param.getValue(), resultData));
+            }
+            switch (operation.getType()) {
+                case CREATE_STUDENT:
+                    return studentController.createStudent(readBody(operation, resultData,
+                            StudentCreateRequestDto.class));
+                case LOGIN_STUDENT:
+                    return studentController.loginStudent(readBody(operation, resultData,
+                            StudentCreateRequestDto.class));
+                case GET_STUDENT:
+                    return studentController.getStudentById(params.get(STUDENT_ID), null);
+                case DELETE_STUDENT:
+                    return studentController.deleteStudent(params.get(STUDENT_ID));
+                case ADD_STUDENT_TO_TUITION:
+                    return studentController.addStudentToTuition(params.get(STUDENT_ID), params.get(TUITION_ID));
+                case REMOVE_STUDENT_FROM_TUITION:
+                    return studentController.removeStudentFromTuition(params.get(STUDENT_ID),
+                            params.get(TUITION_ID));
+                case CREATE_TUITION:
+                    return tuitionController.createTuition(readBody(operation, resultData,
+                            TuitionCreateRequestDto.class));
+                case GET_TUITION:
+                    return tuitionController.getTuitionById(params.get(TUITION_ID), null);
+                case DELETE_TUITION:
+                    return tuitionController.deleteTuition(params.get(TUITION_ID));
+                default:
+                    log.error("Unsupported batch operation type: {}", operation.getType());
+                    return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+        } catch (InvalidBatchReferenceException e) {
+            log.warn("Invalid reference in batch operation: {}. {}", operation.getId(), e.getMessage());
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_BATCH_REFERENCE);
+        } catch (JsonProcessingException e) {
+            log.error("Invalid body in batch operation: {}. {}", operation.getId(), e.getOriginalMessage());
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        } catch (ExpectedOutcomeException | PasswordHashingBusyException | RegistrationServiceException e) {
+            return RegistrationExceptionHandler.getErrorResponse(e, "batch operation: " + operation.getId());
+        }
+    }
+
+    /**
+     * This method resolves the references in the operation body and converts it to the request dto
+     *
+     * @param operation  operation
+     * @param resultData response data of the earlier successful operations by operation id
+     * @param type       request dto type
+     * @param <T>        request dto type
+     * @return request dto
+     * @throws JsonProcessingException if the body doesn't match the request dto
+     */
+    private <T> T readBody(BatchOperationRequestDto operation, Map<String, JsonNode> resultData, Class<T> type)
+            throws JsonProcessingException {
+        JsonNode body = resolve(operation.getBody().deepCopy(), resultData);
+        return objectMapper.treeToValue(body, type);
+    }
+
+    /**
+     * This method resolves the references in all text values of a json node
+     *
+     * @param node       json node
+     * @param resultData response data of the earlier successful operations by operation id
+     * @return resolved json node
+     */
+    private JsonNode resolve(JsonNode node, Map<String, JsonNode> resultData) {
+        if (node.isTextual())
+            return TextNode.valueOf(resolve(node.asText(), resultData));
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                field.setValue(resolve(field.getValue(), resultData));
+            }
+        } else if (node.isArray()) {
+            ArrayNode arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                arrayNode.set(i, resolve(arrayNode.get(i), resultData));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * This method replaces every ${operationId.field} reference in the value with the referenced response data
+     *
+     * @param value      value
+     * @param resultData response data of the earlier successful operations by operation id
+     * @return resolved value
+     */
+    private String resolve(String value, Map<String, JsonNode> resultData) {
+        if (value == null)
+            return null;
+        Matcher matcher = REFERENCE_PATTERN.matcher(value);
+        StringBuffer resolved = new StringBuffer();
+        while (matcher.find()) {
+            JsonNode data = resultData.get(matcher.group(1));
+            if (data == null)
+                throw new InvalidBatchReferenceException("Unknown or failed batch operation: " + matcher.group(1));
+            JsonNode field = data.at("/" + matcher.group(2).replace('.', '/'));
+            if (field.isMissingNode() || field.isNull() || field.isContainerNode())
+                throw new InvalidBatchReferenceException("Unknown field: " + matcher.group(2) + " of batch operation: "
+                        + matcher.group(1));
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(field.asText()));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.response.ChangeFeedResponseDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.ChangeFeedService;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Change Controller
+ */
+@RestController
+@RequestMapping("api/v1/changes")
+@Slf4j
+public class ChangeController extends Controller {
+
+    private final ChangeFeedService changeFeedService;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final long maxWaitMs;
+
+    @Autowired
+    public ChangeController(ChangeFeedService changeFeedService,
+                            @Value("${registration.changes.defaultLimit}") int defaultLimit,
+                            @Value("${registration.changes.maxLimit}") int maxLimit,
+                            @Value("${registration.changes.maxWaitMs}") long maxWaitMs) {
+        this.changeFeedService = changeFeedService;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * This method returns the student and tuition changes after a cursor. With a wait the request is held open until
+     * a change is committed or the wait runs out, so consumers can long-poll instead of re-reading everything.
+     *
+     * @param since cursor of the last change read, 0 to read from the start
+     * @param limit max number of changes
+     * @param wait  max time in ms to wait for a change, capped by the configured max
+     * @return success(change feed)/ error response
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public DeferredResult<ResponseEntity<ResponseWrapper>> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "wait", defaultValue = "0") long wait) {
+        DeferredResult<ResponseEntity<ResponseWrapper>> result = new DeferredResult<>();
+        if (since < 0) {
+            log.error("Invalid cursor: {} for reading changes", since);
+            result.setResult(getBadRequestResponse(ErrorResponseStatusType.INVALID_CURSOR));
+            return result;
+        }
+        int pageSize = limit != null ? limit : defaultLimit;
+        if (pageSize < 1 || pageSize > maxLimit) {
+            log.error("Invalid page limit: {} for reading changes", limit);
+            result.setResult(getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_LIMIT));
+            return result;
+        }
+        try {
+            changeFeedService.awaitChanges(since, pageSize, Math.max(0, Math.min(wait, maxWaitMs)))
+                    .whenComplete((changes, e) -> {
+                        if (e != null) {
+                            log.error("Reading changes was failed after cursor: {}", since, e);
+                            result.setResult(getInternalServerErrorResponse());
+                            return;
+                        }
+                        log.debug("Returned {} changes after cursor: {}", changes.size(), since);
+                        result.setResult(getSuccessResponse(SuccessResponseStatusType.READ_CHANGES,
+                                new ChangeFeedResponseDto(changes, since)));
+                    });
+        } catch (RegistrationServiceException e) {
+            log.error("Reading changes was failed after cursor: {}", since, e);
+            result.setResult(getInternalServerErrorResponse());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.response.CompactErrorResponseDto;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.filter.ApiVersionFilter;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import com.swivel.ignite.registration.wrapper.ErrorResponseWrapper;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Compact Response Body Advice
+ * <p>
+ * Writes the responses of the v2 api without the v1 envelope. A success response is written as its bare data, with
+ * 201 for a created entity and 204 when there is no data, and an error response as the compact error of its status,
+ * as the http status already tells success from failure. The responses of the v1 api are written unchanged.
+ */
+@RestControllerAdvice
+public class CompactResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest) ||
+                !ApiVersionFilter.isV2(((ServletServerHttpRequest) request).getServletRequest()))
+            return body;
+        if (body instanceof SuccessResponseWrapper) {
+            SuccessResponseWrapper wrapper = (SuccessResponseWrapper) body;
+            if (wrapper.getData() == null) {
+                response.setStatusCode(HttpStatus.NO_CONTENT);
+                return null;
+            }
+            if (isCreated(wrapper.getStatusCode()))
+                response.setStatusCode(HttpStatus.CREATED);
+            return wrapper.getData();
+        }
+        if (body instanceof ErrorResponseWrapper) {
+            CompactErrorResponseDto compactError =
+                    ErrorResponses.getCompactError(((ErrorResponseWrapper) body).getErrorCode());
+            return compactError == null ? body : compactError;
+        }
+        return body;
+    }
+
+    /**
+     * This method checks a success status code is of a created entity
+     *
+     * @param statusCode success status code
+     * @return true/ false
+     */
+    private boolean isCreated(int statusCode) {
+        return statusCode == SuccessResponseStatusType.CREATE_STUDENT.getCode() ||
+                statusCode == SuccessResponseStatusType.CREATE_TUITION.getCode();
+    }
+}
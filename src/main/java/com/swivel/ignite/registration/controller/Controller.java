@@ -4,7 +4,7 @@ import com.swivel.ignite.registration.dto.response.ResponseDto;
 import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
 import com.swivel.ignite.registration.enums.ResponseStatusType;
 import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
-import com.swivel.ignite.registration.wrapper.ErrorResponseWrapper;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
 import com.swivel.ignite.registration.wrapper.ResponseWrapper;
 import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
 import org.springframework.http.HttpStatus;
@@ -12,10 +12,16 @@ import org.springframework.http.ResponseEntity;
 
 /**
  * Base Controller
+ * <p>
+ * The error responses share the wrapper of their error status. Exceptions of the services are answered by
+ * {@link RegistrationExceptionHandler}. The json actions also read and write CBOR and Smile, the binary forms of the
+ * same DTOs, for the services that call them at high rates.
  */
 public class Controller {
 
-    private static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
+    protected static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    protected static final String APPLICATION_CBOR_VALUE = "application/cbor";
+    protected static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
     private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
 
     /**
@@ -25,9 +31,57 @@ public class Controller {
      * @return bad request error response
      */
     protected ResponseEntity<ResponseWrapper> getBadRequestResponse(ErrorResponseStatusType status) {
-        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, status.getMessage(),
-                null, ERROR_MESSAGE, status.getCode());
-        return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * This method creates an empty data response for requests without a valid session token
+     *
+     * @param status error status
+     * @return unauthorized error response
+     */
+    protected ResponseEntity<ResponseWrapper> getUnauthorizedResponse(ErrorResponseStatusType status) {
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * This method creates an empty data response for requests whose session token doesn't allow the action
+     *
+     * @param status error status
+     * @return forbidden error response
+     */
+    protected ResponseEntity<ResponseWrapper> getForbiddenResponse(ErrorResponseStatusType status) {
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.FORBIDDEN);
+    }
+
+    /**
+     * This method creates an empty data response for conflicting write scenarios
+     *
+     * @param status error status
+     * @return conflict error response
+     */
+    protected ResponseEntity<ResponseWrapper> getConflictResponse(ErrorResponseStatusType status) {
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * This method creates an empty data response for throttled requests
+     *
+     * @param status error status
+     * @return too many requests error response
+     */
+    protected ResponseEntity<ResponseWrapper> getTooManyRequestsResponse(ErrorResponseStatusType status) {
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * This method creates an empty data response for overload scenarios, where the request can be retried later
+     *
+     * @param status error status
+     * @return service unavailable error response
+     */
+    protected ResponseEntity<ResponseWrapper> getServiceUnavailableResponse(ErrorResponseStatusType status) {
+        return new ResponseEntity<>(ErrorResponses.getWrapper(status), HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     /**
@@ -36,10 +90,8 @@ public class Controller {
      * @return internal server error response
      */
     protected ResponseEntity<ResponseWrapper> getInternalServerErrorResponse() {
-        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
-                .INTERNAL_SERVER_ERROR.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
-                .INTERNAL_SERVER_ERROR.getCode());
-        return new ResponseEntity<>(responseWrapper, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(ErrorResponses.getWrapper(ErrorResponseStatusType.INTERNAL_SERVER_ERROR),
+                HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     /**
@@ -0,0 +1,72 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.request.StudentQueryRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentQueryResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.StudentQueryService;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Query Controller
+ */
+@RestController
+@RequestMapping("api/v1/query")
+@Slf4j
+public class QueryController extends Controller {
+
+    private final StudentQueryService studentQueryService;
+    private final int maxBatchReadIds;
+
+    @Autowired
+    public QueryController(StudentQueryService studentQueryService,
+                           @Value("${registration.batchRead.maxIds}") int maxBatchReadIds) {
+        this.studentQueryService = studentQueryService;
+        this.maxBatchReadIds = maxBatchReadIds;
+    }
+
+    /**
+     * This method resolves a list of students with the selected fields of the students and their tuition
+     *
+     * @param requestDto student query request dto
+     * @return success(student results)/ error response
+     */
+    @PostMapping(path = "/students", consumes = MediaType.APPLICATION_JSON_UTF8_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> queryStudents(@RequestBody StudentQueryRequestDto requestDto) {
+        try {
+            if (!requestDto.isRequiredAvailable()) {
+                log.error("Required fields missing in student query request DTO for querying students");
+                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            if (!requestDto.isFieldsValid()) {
+                log.error("Unknown fields: {} in student query request DTO", requestDto.getFields());
+                return getBadRequestResponse(ErrorResponseStatusType.UNKNOWN_FIELDS);
+            }
+            if (requestDto.getStudentIds().size() > maxBatchReadIds) {
+                log.error("Too many ids: {} for querying students", requestDto.getStudentIds().size());
+                return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_IDS);
+            }
+            List<StudentQueryResultDto> results = studentQueryService.queryStudents(requestDto.getStudentIds(),
+                    requestDto.getSelectedFields());
+            log.debug("Queried {} students", results.size());
+            return getSuccessResponse(SuccessResponseStatusType.QUERIED_STUDENTS, new StudentQueryResponseDto(results));
+        } catch (RegistrationServiceException e) {
+            log.error("Querying students was failed for requestDto: {}", requestDto.toLogJson(), e);
+            return getInternalServerErrorResponse();
+        }
+    }
+}
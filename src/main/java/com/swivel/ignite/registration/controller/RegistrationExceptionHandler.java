@@ -0,0 +1,111 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.exception.*;
+import com.swivel.ignite.registration.filter.ApiVersionFilter;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registration Exception Handler
+ * <p>
+ * Answers the exceptions the services throw to the controllers with the pre-encoded error response of their
+ * status, which is written as is, or the compact error of the status to a v2 request. Expected outcomes are logged
+ * without a trace.
+ */
+@RestControllerAdvice
+@Slf4j
+public class RegistrationExceptionHandler {
+
+    private static final Map<Class<? extends RuntimeException>, ErrorMapping> ERROR_MAPPINGS = new HashMap<>();
+    private static final ErrorMapping INTERNAL_SERVER_ERROR = new ErrorMapping(HttpStatus.INTERNAL_SERVER_ERROR,
+            ErrorResponseStatusType.INTERNAL_SERVER_ERROR);
+
+    static {
+        ERROR_MAPPINGS.put(StudentNotFoundException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.STUDENT_NOT_FOUND));
+        ERROR_MAPPINGS.put(TuitionNotFoundException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.TUITION_NOT_FOUND));
+        ERROR_MAPPINGS.put(StudentAlreadyExistsException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.STUDENT_ALREADY_EXISTS));
+        ERROR_MAPPINGS.put(TuitionAlreadyExistsException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.TUITION_ALREADY_EXISTS));
+        ERROR_MAPPINGS.put(UsernamePasswordNotMatchException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.USERNAME_PASSWORD_NOT_MATCH));
+        ERROR_MAPPINGS.put(InvalidCursorException.class,
+                new ErrorMapping(HttpStatus.BAD_REQUEST, ErrorResponseStatusType.INVALID_CURSOR));
+        ERROR_MAPPINGS.put(VersionConflictException.class,
+                new ErrorMapping(HttpStatus.CONFLICT, ErrorResponseStatusType.VERSION_CONFLICT));
+        ERROR_MAPPINGS.put(PasswordHashingBusyException.class,
+                new ErrorMapping(HttpStatus.SERVICE_UNAVAILABLE, ErrorResponseStatusType.PASSWORD_HASHING_BUSY));
+        ERROR_MAPPINGS.put(RegistrationServiceException.class, INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * This method answers an exception thrown by a controller action
+     *
+     * @param e       exception
+     * @param request request
+     * @return error response
+     */
+    @ExceptionHandler({StudentNotFoundException.class, TuitionNotFoundException.class,
+            StudentAlreadyExistsException.class, TuitionAlreadyExistsException.class,
+            UsernamePasswordNotMatchException.class, InvalidCursorException.class, VersionConflictException.class,
+            PasswordHashingBusyException.class, RegistrationServiceException.class})
+    public ResponseEntity<byte[]> handleException(RuntimeException e, HttpServletRequest request) {
+        ErrorMapping errorMapping = logAndMap(e, request.getMethod() + " " + request.getRequestURI());
+        return ErrorResponses.getResponse(errorMapping.httpStatus, errorMapping.status,
+                ApiVersionFilter.isV2(request));
+    }
+
+    /**
+     * This method returns the error response of an exception thrown by a controller action that was called
+     * directly, as the operations of a batch are
+     *
+     * @param e         exception
+     * @param operation operation for the log
+     * @return error response
+     */
+    public static ResponseEntity<ResponseWrapper> getErrorResponse(RuntimeException e, String operation) {
+        ErrorMapping errorMapping = logAndMap(e, operation);
+        return new ResponseEntity<>(ErrorResponses.getWrapper(errorMapping.status), errorMapping.httpStatus);
+    }
+
+    /**
+     * This method logs an exception, expected outcomes without a trace, and returns its error mapping
+     *
+     * @param e         exception
+     * @param operation operation for the log
+     * @return error mapping
+     */
+    private static ErrorMapping logAndMap(RuntimeException e, String operation) {
+        if (e instanceof ExpectedOutcomeException)
+            log.warn("{} for: {}", e.getMessage(), operation);
+        else
+            log.error("Failed: {}", operation, e);
+        return ERROR_MAPPINGS.getOrDefault(e.getClass(), INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Http status and error status of an exception
+     */
+    private static final class ErrorMapping {
+
+        private final HttpStatus httpStatus;
+        private final ErrorResponseStatusType status;
+
+        private ErrorMapping(HttpStatus httpStatus, ErrorResponseStatusType status) {
+            this.httpStatus = httpStatus;
+            this.status = status;
+        }
+    }
+}
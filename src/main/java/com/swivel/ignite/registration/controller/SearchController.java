@@ -0,0 +1,137 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.request.StudentSearchRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionSearchResponseDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SearchMode;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.InvalidCursorException;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.StudentService;
+import com.swivel.ignite.registration.service.TuitionSearchService;
+import com.swivel.ignite.registration.service.search.SearchPage;
+import com.swivel.ignite.registration.service.search.StudentSearchPage;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+
+/**
+ * Search Controller
+ */
+@RestController
+@RequestMapping("api/v1/search")
+@Slf4j
+public class SearchController extends Controller {
+
+    private final TuitionSearchService tuitionSearchService;
+    private final StudentService studentService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    @Autowired
+    public SearchController(TuitionSearchService tuitionSearchService, StudentService studentService,
+                            @Value("${registration.search.defaultPageSize}") int defaultPageSize,
+                            @Value("${registration.search.maxPageSize}") int maxPageSize) {
+        this.tuitionSearchService = tuitionSearchService;
+        this.studentService = studentService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * This method searches tuition by a prefix or substring of their name or location, best match first
+     *
+     * @param query query
+     * @param mode  index (default)/ db
+     * @param page  page number starting from 0
+     * @param size  page size/ null for the default page size
+     * @return success(tuition search results)/ error response
+     */
+    @GetMapping(path = "/tuition", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> searchTuition(@RequestParam(name = "q", required = false) String query,
+                                                         @RequestParam(name = "mode", defaultValue = "index")
+                                                                 String mode,
+                                                         @RequestParam(name = "page", defaultValue = "0") int page,
+                                                         @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            if (query == null || query.trim().isEmpty()) {
+                log.error("Required query missing for searching tuition");
+                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            int pageSize = size != null ? size : defaultPageSize;
+            if (page < 0 || pageSize < 1 || pageSize > maxPageSize) {
+                log.error("Invalid page: {} or page size: {} for searching tuition", page, size);
+                return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_LIMIT);
+            }
+            SearchMode searchMode = toSearchMode(mode);
+            if (searchMode == null) {
+                log.error("Unknown search mode: {} for searching tuition", mode);
+                return getBadRequestResponse(ErrorResponseStatusType.UNKNOWN_SEARCH_MODE);
+            }
+            SearchPage searchPage = tuitionSearchService.search(query, searchMode, page, pageSize);
+            TuitionSearchResponseDto responseDto = new TuitionSearchResponseDto(query, searchMode, page, searchPage);
+            log.debug("Found {} tuition for query: {} in mode: {}", searchPage.getTotal(), query, searchMode);
+            return getSuccessResponse(SuccessResponseStatusType.SEARCHED_TUITION, responseDto);
+        } catch (RegistrationServiceException e) {
+            log.error("Searching tuition was failed for query: {}", query, e);
+            return getInternalServerErrorResponse();
+        }
+    }
+
+    /**
+     * This method searches students by name prefix, tuition and joined date range. Pages are read by passing the
+     * next cursor of a page as after.
+     *
+     * @param requestDto student search request dto
+     * @return success(student page)/ error response
+     */
+    @GetMapping(path = "/students", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> searchStudents(StudentSearchRequestDto requestDto) {
+        try {
+            if (!requestDto.isRequiredAvailable()) {
+                log.error("Invalid filters in student search request DTO for searching students");
+                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+            }
+            int pageSize = requestDto.getLimit() != null ? requestDto.getLimit() : defaultPageSize;
+            if (pageSize < 1 || pageSize > maxPageSize) {
+                log.error("Invalid page limit: {} for searching students", requestDto.getLimit());
+                return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_LIMIT);
+            }
+            StudentSearchPage searchPage = studentService.searchStudents(requestDto, pageSize);
+            StudentPageResponseDto responseDto = new StudentPageResponseDto(searchPage.getStudents(),
+                    searchPage.getNextCursor());
+            log.debug("Found {} students for search: {}", searchPage.getStudents().size(), requestDto.toLogJson());
+            return getSuccessResponse(SuccessResponseStatusType.SEARCHED_STUDENTS, responseDto);
+        } catch (InvalidCursorException e) {
+            log.warn("Invalid cursor for searching students with requestDto: {}", requestDto.toLogJson());
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_CURSOR);
+        } catch (RegistrationServiceException e) {
+            log.error("Searching students was failed for requestDto: {}", requestDto.toLogJson(), e);
+            return getInternalServerErrorResponse();
+        }
+    }
+
+    /**
+     * This method returns the search mode of a request parameter
+     *
+     * @param mode mode parameter
+     * @return SearchMode/ null if the mode is unknown
+     */
+    private SearchMode toSearchMode(String mode) {
+        try {
+            return SearchMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
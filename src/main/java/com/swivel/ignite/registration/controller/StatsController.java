@@ -0,0 +1,79 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.response.LocationStatsListResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionStatsListResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionStatsResponseDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.service.TuitionStatsService;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Stats Controller
+ */
+@RestController
+@RequestMapping("api/v1/stats")
+@Slf4j
+public class StatsController extends Controller {
+
+    private final TuitionStatsService tuitionStatsService;
+
+    @Autowired
+    public StatsController(TuitionStatsService tuitionStatsService) {
+        this.tuitionStatsService = tuitionStatsService;
+    }
+
+    /**
+     * This method returns the enrollment count of a tuition
+     *
+     * @param tuitionId tuition id
+     * @return success(tuition stats)/ error response
+     */
+    @GetMapping(path = "/tuition/{tuitionId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> getTuitionStats(@PathVariable(name = "tuitionId") String tuitionId) {
+        try {
+            TuitionStatsResponseDto responseDto = new TuitionStatsResponseDto(
+                    tuitionStatsService.getTuitionStats(tuitionId));
+            log.debug("Returned stats of tuition of id: {}", tuitionId);
+            return getSuccessResponse(SuccessResponseStatusType.READ_TUITION_STATS, responseDto);
+        } catch (TuitionNotFoundException e) {
+            log.warn("Tuition stats not found for tuition id: {}", tuitionId);
+            return getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND);
+        }
+    }
+
+    /**
+     * This method returns the enrollment counts of all tuition
+     *
+     * @return success(tuition stats list)
+     */
+    @GetMapping(path = "/tuition", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> getAllTuitionStats() {
+        TuitionStatsListResponseDto responseDto = new TuitionStatsListResponseDto(
+                tuitionStatsService.getAllTuitionStats());
+        log.debug("Returned stats of all tuition");
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION_STATS, responseDto);
+    }
+
+    /**
+     * This method returns the tuition and student totals of all locations
+     *
+     * @return success(location stats list)
+     */
+    @GetMapping(path = "/location", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<ResponseWrapper> getLocationStats() {
+        LocationStatsListResponseDto responseDto = new LocationStatsListResponseDto(
+                tuitionStatsService.getLocationStats());
+        log.debug("Returned stats of all locations");
+        return getSuccessResponse(SuccessResponseStatusType.READ_LOCATION_STATS, responseDto);
+    }
+}
@@ -1,20 +1,38 @@
 package com.swivel.ignite.registration.controller;
 
 import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentUpdateRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentBatchResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentLoginResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
 import com.swivel.ignite.registration.dto.response.StudentResponseDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
 import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.StudentQueryField;
 import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
-import com.swivel.ignite.registration.exception.*;
+import com.swivel.ignite.registration.filter.SessionTokenFilter;
+import com.swivel.ignite.registration.service.PasswordService;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.StudentBulkRegistrationService;
+import com.swivel.ignite.registration.service.StudentQueryService;
 import com.swivel.ignite.registration.service.StudentService;
 import com.swivel.ignite.registration.service.TuitionService;
+import com.swivel.ignite.registration.service.token.SessionToken;
 import com.swivel.ignite.registration.wrapper.ResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
 
 /**
  * Student Controller
@@ -26,11 +44,27 @@ public class StudentController extends Controller {
 
     private final StudentService studentService;
     private final TuitionService tuitionService;
+    private final StudentBulkRegistrationService studentBulkRegistrationService;
+    private final StudentQueryService studentQueryService;
+    private final PasswordService passwordService;
+    private final SessionTokenService sessionTokenService;
+    private final RateLimitService rateLimitService;
+    private final int maxBatchReadIds;
 
     @Autowired
-    public StudentController(StudentService studentService, TuitionService tuitionService) {
+    public StudentController(StudentService studentService, TuitionService tuitionService,
+                             StudentBulkRegistrationService studentBulkRegistrationService,
+                             StudentQueryService studentQueryService, PasswordService passwordService,
+                             SessionTokenService sessionTokenService, RateLimitService rateLimitService,
+                             @Value("${registration.batchRead.maxIds}") int maxBatchReadIds) {
         this.studentService = studentService;
         this.tuitionService = tuitionService;
+        this.studentBulkRegistrationService = studentBulkRegistrationService;
+        this.studentQueryService = studentQueryService;
+        this.passwordService = passwordService;
+        this.sessionTokenService = sessionTokenService;
+        this.rateLimitService = rateLimitService;
+        this.maxBatchReadIds = maxBatchReadIds;
     }
 
     /**
@@ -39,78 +73,151 @@ public class StudentController extends Controller {
      * @param requestDto student create request dto
      * @return success(student response)/ error response
      */
-    @PostMapping(path = "/create", consumes = MediaType.APPLICATION_JSON_UTF8_VALUE,
-            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @PostMapping(path = "/create", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> createStudent(@RequestBody StudentCreateRequestDto requestDto) {
-        try {
-            if (!requestDto.isRequiredAvailable()) {
-                log.error("Required fields missing in tuition create request DTO for creating student");
-                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
-            }
-            Student student = new Student(requestDto);
-            studentService.createStudent(student);
-            StudentResponseDto responseDto = new StudentResponseDto(student);
-            log.debug("Created student {}", responseDto.toLogJson());
-            return getSuccessResponse(SuccessResponseStatusType.CREATE_STUDENT, responseDto);
-        } catch (StudentAlreadyExistsException e) {
-            log.error("Student already exists for create student with requestDto: {}", requestDto.toLogJson(), e);
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_EXISTS);
-        } catch (RegistrationServiceException e) {
-            log.error("Creating tuition was failed for requestDto: {}", requestDto.toLogJson(), e);
-            return getInternalServerErrorResponse();
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition create request DTO for creating student");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
         }
+        Student student = new Student(requestDto);
+        student.setPassword(passwordService.hash(requestDto.getPassword()));
+        studentService.createStudent(student);
+        StudentResponseDto responseDto = new StudentResponseDto(student);
+        log.debug("Created student {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.CREATE_STUDENT, responseDto);
+    }
+
+    /**
+     * This method creates students in bulk from a streamed NDJSON or JSON array body of student create requests.
+     * The result of every row is streamed back as NDJSON in request order.
+     *
+     * @param request http request
+     * @return streamed per row results
+     * @throws IOException if the request body can't be opened
+     */
+    @PostMapping(path = "/create/bulk", consumes = {APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_UTF8_VALUE},
+            produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createStudents(HttpServletRequest request) throws IOException {
+        InputStream inputStream = request.getInputStream();
+        log.debug("Bulk creating students");
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(outputStream -> studentBulkRegistrationService.registerStudents(inputStream, outputStream));
     }
 
     /**
-     * This method is to log in a student
+     * This method is to log in a student. The response carries a signed session token to send as the bearer token
+     * of later requests instead of logging in again.
      *
      * @param requestDto student create request dto
-     * @return success(student response)/ error response
+     * @return success(student login response)/ error response
      */
-    @PostMapping(path = "/login", consumes = MediaType.APPLICATION_JSON_UTF8_VALUE,
-            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @PostMapping(path = "/login", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> loginStudent(@RequestBody StudentCreateRequestDto requestDto) {
-        try {
-            if (!requestDto.isRequiredAvailable()) {
-                log.error("Required fields missing in tuition create request DTO for creating student");
-                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
-            }
-            Student student = studentService.login(requestDto);
-            StudentResponseDto responseDto = new StudentResponseDto(student);
-            log.debug("Logged in the student {}", responseDto.toLogJson());
-            return getSuccessResponse(SuccessResponseStatusType.LOGIN_STUDENT, responseDto);
-        } catch (StudentNotFoundException e) {
-            log.error("Student not found for login student with requestDto: {}", requestDto.toLogJson(), e);
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_FOUND);
-        } catch (UsernamePasswordNotMatchException e) {
-            log.error("Username and password don't match for login student request dto: {}", requestDto.toLogJson(), e);
-            return getBadRequestResponse(ErrorResponseStatusType.USERNAME_PASSWORD_NOT_MATCH);
-        } catch (RegistrationServiceException e) {
-            log.error("Creating tuition was failed for requestDto: {}", requestDto.toLogJson(), e);
-            return getInternalServerErrorResponse();
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition create request DTO for creating student");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (!rateLimitService.tryAcquireLoginName(requestDto.getName())) {
+            log.debug("Throttled login of student name: {}", requestDto.getName());
+            return getTooManyRequestsResponse(ErrorResponseStatusType.LOGIN_RATE_LIMITED);
         }
+        Student student = studentService.login(requestDto);
+        StudentLoginResponseDto responseDto = new StudentLoginResponseDto(student,
+                sessionTokenService.issue(student.getId()));
+        log.debug("Logged in the student {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.LOGIN_STUDENT, responseDto);
+    }
+
+    /**
+     * This method is to log out a student by revoking the session token of the request
+     *
+     * @param sessionToken verified session token of the request
+     * @return success/ error response
+     */
+    @PostMapping(path = "/logout", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> logoutStudent(
+            @RequestAttribute(name = SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, required = false)
+                    SessionToken sessionToken) {
+        if (sessionToken == null) {
+            log.error("Session token missing for logout student");
+            return getUnauthorizedResponse(ErrorResponseStatusType.INVALID_SESSION_TOKEN);
+        }
+        sessionTokenService.revoke(sessionToken);
+        log.debug("Logged out the student of id: {}", sessionToken.getStudentId());
+        return getSuccessResponse(SuccessResponseStatusType.LOGOUT_STUDENT, null);
     }
 
     /**
      * This method is used to get a student by id
      *
      * @param studentId student id
+     * @param fields    selected fields, returning only these fields of the student and its tuition when given
+     * @return success(student)/ error response
+     */
+    @GetMapping(path = "/get/{studentId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getStudentById(@PathVariable(name = "studentId") String studentId,
+                                                          @RequestParam(name = "fields", required = false)
+                                                                  List<String> fields) {
+        if (fields != null && !fields.isEmpty())
+            return getStudentFieldsById(studentId, fields);
+        Student student = studentService.findById(studentId);
+        StudentResponseDto responseDto = new StudentResponseDto(student);
+        log.debug("Retrieved student of id: {}", studentId);
+        return getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, responseDto);
+    }
+
+    /**
+     * This method returns the selected fields of a student, loading only the tuition data they need
+     *
+     * @param studentId student id
+     * @param fields    selected fields
      * @return success(student)/ error response
      */
-    @GetMapping(path = "/get/{studentId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    public ResponseEntity<ResponseWrapper> getStudentById(@PathVariable(name = "studentId") String studentId) {
-        try {
-            Student student = studentService.findById(studentId);
-            StudentResponseDto responseDto = new StudentResponseDto(student);
-            log.debug("Retrieved student of id: {}", studentId);
-            return getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, responseDto);
-        } catch (StudentNotFoundException e) {
-            log.error("Student not found for studentId: {}", studentId, e);
+    private ResponseEntity<ResponseWrapper> getStudentFieldsById(String studentId, List<String> fields) {
+        Set<StudentQueryField> selectedFields = StudentQueryField.fromPaths(fields);
+        if (selectedFields == null) {
+            log.error("Unknown fields: {} for getting student of id: {}", fields, studentId);
+            return getBadRequestResponse(ErrorResponseStatusType.UNKNOWN_FIELDS);
+        }
+        StudentQueryResultDto responseDto = studentQueryService.queryStudents(Collections.singletonList(studentId),
+                selectedFields).get(0);
+        if (!responseDto.isFound()) {
+            log.error("Student not found for studentId: {}", studentId);
             return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_FOUND);
-        } catch (RegistrationServiceException e) {
-            log.error("Getting student was failed for studentId: {}", studentId, e);
-            return getInternalServerErrorResponse();
         }
+        log.debug("Retrieved fields: {} of student of id: {}", fields, studentId);
+        return getSuccessResponse(SuccessResponseStatusType.GET_STUDENT, responseDto);
+    }
+
+    /**
+     * This method reads a list of students by id in one query. Students are returned in request order, with a not
+     * found entry for each id that doesn't exist.
+     *
+     * @param studentIds student ids
+     * @return success(student list)/ error response
+     */
+    @GetMapping(path = "/get/batch", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getStudentsByIds(
+            @RequestParam(name = "ids", required = false) List<String> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            log.error("Required ids missing for reading students by ids");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (studentIds.size() > maxBatchReadIds) {
+            log.error("Too many ids: {} for reading students by ids", studentIds.size());
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_IDS);
+        }
+        Map<String, Student> studentMap = studentService.findAllById(studentIds);
+        StudentBatchResponseDto responseDto = new StudentBatchResponseDto(studentIds, studentMap);
+        log.debug("Read {} of {} students by ids", studentMap.size(), studentIds.size());
+        return getSuccessResponse(SuccessResponseStatusType.READ_STUDENTS, responseDto);
     }
 
     /**
@@ -119,20 +226,54 @@ public class StudentController extends Controller {
      * @param studentId student id
      * @return success/ error response
      */
-    @DeleteMapping(path = "/delete/{studentId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @DeleteMapping(path = "/delete/{studentId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> deleteStudent(@PathVariable(name = "studentId") String studentId) {
-        try {
-            Student student = studentService.findById(studentId);
-            studentService.deleteStudent(student);
-            log.debug("Successfully deleted the student of id: {}", studentId);
-            return getSuccessResponse(SuccessResponseStatusType.DELETE_STUDENT, null);
-        } catch (StudentNotFoundException e) {
-            log.error("Student not found for studentId: {}", studentId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_FOUND);
-        } catch (RegistrationServiceException e) {
-            log.error("Deleting student was failed for studentId: {}", studentId, e);
-            return getInternalServerErrorResponse();
+        Student student = studentService.findById(studentId);
+        studentService.deleteStudent(student);
+        log.debug("Successfully deleted the student of id: {}", studentId);
+        return getSuccessResponse(SuccessResponseStatusType.DELETE_STUDENT, null);
+    }
+
+    /**
+     * This method changes the given fields of a student. Only the student itself can change them, with a session
+     * token issued to it.
+     *
+     * @param studentId    student id
+     * @param requestDto   student update request dto
+     * @param sessionToken verified session token of the request
+     * @return success(student response)/ error response
+     */
+    @PatchMapping(path = "/update/{studentId}", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> updateStudent(@PathVariable(name = "studentId") String studentId,
+                                                         @RequestBody StudentUpdateRequestDto requestDto,
+                                                         @RequestAttribute(name = SessionTokenFilter
+                                                                 .SESSION_TOKEN_ATTRIBUTE, required = false)
+                                                                 SessionToken sessionToken) {
+        if (sessionToken == null) {
+            log.error("Session token missing for updating student of id: {}", studentId);
+            return getUnauthorizedResponse(ErrorResponseStatusType.INVALID_SESSION_TOKEN);
+        }
+        if (!studentId.equals(sessionToken.getStudentId())) {
+            log.error("Session token of student of id: {} used for updating student of id: {}",
+                    sessionToken.getStudentId(), studentId);
+            return getForbiddenResponse(ErrorResponseStatusType.STUDENT_ACCESS_DENIED);
+        }
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in student update request DTO for updating student");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
         }
+        Student student = studentService.findById(studentId);
+        if (requestDto.getPassword() != null)
+            requestDto.setPassword(passwordService.hash(requestDto.getPassword()));
+        student = studentService.updateStudent(student, requestDto);
+        if (requestDto.getPassword() != null)
+            sessionTokenService.revokeStudent(studentId);
+        StudentResponseDto responseDto = new StudentResponseDto(student);
+        log.debug("Updated student {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.UPDATE_STUDENT, responseDto);
     }
 
     /**
@@ -142,30 +283,20 @@ public class StudentController extends Controller {
      * @param tuitionId tuition id
      * @return success/ error response
      */
-    @PostMapping(path = "/add/{studentId}/{tuitionId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @PostMapping(path = "/add/{studentId}/{tuitionId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> addStudentToTuition(@PathVariable(name = "studentId") String studentId,
                                                                @PathVariable(name = "tuitionId") String tuitionId) {
-        try {
-            Student student = studentService.findById(studentId);
-            if (student.getTuition() != null) {
-                log.error("Student already enrolled in a tuition");
-                return getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_ENROLLED_IN_A_TUITION);
-            }
-            Tuition tuition = tuitionService.findById(tuitionId);
-            Student student1 = studentService.addStudentToTuition(student, tuition);
-            StudentResponseDto responseDto = new StudentResponseDto(student1);
-            log.debug("Successfully added student of id: {} to the tuition", studentId);
-            return getSuccessResponse(SuccessResponseStatusType.ADD_TUITION_STUDENT, responseDto);
-        } catch (TuitionNotFoundException e) {
-            log.error("Tuition not found for add student to tuition of id: {}", tuitionId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND);
-        } catch (StudentNotFoundException e) {
-            log.error("Student not found for add student of id: {} to tuition", studentId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_FOUND);
-        } catch (RegistrationServiceException e) {
-            log.error("Failed to add student to tuition for student id: {}", studentId, e);
-            return getInternalServerErrorResponse();
+        Student student = studentService.findById(studentId);
+        if (student.getTuition() != null) {
+            log.error("Student already enrolled in a tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_ENROLLED_IN_A_TUITION);
         }
+        Tuition tuition = tuitionService.findById(tuitionId);
+        Student student1 = studentService.addStudentToTuition(student, tuition);
+        StudentResponseDto responseDto = new StudentResponseDto(student1);
+        log.debug("Successfully added student of id: {} to the tuition", studentId);
+        return getSuccessResponse(SuccessResponseStatusType.ADD_TUITION_STUDENT, responseDto);
     }
 
     /**
@@ -175,29 +306,19 @@ public class StudentController extends Controller {
      * @param tuitionId tuition id
      * @return success/ error response
      */
-    @PostMapping(path = "/remove/{studentId}/{tuitionId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @PostMapping(path = "/remove/{studentId}/{tuitionId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> removeStudentFromTuition(@PathVariable(name = "studentId") String studentId,
                                                                     @PathVariable(name = "tuitionId") String tuitionId) {
-        try {
-            Student student = studentService.findById(studentId);
-            Tuition tuition = tuitionService.findById(tuitionId);
-            if (student.getTuition() == null || student.getTuition() != tuition) {
-                log.error("Student is not enrolled in tuition id: " + tuition.getId());
-                return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION);
-            }
-            Student student1 = studentService.removeStudentFromTuition(student);
-            StudentResponseDto responseDto = new StudentResponseDto(student1);
-            log.debug("Successfully removed student of id: {} from the tuition", studentId);
-            return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENT, responseDto);
-        } catch (TuitionNotFoundException e) {
-            log.error("Tuition not found for removing student from tuition of id: {}", tuitionId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND);
-        } catch (StudentNotFoundException e) {
-            log.error("Student not found for removing student of id: {}", studentId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_FOUND);
-        } catch (RegistrationServiceException e) {
-            log.error("Failed to remove student from tuition for student id: {}", studentId, e);
-            return getInternalServerErrorResponse();
+        Student student = studentService.findById(studentId);
+        Tuition tuition = tuitionService.findById(tuitionId);
+        if (student.getTuition() == null || student.getTuition() != tuition) {
+            log.error("Student is not enrolled in tuition id: " + tuition.getId());
+            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION);
         }
+        Student student1 = studentService.removeStudentFromTuition(student);
+        StudentResponseDto responseDto = new StudentResponseDto(student1);
+        log.debug("Successfully removed student of id: {} from the tuition", studentId);
+        return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENT, responseDto);
     }
 }
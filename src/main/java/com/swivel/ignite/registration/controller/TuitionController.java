@@ -1,23 +1,35 @@
 package com.swivel.ignite.registration.controller;
 
 import com.swivel.ignite.registration.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.TuitionStudentsRequestDto;
+import com.swivel.ignite.registration.dto.request.TuitionUpdateRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentPageResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionBatchResponseDto;
 import com.swivel.ignite.registration.dto.response.TuitionListResponseDto;
 import com.swivel.ignite.registration.dto.response.TuitionResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionStudentsResponseDto;
+import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
 import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
 import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.enums.TuitionField;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
-import com.swivel.ignite.registration.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.service.RosterStreamService;
+import com.swivel.ignite.registration.service.StudentService;
 import com.swivel.ignite.registration.service.TuitionService;
 import com.swivel.ignite.registration.wrapper.ResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.*;
 
 /**
  * Tuition Controller
@@ -27,11 +39,26 @@ import java.util.List;
 @Slf4j
 public class TuitionController extends Controller {
 
+    private static final String ERROR_EVENT = "error";
     private final TuitionService tuitionService;
+    private final StudentService studentService;
+    private final RosterStreamService rosterStreamService;
+    private final int maxBatchReadIds;
+    private final int defaultRosterPageSize;
+    private final int maxRosterPageSize;
 
     @Autowired
-    public TuitionController(TuitionService tuitionService) {
+    public TuitionController(TuitionService tuitionService, StudentService studentService,
+                             RosterStreamService rosterStreamService,
+                             @Value("${registration.batchRead.maxIds}") int maxBatchReadIds,
+                             @Value("${registration.roster.defaultPageSize}") int defaultRosterPageSize,
+                             @Value("${registration.roster.maxPageSize}") int maxRosterPageSize) {
         this.tuitionService = tuitionService;
+        this.studentService = studentService;
+        this.rosterStreamService = rosterStreamService;
+        this.maxBatchReadIds = maxBatchReadIds;
+        this.defaultRosterPageSize = defaultRosterPageSize;
+        this.maxRosterPageSize = maxRosterPageSize;
     }
 
     /**
@@ -40,48 +67,92 @@ public class TuitionController extends Controller {
      * @param requestDto tuition create request dto
      * @return success(tuition response)/ error response
      */
-    @PostMapping(path = "/create", consumes = MediaType.APPLICATION_JSON_UTF8_VALUE,
-            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @PostMapping(path = "/create", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> createTuition(@RequestBody TuitionCreateRequestDto requestDto) {
-        try {
-            if (!requestDto.isRequiredAvailable()) {
-                log.error("Required fields missing in tuition create request DTO for creating tuition");
-                return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
-            }
-            Tuition tuition = new Tuition(requestDto);
-            tuitionService.createTuition(tuition);
-            TuitionResponseDto responseDto = new TuitionResponseDto(tuition);
-            log.debug("Created tuition {}", responseDto.toLogJson());
-            return getSuccessResponse(SuccessResponseStatusType.CREATE_TUITION, responseDto);
-        } catch (TuitionAlreadyExistsException e) {
-            log.error("Tuition already exists for create tuition with requestDto: {}", requestDto.toLogJson(), e);
-            return getBadRequestResponse(ErrorResponseStatusType.TUITION_ALREADY_EXISTS);
-        } catch (RegistrationServiceException e) {
-            log.error("Creating tuition was failed for requestDto: {}", requestDto.toLogJson(), e);
-            return getInternalServerErrorResponse();
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition create request DTO for creating tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
         }
+        Tuition tuition = new Tuition(requestDto);
+        tuitionService.createTuition(tuition);
+        TuitionResponseDto responseDto = new TuitionResponseDto(tuition);
+        log.debug("Created tuition {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.CREATE_TUITION, responseDto);
     }
 
     /**
-     * This method returns a tuition class by id
+     * This method changes the given fields of a tuition class
      *
-     * @param id tuition class id
+     * @param tuitionId  tuition class id
+     * @param requestDto tuition update request dto
      * @return success(tuition response)/ error response
      */
-    @GetMapping(path = "/get/{tuitionId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    public ResponseEntity<ResponseWrapper> getTuitionById(@PathVariable(name = "tuitionId") String id) {
-        try {
-            Tuition tuition = tuitionService.findById(id);
-            TuitionResponseDto responseDto = new TuitionResponseDto(tuition);
-            log.debug("Successfully returned the tuition {}", responseDto.toLogJson());
-            return getSuccessResponse(SuccessResponseStatusType.READ_TUITION, responseDto);
-        } catch (TuitionNotFoundException e) {
-            log.error("Tuition not found for getting tuition by id: {}", id, e);
-            return getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND);
-        } catch (RegistrationServiceException e) {
-            log.error("Failed to get tuition from DB for id: {}", id, e);
-            return getInternalServerErrorResponse();
+    @PatchMapping(path = "/update/{tuitionId}", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> updateTuition(@PathVariable(name = "tuitionId") String tuitionId,
+                                                         @RequestBody TuitionUpdateRequestDto requestDto) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition update request DTO for updating tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        Tuition tuition = tuitionService.updateTuition(tuitionService.findById(tuitionId), requestDto);
+        TuitionResponseDto responseDto = new TuitionResponseDto(tuition,
+                EnumSet.of(TuitionField.NAME, TuitionField.LOCATION), null, null);
+        log.debug("Updated tuition {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.UPDATE_TUITION, responseDto);
+    }
+
+    /**
+     * This method returns a tuition class by id. Only the selected fields are loaded and returned; the roster is
+     * returned as student ids by default, or as a student count when studentCount is selected.
+     *
+     * @param id     tuition class id
+     * @param fields selected fields
+     * @return success(tuition response)/ error response
+     */
+    @GetMapping(path = "/get/{tuitionId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getTuitionById(@PathVariable(name = "tuitionId") String id,
+                                                          @RequestParam(name = "fields", required = false)
+                                                                  List<String> fields) {
+        Set<TuitionField> selectedFields = TuitionField.fromPaths(fields);
+        if (selectedFields == null) {
+            log.error("Unknown fields: {} for getting tuition by id", fields);
+            return getBadRequestResponse(ErrorResponseStatusType.UNKNOWN_FIELDS);
+        }
+        Tuition tuition = tuitionService.findById(id);
+        TuitionResponseDto responseDto = toResponseDtoList(Collections.singletonList(tuition), selectedFields)
+                .get(0);
+        log.debug("Successfully returned the tuition {}", responseDto.toLogJson());
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION, responseDto);
+    }
+
+    /**
+     * This method reads a list of tuition by id in one query. Tuition are returned in request order, with a not
+     * found entry for each id that doesn't exist.
+     *
+     * @param tuitionIds tuition ids
+     * @return success(tuition list)/ error response
+     */
+    @GetMapping(path = "/get/batch", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getTuitionByIds(
+            @RequestParam(name = "ids", required = false) List<String> tuitionIds) {
+        if (tuitionIds == null || tuitionIds.isEmpty()) {
+            log.error("Required ids missing for reading tuition by ids");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
         }
+        if (tuitionIds.size() > maxBatchReadIds) {
+            log.error("Too many ids: {} for reading tuition by ids", tuitionIds.size());
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_IDS);
+        }
+        Map<String, Tuition> tuitionMap = tuitionService.findAllById(tuitionIds);
+        TuitionBatchResponseDto responseDto = new TuitionBatchResponseDto(tuitionIds, tuitionMap);
+        log.debug("Read {} of {} tuition by ids", tuitionMap.size(), tuitionIds.size());
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION_LIST, responseDto);
     }
 
     /**
@@ -90,37 +161,176 @@ public class TuitionController extends Controller {
      * @param tuitionId tuitionId
      * @return success/ error response
      */
-    @DeleteMapping(path = "/delete/{tuitionId}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    @DeleteMapping(path = "/delete/{tuitionId}", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<ResponseWrapper> deleteTuition(@PathVariable(name = "tuitionId") String tuitionId) {
+        Tuition tuition = tuitionService.findById(tuitionId);
+        tuitionService.deleteTuition(tuition);
+        log.debug("Deleted tuition of id: {}", tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.DELETE_TUITION, null);
+    }
+
+    /**
+     * This method is used to get all tuition with the selected fields
+     *
+     * @param fields selected fields
+     * @return success(tuition list)/ error response
+     */
+    @GetMapping(path = "/get/all", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE, APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getAllTuition(@RequestParam(name = "fields", required = false)
+                                                                 List<String> fields) {
+        Set<TuitionField> selectedFields = TuitionField.fromPaths(fields);
+        if (selectedFields == null) {
+            log.error("Unknown fields: {} for getting all tuition", fields);
+            return getBadRequestResponse(ErrorResponseStatusType.UNKNOWN_FIELDS);
+        }
+        List<Tuition> tuitionList = tuitionService.getAll();
+        TuitionListResponseDto responseDto = new TuitionListResponseDto(toResponseDtoList(tuitionList,
+                selectedFields));
+        log.debug("Returned all tuition");
+        return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_TUITION, responseDto);
+    }
+
+    /**
+     * This method returns a page of the students of the tuition in id order. The next page is read by passing the
+     * next cursor of a page as after.
+     *
+     * @param tuitionId tuition id
+     * @param after     student id to start after/ null for the first page
+     * @param limit     page size/ null for the default page size
+     * @return success(student page)/ error response
+     */
+    @GetMapping(path = "/{tuitionId}/students", produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> getTuitionStudents(@PathVariable(name = "tuitionId") String tuitionId,
+                                                              @RequestParam(name = "after", required = false)
+                                                                      String after,
+                                                              @RequestParam(name = "limit", required = false)
+                                                                      Integer limit) {
+        int pageSize = limit != null ? limit : defaultRosterPageSize;
+        if (pageSize < 1 || pageSize > maxRosterPageSize) {
+            log.error("Invalid page limit: {} for getting students of tuition of id: {}", limit, tuitionId);
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_LIMIT);
+        }
+        tuitionService.findById(tuitionId);
+        List<Student> students = studentService.findByTuitionId(tuitionId, after, pageSize + 1);
+        StudentPageResponseDto responseDto = new StudentPageResponseDto(students, pageSize);
+        log.debug("Returned {} students of tuition of id: {}", responseDto.getStudents().size(), tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION_STUDENTS, responseDto);
+    }
+
+    /**
+     * This method streams the enroll and unenroll events of the tuition as server-sent events. Errors are sent as a
+     * single error event before the stream is closed.
+     *
+     * @param tuitionId tuition id
+     * @return roster event stream
+     */
+    @GetMapping(path = "/{tuitionId}/students/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTuitionStudents(@PathVariable(name = "tuitionId") String tuitionId) {
         try {
-            Tuition tuition = tuitionService.findById(tuitionId);
-            tuitionService.deleteTuition(tuition);
-            log.debug("Deleted tuition of id: {}", tuitionId);
-            return getSuccessResponse(SuccessResponseStatusType.DELETE_TUITION, null);
+            tuitionService.findById(tuitionId);
+            SseEmitter emitter = rosterStreamService.subscribe(tuitionId);
+            log.debug("Streaming roster changes of tuition of id: {}", tuitionId);
+            return emitter;
         } catch (TuitionNotFoundException e) {
-            log.error("Tuition not found for tuitionId: {}", tuitionId, e);
-            return getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND);
+            log.warn("Tuition not found for streaming students of tuition of id: {}", tuitionId);
+            return getErrorEmitter(getBadRequestResponse(ErrorResponseStatusType.TUITION_NOT_FOUND));
         } catch (RegistrationServiceException e) {
-            log.error("Deleting tuition was failed for tuitionId: {}", tuitionId, e);
-            return getInternalServerErrorResponse();
+            log.error("Failed to stream students of tuition of id: {}", tuitionId, e);
+            return getErrorEmitter(getInternalServerErrorResponse());
         }
     }
 
     /**
-     * This method is used to get all tuition
+     * This method enrolls a list of students in the tuition
      *
-     * @return success(tuition list)/ error response
+     * @param tuitionId  tuition id
+     * @param requestDto tuition students request dto
+     * @return success(outcome per student)/ error response
+     */
+    @PostMapping(path = "/{tuitionId}/students", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> enrollStudents(@PathVariable(name = "tuitionId") String tuitionId,
+                                                          @RequestBody TuitionStudentsRequestDto requestDto) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition students request DTO for enrolling students");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        Tuition tuition = tuitionService.findById(tuitionId);
+        Map<String, BulkEnrollmentStatusType> outcomes = studentService.enrollStudents(tuition,
+                requestDto.getStudentIds());
+        TuitionStudentsResponseDto responseDto = new TuitionStudentsResponseDto(tuitionId, outcomes);
+        log.debug("Enrolled students to tuition of id: {}", tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.ENROLL_TUITION_STUDENTS, responseDto);
+    }
+
+    /**
+     * This method removes a list of students from the tuition
+     *
+     * @param tuitionId  tuition id
+     * @param requestDto tuition students request dto
+     * @return success(outcome per student)/ error response
      */
-    @GetMapping(path = "/get/all", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    public ResponseEntity<ResponseWrapper> getAllTuition() {
+    @PostMapping(path = "/{tuitionId}/students/remove", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_UTF8_VALUE,
+            APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseWrapper> removeStudents(@PathVariable(name = "tuitionId") String tuitionId,
+                                                          @RequestBody TuitionStudentsRequestDto requestDto) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition students request DTO for removing students");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        Tuition tuition = tuitionService.findById(tuitionId);
+        Map<String, BulkEnrollmentStatusType> outcomes = studentService.removeStudentsFromTuition(tuition,
+                requestDto.getStudentIds());
+        TuitionStudentsResponseDto responseDto = new TuitionStudentsResponseDto(tuitionId, outcomes);
+        log.debug("Removed students from tuition of id: {}", tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENTS, responseDto);
+    }
+
+    /**
+     * This method builds the responses of a list of tuition, loading the student ids or student counts of all of
+     * them with one query when selected
+     *
+     * @param tuitionList tuition list
+     * @param fields      selected fields
+     * @return tuition responses
+     */
+    private List<TuitionResponseDto> toResponseDtoList(List<Tuition> tuitionList, Set<TuitionField> fields) {
+        List<String> tuitionIds = new ArrayList<>();
+        for (Tuition tuition : tuitionList) {
+            tuitionIds.add(tuition.getId());
+        }
+        Map<String, Set<String>> studentIds = fields.contains(TuitionField.STUDENT_IDS) ?
+                studentService.findStudentIdsByTuitionIds(tuitionIds) : Collections.emptyMap();
+        Map<String, Long> studentCounts = fields.contains(TuitionField.STUDENT_COUNT) ?
+                studentService.countByTuitionIds(tuitionIds) : Collections.emptyMap();
+        List<TuitionResponseDto> responseDtoList = new ArrayList<>();
+        for (Tuition tuition : tuitionList) {
+            responseDtoList.add(new TuitionResponseDto(tuition, fields, studentIds.get(tuition.getId()),
+                    studentCounts.get(tuition.getId())));
+        }
+        return responseDtoList;
+    }
+
+    /**
+     * This method creates a stream that sends an error response as its only event
+     *
+     * @param response error response
+     * @return closed event stream
+     */
+    private SseEmitter getErrorEmitter(ResponseEntity<ResponseWrapper> response) {
+        SseEmitter emitter = new SseEmitter();
         try {
-            List<Tuition> tuitionList = tuitionService.getAll();
-            TuitionListResponseDto responseDto = new TuitionListResponseDto(tuitionList);
-            log.debug("Returned all tuition");
-            return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_TUITION, responseDto);
-        } catch (RegistrationServiceException e) {
-            log.error("Failed to get all tuition", e);
-            return getInternalServerErrorResponse();
+            emitter.send(SseEmitter.event().name(ERROR_EVENT).data(response.getBody(),
+                    MediaType.APPLICATION_JSON_UTF8));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
         }
+        return emitter;
     }
 }
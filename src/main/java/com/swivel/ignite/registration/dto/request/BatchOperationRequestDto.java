@@ -0,0 +1,39 @@
+package com.swivel.ignite.registration.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.swivel.ignite.registration.enums.BatchOperationType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DTO for a single operation of a batch request.
+ * String values of params and body may reference the response data of an earlier operation as ${operationId.field}.
+ */
+@Getter
+@Setter
+public class BatchOperationRequestDto extends RequestDto {
+
+    private String id;
+    private BatchOperationType type;
+    private Map<String, String> params = new HashMap<>();
+    private JsonNode body;
+
+    @Override
+    public String toLogJson() {
+        return null;
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        if (type == null || params == null || (type.isBodyRequired() && (body == null || !body.isObject())))
+            return false;
+        for (String param : type.getRequiredParams()) {
+            if (!isNonEmpty(params.get(param)))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.swivel.ignite.registration.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for batch request of ordered operations
+ */
+@Getter
+@Setter
+public class BatchRequestDto extends RequestDto {
+
+    private boolean transactional;
+    private List<BatchOperationRequestDto> operations;
+
+    @Override
+    public String toLogJson() {
+        return null;
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        if (operations == null || operations.isEmpty())
+            return false;
+        for (BatchOperationRequestDto operation : operations) {
+            if (operation == null || !operation.isRequiredAvailable())
+                return false;
+        }
+        return true;
+    }
+}
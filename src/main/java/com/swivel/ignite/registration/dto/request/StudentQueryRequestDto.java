@@ -0,0 +1,55 @@
+package com.swivel.ignite.registration.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.swivel.ignite.registration.enums.StudentQueryField;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO for student query request. Fields default to the student's own columns when not given.
+ */
+@Getter
+@Setter
+public class StudentQueryRequestDto extends RequestDto {
+
+    private List<String> studentIds;
+    private List<String> fields;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        if (studentIds == null || studentIds.isEmpty())
+            return false;
+        for (String studentId : studentIds) {
+            if (!isNonEmpty(studentId))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method checks all requested fields are known
+     *
+     * @return true/ false
+     */
+    public boolean isFieldsValid() {
+        return StudentQueryField.fromPaths(fields) != null;
+    }
+
+    /**
+     * This method returns the requested fields
+     *
+     * @return selected fields
+     */
+    @JsonIgnore
+    public Set<StudentQueryField> getSelectedFields() {
+        return StudentQueryField.fromPaths(fields);
+    }
+}
@@ -0,0 +1,38 @@
+package com.swivel.ignite.registration.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.util.Date;
+
+/**
+ * DTO for student search request. All filters are optional; a date range must start before it ends.
+ */
+@Getter
+@Setter
+public class StudentSearchRequestDto extends RequestDto {
+
+    private String name;
+    private String tuitionId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date joinedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date joinedTo;
+    private String after;
+    private Integer limit;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        if (name != null && !isNonEmpty(name))
+            return false;
+        if (tuitionId != null && !isNonEmpty(tuitionId))
+            return false;
+        return joinedFrom == null || joinedTo == null || joinedFrom.before(joinedTo);
+    }
+}
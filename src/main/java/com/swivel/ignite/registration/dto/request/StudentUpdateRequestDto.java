@@ -0,0 +1,30 @@
+package com.swivel.ignite.registration.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO for Student update request. Only the given fields are changed, and the version must be the version the
+ * change was based on.
+ */
+@Getter
+@Setter
+public class StudentUpdateRequestDto extends RequestDto {
+
+    private String name;
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private String password;
+    private Long version;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return version != null && (name != null || password != null) && (name == null || isNonEmpty(name)) &&
+                (password == null || isNonEmpty(password));
+    }
+}
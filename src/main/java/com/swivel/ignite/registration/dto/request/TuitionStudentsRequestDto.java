@@ -0,0 +1,32 @@
+package com.swivel.ignite.registration.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for bulk enroll/ remove students of a tuition request
+ */
+@Getter
+@Setter
+public class TuitionStudentsRequestDto extends RequestDto {
+
+    private List<String> studentIds;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        if (studentIds == null || studentIds.isEmpty())
+            return false;
+        for (String studentId : studentIds) {
+            if (!isNonEmpty(studentId))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.swivel.ignite.registration.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO for Tuition update request. Only the given fields are changed, and the version must be the version the
+ * change was based on.
+ */
+@Getter
+@Setter
+public class TuitionUpdateRequestDto extends RequestDto {
+
+    private String name;
+    private String location;
+    private Long version;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    public boolean isRequiredAvailable() {
+        return version != null && (name != null || location != null) && (name == null || isNonEmpty(name)) &&
+                (location == null || isNonEmpty(location));
+    }
+}
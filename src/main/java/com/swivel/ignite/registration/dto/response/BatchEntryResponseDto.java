@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.dto.response;
+
+import lombok.Getter;
+
+/**
+ * Batch read entry DTO for response. Data is null when no entity was found for the requested id.
+ *
+ * @param <T> response dto of the entity
+ */
+@Getter
+public class BatchEntryResponseDto<T extends ResponseDto> extends ResponseDto {
+
+    private final String id;
+    private final boolean found;
+    private final T data;
+
+    public BatchEntryResponseDto(String id, T data) {
+        this.id = id;
+        this.found = data != null;
+        this.data = data;
+    }
+}
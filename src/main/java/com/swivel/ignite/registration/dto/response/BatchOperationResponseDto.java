@@ -0,0 +1,28 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.swivel.ignite.registration.enums.BatchOperationType;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import lombok.Getter;
+
+/**
+ * Batch operation result DTO for response. Response is null for operations that were skipped.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOperationResponseDto extends ResponseDto {
+
+    private final String id;
+    private final BatchOperationType type;
+    private final int httpStatus;
+    private final boolean executed;
+    private final ResponseWrapper response;
+
+    public BatchOperationResponseDto(String id, BatchOperationType type, int httpStatus, ResponseWrapper response) {
+        this.id = id;
+        this.type = type;
+        this.httpStatus = httpStatus;
+        this.executed = response != null;
+        this.response = response;
+    }
+}
@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Batch DTO for response, with the result of every operation in request order
+ */
+@Getter
+public class BatchResponseDto extends ResponseDto {
+
+    private final boolean transactional;
+    private final boolean rolledBack;
+    private final List<BatchOperationResponseDto> results;
+
+    public BatchResponseDto(boolean transactional, boolean rolledBack, List<BatchOperationResponseDto> results) {
+        this.transactional = transactional;
+        this.rolledBack = rolledBack;
+        this.results = results;
+    }
+}
@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change feed DTO for response. The next cursor is the cursor of the last change, or the requested cursor when there
+ * are no changes, so it can always be passed as the next since.
+ */
+@Getter
+public class ChangeFeedResponseDto extends ResponseDto {
+
+    private final List<ChangeResponseDto> changes = new ArrayList<>();
+    private final long nextCursor;
+
+    public ChangeFeedResponseDto(List<ChangeLogEntry> entries, long since) {
+        for (ChangeLogEntry entry : entries) {
+            this.changes.add(new ChangeResponseDto(entry));
+        }
+        this.nextCursor = entries.isEmpty() ? since : entries.get(entries.size() - 1).getId();
+    }
+}
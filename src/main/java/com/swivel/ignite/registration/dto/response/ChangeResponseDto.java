@@ -0,0 +1,28 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Change DTO for response
+ */
+@Getter
+public class ChangeResponseDto extends ResponseDto {
+
+    private final long cursor;
+    private final RegistrationEventType type;
+    private final String studentId;
+    private final String tuitionId;
+    private final Date changedOn;
+
+    public ChangeResponseDto(ChangeLogEntry entry) {
+        this.cursor = entry.getId();
+        this.type = entry.getType();
+        this.studentId = entry.getStudentId();
+        this.tuitionId = entry.getTuitionId();
+        this.changedOn = entry.getCreatedAt();
+    }
+}
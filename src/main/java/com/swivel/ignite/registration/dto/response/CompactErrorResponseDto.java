@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.dto.response;
+
+import lombok.Getter;
+
+/**
+ * Minimal error body of the v2 api, which carries the http status in the status line instead
+ */
+@Getter
+public class CompactErrorResponseDto extends ResponseDto {
+
+    private final int code;
+    private final String message;
+
+    /**
+     * @param code    error code
+     * @param message dev message
+     */
+    public CompactErrorResponseDto(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.service.stats.LocationStats;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Location stats list DTO for response
+ */
+@Getter
+public class LocationStatsListResponseDto extends ResponseDto {
+
+    private final List<LocationStats> locationStats;
+
+    public LocationStatsListResponseDto(List<LocationStats> locationStats) {
+        this.locationStats = locationStats;
+    }
+}
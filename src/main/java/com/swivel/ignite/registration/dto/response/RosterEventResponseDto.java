@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import lombok.Getter;
+
+/**
+ * Roster event DTO for response, pushed to the roster stream subscribers of a tuition
+ */
+@Getter
+public class RosterEventResponseDto extends ResponseDto {
+
+    private final RegistrationEventType type;
+    private final String studentId;
+    private final String tuitionId;
+
+    public RosterEventResponseDto(ChangeLogEntry entry) {
+        this.type = entry.getType();
+        this.studentId = entry.getStudentId();
+        this.tuitionId = entry.getTuitionId();
+    }
+}
@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.Student;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Student batch read DTO for response, in request order
+ */
+@Getter
+public class StudentBatchResponseDto extends ResponseDto {
+
+    private final List<BatchEntryResponseDto<StudentResponseDto>> students = new ArrayList<>();
+
+    public StudentBatchResponseDto(List<String> studentIds, Map<String, Student> studentMap) {
+        for (String studentId : studentIds) {
+            Student student = studentMap.get(studentId);
+            this.students.add(new BatchEntryResponseDto<>(studentId,
+                    student != null ? new StudentResponseDto(student) : null));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.swivel.ignite.registration.enums.BulkCreateStatusType;
+import lombok.Getter;
+
+/**
+ * Student bulk create DTO for a single row of the streamed response
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudentBulkCreateResponseDto extends ResponseDto {
+
+    private final int index;
+    private final String studentId;
+    private final String name;
+    private final BulkCreateStatusType status;
+
+    public StudentBulkCreateResponseDto(int index, String studentId, String name, BulkCreateStatusType status) {
+        this.index = index;
+        this.studentId = studentId;
+        this.name = name;
+        this.status = status;
+    }
+}
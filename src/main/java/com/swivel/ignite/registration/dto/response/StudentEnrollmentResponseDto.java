@@ -0,0 +1,19 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
+import lombok.Getter;
+
+/**
+ * Student enrollment outcome DTO for response
+ */
+@Getter
+public class StudentEnrollmentResponseDto extends ResponseDto {
+
+    private final String studentId;
+    private final BulkEnrollmentStatusType status;
+
+    public StudentEnrollmentResponseDto(String studentId, BulkEnrollmentStatusType status) {
+        this.studentId = studentId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Logged in student DTO for response, with the session token to send as the bearer token of later requests
+ */
+@Getter
+public class StudentLoginResponseDto extends StudentResponseDto {
+
+    private static final String MASKED_TOKEN = "***";
+    private final String token;
+    private final Date tokenExpiresOn;
+
+    public StudentLoginResponseDto(Student student, SessionToken sessionToken) {
+        super(student);
+        this.token = sessionToken.getValue();
+        this.tokenExpiresOn = new Date(sessionToken.getExpiresAt());
+    }
+
+    @Override
+    public String toLogJson() {
+        return toJson().replace(token, MASKED_TOKEN);
+    }
+}
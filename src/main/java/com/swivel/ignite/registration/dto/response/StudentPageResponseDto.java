@@ -0,0 +1,41 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.Student;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Student page DTO for response. The next cursor is null on the last page.
+ */
+@Getter
+public class StudentPageResponseDto extends ResponseDto {
+
+    private final List<StudentResponseDto> students = new ArrayList<>();
+    private final String nextCursor;
+
+    /**
+     * Page of a roster, where the cursor is the id of the last student
+     *
+     * @param students students of the page, with one extra student if there is a next page
+     * @param limit    page size
+     */
+    public StudentPageResponseDto(List<Student> students, int limit) {
+        for (int i = 0; i < Math.min(limit, students.size()); i++) {
+            this.students.add(new StudentResponseDto(students.get(i)));
+        }
+        this.nextCursor = students.size() > limit ? students.get(limit - 1).getId() : null;
+    }
+
+    /**
+     * @param students   students of the page
+     * @param nextCursor cursor of the next page/ null on the last page
+     */
+    public StudentPageResponseDto(List<Student> students, String nextCursor) {
+        for (Student student : students) {
+            this.students.add(new StudentResponseDto(student));
+        }
+        this.nextCursor = nextCursor;
+    }
+}
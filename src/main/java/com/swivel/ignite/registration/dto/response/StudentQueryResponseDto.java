@@ -0,0 +1,18 @@
+package com.swivel.ignite.registration.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Student query DTO for response, in request order
+ */
+@Getter
+public class StudentQueryResponseDto extends ResponseDto {
+
+    private final List<StudentQueryResultDto> students;
+
+    public StudentQueryResponseDto(List<StudentQueryResultDto> students) {
+        this.students = students;
+    }
+}
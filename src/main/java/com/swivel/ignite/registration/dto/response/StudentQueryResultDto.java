@@ -0,0 +1,28 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Student query result DTO for response, with only the selected fields
+ */
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudentQueryResultDto extends ResponseDto {
+
+    private final String studentId;
+    private final boolean found;
+    private String name;
+    private String tuitionId;
+    private Date tuitionJoinedOn;
+    private TuitionQueryResultDto tuition;
+
+    public StudentQueryResultDto(String studentId, boolean found) {
+        this.studentId = studentId;
+        this.found = found;
+    }
+}
@@ -1,6 +1,7 @@
 package com.swivel.ignite.registration.dto.response;
 
 import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.serializer.GenerateSerializer;
 import lombok.Getter;
 
 import java.util.Date;
@@ -9,17 +10,20 @@ import java.util.Date;
  * Student DTO for response
  */
 @Getter
+@GenerateSerializer
 public class StudentResponseDto extends ResponseDto {
 
     private final String studentId;
     private final String name;
     private final String tuitionId;
     private final Date tuitionJoinedOn;
+    private final Long version;
 
     public StudentResponseDto(Student student) {
         this.studentId = student.getId();
         this.name = student.getName();
         this.tuitionId = student.getTuition() != null ? student.getTuition().getId() : null;
         this.tuitionJoinedOn = student.getTuitionJoinedOn();
+        this.version = student.getVersion();
     }
 }
@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuition batch read DTO for response, in request order
+ */
+@Getter
+public class TuitionBatchResponseDto extends ResponseDto {
+
+    private final List<BatchEntryResponseDto<TuitionResponseDto>> tuitionList = new ArrayList<>();
+
+    public TuitionBatchResponseDto(List<String> tuitionIds, Map<String, Tuition> tuitionMap) {
+        for (String tuitionId : tuitionIds) {
+            Tuition tuition = tuitionMap.get(tuitionId);
+            this.tuitionList.add(new BatchEntryResponseDto<>(tuitionId,
+                    tuition != null ? new TuitionResponseDto(tuition) : null));
+        }
+    }
+}
@@ -1,22 +1,20 @@
 package com.swivel.ignite.registration.dto.response;
 
-import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.serializer.GenerateSerializer;
 import lombok.Getter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Tuition list DTO for response
  */
 @Getter
+@GenerateSerializer
 public class TuitionListResponseDto extends ResponseDto {
 
-    private final List<TuitionResponseDto> tuitionList = new ArrayList<>();
+    private final List<TuitionResponseDto> tuitionList;
 
-    public TuitionListResponseDto(List<Tuition> tuitionList) {
-        for (Tuition t : tuitionList) {
-            this.tuitionList.add(new TuitionResponseDto(t));
-        }
+    public TuitionListResponseDto(List<TuitionResponseDto> tuitionList) {
+        this.tuitionList = tuitionList;
     }
 }
@@ -0,0 +1,24 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * Tuition of a student query result DTO for response, with only the selected fields
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TuitionQueryResultDto extends ResponseDto {
+
+    private final String tuitionId;
+    private final String name;
+    private final String location;
+    private final Long studentCount;
+
+    public TuitionQueryResultDto(String tuitionId, String name, String location, Long studentCount) {
+        this.tuitionId = tuitionId;
+        this.name = name;
+        this.location = location;
+        this.studentCount = studentCount;
+    }
+}
@@ -1,30 +1,55 @@
 package com.swivel.ignite.registration.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.TuitionField;
+import com.swivel.ignite.registration.serializer.GenerateSerializer;
 import lombok.Getter;
 
 import java.util.HashSet;
 import java.util.Set;
 
 /**
- * Tuition DTO for response
+ * Tuition DTO for response. Fields that were not selected are left out of the response.
  */
 @Getter
+@GenerateSerializer
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TuitionResponseDto extends ResponseDto {
 
     private final String tuitionId;
     private final String name;
     private final String location;
-    private final Set<String> studentIds = new HashSet<>();
+    private final Set<String> studentIds;
+    private final Long studentCount;
+    private final Long version;
 
     public TuitionResponseDto(Tuition tuition) {
         this.tuitionId = tuition.getId();
         this.name = tuition.getName();
         this.location = tuition.getLocation();
+        this.studentIds = new HashSet<>();
         if (tuition.getStudents() != null)
             for (Student s : tuition.getStudents()) {
                 this.studentIds.add(s.getId());
             }
+        this.studentCount = null;
+        this.version = tuition.getVersion();
+    }
+
+    /**
+     * @param tuition      tuition
+     * @param fields       selected fields
+     * @param studentIds   ids of the enrolled students/ null if not selected
+     * @param studentCount number of enrolled students/ null if not selected
+     */
+    public TuitionResponseDto(Tuition tuition, Set<TuitionField> fields, Set<String> studentIds, Long studentCount) {
+        this.tuitionId = tuition.getId();
+        this.name = fields.contains(TuitionField.NAME) ? tuition.getName() : null;
+        this.location = fields.contains(TuitionField.LOCATION) ? tuition.getLocation() : null;
+        this.studentIds = studentIds;
+        this.studentCount = studentCount;
+        this.version = tuition.getVersion();
     }
 }
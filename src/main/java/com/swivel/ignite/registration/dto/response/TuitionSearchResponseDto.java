@@ -0,0 +1,35 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.SearchMode;
+import com.swivel.ignite.registration.enums.TuitionField;
+import com.swivel.ignite.registration.service.search.SearchPage;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Tuition search DTO for response
+ */
+@Getter
+public class TuitionSearchResponseDto extends ResponseDto {
+
+    private final String query;
+    private final SearchMode mode;
+    private final int page;
+    private final long total;
+    private final List<TuitionResponseDto> tuitionList = new ArrayList<>();
+
+    public TuitionSearchResponseDto(String query, SearchMode mode, int page, SearchPage searchPage) {
+        this.query = query;
+        this.mode = mode;
+        this.page = page;
+        this.total = searchPage.getTotal();
+        for (Tuition tuition : searchPage.getTuitionList()) {
+            this.tuitionList.add(new TuitionResponseDto(tuition, EnumSet.of(TuitionField.NAME, TuitionField.LOCATION),
+                    null, null));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.TuitionStats;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tuition stats list DTO for response
+ */
+@Getter
+public class TuitionStatsListResponseDto extends ResponseDto {
+
+    private final List<TuitionStatsResponseDto> tuitionStats = new ArrayList<>();
+
+    public TuitionStatsListResponseDto(List<TuitionStats> tuitionStatsList) {
+        for (TuitionStats tuitionStats : tuitionStatsList) {
+            this.tuitionStats.add(new TuitionStatsResponseDto(tuitionStats));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.entity.TuitionStats;
+import lombok.Getter;
+
+/**
+ * Tuition stats DTO for response
+ */
+@Getter
+public class TuitionStatsResponseDto extends ResponseDto {
+
+    private final String tuitionId;
+    private final String location;
+    private final long studentCount;
+
+    public TuitionStatsResponseDto(TuitionStats tuitionStats) {
+        this.tuitionId = tuitionStats.getTuitionId();
+        this.location = tuitionStats.getLocation();
+        this.studentCount = tuitionStats.getStudentCount();
+    }
+}
@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.dto.response;
+
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuition bulk enroll/ remove students DTO for response
+ */
+@Getter
+public class TuitionStudentsResponseDto extends ResponseDto {
+
+    private final String tuitionId;
+    private final List<StudentEnrollmentResponseDto> students = new ArrayList<>();
+
+    public TuitionStudentsResponseDto(String tuitionId, Map<String, BulkEnrollmentStatusType> outcomes) {
+        this.tuitionId = tuitionId;
+        for (Map.Entry<String, BulkEnrollmentStatusType> outcome : outcomes.entrySet()) {
+            this.students.add(new StudentEnrollmentResponseDto(outcome.getKey(), outcome.getValue()));
+        }
+    }
+}
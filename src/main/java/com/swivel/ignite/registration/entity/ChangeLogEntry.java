@@ -0,0 +1,43 @@
+package com.swivel.ignite.registration.entity;
+
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Change log entry entity, one row per committed student or tuition change. The id is the feed cursor. The name is
+ * the new student or tuition name of the change, if any, and is only read within the service.
+ */
+@Entity
+@Table(name = "change_log")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ChangeLogEntry implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private RegistrationEventType type;
+    private String studentId;
+    private String tuitionId;
+    private String name;
+    @Column(nullable = false)
+    private Date createdAt;
+
+    public ChangeLogEntry(RegistrationEvent event) {
+        this.type = event.getType();
+        this.studentId = event.getStudentId();
+        this.tuitionId = event.getTuitionId();
+        this.name = event.getName();
+        this.createdAt = new Date();
+    }
+}
@@ -0,0 +1,47 @@
+package com.swivel.ignite.registration.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Idempotency record entity, the stored first response of a request sent with an idempotency key. While the request
+ * is executed the record is pending, with the id of the claim of the node executing it.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_created_at", columnList = "created_at")})
+@NoArgsConstructor
+@Getter
+@Setter
+public class IdempotencyRecord implements Serializable {
+
+    public static final int PENDING_STATUS = 0;
+    @Id
+    private String idempotencyKey;
+    @Column(nullable = false, length = 512)
+    private String fingerprint;
+    @Column(nullable = false)
+    private int status;
+    private String contentType;
+    @Lob
+    private byte[] body;
+    @Column(nullable = false)
+    private Date createdAt;
+    @Column(length = 36)
+    private String claimId;
+
+    public IdempotencyRecord(String idempotencyKey, String fingerprint, int status, String contentType, byte[] body,
+                             Date createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.swivel.ignite.registration.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Job lease entity, the node allowed to run a background job until the lease expires
+ */
+@Entity
+@Table(name = "job_lease")
+@NoArgsConstructor
+@Getter
+@Setter
+public class JobLease implements Serializable {
+
+    @Id
+    private String name;
+    @Column(nullable = false, length = 36)
+    private String owner;
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    public JobLease(String name, String owner, Date expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
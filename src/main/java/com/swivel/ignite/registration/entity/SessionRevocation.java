@@ -0,0 +1,39 @@
+package com.swivel.ignite.registration.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Session revocation entity, a revoked session token or the revoked session tokens of a student, kept until the
+ * tokens it covers have expired
+ */
+@Entity
+@Table(name = "session_revocation", indexes = {
+        @Index(name = "idx_session_revocation_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_session_revocation_expires_at", columnList = "expires_at")})
+@NoArgsConstructor
+@Getter
+@Setter
+public class SessionRevocation implements Serializable {
+
+    public static final String TOKEN_PREFIX = "token:";
+    public static final String STUDENT_PREFIX = "student:";
+
+    @Id
+    private String revocationKey;
+    @Column(nullable = false)
+    private Date revokedAt;
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    public SessionRevocation(String revocationKey, Date revokedAt, Date expiresAt) {
+        this.revocationKey = revocationKey;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -4,6 +4,10 @@ import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -11,10 +15,16 @@ import java.util.Date;
 import java.util.UUID;
 
 /**
- * Student entity
+ * Student entity. Soft deleted students are hidden from all reads until the purger removes them.
  */
 @Entity
-@Table(name = "student")
+@Table(name = "student", indexes = {
+        @Index(name = "idx_student_tuition_id_id", columnList = "tuition_id, id"),
+        @Index(name = "idx_student_name_id", columnList = "name, id"),
+        @Index(name = "idx_student_tuition_joined_on_id", columnList = "tuition_joined_on, id"),
+        @Index(name = "idx_student_deleted_on", columnList = "deleted_on")})
+@Where(clause = "deleted_on is null")
+@DynamicUpdate
 @NoArgsConstructor
 @Getter
 @Setter
@@ -32,7 +42,12 @@ public class Student implements Serializable {
     private Date tuitionJoinedOn;
     @ManyToOne
     @JoinColumn
+    @NotFound(action = NotFoundAction.IGNORE)
     private Tuition tuition;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    private Date deletedOn;
 
     public Student(StudentCreateRequestDto requestDto) {
         this.id = STUDENT_ID_PREFIX + UUID.randomUUID();
@@ -4,17 +4,23 @@ import com.swivel.ignite.registration.dto.request.TuitionCreateRequestDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.io.Serializable;
+import java.util.Date;
 import java.util.Set;
 import java.util.UUID;
 
 /**
- * Tuition entity
+ * Tuition entity. Soft deleted tuition are hidden from all reads until the purger removes them.
  */
 @Entity
-@Table(name = "tuition")
+@Table(name = "tuition", indexes = {
+        @Index(name = "idx_tuition_deleted_on", columnList = "deleted_on")})
+@Where(clause = "deleted_on is null")
+@DynamicUpdate
 @NoArgsConstructor
 @Getter
 @Setter
@@ -31,6 +37,10 @@ public class Tuition implements Serializable {
     private String location;
     @OneToMany(mappedBy = "tuition")
     private Set<Student> students;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    private Date deletedOn;
 
     public Tuition(TuitionCreateRequestDto requestDto) {
         this.id = TUITION_ID_PREFIX + UUID.randomUUID();
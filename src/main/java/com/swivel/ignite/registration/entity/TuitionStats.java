@@ -0,0 +1,35 @@
+package com.swivel.ignite.registration.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * Tuition stats entity, the persisted copy of the in-memory enrollment counters
+ */
+@Entity
+@Table(name = "tuition_stats")
+@NoArgsConstructor
+@Getter
+@Setter
+public class TuitionStats implements Serializable {
+
+    @Id
+    private String tuitionId;
+    @Column(nullable = false)
+    private String location;
+    @Column(nullable = false)
+    private long studentCount;
+
+    public TuitionStats(String tuitionId, String location, long studentCount) {
+        this.tuitionId = tuitionId;
+        this.location = location;
+        this.studentCount = studentCount;
+    }
+}
@@ -0,0 +1,29 @@
+package com.swivel.ignite.registration.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum values for the operations that can be executed in a batch request.
+ * Each maps onto the student/ tuition controller action of the same name.
+ */
+@Getter
+public enum BatchOperationType {
+
+    CREATE_STUDENT(true),
+    LOGIN_STUDENT(true),
+    GET_STUDENT(false, "studentId"),
+    DELETE_STUDENT(false, "studentId"),
+    ADD_STUDENT_TO_TUITION(false, "studentId", "tuitionId"),
+    REMOVE_STUDENT_FROM_TUITION(false, "studentId", "tuitionId"),
+    CREATE_TUITION(true),
+    GET_TUITION(false, "tuitionId"),
+    DELETE_TUITION(false, "tuitionId");
+
+    private final boolean bodyRequired;
+    private final String[] requiredParams;
+
+    BatchOperationType(boolean bodyRequired, String... requiredParams) {
+        this.bodyRequired = bodyRequired;
+        this.requiredParams = requiredParams;
+    }
+}
@@ -0,0 +1,12 @@
+package com.swivel.ignite.registration.enums;
+
+/**
+ * Enum values for the per row outcome of a bulk create request
+ */
+public enum BulkCreateStatusType {
+
+    CREATED,
+    MISSING_REQUIRED_FIELDS,
+    MALFORMED_REQUEST,
+    FAILED
+}
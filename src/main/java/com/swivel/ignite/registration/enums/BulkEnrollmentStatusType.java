@@ -0,0 +1,14 @@
+package com.swivel.ignite.registration.enums;
+
+/**
+ * Enum values for the per student outcome of a bulk enroll/ remove request
+ */
+public enum BulkEnrollmentStatusType {
+
+    ENROLLED,
+    ALREADY_ENROLLED,
+    ENROLLED_ELSEWHERE,
+    REMOVED,
+    NOT_ENROLLED,
+    NOT_FOUND
+}
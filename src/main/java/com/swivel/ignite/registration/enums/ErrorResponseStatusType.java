@@ -16,6 +16,22 @@ public enum ErrorResponseStatusType {
     STUDENT_NOT_ENROLLED_IN_TUITION(4006, "Student not enrolled in tuition"),
     STUDENT_ALREADY_ENROLLED_IN_A_TUITION(4007, "Student already enrolled in a tuition"),
     USERNAME_PASSWORD_NOT_MATCH(4008, "Username and password do not match"),
+    TOO_MANY_IDS(4009, "Number of ids exceeds the allowed maximum"),
+    INVALID_BATCH_REFERENCE(4010, "Batch operation references an unknown or failed operation result"),
+    TOO_MANY_OPERATIONS(4011, "Number of batch operations exceeds the allowed maximum"),
+    UNKNOWN_FIELDS(4012, "Unknown fields requested"),
+    INVALID_PAGE_LIMIT(4013, "Page limit is out of the allowed range"),
+    UNKNOWN_SEARCH_MODE(4014, "Unknown search mode"),
+    INVALID_CURSOR(4015, "Invalid page cursor"),
+    VERSION_CONFLICT(4016, "Version conflict, the entity was changed by another request"),
+    INVALID_IDEMPOTENCY_KEY(4017, "Idempotency key is empty or too long"),
+    IDEMPOTENCY_KEY_REUSED(4018, "Idempotency key was already used for a different request"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(4019, "Request with the same idempotency key is still in progress"),
+    PASSWORD_HASHING_BUSY(4020, "Too many password requests in progress, please retry later"),
+    INVALID_SESSION_TOKEN(4021, "Session token is missing, invalid, expired or revoked"),
+    CLIENT_RATE_LIMITED(4022, "Too many requests from this client, please retry later"),
+    LOGIN_RATE_LIMITED(4023, "Too many login attempts for this student, please retry later"),
+    STUDENT_ACCESS_DENIED(4024, "Session token does not belong to this student"),
     INTERNAL_SERVER_ERROR(5000, "Internal Server Error");
 
     private final int code;
@@ -0,0 +1,10 @@
+package com.swivel.ignite.registration.enums;
+
+/**
+ * Enum values for the ways a search can be served
+ */
+public enum SearchMode {
+
+    INDEX,
+    DB
+}
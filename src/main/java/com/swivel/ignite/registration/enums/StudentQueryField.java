@@ -0,0 +1,62 @@
+package com.swivel.ignite.registration.enums;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Enum values for the fields that can be selected in a student query
+ */
+@Getter
+public enum StudentQueryField {
+
+    NAME("name", false),
+    TUITION_ID("tuitionId", false),
+    TUITION_JOINED_ON("tuitionJoinedOn", false),
+    TUITION_NAME("tuition.name", true),
+    TUITION_LOCATION("tuition.location", true),
+    TUITION_STUDENT_COUNT("tuition.studentCount", true);
+
+    private static final Set<StudentQueryField> DEFAULT_FIELDS = Collections.unmodifiableSet(
+            EnumSet.of(NAME, TUITION_ID, TUITION_JOINED_ON));
+    private final String path;
+    private final boolean tuitionField;
+
+    StudentQueryField(String path, boolean tuitionField) {
+        this.path = path;
+        this.tuitionField = tuitionField;
+    }
+
+    /**
+     * This method returns the field of a path
+     *
+     * @param path field path
+     * @return StudentQueryField/ null if the path is unknown
+     */
+    public static StudentQueryField fromPath(String path) {
+        for (StudentQueryField field : values()) {
+            if (field.path.equals(path))
+                return field;
+        }
+        return null;
+    }
+
+    /**
+     * This method returns the fields of a list of paths, or the default fields when no path is given
+     *
+     * @param paths field paths
+     * @return StudentQueryField set/ null if a path is unknown
+     */
+    public static Set<StudentQueryField> fromPaths(List<String> paths) {
+        if (paths == null || paths.isEmpty())
+            return DEFAULT_FIELDS;
+        Set<StudentQueryField> fields = EnumSet.noneOf(StudentQueryField.class);
+        for (String path : paths) {
+            StudentQueryField field = fromPath(path);
+            if (field == null)
+                return null;
+            fields.add(field);
+        }
+        return fields;
+    }
+}
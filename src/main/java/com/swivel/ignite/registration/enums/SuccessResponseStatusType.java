@@ -17,7 +17,22 @@ public enum SuccessResponseStatusType {
     GET_STUDENT(2006, "Successfully retrieved the student"),
     REMOVE_TUITION_STUDENT(2007, "Successfully removed student from tuition"),
     RETURNED_ALL_TUITION(2008, "Successfully returned tuition list"),
-    LOGIN_STUDENT(2009, "Successfully logged in the student");
+    LOGIN_STUDENT(2009, "Successfully logged in the student"),
+    ENROLL_TUITION_STUDENTS(2010, "Successfully processed enrolling students to tuition"),
+    REMOVE_TUITION_STUDENTS(2011, "Successfully processed removing students from tuition"),
+    READ_STUDENTS(2012, "Successfully read the students"),
+    READ_TUITION_LIST(2013, "Successfully read the tuition list"),
+    EXECUTED_BATCH(2014, "Successfully executed the batch"),
+    QUERIED_STUDENTS(2015, "Successfully queried the students"),
+    READ_TUITION_STUDENTS(2016, "Successfully read the students of the tuition"),
+    READ_TUITION_STATS(2017, "Successfully read the tuition stats"),
+    READ_LOCATION_STATS(2018, "Successfully read the location stats"),
+    SEARCHED_TUITION(2019, "Successfully searched the tuition"),
+    SEARCHED_STUDENTS(2020, "Successfully searched the students"),
+    READ_CHANGES(2021, "Successfully returned the changes"),
+    UPDATE_STUDENT(2022, "Successfully updated the student"),
+    UPDATE_TUITION(2023, "Successfully updated the tuition"),
+    LOGOUT_STUDENT(2024, "Successfully logged out the student");
 
     private final int code;
     private final String message;
@@ -0,0 +1,58 @@
+package com.swivel.ignite.registration.enums;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Enum values for the fields that can be selected in a tuition response
+ */
+@Getter
+public enum TuitionField {
+
+    NAME("name"),
+    LOCATION("location"),
+    STUDENT_IDS("studentIds"),
+    STUDENT_COUNT("studentCount");
+
+    private static final Set<TuitionField> DEFAULT_FIELDS = Collections.unmodifiableSet(
+            EnumSet.of(NAME, LOCATION, STUDENT_IDS));
+    private final String path;
+
+    TuitionField(String path) {
+        this.path = path;
+    }
+
+    /**
+     * This method returns the fields of a list of paths, or the default fields when no path is given
+     *
+     * @param paths field paths
+     * @return TuitionField set/ null if a path is unknown
+     */
+    public static Set<TuitionField> fromPaths(List<String> paths) {
+        if (paths == null || paths.isEmpty())
+            return DEFAULT_FIELDS;
+        Set<TuitionField> fields = EnumSet.noneOf(TuitionField.class);
+        for (String path : paths) {
+            TuitionField field = fromPath(path);
+            if (field == null)
+                return null;
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * This method returns the field of a path
+     *
+     * @param path field path
+     * @return TuitionField/ null if the path is unknown
+     */
+    private static TuitionField fromPath(String path) {
+        for (TuitionField field : values()) {
+            if (field.path.equals(path))
+                return field;
+        }
+        return null;
+    }
+}
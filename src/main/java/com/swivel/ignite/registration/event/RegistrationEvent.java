@@ -0,0 +1,63 @@
+package com.swivel.ignite.registration.event;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import lombok.Getter;
+
+/**
+ * Application event published by the services after a student or tuition change
+ */
+@Getter
+public class RegistrationEvent {
+
+    private final RegistrationEventType type;
+    private final String studentId;
+    private final String tuitionId;
+    private final String name;
+    private final String location;
+
+    private RegistrationEvent(RegistrationEventType type, String studentId, String tuitionId, String name,
+                              String location) {
+        this.type = type;
+        this.studentId = studentId;
+        this.tuitionId = tuitionId;
+        this.name = name;
+        this.location = location;
+    }
+
+    /**
+     * This method returns an event of a student change
+     *
+     * @param type      event type
+     * @param studentId student id
+     * @param tuitionId id of the tuition the change relates to/ null
+     * @return RegistrationEvent
+     */
+    public static RegistrationEvent ofStudent(RegistrationEventType type, String studentId, String tuitionId) {
+        return new RegistrationEvent(type, studentId, tuitionId, null, null);
+    }
+
+    /**
+     * This method returns an event of a student change that carries the student name
+     *
+     * @param type      event type
+     * @param studentId student id
+     * @param tuitionId id of the tuition the change relates to/ null
+     * @param name      student name/ null if the change does not relate to the name
+     * @return RegistrationEvent
+     */
+    public static RegistrationEvent ofStudent(RegistrationEventType type, String studentId, String tuitionId,
+                                              String name) {
+        return new RegistrationEvent(type, studentId, tuitionId, name, null);
+    }
+
+    /**
+     * This method returns an event of a tuition change
+     *
+     * @param type    event type
+     * @param tuition tuition
+     * @return RegistrationEvent
+     */
+    public static RegistrationEvent ofTuition(RegistrationEventType type, Tuition tuition) {
+        return new RegistrationEvent(type, null, tuition.getId(), tuition.getName(), tuition.getLocation());
+    }
+}
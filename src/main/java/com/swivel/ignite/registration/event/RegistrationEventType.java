@@ -0,0 +1,16 @@
+package com.swivel.ignite.registration.event;
+
+/**
+ * Enum values for the changes published as registration events
+ */
+public enum RegistrationEventType {
+
+    TUITION_CREATED,
+    TUITION_UPDATED,
+    TUITION_DELETED,
+    STUDENT_CREATED,
+    STUDENT_UPDATED,
+    STUDENT_ENROLLED,
+    STUDENT_REMOVED,
+    STUDENT_DELETED
+}
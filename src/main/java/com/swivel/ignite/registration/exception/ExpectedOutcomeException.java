@@ -0,0 +1,30 @@
+package com.swivel.ignite.registration.exception;
+
+/**
+ * Expected Outcome Exception
+ * <p>
+ * Base of the exceptions of normal business outcomes, such as a missing student or a wrong password, that are
+ * answered with a 4xx response. They are thrown often under load and never logged with a trace, so they skip
+ * filling in the stack trace, which is most of the cost of throwing an exception.
+ */
+public abstract class ExpectedOutcomeException extends RuntimeException {
+
+    /**
+     * Expected Outcome Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    protected ExpectedOutcomeException(String errorMessage) {
+        super(errorMessage, null, false, false);
+    }
+
+    /**
+     * Expected Outcome Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    protected ExpectedOutcomeException(String errorMessage, Throwable error) {
+        super(errorMessage, error, false, false);
+    }
+}
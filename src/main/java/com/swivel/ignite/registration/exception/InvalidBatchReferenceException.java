@@ -0,0 +1,26 @@
+package com.swivel.ignite.registration.exception;
+
+/**
+ * Invalid Batch Reference Exception
+ */
+public class InvalidBatchReferenceException extends ExpectedOutcomeException {
+
+    /**
+     * Invalid Batch Reference Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public InvalidBatchReferenceException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Invalid Batch Reference Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public InvalidBatchReferenceException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.swivel.ignite.registration.exception;
+
+/**
+ * Invalid Cursor Exception
+ */
+public class InvalidCursorException extends ExpectedOutcomeException {
+
+    /**
+     * Invalid Cursor Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public InvalidCursorException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Invalid Cursor Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public InvalidCursorException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.swivel.ignite.registration.exception;
+
+/**
+ * Password Hashing Busy Exception
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    /**
+     * Password Hashing Busy Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public PasswordHashingBusyException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Password Hashing Busy Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public PasswordHashingBusyException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -6,24 +6,34 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Payment Microservice client error exception
+ * Payment Microservice client error exception. The response body is kept as received and only parsed when it is
+ * read.
  */
 public class PaymentServiceHttpClientErrorException extends HttpClientErrorException {
 
-    public final transient JsonNode responseBody;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     public final Exception exception;
+    private transient JsonNode responseBody;
 
     public PaymentServiceHttpClientErrorException(HttpStatus statusCode, String statusText, String responseBody,
-                                                  Exception e) throws IOException {
-        super(statusCode, statusText);
-        this.responseBody = getJsonObject(responseBody);
+                                                  Exception e) {
+        super(statusCode, statusText, responseBody != null ? responseBody.getBytes(StandardCharsets.UTF_8) : null,
+                StandardCharsets.UTF_8);
         this.exception = e;
     }
 
-    private JsonNode getJsonObject(String jsonString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readTree(jsonString);
+    /**
+     * This method returns the response body of the payment microservice as json, parsing it on the first call
+     *
+     * @return response body
+     * @throws IOException if the response body is not json
+     */
+    public JsonNode getResponseJson() throws IOException {
+        if (responseBody == null)
+            responseBody = OBJECT_MAPPER.readTree(getResponseBodyAsString());
+        return responseBody;
     }
 }
@@ -3,7 +3,7 @@ package com.swivel.ignite.registration.exception;
 /**
  * Student Already Exists Exception
  */
-public class StudentAlreadyExistsException extends RuntimeException {
+public class StudentAlreadyExistsException extends ExpectedOutcomeException {
 
     /**
      * Student Already Exists Exception with error message.
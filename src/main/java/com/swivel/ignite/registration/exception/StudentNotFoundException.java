@@ -3,7 +3,7 @@ package com.swivel.ignite.registration.exception;
 /**
  * Student Not Found Exception
  */
-public class StudentNotFoundException extends RuntimeException {
+public class StudentNotFoundException extends ExpectedOutcomeException {
 
     /**
      * Student Not Found Exception with error message.
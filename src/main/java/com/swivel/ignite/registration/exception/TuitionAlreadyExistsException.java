@@ -3,7 +3,7 @@ package com.swivel.ignite.registration.exception;
 /**
  * Tuition Already Exists Exception
  */
-public class TuitionAlreadyExistsException extends RuntimeException {
+public class TuitionAlreadyExistsException extends ExpectedOutcomeException {
 
     /**
      * Tuition Already Exists Exception with error message.
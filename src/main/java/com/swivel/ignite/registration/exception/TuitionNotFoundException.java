@@ -3,7 +3,7 @@ package com.swivel.ignite.registration.exception;
 /**
  * Tuition Not Found Exception
  */
-public class TuitionNotFoundException extends RuntimeException {
+public class TuitionNotFoundException extends ExpectedOutcomeException {
 
     /**
      * Tuition Not Found Exception with error message.
@@ -3,7 +3,7 @@ package com.swivel.ignite.registration.exception;
 /**
  * UsernamePasswordNotMatchException
  */
-public class UsernamePasswordNotMatchException extends RuntimeException {
+public class UsernamePasswordNotMatchException extends ExpectedOutcomeException {
 
     /**
      * UsernamePasswordNotMatchException with error message.
@@ -0,0 +1,26 @@
+package com.swivel.ignite.registration.exception;
+
+/**
+ * Version Conflict Exception
+ */
+public class VersionConflictException extends ExpectedOutcomeException {
+
+    /**
+     * Version Conflict Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public VersionConflictException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Version Conflict Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public VersionConflictException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,85 @@
+package com.swivel.ignite.registration.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Api Version Filter
+ * <p>
+ * Serves the v2 api from the v1 controllers. A request to /api/v2/** is marked as a v2 request and passed on as the
+ * same request to /api/v1/**, so the later filters and the controllers see the v1 path, and its response is written
+ * without the v1 envelope. Runs first, so the path patterns of the other filters apply to both versions.
+ */
+@Component
+@Order(ApiVersionFilter.ORDER)
+@Slf4j
+public class ApiVersionFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = RateLimitFilter.ORDER - 1;
+    public static final String API_VERSION_ATTRIBUTE = "registration.apiVersion";
+    public static final String V2 = "v2";
+    private static final String V1_PREFIX = "/api/v1/";
+    private static final String V2_PREFIX = "/api/v2/";
+
+    /**
+     * This method checks a request was made to the v2 api
+     *
+     * @param request request
+     * @return true/ false
+     */
+    public static boolean isV2(HttpServletRequest request) {
+        return V2.equals(request.getAttribute(API_VERSION_ATTRIBUTE));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(V2_PREFIX, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        request.setAttribute(API_VERSION_ATTRIBUTE, V2);
+        chain.doFilter(new V1PathRequest(request), response);
+    }
+
+    /**
+     * Request of the v2 api seen as the same request to the v1 api
+     */
+    private static final class V1PathRequest extends HttpServletRequestWrapper {
+
+        private V1PathRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getRequestURI() {
+            return toV1(super.getRequestURI());
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            return new StringBuffer(toV1(super.getRequestURL().toString()));
+        }
+
+        @Override
+        public String getServletPath() {
+            return toV1(super.getServletPath());
+        }
+
+        private static String toV1(String path) {
+            int index = path.indexOf(V2_PREFIX);
+            return index < 0 ? path : path.substring(0, index) + V1_PREFIX + path.substring(index +
+                    V2_PREFIX.length());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.service.CompressionService;
+import com.swivel.ignite.registration.service.compression.ContentCoding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Compression Filter
+ * <p>
+ * Compresses the responses of the configured GET paths with the content coding the client accepts, when the body
+ * is at least the minimum size and of an allowed media type. The responses of the configured cacheable paths reuse
+ * the body compressed for the same request while it is unchanged. The paths must be of actions that write their
+ * response at once, as the body is buffered. Runs outside the idempotency filter, so replayed responses are
+ * compressed too.
+ */
+@Component
+@Order(CompressionFilter.ORDER)
+@Slf4j
+public class CompressionFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = SessionTokenFilter.ORDER + 1;
+    private final CompressionService compressionService;
+    private final List<String> paths;
+    private final List<String> cachedPaths;
+    private final List<MediaType> mimeTypes;
+    private final int minSize;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public CompressionFilter(CompressionService compressionService,
+                             @Value("${registration.compression.paths}") List<String> paths,
+                             @Value("${registration.compression.cachedPaths}") List<String> cachedPaths,
+                             @Value("${registration.compression.mimeTypes}") List<String> mimeTypes,
+                             @Value("${registration.compression.minSize}") int minSize) {
+        this.compressionService = compressionService;
+        this.paths = paths;
+        this.cachedPaths = cachedPaths;
+        this.mimeTypes = mimeTypes.stream().map(MediaType::valueOf).collect(Collectors.toList());
+        this.minSize = minSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !matches(paths, getPath(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ContentCoding coding = compressionService.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (coding == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, cachingResponse);
+        byte[] body = cachingResponse.getContentAsByteArray();
+        if (!isCompressible(cachingResponse, body.length)) {
+            cachingResponse.copyBodyToResponse();
+            return;
+        }
+        byte[] compressedBody = matches(cachedPaths, getPath(request)) ?
+                compressionService.compressCached(getCacheKey(request, cachingResponse), body, coding) :
+                compressionService.compress(body, coding);
+        log.debug("Compressed response of path: {} from {} to {} bytes", request.getRequestURI(), body.length,
+                compressedBody.length);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+        response.setContentLength(compressedBody.length);
+        response.getOutputStream().write(compressedBody);
+    }
+
+    /**
+     * This method checks a buffered response should be compressed
+     *
+     * @param response buffered response
+     * @param size     body size
+     * @return true/ false
+     */
+    private boolean isCompressible(HttpServletResponse response, int size) {
+        if (response.getStatus() != HttpStatus.OK.value() || size < minSize ||
+                response.getHeader(HttpHeaders.CONTENT_ENCODING) != null || response.getContentType() == null)
+            return false;
+        MediaType contentType = MediaType.valueOf(response.getContentType());
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.isCompatibleWith(contentType))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * This method returns the key a cacheable response is kept by, which covers everything the body depends on
+     *
+     * @param request  request
+     * @param response buffered response
+     * @return cache key
+     */
+    private String getCacheKey(HttpServletRequest request, HttpServletResponse response) {
+        String query = request.getQueryString();
+        return (ApiVersionFilter.isV2(request) ? ApiVersionFilter.V2 + " " : "") + request.getRequestURI() +
+                (query == null ? "" : "?" + query) + " " + response.getContentType();
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path))
+                return true;
+        }
+        return false;
+    }
+
+    private String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
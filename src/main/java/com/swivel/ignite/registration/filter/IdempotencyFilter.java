@@ -0,0 +1,203 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.service.IdempotencyService;
+import com.swivel.ignite.registration.service.idempotency.IdempotentResponse;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency Filter
+ * <p>
+ * Honors the Idempotency-Key header on the configured POST paths. The first response of a key is stored and
+ * replayed for retries of the same request without executing it again, on any node; a key reused for a different
+ * request is rejected.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private final IdempotencyService idempotencyService;
+    private final List<String> paths;
+    private final int maxKeyLength;
+    private final long waitTimeoutMs;
+    private final long pollIntervalMs;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public IdempotencyFilter(IdempotencyService idempotencyService,
+                             @Value("${registration.idempotency.paths}") List<String> paths,
+                             @Value("${registration.idempotency.maxKeyLength}") int maxKeyLength,
+                             @Value("${registration.idempotency.waitTimeoutMs}") long waitTimeoutMs,
+                             @Value("${registration.idempotency.pollIntervalMs}") long pollIntervalMs) {
+        this.idempotencyService = idempotencyService;
+        this.paths = paths;
+        this.maxKeyLength = maxKeyLength;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null)
+            return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern, path))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > maxKeyLength) {
+            log.error("Invalid idempotency key of length: {} for path: {}", key.length(), request.getRequestURI());
+            ErrorResponses.write(response, HttpStatus.BAD_REQUEST, ErrorResponseStatusType.INVALID_IDEMPOTENCY_KEY,
+                    ApiVersionFilter.isV2(request));
+            return;
+        }
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        // a v2 request sees the v1 path, so the version keeps its stored response apart
+        String fingerprint = request.getMethod() + " " + request.getRequestURI() + " " +
+                (ApiVersionFilter.isV2(request) ? ApiVersionFilter.V2 + " " : "") + hash(cachedRequest.getBody());
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (true) {
+            IdempotentResponse storedResponse = idempotencyService.findResponse(key);
+            if (storedResponse != null) {
+                replay(request, response, storedResponse, fingerprint, key);
+                return;
+            }
+            CompletableFuture<Void> inFlight = idempotencyService.claim(key, fingerprint);
+            if (inFlight == null)
+                break;
+            if (!awaitInFlight(inFlight, key, deadline)) {
+                ErrorResponses.write(response, HttpStatus.CONFLICT,
+                        ErrorResponseStatusType.IDEMPOTENT_REQUEST_IN_PROGRESS, ApiVersionFilter.isV2(request));
+                return;
+            }
+        }
+        execute(cachedRequest, response, chain, key, fingerprint);
+    }
+
+    /**
+     * This method executes a claimed request and stores its response
+     *
+     * @param request     request
+     * @param response    response
+     * @param chain       filter chain
+     * @param key         idempotency key
+     * @param fingerprint request fingerprint
+     */
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+                         String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, cachingResponse);
+            idempotencyService.complete(key, new IdempotentResponse(fingerprint, cachingResponse.getStatus(),
+                    cachingResponse.getContentType(), cachingResponse.getContentAsByteArray(),
+                    System.currentTimeMillis()));
+            completed = true;
+        } finally {
+            if (!completed)
+                idempotencyService.release(key);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * This method writes a stored response, or an error if the key was used for a different request
+     *
+     * @param request        request
+     * @param response       response
+     * @param storedResponse stored response
+     * @param fingerprint    request fingerprint
+     * @param key            idempotency key
+     */
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotentResponse storedResponse,
+                        String fingerprint, String key) throws IOException {
+        if (!storedResponse.getFingerprint().equals(fingerprint)) {
+            log.error("Idempotency key: {} reused for a different request: {}", key, fingerprint);
+            ErrorResponses.write(response, HttpStatus.BAD_REQUEST, ErrorResponseStatusType.IDEMPOTENCY_KEY_REUSED,
+                    ApiVersionFilter.isV2(request));
+            return;
+        }
+        log.debug("Replaying stored response of idempotency key: {}", key);
+        response.setStatus(storedResponse.getStatus());
+        if (storedResponse.getContentType() != null)
+            response.setContentType(storedResponse.getContentType());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.setContentLength(storedResponse.getBody().length);
+        response.getOutputStream().write(storedResponse.getBody());
+    }
+
+    /**
+     * This method waits for the in-flight execution of a key, at most for a poll interval as an execution on another
+     * node does not signal its end
+     *
+     * @param inFlight in-flight execution
+     * @param key      idempotency key
+     * @param deadline time the caller stops waiting
+     * @return true if it finished or the response is to be polled again/ false if the wait timed out
+     */
+    private boolean awaitInFlight(CompletableFuture<Void> inFlight, String key, long deadline) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        try {
+            if (remainingMs > 0) {
+                inFlight.get(Math.min(remainingMs, pollIntervalMs), TimeUnit.MILLISECONDS);
+                return true;
+            }
+        } catch (TimeoutException e) {
+            if (System.currentTimeMillis() < deadline)
+                return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+        log.error("Timed out waiting for in-flight request of idempotency key: {}", key);
+        return false;
+    }
+
+    /**
+     * This method returns the SHA-256 hash of a request body
+     *
+     * @param body request body
+     * @return base64 hash
+     */
+    private String hash(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rate Limit Filter
+ * <p>
+ * Throttles the POST requests to the configured paths per client IP. Runs first, so a throttled request costs no
+ * token verification, body read or DB access.
+ */
+@Component
+@Order(RateLimitFilter.ORDER)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = SessionTokenFilter.ORDER - 1;
+    private final RateLimitService rateLimitService;
+    private final List<String> paths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public RateLimitFilter(RateLimitService rateLimitService,
+                           @Value("${registration.rateLimit.client.paths}") List<String> paths) {
+        this.rateLimitService = rateLimitService;
+        this.paths = paths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()))
+            return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern, path))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!rateLimitService.tryAcquireClient(request.getRemoteAddr())) {
+            log.debug("Throttled request of client: {} to path: {}", request.getRemoteAddr(), request.getRequestURI());
+            ErrorResponses.write(response, HttpStatus.TOO_MANY_REQUESTS, ErrorResponseStatusType.CLIENT_RATE_LIMITED,
+                    ApiVersionFilter.isV2(request));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
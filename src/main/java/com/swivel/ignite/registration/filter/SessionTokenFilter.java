@@ -0,0 +1,87 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Session Token Filter
+ * <p>
+ * Verifies the bearer session token of a request and exposes it as a request attribute. A request with an invalid
+ * token is rejected, and so is a request to a configured required path without one. Runs before the idempotency
+ * filter so a rejected request is never stored as the response of its key.
+ */
+@Component
+@Order(SessionTokenFilter.ORDER)
+@Slf4j
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = 0;
+    public static final String SESSION_TOKEN_ATTRIBUTE = "registration.sessionToken";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private final SessionTokenService sessionTokenService;
+    private final List<String> requiredPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public SessionTokenFilter(SessionTokenService sessionTokenService,
+                              @Value("${registration.token.requiredPaths:}") List<String> requiredPaths) {
+        this.sessionTokenService = sessionTokenService;
+        this.requiredPaths = requiredPaths;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            SessionToken sessionToken = sessionTokenService.verify(authorization.substring(BEARER_PREFIX.length())
+                    .trim());
+            if (sessionToken == null) {
+                log.error("Invalid session token for path: {}", request.getRequestURI());
+                ErrorResponses.write(response, HttpStatus.UNAUTHORIZED, ErrorResponseStatusType.INVALID_SESSION_TOKEN,
+                        ApiVersionFilter.isV2(request));
+                return;
+            }
+            request.setAttribute(SESSION_TOKEN_ATTRIBUTE, sessionToken);
+        } else if (isRequired(request)) {
+            log.error("Missing session token for path: {}", request.getRequestURI());
+            ErrorResponses.write(response, HttpStatus.UNAUTHORIZED, ErrorResponseStatusType.INVALID_SESSION_TOKEN,
+                    ApiVersionFilter.isV2(request));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * This method checks the path of a request requires a session token
+     *
+     * @param request request
+     * @return true/ false
+     */
+    private boolean isRequired(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : requiredPaths) {
+            if (!pattern.isEmpty() && pathMatcher.match(pattern, path))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Change Log Repository
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, ChangeLogRepositoryCustom {
+
+    /**
+     * This method returns the entries after a cursor in cursor order
+     *
+     * @param since    cursor of the last entry read
+     * @param pageable page of the entries
+     * @return list of change log entries
+     */
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(long since, Pageable pageable);
+
+    /**
+     * This method checks there are entries after a cursor
+     *
+     * @param since cursor
+     * @return true/ false
+     */
+    boolean existsByIdGreaterThan(long since);
+
+    /**
+     * This method returns the latest entry
+     *
+     * @return latest change log entry
+     */
+    Optional<ChangeLogEntry> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,18 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+
+import java.util.List;
+
+/**
+ * Custom Change Log Repository operations that are not derivable by Spring Data
+ */
+public interface ChangeLogRepositoryCustom {
+
+    /**
+     * This method inserts the given new change log entries with multi-row INSERTs
+     *
+     * @param entries new change log entries
+     */
+    void insertAll(List<ChangeLogEntry> entries);
+}
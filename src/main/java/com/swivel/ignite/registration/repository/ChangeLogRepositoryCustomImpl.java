@@ -0,0 +1,50 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.List;
+
+/**
+ * Custom Change Log Repository implementation
+ */
+public class ChangeLogRepositoryCustomImpl implements ChangeLogRepositoryCustom {
+
+    private static final int ROWS_PER_INSERT = 500;
+    private static final String INSERT = "insert into change_log (type, student_id, tuition_id, name, created_at) " +
+            "values ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Change log entries have IDENTITY ids, which hibernate never groups into JDBC batches, so a persist per entry
+     * would be one INSERT per change. The entries are written as one native multi-row INSERT per
+     * {@value #ROWS_PER_INSERT} entries instead.
+     *
+     * @param entries new change log entries
+     */
+    @Override
+    public void insertAll(List<ChangeLogEntry> entries) {
+        for (int from = 0; from < entries.size(); from += ROWS_PER_INSERT) {
+            List<ChangeLogEntry> rows = entries.subList(from, Math.min(entries.size(), from + ROWS_PER_INSERT));
+            StringBuilder sql = new StringBuilder(INSERT);
+            for (int i = 0; i < rows.size(); i++) {
+                sql.append(i == 0 ? ROW : ", " + ROW);
+            }
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int position = 1;
+            for (ChangeLogEntry entry : rows) {
+                query.setParameter(position++, entry.getType().name());
+                query.setParameter(position++, entry.getStudentId());
+                query.setParameter(position++, entry.getTuitionId());
+                query.setParameter(position++, entry.getName());
+                query.setParameter(position++, entry.getCreatedAt());
+            }
+            query.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+/**
+ * Idempotency Record Repository
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * This method inserts a pending record claiming a key. The insert fails with a duplicate key when the key is
+     * already claimed or completed, on any node.
+     *
+     * @param key         idempotency key
+     * @param fingerprint request fingerprint
+     * @param claimId     claim id
+     * @param createdAt   claim time
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into idempotency_record (idempotency_key, fingerprint, status, claim_id, created_at) " +
+            "values (:key, :fingerprint, 0, :claimId, :createdAt)", nativeQuery = true)
+    void insertClaim(@Param("key") String key, @Param("fingerprint") String fingerprint,
+                     @Param("claimId") String claimId, @Param("createdAt") Date createdAt);
+
+    /**
+     * This method takes over the record of a key whose claim is older than the given time, or whose response is
+     * expired
+     *
+     * @param key           idempotency key
+     * @param fingerprint   request fingerprint
+     * @param claimId       claim id
+     * @param createdAt     claim time
+     * @param claimedBefore claim time limit
+     * @param expiredBefore response creation time limit
+     * @return number of claimed records
+     */
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord ir set ir.fingerprint = :fingerprint, ir.status = 0, ir.contentType = null, " +
+            "ir.body = null, ir.claimId = :claimId, ir.createdAt = :createdAt where ir.idempotencyKey = :key and " +
+            "((ir.status = 0 and ir.createdAt < :claimedBefore) or ir.createdAt < :expiredBefore)")
+    int takeOverClaim(@Param("key") String key, @Param("fingerprint") String fingerprint,
+                      @Param("claimId") String claimId, @Param("createdAt") Date createdAt,
+                      @Param("claimedBefore") Date claimedBefore, @Param("expiredBefore") Date expiredBefore);
+
+    /**
+     * This method stores the response of a pending record, only while the given claim holds it
+     *
+     * @param key         idempotency key
+     * @param claimId     claim id
+     * @param status      response status
+     * @param contentType response content type/ null
+     * @param body        response body
+     * @param createdAt   time the response was stored
+     * @return number of completed records
+     */
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord ir set ir.status = :status, ir.contentType = :contentType, ir.body = :body, " +
+            "ir.createdAt = :createdAt, ir.claimId = null where ir.idempotencyKey = :key and ir.claimId = :claimId " +
+            "and ir.status = 0")
+    int completeClaim(@Param("key") String key, @Param("claimId") String claimId, @Param("status") int status,
+                      @Param("contentType") String contentType, @Param("body") byte[] body,
+                      @Param("createdAt") Date createdAt);
+
+    /**
+     * This method deletes a pending record, only while the given claim holds it
+     *
+     * @param key     idempotency key
+     * @param claimId claim id
+     * @return number of deleted records
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord ir where ir.idempotencyKey = :key and ir.claimId = :claimId and " +
+            "ir.status = 0")
+    int deleteClaim(@Param("key") String key, @Param("claimId") String claimId);
+
+    /**
+     * This method deletes the records created before the given time
+     *
+     * @param createdBefore creation time limit
+     * @return number of deleted records
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord ir where ir.createdAt < :createdBefore")
+    int deleteByCreatedAtBefore(@Param("createdBefore") Date createdBefore);
+}
@@ -0,0 +1,48 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+/**
+ * Job Lease Repository
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * This method extends a lease held by the given owner, or takes over an expired lease
+     *
+     * @param name      job name
+     * @param owner     lease owner
+     * @param expiresAt new expiry of the lease
+     * @param now       current time
+     * @return number of acquired leases
+     */
+    @Transactional
+    @Modifying
+    @Query("update JobLease jl set jl.owner = :owner, jl.expiresAt = :expiresAt where jl.name = :name and " +
+            "(jl.owner = :owner or jl.expiresAt < :now)")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("expiresAt") Date expiresAt,
+              @Param("now") Date now);
+
+    /**
+     * This method inserts the first lease of a job. The insert fails with a duplicate key when another node
+     * inserted it first.
+     *
+     * @param name      job name
+     * @param owner     lease owner
+     * @param expiresAt expiry of the lease
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into job_lease (name, owner, expires_at) values (:name, :owner, :expiresAt)",
+            nativeQuery = true)
+    void insertLease(@Param("name") String name, @Param("owner") String owner, @Param("expiresAt") Date expiresAt);
+}
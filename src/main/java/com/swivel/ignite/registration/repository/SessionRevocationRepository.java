@@ -0,0 +1,38 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.SessionRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Session Revocation Repository
+ */
+@Repository
+public interface SessionRevocationRepository extends JpaRepository<SessionRevocation, String> {
+
+    /**
+     * This method returns the revocations made after the given time
+     *
+     * @param revokedAfter revocation time limit
+     * @return list of session revocations
+     */
+    List<SessionRevocation> findByRevokedAtAfter(Date revokedAfter);
+
+    /**
+     * This method deletes the revocations whose tokens have all expired before the given time
+     *
+     * @param expiredBefore expiry time limit
+     * @return number of deleted revocations
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from SessionRevocation sr where sr.expiresAt < :expiredBefore")
+    int deleteByExpiresAtBefore(@Param("expiredBefore") Date expiredBefore);
+}
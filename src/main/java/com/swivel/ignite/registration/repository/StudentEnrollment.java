@@ -0,0 +1,11 @@
+package com.swivel.ignite.registration.repository;
+
+/**
+ * Projection of a student's id and the id of the tuition the student is enrolled in
+ */
+public interface StudentEnrollment {
+
+    String getStudentId();
+
+    String getTuitionId();
+}
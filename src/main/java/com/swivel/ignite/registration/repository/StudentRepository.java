@@ -1,16 +1,30 @@
 package com.swivel.ignite.registration.repository;
 
 import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Student Repository
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, String> {
+public interface StudentRepository extends JpaRepository<Student, String>, StudentRepositoryCustom {
 
     /**
      * This method returns a student by name
@@ -19,4 +33,151 @@ public interface StudentRepository extends JpaRepository<Student, String> {
      * @return Student/null
      */
     Optional<Student> findByName(String name);
+
+    /**
+     * This method streams the names of all students. The MySQL driver streams the rows one by one for a fetch size
+     * of Integer.MIN_VALUE instead of buffering the result, and only the name column is read. Must be called in a
+     * transaction and the stream closed after use.
+     *
+     * @return stream of student names
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select s.name from Student s")
+    Stream<String> streamAllNames();
+
+    /**
+     * This method returns the students of the given ids with their tuition in a single query
+     *
+     * @param ids student ids
+     * @return students that exist
+     */
+    @EntityGraph(attributePaths = "tuition")
+    List<Student> findByIdIn(Collection<String> ids);
+
+    /**
+     * This method returns a page of the students of a tuition ordered by id, starting after the given student id.
+     * Served by the (tuition_id, id) index without counting the roster.
+     *
+     * @param tuitionId tuition id
+     * @param after     student id to start after
+     * @param pageable  page size
+     * @return students of the page
+     */
+    List<Student> findByTuitionIdAndIdGreaterThanOrderByIdAsc(String tuitionId, String after, Pageable pageable);
+
+    /**
+     * This method returns the summary of the given students in a single query, without loading their tuition
+     *
+     * @param ids student ids
+     * @return summaries of the students that exist
+     */
+    @Query("select s.id as id, s.name as name, s.tuitionJoinedOn as tuitionJoinedOn, t.id as tuitionId " +
+            "from Student s left join s.tuition t where s.id in :ids")
+    List<StudentSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * This method returns the number of students enrolled in each of the given tuition
+     *
+     * @param tuitionIds tuition ids
+     * @return student count of the tuition that have at least one student
+     */
+    @Query("select s.tuition.id as tuitionId, count(s.id) as studentCount from Student s " +
+            "where s.tuition.id in :tuitionIds group by s.tuition.id")
+    List<TuitionStudentCount> countByTuitionIdIn(@Param("tuitionIds") Collection<String> tuitionIds);
+
+    /**
+     * This method returns the number of students enrolled in every tuition
+     *
+     * @return student count of the tuition that have at least one student
+     */
+    @Query("select s.tuition.id as tuitionId, count(s.id) as studentCount from Student s " +
+            "where s.tuition is not null group by s.tuition.id")
+    List<TuitionStudentCount> countGroupByTuitionId();
+
+    /**
+     * This method returns the ids of the students enrolled in each of the given tuition in a single query
+     *
+     * @param tuitionIds tuition ids
+     * @return enrollments of the students of the tuition
+     */
+    @Query("select s.id as studentId, s.tuition.id as tuitionId from Student s where s.tuition.id in :tuitionIds")
+    List<StudentEnrollment> findEnrollmentsByTuitionIdIn(@Param("tuitionIds") Collection<String> tuitionIds);
+
+    /**
+     * This method returns the enrollment of the given students and locks their rows until the end of the transaction
+     *
+     * @param ids student ids
+     * @return enrollments of the students that exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.id as studentId, t.id as tuitionId from Student s left join s.tuition t where s.id in :ids")
+    List<StudentEnrollment> findEnrollmentsForUpdate(@Param("ids") Collection<String> ids);
+
+    /**
+     * This method enrolls the given students, that are not enrolled in any tuition, in a tuition
+     *
+     * @param ids      student ids
+     * @param tuition  tuition
+     * @param joinedOn tuition joined date
+     * @return number of enrolled students
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Student s set s.tuition = :tuition, s.tuitionJoinedOn = :joinedOn, s.version = s.version + 1 " +
+            "where s.id in :ids and s.tuition is null")
+    int enrollAll(@Param("ids") Collection<String> ids, @Param("tuition") Tuition tuition,
+                  @Param("joinedOn") Date joinedOn);
+
+    /**
+     * This method removes the given students from a tuition
+     *
+     * @param ids     student ids
+     * @param tuition tuition
+     * @return number of removed students
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Student s set s.tuition = null, s.tuitionJoinedOn = null, s.version = s.version + 1 " +
+            "where s.id in :ids and s.tuition = :tuition")
+    int unenrollAll(@Param("ids") Collection<String> ids, @Param("tuition") Tuition tuition);
+
+    /**
+     * This method returns the ids of the students enrolled in a tuition, including soft deleted students and
+     * students of a soft deleted tuition
+     *
+     * @param tuitionId tuition id
+     * @param limit     max number of ids
+     * @return student ids
+     */
+    @Query(value = "select id from student where tuition_id = :tuitionId limit :limit", nativeQuery = true)
+    List<String> findAnyIdsByTuitionId(@Param("tuitionId") String tuitionId, @Param("limit") int limit);
+
+    /**
+     * This method removes the given students from their tuition, including soft deleted students
+     *
+     * @param ids student ids
+     * @return number of removed students
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update student set tuition_id = null, tuition_joined_on = null, version = version + 1 " +
+            "where id in :ids", nativeQuery = true)
+    int unenrollAnyByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * This method returns the ids of soft deleted students. Entity reads hide them, so this reads the table
+     * directly.
+     *
+     * @param limit max number of ids
+     * @return student ids
+     */
+    @Query(value = "select id from student where deleted_on is not null limit :limit", nativeQuery = true)
+    List<String> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * This method hard deletes a soft deleted student
+     *
+     * @param id student id
+     * @return number of deleted students
+     */
+    @Modifying
+    @Query(value = "delete from student where id = :id and deleted_on is not null", nativeQuery = true)
+    int purgeById(@Param("id") String id);
 }
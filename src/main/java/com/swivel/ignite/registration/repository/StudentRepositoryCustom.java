@@ -0,0 +1,30 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.Student;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom Student Repository operations that are not derivable by Spring Data
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * This method persists the given new students as one JDBC batch and detaches them afterwards
+     *
+     * @param students new students
+     */
+    void persistAll(List<Student> students);
+
+    /**
+     * This method returns the first students matching a specification in the given order, without a count query
+     *
+     * @param specification filter
+     * @param sort          order
+     * @param limit         maximum number of students
+     * @return students
+     */
+    List<Student> findPage(Specification<Student> specification, Sort sort, int limit);
+}
@@ -0,0 +1,60 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.Student;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+/**
+ * Custom Student Repository implementation
+ */
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Students have assigned ids, so save() would merge and issue a SELECT per row. Persisting directly lets
+     * hibernate group the INSERTs into JDBC batches (hibernate.jdbc.batch_size, hibernate.order_inserts).
+     * The persistence context is cleared after the flush to keep memory flat across batches.
+     *
+     * @param students new students
+     */
+    @Override
+    public void persistAll(List<Student> students) {
+        for (Student student : students) {
+            entityManager.persist(student);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * JpaSpecificationExecutor only limits through a Pageable, which issues a count query for every page. Keyset
+     * pages don't need the total, so the limit is applied to the criteria query directly.
+     *
+     * @param specification filter
+     * @param sort          order
+     * @param limit         maximum number of students
+     * @return students
+     */
+    @Override
+    public List<Student> findPage(Specification<Student> specification, Sort sort, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Student> query = builder.createQuery(Student.class);
+        Root<Student> root = query.from(Student.class);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
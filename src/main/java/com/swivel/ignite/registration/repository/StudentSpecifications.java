@@ -0,0 +1,98 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.Student;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Date;
+
+/**
+ * Specifications of the student search filters. Each filter is served by one of the student indexes:
+ * (name, id), (tuition_id, id) and (tuition_joined_on, id).
+ */
+public final class StudentSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String TUITION = "tuition";
+    private static final String TUITION_JOINED_ON = "tuitionJoinedOn";
+
+    private StudentSpecifications() {
+    }
+
+    /**
+     * This method returns a filter of the students whose name starts with a prefix
+     *
+     * @param prefix name prefix
+     * @return Specification
+     */
+    public static Specification<Student> nameStartsWith(String prefix) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, builder) -> builder.like(root.get(NAME), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * This method returns a filter of the students enrolled in a tuition
+     *
+     * @param tuitionId tuition id
+     * @return Specification
+     */
+    public static Specification<Student> inTuition(String tuitionId) {
+        return (root, query, builder) -> builder.equal(root.get(TUITION).get(ID), tuitionId);
+    }
+
+    /**
+     * This method returns a filter of the students who joined their tuition on or after a date
+     *
+     * @param from start date, inclusive
+     * @return Specification
+     */
+    public static Specification<Student> joinedOnOrAfter(Date from) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get(TUITION_JOINED_ON), from);
+    }
+
+    /**
+     * This method returns a filter of the students who joined their tuition before a date
+     *
+     * @param to end date, exclusive
+     * @return Specification
+     */
+    public static Specification<Student> joinedBefore(Date to) {
+        return (root, query, builder) -> builder.lessThan(root.get(TUITION_JOINED_ON), to);
+    }
+
+    /**
+     * This method returns the keyset filter of the students after a student in id order
+     *
+     * @param id id of the last student of the previous page
+     * @return Specification
+     */
+    public static Specification<Student> idAfter(String id) {
+        return (root, query, builder) -> builder.greaterThan(root.get(ID), id);
+    }
+
+    /**
+     * This method returns the keyset filter of the students after a student in (name, id) order
+     *
+     * @param name name of the last student of the previous page
+     * @param id   id of the last student of the previous page
+     * @return Specification
+     */
+    public static Specification<Student> nameAfter(String name, String id) {
+        return (root, query, builder) -> builder.or(builder.greaterThan(root.get(NAME), name),
+                builder.and(builder.equal(root.get(NAME), name), builder.greaterThan(root.get(ID), id)));
+    }
+
+    /**
+     * This method returns the keyset filter of the students after a student in (tuitionJoinedOn, id) order
+     *
+     * @param joinedOn joined date of the last student of the previous page
+     * @param id       id of the last student of the previous page
+     * @return Specification
+     */
+    public static Specification<Student> joinedOnAfter(Date joinedOn, String id) {
+        return (root, query, builder) -> builder.or(builder.greaterThan(root.get(TUITION_JOINED_ON), joinedOn),
+                builder.and(builder.equal(root.get(TUITION_JOINED_ON), joinedOn),
+                        builder.greaterThan(root.get(ID), id)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.swivel.ignite.registration.repository;
+
+import java.util.Date;
+
+/**
+ * Projection of the student columns, without loading the tuition entity
+ */
+public interface StudentSummary {
+
+    String getId();
+
+    String getName();
+
+    Date getTuitionJoinedOn();
+
+    String getTuitionId();
+}
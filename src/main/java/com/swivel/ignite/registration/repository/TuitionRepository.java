@@ -1,9 +1,15 @@
 package com.swivel.ignite.registration.repository;
 
 import com.swivel.ignite.registration.entity.Tuition;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +25,41 @@ public interface TuitionRepository extends JpaRepository<Tuition, String> {
      * @return Tuition/ null
      */
     Optional<Tuition> findByName(String name);
+
+    /**
+     * This method returns the tuition of the given ids with their students in a single query
+     *
+     * @param ids tuition ids
+     * @return tuition that exist
+     */
+    @EntityGraph(attributePaths = "students")
+    List<Tuition> findByIdIn(Collection<String> ids);
+
+    /**
+     * This method returns the tuition whose name or location contains the given texts, ignoring case
+     *
+     * @param name     text to find in the name
+     * @param location text to find in the location
+     * @return matching tuition
+     */
+    List<Tuition> findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(String name, String location);
+
+    /**
+     * This method returns the ids of soft deleted tuition. Entity reads hide them, so this reads the table directly.
+     *
+     * @param limit max number of ids
+     * @return tuition ids
+     */
+    @Query(value = "select id from tuition where deleted_on is not null limit :limit", nativeQuery = true)
+    List<String> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * This method hard deletes a soft deleted tuition
+     *
+     * @param id tuition id
+     * @return number of deleted tuition
+     */
+    @Modifying
+    @Query(value = "delete from tuition where id = :id and deleted_on is not null", nativeQuery = true)
+    int purgeById(@Param("id") String id);
 }
@@ -0,0 +1,51 @@
+package com.swivel.ignite.registration.repository;
+
+import com.swivel.ignite.registration.entity.TuitionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Tuition Stats Repository
+ */
+@Repository
+public interface TuitionStatsRepository extends JpaRepository<TuitionStats, String>, TuitionStatsRepositoryCustom {
+
+    /**
+     * This method inserts empty stats of a tuition, keeping the stats another node already inserted
+     *
+     * @param tuitionId tuition id
+     * @param location  location of the tuition
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into tuition_stats (tuition_id, location, student_count) " +
+            "values (:tuitionId, :location, 0) on duplicate key update tuition_id = tuition_id", nativeQuery = true)
+    void insertIfMissing(@Param("tuitionId") String tuitionId, @Param("location") String location);
+
+    /**
+     * This method moves the stats of a tuition to its new location, keeping the student count
+     *
+     * @param tuitionId tuition id
+     * @param location  location of the tuition
+     */
+    @Transactional
+    @Modifying
+    @Query("update TuitionStats ts set ts.location = :location where ts.tuitionId = :tuitionId")
+    void updateLocation(@Param("tuitionId") String tuitionId, @Param("location") String location);
+
+    /**
+     * This method deletes the stats of the given tuition, ignoring tuition without stats
+     *
+     * @param tuitionIds tuition ids
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from TuitionStats ts where ts.tuitionId in :tuitionIds")
+    void deleteByTuitionIdIn(@Param("tuitionIds") Collection<String> tuitionIds);
+}
@@ -0,0 +1,17 @@
+package com.swivel.ignite.registration.repository;
+
+import java.util.Map;
+
+/**
+ * Custom Tuition Stats Repository operations that are not derivable by Spring Data
+ */
+public interface TuitionStatsRepositoryCustom {
+
+    /**
+     * This method adds the given deltas to the student counts of their tuition in one transaction, ignoring tuition
+     * without stats
+     *
+     * @param deltas number of students added to each tuition, negative when removed
+     */
+    void addStudentCounts(Map<String, Long> deltas);
+}
@@ -0,0 +1,37 @@
+package com.swivel.ignite.registration.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.Map;
+
+/**
+ * Custom Tuition Stats Repository implementation
+ */
+public class TuitionStatsRepositoryCustomImpl implements TuitionStatsRepositoryCustom {
+
+    private static final String ADD_STUDENT_COUNT = "update tuition_stats set student_count = student_count + ? " +
+            "where tuition_id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Every node adds its own deltas to the shared counters, so the counts changed by the other nodes are kept. The
+     * deltas are written in one transaction, so a failed write can be retried without counting any of them twice.
+     *
+     * @param deltas number of students added to each tuition, negative when removed
+     */
+    @Override
+    @Transactional
+    public void addStudentCounts(Map<String, Long> deltas) {
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            Query query = entityManager.createNativeQuery(ADD_STUDENT_COUNT);
+            query.setParameter(1, delta.getValue());
+            query.setParameter(2, delta.getKey());
+            query.executeUpdate();
+        }
+    }
+}
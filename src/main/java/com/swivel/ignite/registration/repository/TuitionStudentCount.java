@@ -0,0 +1,11 @@
+package com.swivel.ignite.registration.repository;
+
+/**
+ * Projection of the number of students enrolled in a tuition
+ */
+public interface TuitionStudentCount {
+
+    String getTuitionId();
+
+    long getStudentCount();
+}
@@ -0,0 +1,22 @@
+package com.swivel.ignite.registration.serializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a response type to get a serializer generated at compile time by
+ * {@link com.swivel.ignite.registration.serializer.processor.SerializerProcessor}. The generated serializer writes
+ * the properties of the type and its super types with straight-line {@code JsonGenerator} calls in place of
+ * reflective bean serialization, and is registered with the message converters by
+ * {@link GeneratedSerializerModule}.
+ * <p>
+ * Every non-static field is a property, read through its getter, so the type is expected to have a getter for
+ * every field and no other getters, as with Lombok's {@code @Getter}. A class level {@code @JsonInclude(NON_NULL)}
+ * is honored, other Jackson annotations on the fields are rejected by the processor.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateSerializer {
+}
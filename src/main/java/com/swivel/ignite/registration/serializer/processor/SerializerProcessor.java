@@ -0,0 +1,471 @@
+package com.swivel.ignite.registration.serializer.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Serializer Processor
+ * <p>
+ * Generates a Jackson serializer for every type annotated with
+ * {@link com.swivel.ignite.registration.serializer.GenerateSerializer}, and the
+ * {@code GeneratedSerializerModule} that registers them. The properties are written in declaration order, super
+ * type first, as Jackson orders them, under names encoded once. Strings, numbers, booleans, enums, dates, string
+ * collections and values of other generated types are written straight-line, and any other value is handed to the
+ * serializer provider.
+ * <p>
+ * The processor is compiled in an earlier compiler execution of the build than the sources it processes.
+ */
+@SupportedAnnotationTypes(SerializerProcessor.ANNOTATION)
+public class SerializerProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.swivel.ignite.registration.serializer.GenerateSerializer";
+    private static final String MODULE_PACKAGE = "com.swivel.ignite.registration.serializer";
+    private static final String MODULE_NAME = "GeneratedSerializerModule";
+    private static final String SERIALIZER_SUFFIX = "JsonSerializer";
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.annotation.";
+    private static final String JSON_INCLUDE = JACKSON_ANNOTATION_PACKAGE + "JsonInclude";
+    private static final String JSON_IGNORE = JACKSON_ANNOTATION_PACKAGE + "JsonIgnore";
+    private static final String JSON_VALUE = JACKSON_ANNOTATION_PACKAGE + "JsonValue";
+    private static final String HEADER = "// Generated by " + SerializerProcessor.class.getName() + ", do not edit";
+    private final Set<String> generatedTypes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty())
+            return false;
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        List<TypeElement> types = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS || !element.getModifiers().contains(Modifier.PUBLIC) ||
+                    element.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+                error(element, "@GenerateSerializer is only supported on public top level classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            types.add(type);
+            generatedTypes.add(type.getQualifiedName().toString());
+        }
+        for (TypeElement type : types) {
+            List<VariableElement> properties = getProperties(type);
+            if (properties != null)
+                writeSerializer(type, properties);
+        }
+        if (!types.isEmpty())
+            writeModule();
+        return true;
+    }
+
+    /**
+     * This method returns the properties of a type, super type first, or null after reporting an unsupported
+     * property
+     *
+     * @param type type
+     * @return fields of the properties/ null
+     */
+    private List<VariableElement> getProperties(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null && !isObject(current); current = getSuperclass(current)) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+        List<VariableElement> properties = new ArrayList<>();
+        Set<String> names = new TreeSet<>();
+        boolean supported = true;
+        for (TypeElement current : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers()
+                        .contains(Modifier.TRANSIENT) || hasAnnotation(field, JSON_IGNORE))
+                    continue;
+                for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                    if (getName(mirror).startsWith(JACKSON_ANNOTATION_PACKAGE)) {
+                        error(field, "Unsupported Jackson annotation for a generated serializer: " + getName(mirror));
+                        supported = false;
+                    }
+                }
+                properties.add(field);
+                names.add(field.getSimpleName().toString());
+            }
+        }
+        for (TypeElement current : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                String property = getGetterProperty(method);
+                if (property != null && !names.contains(property)) {
+                    error(method, "Getter without a field is not supported by a generated serializer");
+                    supported = false;
+                }
+            }
+        }
+        return supported ? properties : null;
+    }
+
+    /**
+     * This method writes the serializer of a type
+     *
+     * @param type       type
+     * @param properties fields of the properties
+     */
+    private void writeSerializer(TypeElement type, List<VariableElement> properties) {
+        String packageName = getPackage(type);
+        String typeName = type.getSimpleName().toString();
+        String serializerName = typeName + SERIALIZER_SUFFIX;
+        boolean nonNull = isNonNull(type);
+        try (PrintWriter out = new PrintWriter(createSource(packageName + "." + serializerName, type))) {
+            out.println(HEADER);
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("public final class " + serializerName + " extends com.fasterxml.jackson.databind.ser.std" +
+                    ".StdSerializer<" + typeName + "> {");
+            out.println();
+            for (VariableElement property : properties) {
+                String name = property.getSimpleName().toString();
+                out.println("    private static final com.fasterxml.jackson.core.io.SerializedString " +
+                        getFieldNameConstant(name) + " = new com.fasterxml.jackson.core.io.SerializedString(\"" +
+                        name + "\");");
+            }
+            out.println();
+            out.println("    public " + serializerName + "() {");
+            out.println("        super(" + typeName + ".class);");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void serialize(" + typeName + " value, com.fasterxml.jackson.core.JsonGenerator " +
+                    "gen, com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {");
+            out.println("        writeObject(value, gen, provider);");
+            out.println("    }");
+            out.println();
+            out.println("    public static void writeObject(" + typeName + " value, com.fasterxml.jackson.core" +
+                    ".JsonGenerator gen, com.fasterxml.jackson.databind.SerializerProvider provider) throws " +
+                    "java.io.IOException {");
+            out.println("        gen.writeStartObject(value);");
+            for (VariableElement property : properties) {
+                writeProperty(out, property, nonNull);
+            }
+            out.println("        gen.writeEndObject();");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(type, "Failed to write the generated serializer: " + e.getMessage());
+        }
+    }
+
+    /**
+     * This method writes the statements writing one property
+     *
+     * @param out      source writer
+     * @param property field of the property
+     * @param nonNull  true if null properties are left out
+     */
+    private void writeProperty(PrintWriter out, VariableElement property, boolean nonNull) {
+        String name = property.getSimpleName().toString();
+        TypeMirror type = property.asType();
+        String getter = "value." + (type.getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalize(name) + "()";
+        String fieldName = "gen.writeFieldName(" + getFieldNameConstant(name) + ");";
+        if (type.getKind().isPrimitive()) {
+            out.println("        " + fieldName);
+            out.println("        " + writePrimitive(type.getKind(), getter) + ";");
+            return;
+        }
+        String variable = name + "Value";
+        out.println("        " + type + " " + variable + " = " + getter + ";");
+        if (nonNull) {
+            out.println("        if (" + variable + " != null) {");
+            out.println("            " + fieldName);
+        } else {
+            out.println("        " + fieldName);
+            out.println("        if (" + variable + " == null) {");
+            out.println("            gen.writeNull();");
+            out.println("        } else {");
+        }
+        out.println("            " + writeValue(type, variable));
+        out.println("        }");
+    }
+
+    private String writePrimitive(TypeKind kind, String getter) {
+        switch (kind) {
+            case BOOLEAN:
+                return "gen.writeBoolean(" + getter + ")";
+            case CHAR:
+                return "gen.writeString(String.valueOf(" + getter + "))";
+            case BYTE:
+            case SHORT:
+                return "gen.writeNumber((int) " + getter + ")";
+            default:
+                return "gen.writeNumber(" + getter + ")";
+        }
+    }
+
+    /**
+     * This method returns the statements writing the value of a non null reference property
+     *
+     * @param type     property type
+     * @param variable variable holding the value
+     * @return statements
+     */
+    private String writeValue(TypeMirror type, String variable) {
+        String typeName = processingEnv.getTypeUtils().erasure(type).toString();
+        switch (typeName) {
+            case "java.lang.String":
+                return "gen.writeString(" + variable + ");";
+            case "java.lang.Boolean":
+                return "gen.writeBoolean(" + variable + ");";
+            case "java.lang.Byte":
+            case "java.lang.Short":
+                return "gen.writeNumber(" + variable + ".intValue());";
+            case "java.lang.Integer":
+            case "java.lang.Long":
+            case "java.lang.Float":
+            case "java.lang.Double":
+                return "gen.writeNumber(" + variable + ");";
+            case "java.util.Date":
+                // entities read from the DB hold timestamps, other subclasses keep their own serializers
+                return "if (" + variable + ".getClass() == java.util.Date.class || " + variable +
+                        ".getClass() == java.sql.Timestamp.class)\n" +
+                        "                provider.defaultSerializeDateValue(" + variable + ", gen);\n" +
+                        "            else\n" +
+                        "                provider.defaultSerializeValue(" + variable + ", gen);";
+            default:
+                break;
+        }
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        if (element != null && element.getKind() == ElementKind.ENUM && !hasJsonValue((TypeElement) element))
+            return "gen.writeString(provider.isEnabled(com.fasterxml.jackson.databind.SerializationFeature" +
+                    ".WRITE_ENUMS_USING_TO_STRING) ? " + variable + ".toString() : " + variable + ".name());";
+        TypeMirror elementType = getCollectionElementType(type);
+        if (elementType != null) {
+            String elementName = processingEnv.getTypeUtils().erasure(elementType).toString();
+            StringBuilder statements = new StringBuilder("gen.writeStartArray();\n");
+            statements.append("            for (").append(elementName).append(" item : ").append(variable)
+                    .append(") {\n");
+            if ("java.lang.String".equals(elementName)) {
+                statements.append("                if (item == null)\n");
+                statements.append("                    gen.writeNull();\n");
+                statements.append("                else\n");
+                statements.append("                    gen.writeString(item);\n");
+            } else {
+                statements.append("                if (item == null) {\n");
+                statements.append("                    gen.writeNull();\n");
+                statements.append("                } else {\n");
+                statements.append("                    ").append(writeDispatch(elementType, "item", "                    "))
+                        .append("\n");
+                statements.append("                }\n");
+            }
+            statements.append("            }\n");
+            statements.append("            gen.writeEndArray();");
+            return statements.toString();
+        }
+        return writeDispatch(type, variable, "            ");
+    }
+
+    /**
+     * This method returns the statements writing a non null value of a declared type, calling the generated
+     * serializer of the exact runtime class when there is one and handing the value to the serializer provider
+     * otherwise
+     *
+     * @param type     declared type
+     * @param variable variable holding the value
+     * @param indent   indent of the statements after the first line
+     * @return statements
+     */
+    private String writeDispatch(TypeMirror type, String variable, String indent) {
+        StringBuilder statements = new StringBuilder();
+        TypeMirror declaredType = processingEnv.getTypeUtils().erasure(type);
+        for (String generatedType : generatedTypes) {
+            TypeElement generatedElement = processingEnv.getElementUtils().getTypeElement(generatedType);
+            if (generatedElement == null || !processingEnv.getTypeUtils().isAssignable(
+                    processingEnv.getTypeUtils().erasure(generatedElement.asType()), declaredType))
+                continue;
+            if (statements.length() > 0)
+                statements.append(' ');
+            statements.append("if (").append(variable).append(".getClass() == ").append(generatedType)
+                    .append(".class)\n");
+            statements.append(indent).append("    ").append(generatedType).append(SERIALIZER_SUFFIX)
+                    .append(".writeObject((").append(generatedType).append(") ").append(variable)
+                    .append(", gen, provider);\n");
+            statements.append(indent).append("else");
+        }
+        if (statements.length() > 0)
+            statements.append("\n").append(indent).append("    ");
+        return statements.append("provider.defaultSerializeValue(").append(variable).append(", gen);").toString();
+    }
+
+    /**
+     * This method writes the module registering the serializers for their exact types, so a subclass of a generated
+     * type keeps its own serializer
+     */
+    private void writeModule() {
+        try (PrintWriter out = new PrintWriter(createSource(MODULE_PACKAGE + "." + MODULE_NAME, null))) {
+            out.println(HEADER);
+            out.println("package " + MODULE_PACKAGE + ";");
+            out.println();
+            out.println("public final class " + MODULE_NAME + " extends com.fasterxml.jackson.databind.module" +
+                    ".SimpleModule {");
+            out.println();
+            for (String type : generatedTypes) {
+                out.println("    private static final " + type + SERIALIZER_SUFFIX + " " + getConstant(type) +
+                        " = new " + type + SERIALIZER_SUFFIX + "();");
+            }
+            out.println();
+            out.println("    public " + MODULE_NAME + "() {");
+            out.println("        super(\"" + MODULE_NAME + "\");");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void setupModule(SetupContext context) {");
+            out.println("        super.setupModule(context);");
+            out.println("        context.addSerializers(new com.fasterxml.jackson.databind.ser.Serializers.Base() {");
+            out.println("            @Override");
+            out.println("            public com.fasterxml.jackson.databind.JsonSerializer<?> findSerializer(" +
+                    "com.fasterxml.jackson.databind.SerializationConfig config, com.fasterxml.jackson.databind" +
+                    ".JavaType type, com.fasterxml.jackson.databind.BeanDescription beanDesc) {");
+            out.println("                Class<?> rawClass = type.getRawClass();");
+            for (String type : generatedTypes) {
+                out.println("                if (rawClass == " + type + ".class)");
+                out.println("                    return " + getConstant(type) + ";");
+            }
+            out.println("                return null;");
+            out.println("            }");
+            out.println("        });");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write the generated serializer module: " + e.getMessage());
+        }
+    }
+
+    private Writer createSource(String name, TypeElement originatingType) throws IOException {
+        return originatingType == null ? processingEnv.getFiler().createSourceFile(name).openWriter() :
+                processingEnv.getFiler().createSourceFile(name, originatingType).openWriter();
+    }
+
+    /**
+     * This method returns the element type of a collection type
+     *
+     * @param type type
+     * @return element type/ null if the type is not a collection of a declared type
+     */
+    private TypeMirror getCollectionElementType(TypeMirror type) {
+        TypeMirror collection = processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils()
+                .getTypeElement("java.util.Collection").asType());
+        if (!processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), collection) ||
+                type.getKind() != TypeKind.DECLARED)
+            return null;
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED)
+            return null;
+        return arguments.get(0);
+    }
+
+    private boolean isNonNull(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!JSON_INCLUDE.equals(getName(mirror)))
+                continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+                    .entrySet()) {
+                if ("value".contentEquals(entry.getKey().getSimpleName()))
+                    return "NON_NULL".equals(entry.getValue().getValue().toString());
+            }
+        }
+        return false;
+    }
+
+    private boolean hasJsonValue(TypeElement type) {
+        for (Element member : type.getEnclosedElements()) {
+            if (hasAnnotation(member, JSON_VALUE))
+                return true;
+        }
+        return false;
+    }
+
+    private String getGetterProperty(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (method.getModifiers().contains(Modifier.STATIC) || !method.getModifiers().contains(Modifier.PUBLIC) ||
+                !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID)
+            return null;
+        if (name.startsWith("get") && name.length() > 3)
+            return decapitalize(name.substring(3));
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN)
+            return decapitalize(name.substring(2));
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ?
+                (TypeElement) processingEnv.getTypeUtils().asElement(superclass) : null;
+    }
+
+    private boolean isObject(TypeElement type) {
+        return "java.lang.Object".contentEquals(type.getQualifiedName());
+    }
+
+    private boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotation.equals(getName(mirror)))
+                return true;
+        }
+        return false;
+    }
+
+    private String getName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String getPackage(TypeElement type) {
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    private String getConstant(String type) {
+        return type.substring(type.lastIndexOf('.') + 1).replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private String getFieldNameConstant(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_FIELD";
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
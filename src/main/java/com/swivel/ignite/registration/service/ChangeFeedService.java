@@ -0,0 +1,260 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Change Feed Service
+ * <p>
+ * The registration events of a transaction are collected and written to the change log with one multi-row insert
+ * just before it commits, so the entries commit or roll back with the change itself and their ids are allocated
+ * moments before the commit, however long the transaction ran. Transactions may still commit out of order, so a
+ * read stops at a gap in the ids until the gap has been seen for the grace period; after that the missing id is
+ * taken as a rolled back insert. Long-poll readers are parked until a change commits or their wait runs out.
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    private static final int GAP_MEMORY_GRACE_PERIODS = 10;
+    private final ChangeLogRepository changeLogRepository;
+    private final long gapGraceMs;
+    private final Object pendingEntriesKey = new Object();
+    private final Map<Long, Long> gapFirstSeenMap = new ConcurrentHashMap<>();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ChangeFeedService(ChangeLogRepository changeLogRepository,
+                             @Value("${registration.changes.gapGraceMs}") long gapGraceMs) {
+        this.changeLogRepository = changeLogRepository;
+        this.gapGraceMs = gapGraceMs;
+    }
+
+    /**
+     * This method adds a registration event to the change log entries written before the transaction of the change
+     * commits, or writes it at once outside a transaction
+     *
+     * @param event registration event
+     */
+    @EventListener
+    public void recordChange(RegistrationEvent event) {
+        ChangeLogEntry entry = new ChangeLogEntry(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeLogRepository.insertAll(Collections.singletonList(entry));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<ChangeLogEntry> pendingEntries =
+                (List<ChangeLogEntry>) TransactionSynchronizationManager.getResource(pendingEntriesKey);
+        if (pendingEntries == null) {
+            List<ChangeLogEntry> entries = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingEntriesKey, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    changeLogRepository.insertAll(entries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingEntriesKey);
+                }
+            });
+            pendingEntries = entries;
+        }
+        pendingEntries.add(entry);
+    }
+
+    /**
+     * This method wakes the long-poll readers once a change is committed
+     *
+     * @param event registration event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChangeCommitted(RegistrationEvent event) {
+        if (wakeUpPending.compareAndSet(false, true))
+            scheduler.execute(this::wakeUpWaiters);
+    }
+
+    /**
+     * This method returns the committed changes after a cursor
+     *
+     * @param since cursor of the last change read, 0 to read from the start
+     * @param limit max number of changes
+     * @return list of change log entries in cursor order
+     */
+    public List<ChangeLogEntry> getChanges(long since, int limit) {
+        try {
+            List<ChangeLogEntry> entries = changeLogRepository.findByIdGreaterThanOrderByIdAsc(since,
+                    PageRequest.of(0, limit));
+            long now = System.currentTimeMillis();
+            long expectedId = since + 1;
+            for (int i = 0; i < entries.size(); i++) {
+                ChangeLogEntry entry = entries.get(i);
+                if (entry.getId() != expectedId && !isGapSettled(expectedId, now))
+                    return new ArrayList<>(entries.subList(0, i));
+                expectedId = entry.getId() + 1;
+            }
+            return entries;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to read changes from DB", e);
+        }
+    }
+
+    /**
+     * This method checks there are committed changes after a cursor, including the ones behind a gap still waited on
+     *
+     * @param since cursor of the last change read
+     * @return true/ false
+     */
+    public boolean hasChangesAfter(long since) {
+        try {
+            return changeLogRepository.existsByIdGreaterThan(since);
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to read changes from DB", e);
+        }
+    }
+
+    /**
+     * This method returns the cursor of the latest committed change
+     *
+     * @return cursor/ 0 if there are no changes
+     */
+    public long getLatestCursor() {
+        try {
+            return changeLogRepository.findTopByOrderByIdDesc().map(ChangeLogEntry::getId).orElse(0L);
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to read changes from DB", e);
+        }
+    }
+
+    /**
+     * This method returns the committed changes after a cursor, waiting for a change when there are none
+     *
+     * @param since  cursor of the last change read, 0 to read from the start
+     * @param limit  max number of changes
+     * @param waitMs max time to wait for a change
+     * @return future of the list of change log entries, empty when the wait runs out
+     */
+    public CompletableFuture<List<ChangeLogEntry>> awaitChanges(long since, int limit, long waitMs) {
+        Waiter waiter = new Waiter(since, limit);
+        // parked before reading, so a change committed in between still wakes it up
+        waiters.add(waiter);
+        try {
+            List<ChangeLogEntry> changes = getChanges(since, limit);
+            if (!changes.isEmpty() || waitMs <= 0) {
+                waiters.remove(waiter);
+                waiter.future.complete(changes);
+                return waiter.future;
+            }
+        } catch (RegistrationServiceException e) {
+            waiters.remove(waiter);
+            throw e;
+        }
+        scheduler.schedule(() -> timeOut(waiter), waitMs, TimeUnit.MILLISECONDS);
+        return waiter.future;
+    }
+
+    /**
+     * This method forgets the gaps seen long ago. A reader still behind one of them waits the grace period again.
+     */
+    @Scheduled(fixedDelayString = "${registration.changes.gapGraceMs}")
+    public void forgetSettledGaps() {
+        long forgetBefore = System.currentTimeMillis() - gapGraceMs * GAP_MEMORY_GRACE_PERIODS;
+        gapFirstSeenMap.values().removeIf(firstSeenAt -> firstSeenAt < forgetBefore);
+    }
+
+    /**
+     * This method stops the long-poll scheduler
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * This method checks a gap in the ids has been seen on this node for the grace period, remembering when it was
+     * first seen
+     *
+     * @param firstMissingId first id of the gap
+     * @param now            current time
+     * @return true if the gap is taken as rolled back inserts/ false if it may still commit
+     */
+    private boolean isGapSettled(long firstMissingId, long now) {
+        return now - gapFirstSeenMap.computeIfAbsent(firstMissingId, id -> now) >= gapGraceMs;
+    }
+
+    /**
+     * This method re-reads the changes of every parked reader, completing the ones with changes
+     */
+    private void wakeUpWaiters() {
+        wakeUpPending.set(false);
+        Map<String, List<ChangeLogEntry>> changesByCursor = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            try {
+                List<ChangeLogEntry> changes = changesByCursor.computeIfAbsent(waiter.since + ":" + waiter.limit,
+                        key -> getChanges(waiter.since, waiter.limit));
+                if (!changes.isEmpty() && waiters.remove(waiter))
+                    waiter.future.complete(changes);
+            } catch (RegistrationServiceException e) {
+                log.error("Failed to read changes for long-poll after cursor: {}", waiter.since, e);
+                if (waiters.remove(waiter))
+                    waiter.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * This method completes a parked reader whose wait ran out, with any changes that settled meanwhile
+     *
+     * @param waiter parked reader
+     */
+    private void timeOut(Waiter waiter) {
+        if (!waiters.remove(waiter))
+            return;
+        try {
+            waiter.future.complete(getChanges(waiter.since, waiter.limit));
+        } catch (RegistrationServiceException e) {
+            waiter.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Long-poll reader parked until a change is committed
+     */
+    private static final class Waiter {
+
+        private final long since;
+        private final int limit;
+        private final CompletableFuture<List<ChangeLogEntry>> future = new CompletableFuture<>();
+
+        private Waiter(long since, int limit) {
+            this.since = since;
+            this.limit = limit;
+        }
+    }
+}
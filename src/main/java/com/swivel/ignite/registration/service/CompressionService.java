@@ -0,0 +1,194 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.service.compression.CompressedPayload;
+import com.swivel.ignite.registration.service.compression.ContentCoding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compression Service
+ * <p>
+ * Negotiates the content coding of a response from the Accept-Encoding header and compresses response bodies. The
+ * compressed bodies of cacheable responses are kept per request, and reused while the response body is the same,
+ * so a repeated request for an unchanged catalog is not compressed again. The compression CPU time, the bytes in
+ * and out and the cache hits are exported as JMX attributes.
+ */
+@Service
+@ManagedResource(objectName = "com.swivel.ignite.registration:type=Compression", description = "Response compression")
+@Slf4j
+public class CompressionService {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private final int level;
+    private final Map<String, CompressedPayload> payloadCache;
+    private final boolean cpuTimeSupported;
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    @Autowired
+    public CompressionService(@Value("${registration.compression.level}") int level,
+                              @Value("${registration.compression.cacheSize}") int cacheSize) {
+        this.level = level;
+        this.payloadCache = new LinkedHashMap<String, CompressedPayload>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompressedPayload> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+    }
+
+    /**
+     * This method returns the content coding the client prefers of the supported ones. A coding of quality 0 is
+     * refused, and * stands for every coding not listed.
+     *
+     * @param acceptEncoding Accept-Encoding header
+     * @return content coding/ null to send the response uncompressed
+     */
+    public ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return null;
+        ContentCoding[] codings = ContentCoding.values();
+        double[] qualities = new double[codings.length];
+        Arrays.fill(qualities, -1);
+        double wildcardQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String token = parts[0].trim();
+            double quality = parseQuality(parts);
+            if ("*".equals(token)) {
+                wildcardQuality = quality;
+                continue;
+            }
+            ContentCoding coding = ContentCoding.fromToken(token);
+            if (coding != null)
+                qualities[coding.ordinal()] = quality;
+        }
+        ContentCoding preferred = null;
+        double preferredQuality = 0;
+        for (ContentCoding coding : codings) {
+            double quality = qualities[coding.ordinal()] < 0 ? wildcardQuality : qualities[coding.ordinal()];
+            if (quality > preferredQuality) {
+                preferred = coding;
+                preferredQuality = quality;
+            }
+        }
+        return preferred;
+    }
+
+    /**
+     * This method compresses a response body
+     *
+     * @param body   response body
+     * @param coding content coding
+     * @return compressed body
+     */
+    public byte[] compress(byte[] body, ContentCoding coding) throws IOException {
+        long start = currentTimeNanos();
+        byte[] compressedBody = coding.compress(body, level);
+        compressionNanos.add(currentTimeNanos() - start);
+        compressedCount.increment();
+        bytesIn.add(body.length);
+        bytesOut.add(compressedBody.length);
+        return compressedBody;
+    }
+
+    /**
+     * This method returns the compressed body of a cacheable response. The body compressed for the same key is
+     * reused if it was compressed from the same bytes, otherwise the body is compressed and kept for the key.
+     *
+     * @param key    cache key of the response
+     * @param body   response body
+     * @param coding content coding
+     * @return compressed body
+     */
+    public byte[] compressCached(String key, byte[] body, ContentCoding coding) throws IOException {
+        String cacheKey = coding.getToken() + " " + key;
+        CompressedPayload payload;
+        synchronized (payloadCache) {
+            payload = payloadCache.get(cacheKey);
+        }
+        if (payload != null && Arrays.equals(payload.getBody(), body)) {
+            cacheHitCount.increment();
+            return payload.getCompressedBody();
+        }
+        byte[] compressedBody = compress(body, coding);
+        synchronized (payloadCache) {
+            payloadCache.put(cacheKey, new CompressedPayload(body, compressedBody, coding));
+        }
+        return compressedBody;
+    }
+
+    @ManagedAttribute(description = "Response bodies compressed")
+    public long getCompressedCount() {
+        return compressedCount.sum();
+    }
+
+    @ManagedAttribute(description = "Compressed response bodies reused from the cache")
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    @ManagedAttribute(description = "Bytes of the response bodies before compression")
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    @ManagedAttribute(description = "Bytes of the response bodies after compression")
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    @ManagedAttribute(description = "Bytes before compression per byte after compression")
+    public double getCompressionRatio() {
+        long out = bytesOut.sum();
+        return out == 0 ? 0 : (double) bytesIn.sum() / out;
+    }
+
+    @ManagedAttribute(description = "CPU time spent compressing in milliseconds, wall time if CPU time is not " +
+            "supported")
+    public long getCompressionCpuTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(compressionNanos.sum());
+    }
+
+    private long currentTimeNanos() {
+        return cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * This method parses the quality parameter of an Accept-Encoding element
+     *
+     * @param parts element split at ;
+     * @return quality/ 1 if there is none or it is malformed
+     */
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    log.debug("Malformed quality in Accept-Encoding element: {}", String.join(";", parts));
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+}
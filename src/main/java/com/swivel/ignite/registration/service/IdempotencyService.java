@@ -0,0 +1,250 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.IdempotencyRecord;
+import com.swivel.ignite.registration.repository.IdempotencyRecordRepository;
+import com.swivel.ignite.registration.service.idempotency.IdempotentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency Service
+ * <p>
+ * Keeps the first response of every request sent with an idempotency key, so retries are replayed instead of
+ * executed again. Responses are kept in a bounded in-memory LRU in front of the idempotency_record table, and both
+ * expire after the TTL. A key being executed is claimed by inserting a pending record, whose primary key lets one
+ * node execute it. A concurrent duplicate on the same node waits for the first execution to finish and then replays
+ * its response, and one on another node polls the record until it is completed. A claim not completed within the
+ * claim timeout is of a failed node, and is taken over.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final long ttlMs;
+    private final long claimTimeoutMs;
+    private final Map<String, IdempotentResponse> responseCache;
+    private final Map<String, CompletableFuture<Void>> inFlightMap = new ConcurrentHashMap<>();
+    private final Map<String, String> claimIdMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              @Value("${registration.idempotency.ttlMs}") long ttlMs,
+                              @Value("${registration.idempotency.cacheSize}") int cacheSize,
+                              @Value("${registration.idempotency.claimTimeoutMs}") long claimTimeoutMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttlMs = ttlMs;
+        this.claimTimeoutMs = claimTimeoutMs;
+        this.responseCache = new LinkedHashMap<String, IdempotentResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * This method returns the stored response of a key, reading the DB when it is not in memory
+     *
+     * @param key idempotency key
+     * @return IdempotentResponse/ null if there is no live response
+     */
+    public IdempotentResponse findResponse(String key) {
+        IdempotentResponse response = getCachedResponse(key);
+        if (response != null)
+            return response;
+        try {
+            Optional<IdempotencyRecord> optionalRecord = idempotencyRecordRepository.findById(key);
+            if (!optionalRecord.isPresent() || optionalRecord.get().getStatus() == IdempotencyRecord.PENDING_STATUS ||
+                    isExpired(optionalRecord.get().getCreatedAt().getTime()))
+                return null;
+            IdempotencyRecord record = optionalRecord.get();
+            response = new IdempotentResponse(record.getFingerprint(), record.getStatus(), record.getContentType(),
+                    record.getBody(), record.getCreatedAt().getTime());
+            cacheResponse(key, response);
+            return response;
+        } catch (DataAccessException e) {
+            log.error("Failed to read idempotency record of key: {}, executing the request", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * This method claims a key for execution on all nodes
+     *
+     * @param key         idempotency key
+     * @param fingerprint request fingerprint
+     * @return null if the caller claimed the key and must execute the request, otherwise a future completed when
+     * the current execution on this node ends, after which the caller looks the response up again. The future of an
+     * execution on another node is never completed, so the caller polls for its response.
+     */
+    public CompletableFuture<Void> claim(String key, String fingerprint) {
+        CompletableFuture<Void> claim = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = inFlightMap.putIfAbsent(key, claim);
+        if (inFlight != null)
+            return inFlight;
+        // a response stored between the caller's lookup and the claim must not be executed again
+        if (getCachedResponse(key) != null) {
+            release(key);
+            return claim;
+        }
+        if (!claimRecord(key, fingerprint)) {
+            release(key);
+            return new CompletableFuture<>();
+        }
+        return null;
+    }
+
+    /**
+     * This method stores the response of a claimed key and releases the claim. Server errors are not stored, so
+     * the request is executed again on retry.
+     *
+     * @param key      idempotency key
+     * @param response response
+     */
+    public void complete(String key, IdempotentResponse response) {
+        try {
+            if (response.getStatus() < 500) {
+                cacheResponse(key, response);
+                saveResponse(key, claimIdMap.remove(key), response);
+            }
+        } finally {
+            release(key);
+        }
+    }
+
+    /**
+     * This method releases the claim of a key without storing a response, deleting its pending record so the
+     * request is executed again on retry
+     *
+     * @param key idempotency key
+     */
+    public void release(String key) {
+        String claimId = claimIdMap.remove(key);
+        if (claimId != null) {
+            try {
+                idempotencyRecordRepository.deleteClaim(key, claimId);
+            } catch (DataAccessException e) {
+                log.error("Failed to delete pending idempotency record of key: {}", key, e);
+            }
+        }
+        CompletableFuture<Void> claim = inFlightMap.remove(key);
+        if (claim != null)
+            claim.complete(null);
+    }
+
+    /**
+     * This method deletes the expired records from the DB
+     */
+    @Scheduled(fixedDelayString = "${registration.idempotency.purgeIntervalMs}")
+    public void purgeExpiredRecords() {
+        try {
+            int deleted = idempotencyRecordRepository.deleteByCreatedAtBefore(
+                    new Date(System.currentTimeMillis() - ttlMs));
+            log.debug("Purged {} expired idempotency records", deleted);
+        } catch (DataAccessException e) {
+            log.error("Failed to purge expired idempotency records", e);
+        }
+    }
+
+    /**
+     * This method claims a key by inserting its pending record, taking the record over when its claim timed out or
+     * its response expired. When the DB cannot be reached the key is claimed on this node only, as the request
+     * would otherwise fail.
+     *
+     * @param key         idempotency key
+     * @param fingerprint request fingerprint
+     * @return true if the caller claimed the key/ false if it is claimed or completed on another node
+     */
+    private boolean claimRecord(String key, String fingerprint) {
+        String claimId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        try {
+            try {
+                idempotencyRecordRepository.insertClaim(key, fingerprint, claimId, new Date(now));
+            } catch (DataIntegrityViolationException e) {
+                if (idempotencyRecordRepository.takeOverClaim(key, fingerprint, claimId, new Date(now),
+                        new Date(now - claimTimeoutMs), new Date(now - ttlMs)) == 0)
+                    return false;
+                log.warn("Took over timed out or expired idempotency record of key: {}", key);
+            }
+            claimIdMap.put(key, claimId);
+        } catch (DataAccessException e) {
+            log.error("Failed to claim idempotency record of key: {}, executing the request", key, e);
+        }
+        return true;
+    }
+
+    /**
+     * This method writes a response to the pending record of its claim. A record taken over by another node keeps
+     * the response of that node. A failed write only loses the replay on other nodes and after eviction, so it is
+     * logged and not thrown.
+     *
+     * @param key      idempotency key
+     * @param claimId  claim id/ null if the key was not claimed in the DB
+     * @param response response
+     */
+    private void saveResponse(String key, String claimId, IdempotentResponse response) {
+        if (claimId == null)
+            return;
+        try {
+            if (idempotencyRecordRepository.completeClaim(key, claimId, response.getStatus(),
+                    response.getContentType(), response.getBody(), new Date(response.getCreatedAt())) == 0)
+                log.warn("Claim of idempotency key: {} was taken over, keeping the stored response", key);
+        } catch (DataAccessException e) {
+            log.error("Failed to save idempotency record of key: {}", key, e);
+        }
+    }
+
+    /**
+     * This method returns the in-memory response of a key, dropping it if expired
+     *
+     * @param key idempotency key
+     * @return IdempotentResponse/ null
+     */
+    private IdempotentResponse getCachedResponse(String key) {
+        synchronized (responseCache) {
+            IdempotentResponse response = responseCache.get(key);
+            if (response != null && isExpired(response.getCreatedAt())) {
+                responseCache.remove(key);
+                return null;
+            }
+            return response;
+        }
+    }
+
+    /**
+     * This method keeps a response in memory
+     *
+     * @param key      idempotency key
+     * @param response response
+     */
+    private void cacheResponse(String key, IdempotentResponse response) {
+        synchronized (responseCache) {
+            responseCache.put(key, response);
+        }
+    }
+
+    /**
+     * This method checks a response stored at the given time is past the TTL
+     *
+     * @param createdAt time the response was stored
+     * @return true/ false
+     */
+    private boolean isExpired(long createdAt) {
+        return System.currentTimeMillis() - createdAt > ttlMs;
+    }
+}
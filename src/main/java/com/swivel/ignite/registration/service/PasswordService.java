@@ -0,0 +1,253 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.exception.PasswordHashingBusyException;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Password Service
+ * <p>
+ * Hashes and checks student passwords with BCrypt. The hashing runs on a dedicated pool sized to the CPUs with a
+ * bounded queue, so a login storm can only use that pool: once the queue is full new requests are rejected at once
+ * instead of piling up on the request threads and starving the other endpoints. The BCrypt cost of new hashes is
+ * pinned by config or calibrated at startup to the target hash time. A stored hash below the minimum cost, or a
+ * legacy plaintext password, is replaced on the next successful login; a hash is never replaced with a lower cost.
+ */
+@Service
+@Slf4j
+public class PasswordService {
+
+    private static final Pattern BCRYPT_HASH_PATTERN = Pattern.compile("\\A\\$2a?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_WARM_UPS = 3;
+    private static final int CALIBRATION_SAMPLES = 5;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadPoolExecutor hashExecutor;
+    private final int threads;
+    private final long targetHashMs;
+    private final int minCost;
+    private final int maxCost;
+    private final int pinnedCost;
+    private final long waitTimeoutMs;
+    private volatile int cost;
+
+    @Autowired
+    public PasswordService(@Value("${registration.password.threads}") int threads,
+                           @Value("${registration.password.queueCapacity}") int queueCapacity,
+                           @Value("${registration.password.targetHashMs}") long targetHashMs,
+                           @Value("${registration.password.minCost}") int minCost,
+                           @Value("${registration.password.maxCost}") int maxCost,
+                           @Value("${registration.password.cost}") int pinnedCost,
+                           @Value("${registration.password.waitTimeoutMs}") long waitTimeoutMs) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.targetHashMs = targetHashMs;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.pinnedCost = pinnedCost;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.cost = minCost;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * This method uses the pinned cost, or picks the highest cost within the bounds whose median hash time after a
+     * warm up stays under the target
+     */
+    @PostConstruct
+    public void calibrate() {
+        if (pinnedCost > 0) {
+            cost = Math.max(minCost, Math.min(maxCost, pinnedCost));
+            log.info("Pinned password hash cost: {}", cost);
+            return;
+        }
+        for (int i = 0; i < CALIBRATION_WARM_UPS; i++) {
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minCost, random));
+        }
+        long[] sampleNanos = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minCost, random));
+            sampleNanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(sampleNanos);
+        long hashMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(sampleNanos[CALIBRATION_SAMPLES / 2]));
+        int calibratedCost = minCost;
+        // every cost step doubles the hash time
+        while (calibratedCost < maxCost && hashMs * 2 <= targetHashMs) {
+            calibratedCost++;
+            hashMs *= 2;
+        }
+        cost = calibratedCost;
+        log.info("Calibrated password hash cost: {}, estimated hash time: {}ms", calibratedCost, hashMs);
+    }
+
+    /**
+     * This method hashes a password
+     *
+     * @param rawPassword raw password
+     * @return hash
+     */
+    public String hash(String rawPassword) {
+        return await(submit(hashTask(rawPassword)));
+    }
+
+    /**
+     * This method hashes a batch of passwords. At most one password per hash thread is in flight, so a batch
+     * waits for its own hashes instead of filling the queue shared with logins.
+     *
+     * @param rawPasswords raw passwords
+     * @return hashes in the given order
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> pending = new ArrayDeque<>();
+        for (String rawPassword : rawPasswords) {
+            if (pending.size() >= threads)
+                hashes.add(await(pending.poll()));
+            while (true) {
+                try {
+                    pending.add(hashExecutor.submit(hashTask(rawPassword)));
+                    break;
+                } catch (RejectedExecutionException e) {
+                    if (pending.isEmpty())
+                        throw new PasswordHashingBusyException("Password hash queue is full", e);
+                    hashes.add(await(pending.poll()));
+                }
+            }
+        }
+        while (!pending.isEmpty()) {
+            hashes.add(await(pending.poll()));
+        }
+        return hashes;
+    }
+
+    /**
+     * This method checks a password against its stored hash. A stored value that is not a hash is a legacy
+     * plaintext password and is compared in constant time.
+     *
+     * @param rawPassword    raw password
+     * @param storedPassword stored hash or legacy plaintext password
+     * @return true/ false
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null)
+            return false;
+        if (getHashCost(storedPassword) < 0)
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        return await(submit(() -> BCrypt.checkpw(rawPassword, storedPassword)));
+    }
+
+    /**
+     * This method checks a stored password has to be hashed again, being a legacy plaintext password or a hash below
+     * the minimum cost. A hash within the bounds is kept, so nodes calibrated to different costs don't rehash the
+     * same passwords back and forth.
+     *
+     * @param storedPassword stored hash or legacy plaintext password
+     * @return true/ false
+     */
+    public boolean needsRehash(String storedPassword) {
+        return getHashCost(storedPassword) < minCost;
+    }
+
+    /**
+     * This method returns the current BCrypt cost
+     *
+     * @return cost
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * This method stops the hash threads
+     */
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * This method returns the task hashing a password with the current cost
+     *
+     * @param rawPassword raw password
+     * @return hash task
+     */
+    private Callable<String> hashTask(String rawPassword) {
+        int hashCost = cost;
+        return () -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(hashCost, random));
+    }
+
+    /**
+     * This method queues a task on the hash threads
+     *
+     * @param task task
+     * @return future result
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return hashExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException("Password hash queue is full", e);
+        }
+    }
+
+    /**
+     * This method waits for the result of a hash task
+     *
+     * @param future future result
+     * @return result
+     */
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException("Timed out waiting for the password hash", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RegistrationServiceException("Interrupted while waiting for the password hash", e);
+        } catch (ExecutionException e) {
+            throw new RegistrationServiceException("Failed to hash the password", e.getCause());
+        }
+    }
+
+    /**
+     * This method returns the cost of a BCrypt hash
+     *
+     * @param storedPassword stored hash or legacy plaintext password
+     * @return cost/ -1 if it is not a BCrypt hash
+     */
+    private int getHashCost(String storedPassword) {
+        if (storedPassword == null)
+            return -1;
+        Matcher matcher = BCRYPT_HASH_PATTERN.matcher(storedPassword);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.repository.JobLeaseRepository;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Purge Service
+ * <p>
+ * Finishes the soft deletes in the background. The students of a deleted tuition are unenrolled a chunk per
+ * transaction, then the payments of the tuition are deleted and the row is hard deleted; deleted students get their
+ * payments and row deleted the same way. Each run does at most a fixed number of chunks and the runs are spaced by
+ * the purge interval, so a large purge is spread out instead of competing with foreground requests.
+ * <p>
+ * A run only purges while this node holds the purge lease in the job_lease table, so one node unenrolls, calls the
+ * payment service and publishes the events of a row. The lease is extended before every tuition and chunk of
+ * students, and a lease not extended within the lease time is of a failed node and is taken over.
+ */
+@Service
+@Slf4j
+public class PurgeService {
+
+    private static final String LEASE_NAME = "purge";
+    private final TuitionRepository tuitionRepository;
+    private final StudentRepository studentRepository;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final PaymentService paymentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int chunksPerRun;
+    private final long leaseMs;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    @Autowired
+    public PurgeService(TuitionRepository tuitionRepository, StudentRepository studentRepository,
+                        JobLeaseRepository jobLeaseRepository, PaymentService paymentService,
+                        ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                        @Value("${registration.purge.chunkSize}") int chunkSize,
+                        @Value("${registration.purge.chunksPerRun}") int chunksPerRun,
+                        @Value("${registration.purge.leaseMs}") long leaseMs) {
+        this.tuitionRepository = tuitionRepository;
+        this.studentRepository = studentRepository;
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.paymentService = paymentService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.chunksPerRun = chunksPerRun;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * This method purges the next chunks of soft deleted tuition and students
+     */
+    @Scheduled(fixedDelayString = "${registration.purge.intervalMs}")
+    public void purge() {
+        try {
+            int remainingChunks = purgeTuition(chunksPerRun);
+            if (remainingChunks > 0 && acquireLease())
+                purgeStudents();
+        } catch (DataAccessException | IOException e) {
+            log.error("Purging soft deleted tuition and students was failed, retrying on the next run", e);
+        }
+    }
+
+    /**
+     * This method unenrolls the students of soft deleted tuition and hard deletes the tuition that have none left
+     *
+     * @param chunks max number of chunks to process
+     * @return number of chunks left for this run
+     */
+    private int purgeTuition(int chunks) throws IOException {
+        int remainingChunks = chunks;
+        for (String tuitionId : tuitionRepository.findDeletedIds(chunks)) {
+            if (!acquireLease())
+                return 0;
+            boolean unenrolled = false;
+            while (remainingChunks > 0 && !unenrolled) {
+                remainingChunks--;
+                unenrolled = unenrollChunk(tuitionId) < chunkSize;
+            }
+            if (!unenrolled)
+                return 0;
+            paymentService.deleteByTuitionId(tuitionId);
+            transactionTemplate.execute(status -> tuitionRepository.purgeById(tuitionId));
+            log.info("Purged soft deleted tuition of id: {}", tuitionId);
+        }
+        return remainingChunks;
+    }
+
+    /**
+     * This method acquires the purge lease for this node, or extends it when this node holds it
+     *
+     * @return true if this node holds the lease/ false if another node does
+     */
+    private boolean acquireLease() {
+        long now = System.currentTimeMillis();
+        Date expiresAt = new Date(now + leaseMs);
+        if (jobLeaseRepository.renew(LEASE_NAME, leaseOwner, expiresAt, new Date(now)) == 1)
+            return true;
+        try {
+            jobLeaseRepository.insertLease(LEASE_NAME, leaseOwner, expiresAt);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Purge lease is held by another node, skipping the run");
+            return false;
+        }
+    }
+
+    /**
+     * This method unenrolls a chunk of the students of a tuition in one transaction
+     *
+     * @param tuitionId tuition id
+     * @return number of unenrolled students
+     */
+    private int unenrollChunk(String tuitionId) {
+        Integer unenrolled = transactionTemplate.execute(status -> {
+            List<String> studentIds = studentRepository.findAnyIdsByTuitionId(tuitionId, chunkSize);
+            if (studentIds.isEmpty())
+                return 0;
+            studentRepository.unenrollAnyByIdIn(studentIds);
+            for (String studentId : studentIds) {
+                eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_REMOVED,
+                        studentId, tuitionId));
+            }
+            return studentIds.size();
+        });
+        return unenrolled != null ? unenrolled : 0;
+    }
+
+    /**
+     * This method deletes the payments and rows of a chunk of soft deleted students
+     */
+    private void purgeStudents() throws IOException {
+        for (String studentId : studentRepository.findDeletedIds(chunkSize)) {
+            paymentService.deleteByStudentId(studentId);
+            transactionTemplate.execute(status -> studentRepository.purgeById(studentId));
+            log.debug("Purged soft deleted student of id: {}", studentId);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.service.ratelimit.TokenBucketLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate Limit Service
+ * <p>
+ * Throttles the login and create endpoints with token buckets per client IP, and the logins of a student name
+ * with token buckets per name, so a credential stuffing burst is rejected before it reaches the DB. The throttled
+ * counts are exported as JMX attributes.
+ */
+@Service
+@ManagedResource(objectName = "com.swivel.ignite.registration:type=RateLimit", description = "Rate limiting")
+@Slf4j
+public class RateLimitService {
+
+    private final TokenBucketLimiter clientLimiter;
+    private final TokenBucketLimiter loginNameLimiter;
+    private final long idleEvictionNanos;
+    private final LongAdder throttledClientCount = new LongAdder();
+    private final LongAdder throttledLoginNameCount = new LongAdder();
+
+    @Autowired
+    public RateLimitService(@Value("${registration.rateLimit.client.capacity}") int clientCapacity,
+                            @Value("${registration.rateLimit.client.refillPerMinute}") double clientRefillPerMinute,
+                            @Value("${registration.rateLimit.loginName.capacity}") int loginNameCapacity,
+                            @Value("${registration.rateLimit.loginName.refillPerMinute}")
+                                    double loginNameRefillPerMinute,
+                            @Value("${registration.rateLimit.stripes}") int stripes,
+                            @Value("${registration.rateLimit.maxKeysPerStripe}") int maxKeysPerStripe,
+                            @Value("${registration.rateLimit.idleEvictionMs}") long idleEvictionMs) {
+        this.clientLimiter = new TokenBucketLimiter(clientCapacity, clientRefillPerMinute, stripes,
+                maxKeysPerStripe);
+        this.loginNameLimiter = new TokenBucketLimiter(loginNameCapacity, loginNameRefillPerMinute, stripes,
+                maxKeysPerStripe);
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+    }
+
+    /**
+     * This method takes a token for a request of a client
+     *
+     * @param clientIp client ip
+     * @return true if the request is allowed/ false if it is throttled
+     */
+    public boolean tryAcquireClient(String clientIp) {
+        if (clientLimiter.tryAcquire(clientIp))
+            return true;
+        throttledClientCount.increment();
+        return false;
+    }
+
+    /**
+     * This method takes a token for a login attempt of a student name
+     *
+     * @param name student name
+     * @return true if the login is allowed/ false if it is throttled
+     */
+    public boolean tryAcquireLoginName(String name) {
+        if (loginNameLimiter.tryAcquire(name))
+            return true;
+        throttledLoginNameCount.increment();
+        return false;
+    }
+
+    /**
+     * This method drops the buckets that have been idle long enough to be full again
+     */
+    @Scheduled(fixedDelayString = "${registration.rateLimit.idleEvictionMs}")
+    public void evictIdleBuckets() {
+        int evicted = clientLimiter.evictIdle(idleEvictionNanos) + loginNameLimiter.evictIdle(idleEvictionNanos);
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+    }
+
+    @ManagedAttribute(description = "Requests throttled by client ip")
+    public long getThrottledClientCount() {
+        return throttledClientCount.sum();
+    }
+
+    @ManagedAttribute(description = "Logins throttled by student name")
+    public long getThrottledLoginNameCount() {
+        return throttledLoginNameCount.sum();
+    }
+
+    @ManagedAttribute(description = "Client ip buckets kept")
+    public int getClientBucketCount() {
+        return clientLimiter.size();
+    }
+
+    @ManagedAttribute(description = "Student name buckets kept")
+    public int getLoginNameBucketCount() {
+        return loginNameLimiter.size();
+    }
+}
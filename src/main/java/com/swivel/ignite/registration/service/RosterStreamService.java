@@ -0,0 +1,335 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.dto.response.RosterEventResponseDto;
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Roster Stream Service
+ * <p>
+ * Pushes the enroll and unenroll events of a tuition to its SSE subscribers once the change is committed on any
+ * node. One follower per node reads the shared change log from the latest change at startup and fans each change out
+ * to the subscribers of its tuition on this node, so a subscriber sees the changes of all nodes within the follow
+ * interval. Subscribers hold an async request, not a thread, while idle. Each one has a bounded buffer drained by a
+ * small shared pool of send threads; a subscriber whose buffer fills up is too slow to keep up and is dropped, so it
+ * can reconnect and re-read the roster instead of silently missing events. A subscriber whose write has not returned
+ * within the write timeout is dropped too, interrupting the write, so a stalled peer can't hold a send thread that
+ * the other subscribers are waiting for. A heartbeat comment keeps idle connections open through proxies and finds
+ * the closed ones.
+ */
+@Service
+@Slf4j
+public class RosterStreamService {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+    private static final int FOLLOW_PAGE_SIZE = 1000;
+    private final ChangeFeedService changeFeedService;
+    private final Map<String, Set<Subscriber>> subscribersMap = new ConcurrentHashMap<>();
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long writeTimeoutNanos;
+    private final ExecutorService sendExecutor;
+    private long changeCursor = -1;
+
+    @Autowired
+    public RosterStreamService(ChangeFeedService changeFeedService,
+                               @Value("${registration.roster.stream.bufferSize}") int bufferSize,
+                               @Value("${registration.roster.stream.timeoutMs}") long timeoutMs,
+                               @Value("${registration.roster.stream.writeTimeoutMs}") long writeTimeoutMs,
+                               @Value("${registration.roster.stream.sendThreads}") int sendThreads) {
+        this.changeFeedService = changeFeedService;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "roster-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * This method subscribes to the roster changes of a tuition
+     *
+     * @param tuitionId tuition id
+     * @return SseEmitter
+     */
+    public SseEmitter subscribe(String tuitionId) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(tuitionId, emitter, bufferSize);
+        subscribersMap.compute(tuitionId, (key, subscribers) -> {
+            Set<Subscriber> tuitionSubscribers = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            tuitionSubscribers.add(subscriber);
+            return tuitionSubscribers;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        log.debug("Subscribed to roster changes of tuition of id: {}", tuitionId);
+        return emitter;
+    }
+
+    /**
+     * This method reads the changes committed on any node since the last read and pushes them to the subscribers of
+     * their tuition. The first read starts at the latest change, as subscribers re-read the roster when they connect.
+     */
+    @Scheduled(fixedDelayString = "${registration.roster.stream.followIntervalMs}")
+    public synchronized void followChanges() {
+        try {
+            if (changeCursor < 0) {
+                changeCursor = changeFeedService.getLatestCursor();
+                return;
+            }
+            List<ChangeLogEntry> changes;
+            do {
+                changes = changeFeedService.getChanges(changeCursor, FOLLOW_PAGE_SIZE);
+                for (ChangeLogEntry change : changes) {
+                    push(change);
+                    changeCursor = change.getId();
+                }
+            } while (changes.size() == FOLLOW_PAGE_SIZE);
+        } catch (RegistrationServiceException e) {
+            log.error("Failed to read change log for roster streams after cursor: {}", changeCursor, e);
+        }
+    }
+
+    /**
+     * This method sends a heartbeat to every subscriber
+     */
+    @Scheduled(fixedDelayString = "${registration.roster.stream.heartbeatIntervalMs}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> subscribers : subscribersMap.values()) {
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            }
+        }
+    }
+
+    /**
+     * This method drops the subscribers whose write has not returned within the write timeout
+     */
+    @Scheduled(fixedDelayString = "${registration.roster.stream.writeTimeoutMs}")
+    public void dropStalledSubscribers() {
+        long nowNanos = System.nanoTime();
+        for (Set<Subscriber> subscribers : subscribersMap.values()) {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.isStalled(nowNanos, writeTimeoutNanos)) {
+                    log.warn("Dropping stalled roster subscriber of tuition of id: {}", subscriber.tuitionId);
+                    drop(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * This method returns the number of subscribers of a tuition
+     *
+     * @param tuitionId tuition id
+     * @return number of subscribers
+     */
+    public int getSubscriberCount(String tuitionId) {
+        Set<Subscriber> subscribers = subscribersMap.get(tuitionId);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    /**
+     * This method stops the send threads
+     */
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * This method creates the emitter of a subscriber
+     *
+     * @param timeoutMs timeout of the async request
+     * @return SseEmitter
+     */
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * This method pushes an enroll or unenroll change to the subscribers of its tuition, and closes the streams of a
+     * deleted tuition
+     *
+     * @param change change log entry
+     */
+    private void push(ChangeLogEntry change) {
+        if (change.getTuitionId() == null)
+            return;
+        Set<Subscriber> subscribers = subscribersMap.get(change.getTuitionId());
+        if (subscribers == null)
+            return;
+        switch (change.getType()) {
+            case STUDENT_ENROLLED:
+            case STUDENT_REMOVED:
+            case STUDENT_DELETED:
+                RosterEventResponseDto responseDto = new RosterEventResponseDto(change);
+                for (Subscriber subscriber : subscribers) {
+                    // builders keep their own write state, so each subscriber gets its own
+                    enqueue(subscriber, SseEmitter.event().name(change.getType().name())
+                            .data(responseDto, MediaType.APPLICATION_JSON_UTF8));
+                }
+                break;
+            case TUITION_DELETED:
+                for (Subscriber subscriber : subscribers) {
+                    drop(subscriber);
+                }
+                subscribersMap.remove(change.getTuitionId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * This method buffers an event for a subscriber, dropping the subscriber when its buffer is full
+     *
+     * @param subscriber subscriber
+     * @param sseEvent   event
+     */
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder sseEvent) {
+        if (!subscriber.buffer.offer(sseEvent)) {
+            log.warn("Dropping slow roster subscriber of tuition of id: {}", subscriber.tuitionId);
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true))
+            sendExecutor.execute(() -> send(subscriber));
+    }
+
+    /**
+     * This method sends the buffered events of a subscriber. Only one send runs per subscriber at a time.
+     *
+     * @param subscriber subscriber
+     */
+    private void send(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder sseEvent;
+            while ((sseEvent = subscriber.buffer.poll()) != null) {
+                subscriber.startSend();
+                try {
+                    subscriber.emitter.send(sseEvent);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Closed roster subscriber of tuition of id: {}", subscriber.tuitionId);
+                    unsubscribe(subscriber);
+                    subscriber.buffer.clear();
+                    return;
+                } finally {
+                    subscriber.endSend();
+                }
+                if (subscriber.dropped) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+            }
+            subscriber.sending.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.sending.compareAndSet(false, true));
+    }
+
+    /**
+     * This method removes a subscriber and closes its stream. A write in progress holds the emitter, so it is
+     * interrupted instead; the failed write ends the request, or the send thread completes it if the write got through.
+     *
+     * @param subscriber subscriber
+     */
+    private void drop(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.buffer.clear();
+        if (!subscriber.drop())
+            subscriber.emitter.complete();
+    }
+
+    /**
+     * This method removes a subscriber
+     *
+     * @param subscriber subscriber
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersMap.computeIfPresent(subscriber.tuitionId, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * SSE subscriber of the roster changes of a tuition
+     */
+    private static final class Subscriber {
+
+        private final String tuitionId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private Thread sendThread;
+        private long sendStartedNanos;
+        private volatile boolean dropped;
+
+        private Subscriber(String tuitionId, SseEmitter emitter, int bufferSize) {
+            this.tuitionId = tuitionId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * This method marks the start of a write by the current thread
+         */
+        private synchronized void startSend() {
+            sendThread = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+
+        /**
+         * This method marks the end of a write, clearing an interrupt of a drop so it doesn't reach the next
+         * subscriber served by the thread
+         */
+        private synchronized void endSend() {
+            sendThread = null;
+            if (dropped)
+                Thread.interrupted();
+        }
+
+        /**
+         * This method checks a write is in progress for longer than the write timeout
+         *
+         * @param nowNanos          current time
+         * @param writeTimeoutNanos write timeout
+         * @return true/ false
+         */
+        private synchronized boolean isStalled(long nowNanos, long writeTimeoutNanos) {
+            return sendThread != null && nowNanos - sendStartedNanos >= writeTimeoutNanos;
+        }
+
+        /**
+         * This method marks the subscriber dropped and interrupts its write in progress
+         *
+         * @return true if a write was interrupted
+         */
+        private synchronized boolean drop() {
+            dropped = true;
+            if (sendThread == null)
+                return false;
+            sendThread.interrupt();
+            return true;
+        }
+    }
+}
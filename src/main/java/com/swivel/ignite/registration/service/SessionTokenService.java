@@ -0,0 +1,288 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.SessionRevocation;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.repository.SessionRevocationRepository;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session Token Service
+ * <p>
+ * Issues and verifies the stateless session tokens of logged in students. A token is the base64url encoded payload
+ * {@code keyId:studentId:issuedAt:expiresAt:tokenId} and its HMAC-SHA256 signature, so it is verified without any
+ * DB access. New tokens are signed with the active key and every configured key verifies, so a key is rotated by
+ * adding a new key, making it active and removing the old one once its tokens have expired. Revoked tokens and
+ * students are stored in the session_revocation table and kept in memory until the tokens they cover expire. Each
+ * node reads the revocations of the other nodes from the DB periodically, so a token revoked on one node is still
+ * accepted by the others until their next sync.
+ */
+@Service
+@Slf4j
+public class SessionTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String KEY_SEPARATOR = ":";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final char SIGNATURE_SEPARATOR = '.';
+    private static final int PAYLOAD_FIELDS = 5;
+    private static final int TOKEN_ID_BYTES = 16;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, SecretKeySpec> keysMap = new HashMap<>();
+    private final ThreadLocal<Map<String, Mac>> macsMap = ThreadLocal.withInitial(HashMap::new);
+    private final Map<String, Long> revokedTokensMap = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedStudentsMap = new ConcurrentHashMap<>();
+    private final SessionRevocationRepository sessionRevocationRepository;
+    private final String activeKeyId;
+    private final long ttlMs;
+    private final long revocationSyncOverlapMs;
+    private volatile long lastRevocationSyncAt;
+
+    @Autowired
+    public SessionTokenService(SessionRevocationRepository sessionRevocationRepository,
+                               @Value("${registration.token.keys}") List<String> keys,
+                               @Value("${registration.token.activeKeyId}") String activeKeyId,
+                               @Value("${registration.token.ttlMs}") long ttlMs,
+                               @Value("${registration.token.revocationSyncOverlapMs}") long revocationSyncOverlapMs) {
+        this.sessionRevocationRepository = sessionRevocationRepository;
+        for (String key : keys) {
+            int separatorIndex = key.indexOf(KEY_SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == key.length() - 1)
+                throw new IllegalArgumentException("Session token key must be keyId:secret");
+            keysMap.put(key.substring(0, separatorIndex).trim(), new SecretKeySpec(
+                    key.substring(separatorIndex + 1).trim().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        }
+        if (!keysMap.containsKey(activeKeyId))
+            throw new IllegalArgumentException("Active session token key: " + activeKeyId + " is not configured");
+        this.activeKeyId = activeKeyId;
+        this.ttlMs = ttlMs;
+        this.revocationSyncOverlapMs = revocationSyncOverlapMs;
+    }
+
+    /**
+     * This method issues a session token for a student
+     *
+     * @param studentId student id
+     * @return SessionToken
+     */
+    public SessionToken issue(String studentId) {
+        long issuedAt = System.currentTimeMillis();
+        long expiresAt = issuedAt + ttlMs;
+        byte[] tokenIdBytes = new byte[TOKEN_ID_BYTES];
+        random.nextBytes(tokenIdBytes);
+        String tokenId = encode(tokenIdBytes);
+        byte[] payload = String.join(FIELD_SEPARATOR, activeKeyId, studentId, String.valueOf(issuedAt),
+                String.valueOf(expiresAt), tokenId).getBytes(StandardCharsets.UTF_8);
+        String value = encode(payload) + SIGNATURE_SEPARATOR + encode(sign(activeKeyId, payload));
+        return new SessionToken(value, tokenId, studentId, activeKeyId, issuedAt, expiresAt);
+    }
+
+    /**
+     * This method verifies a session token
+     *
+     * @param value encoded token
+     * @return SessionToken/ null if the token is malformed, signed with an unknown key, tampered with, expired or
+     * revoked
+     */
+    public SessionToken verify(String value) {
+        int separatorIndex = value.lastIndexOf(SIGNATURE_SEPARATOR);
+        if (separatorIndex <= 0)
+            return null;
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = decode(value.substring(0, separatorIndex));
+            signature = decode(value.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split(FIELD_SEPARATOR, -1);
+        if (fields.length != PAYLOAD_FIELDS || !keysMap.containsKey(fields[0]) ||
+                !MessageDigest.isEqual(sign(fields[0], payload), signature))
+            return null;
+        long issuedAt;
+        long expiresAt;
+        try {
+            issuedAt = Long.parseLong(fields[2]);
+            expiresAt = Long.parseLong(fields[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (expiresAt <= System.currentTimeMillis() || isRevoked(fields[4], fields[1], issuedAt))
+            return null;
+        return new SessionToken(value, fields[4], fields[1], fields[0], issuedAt, expiresAt);
+    }
+
+    /**
+     * This method revokes a session token
+     *
+     * @param sessionToken session token
+     */
+    public void revoke(SessionToken sessionToken) {
+        revokedTokensMap.put(sessionToken.getTokenId(), sessionToken.getExpiresAt());
+        saveRevocation(SessionRevocation.TOKEN_PREFIX + sessionToken.getTokenId(), System.currentTimeMillis(),
+                sessionToken.getExpiresAt());
+        log.debug("Revoked session token of student of id: {}", sessionToken.getStudentId());
+    }
+
+    /**
+     * This method revokes all session tokens issued to a student so far
+     *
+     * @param studentId student id
+     */
+    public void revokeStudent(String studentId) {
+        long revokedAt = System.currentTimeMillis();
+        revokedStudentsMap.merge(studentId, revokedAt, Math::max);
+        saveRevocation(SessionRevocation.STUDENT_PREFIX + studentId, revokedAt, revokedAt + ttlMs);
+        log.debug("Revoked session tokens of student of id: {}", studentId);
+    }
+
+    /**
+     * This method revokes the session tokens of a deleted student
+     *
+     * @param event registration event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        if (event.getType() == RegistrationEventType.STUDENT_DELETED)
+            revokeStudent(event.getStudentId());
+    }
+
+    /**
+     * This method reads the revocations made on any node since the last sync. The read overlaps the previous one,
+     * so a revocation committed late or stamped by a node with a lagging clock is not missed.
+     */
+    @Scheduled(fixedDelayString = "${registration.token.revocationSyncIntervalMs}")
+    public void syncRevocations() {
+        long syncStartedAt = System.currentTimeMillis();
+        try {
+            for (SessionRevocation revocation : sessionRevocationRepository.findByRevokedAtAfter(
+                    new Date(lastRevocationSyncAt - revocationSyncOverlapMs))) {
+                applyRevocation(revocation, syncStartedAt);
+            }
+            lastRevocationSyncAt = syncStartedAt;
+        } catch (DataAccessException e) {
+            log.error("Failed to read session revocations", e);
+        }
+    }
+
+    /**
+     * This method drops the revocations whose tokens have all expired, from memory and from the DB
+     */
+    @Scheduled(fixedDelayString = "${registration.token.revocationPurgeIntervalMs}")
+    public void purgeRevocations() {
+        long now = System.currentTimeMillis();
+        revokedTokensMap.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedStudentsMap.values().removeIf(revokedAt -> revokedAt + ttlMs <= now);
+        try {
+            int deleted = sessionRevocationRepository.deleteByExpiresAtBefore(new Date(now));
+            log.debug("Purged {} expired session revocations", deleted);
+        } catch (DataAccessException e) {
+            log.error("Failed to purge expired session revocations", e);
+        }
+    }
+
+    /**
+     * This method writes a revocation to the DB. A failed write only leaves the token accepted on the other nodes,
+     * so it is logged and not thrown.
+     *
+     * @param revocationKey revocation key
+     * @param revokedAt     time of the revocation
+     * @param expiresAt     time the revoked tokens expire
+     */
+    private void saveRevocation(String revocationKey, long revokedAt, long expiresAt) {
+        try {
+            sessionRevocationRepository.save(new SessionRevocation(revocationKey, new Date(revokedAt),
+                    new Date(expiresAt)));
+        } catch (DataAccessException e) {
+            log.error("Failed to save session revocation: {}, revoked on this node only", revocationKey, e);
+        }
+    }
+
+    /**
+     * This method keeps a revocation read from the DB in memory, unless its tokens have all expired
+     *
+     * @param revocation session revocation
+     * @param now        current time
+     */
+    private void applyRevocation(SessionRevocation revocation, long now) {
+        long expiresAt = revocation.getExpiresAt().getTime();
+        if (expiresAt <= now)
+            return;
+        String revocationKey = revocation.getRevocationKey();
+        if (revocationKey.startsWith(SessionRevocation.TOKEN_PREFIX)) {
+            revokedTokensMap.put(revocationKey.substring(SessionRevocation.TOKEN_PREFIX.length()), expiresAt);
+        } else if (revocationKey.startsWith(SessionRevocation.STUDENT_PREFIX)) {
+            revokedStudentsMap.merge(revocationKey.substring(SessionRevocation.STUDENT_PREFIX.length()),
+                    revocation.getRevokedAt().getTime(), Math::max);
+        }
+    }
+
+    /**
+     * This method checks a token, or all tokens of its student issued until then, was revoked
+     *
+     * @param tokenId   token id
+     * @param studentId student id
+     * @param issuedAt  time the token was issued
+     * @return true/ false
+     */
+    private boolean isRevoked(String tokenId, String studentId, long issuedAt) {
+        if (revokedTokensMap.containsKey(tokenId))
+            return true;
+        Long revokedAt = revokedStudentsMap.get(studentId);
+        return revokedAt != null && issuedAt <= revokedAt;
+    }
+
+    /**
+     * This method signs a payload with a key, reusing the MAC of the thread for that key
+     *
+     * @param keyId   key id
+     * @param payload payload
+     * @return signature
+     */
+    private byte[] sign(String keyId, byte[] payload) {
+        Mac mac = macsMap.get().computeIfAbsent(keyId, this::createMac);
+        return mac.doFinal(payload);
+    }
+
+    /**
+     * This method creates a MAC initialized with a key
+     *
+     * @param keyId key id
+     * @return Mac
+     */
+    private Mac createMac(String keyId) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keysMap.get(keyId));
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Failed to create " + HMAC_ALGORITHM + " MAC", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] decode(String value) {
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
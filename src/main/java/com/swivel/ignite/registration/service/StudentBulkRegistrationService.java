@@ -0,0 +1,143 @@
+package com.swivel.ignite.registration.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentBulkCreateResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.enums.BulkCreateStatusType;
+import com.swivel.ignite.registration.exception.PasswordHashingBusyException;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Student bulk registration service
+ * <p>
+ * Reads a stream of student create requests (NDJSON or a JSON array), inserts them in batches of
+ * {@code registration.bulk.batchSize} and writes one NDJSON result line per request row, in request order.
+ * At most one batch is held in memory at any time.
+ */
+@Slf4j
+@Service
+public class StudentBulkRegistrationService {
+
+    private static final char ROW_SEPARATOR = '\n';
+    private final StudentService studentService;
+    private final PasswordService passwordService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final int batchSize;
+
+    @Autowired
+    public StudentBulkRegistrationService(StudentService studentService, PasswordService passwordService,
+                                          ObjectMapper objectMapper,
+                                          @Value("${registration.bulk.batchSize}") int batchSize) {
+        this.studentService = studentService;
+        this.passwordService = passwordService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(StudentCreateRequestDto.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * This method registers all students in the input stream and writes the per row results to the output stream
+     *
+     * @param inputStream  NDJSON or JSON array of student create requests
+     * @param outputStream NDJSON stream of per row results
+     * @throws IOException if the output stream can't be written
+     */
+    public void registerStudents(InputStream inputStream, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+        Batch batch = new Batch();
+        int index = 0;
+        try (MappingIterator<StudentCreateRequestDto> iterator = requestReader.readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                StudentCreateRequestDto requestDto = iterator.nextValue();
+                batch.add(index++, requestDto);
+                if (batch.size() >= batchSize) {
+                    batch.flush(generator);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Malformed bulk create request at row: {}. {}", index, e.getOriginalMessage());
+            batch.results.add(new StudentBulkCreateResponseDto(index, null, null,
+                    BulkCreateStatusType.MALFORMED_REQUEST));
+        }
+        batch.flush(generator);
+        log.debug("Bulk created students. rows: {}", index);
+    }
+
+    /**
+     * Results of the rows read since the last flush and the students among them waiting to be inserted
+     */
+    private class Batch {
+
+        private final List<StudentBulkCreateResponseDto> results = new ArrayList<>();
+        private final List<Student> students = new ArrayList<>();
+
+        private void add(int index, StudentCreateRequestDto requestDto) {
+            if (requestDto == null || !requestDto.isRequiredAvailable()) {
+                results.add(new StudentBulkCreateResponseDto(index, null,
+                        requestDto != null ? requestDto.getName() : null,
+                        BulkCreateStatusType.MISSING_REQUIRED_FIELDS));
+                return;
+            }
+            Student student = new Student(requestDto);
+            students.add(student);
+            results.add(new StudentBulkCreateResponseDto(index, student.getId(), student.getName(),
+                    BulkCreateStatusType.CREATED));
+        }
+
+        private void hashPasswords() {
+            List<String> rawPasswords = new ArrayList<>(students.size());
+            for (Student student : students) {
+                rawPasswords.add(student.getPassword());
+            }
+            List<String> hashes = passwordService.hashAll(rawPasswords);
+            for (int i = 0; i < students.size(); i++) {
+                students.get(i).setPassword(hashes.get(i));
+            }
+        }
+
+        private int size() {
+            return results.size();
+        }
+
+        private void flush(JsonGenerator generator) throws IOException {
+            boolean failed = false;
+            if (!students.isEmpty()) {
+                try {
+                    hashPasswords();
+                    studentService.createStudents(students);
+                } catch (PasswordHashingBusyException | RegistrationServiceException e) {
+                    log.error("Bulk creating a batch of {} students was failed", students.size(), e);
+                    failed = true;
+                }
+            }
+            for (StudentBulkCreateResponseDto result : results) {
+                if (failed && result.getStatus() == BulkCreateStatusType.CREATED) {
+                    result = new StudentBulkCreateResponseDto(result.getIndex(), null, result.getName(),
+                            BulkCreateStatusType.FAILED);
+                }
+                generator.writeObject(result);
+                generator.writeRaw(ROW_SEPARATOR);
+            }
+            generator.flush();
+            results.clear();
+            students.clear();
+        }
+    }
+}
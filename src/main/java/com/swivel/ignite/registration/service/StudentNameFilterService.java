@@ -0,0 +1,296 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.service.bloom.CountingBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Student Name Filter Service
+ * <p>
+ * Keeps a counting Bloom filter of the names of all students, so a login of a name that never existed is rejected
+ * without a query of the student table. The filter is built by streaming the names on startup and rebuilt
+ * periodically. In between it adds the names of the students created and renamed on any node from the shared change
+ * log, and removes the names of the students deleted on this node. Until the first build completes every name might
+ * exist.
+ * <p>
+ * A name the filter has not seen may belong to a student just created on another node, so a miss is answered from
+ * the last scheduled read of the change log and never queries the DB. A student created on another node is rejected
+ * until the next read, for at most the sync interval. A miss is only definite when a read up to the end of the change
+ * log started within twice the sync interval, so when the reads fail, stop at a gap that may still commit or fall
+ * behind, every name might exist.
+ * <p>
+ * A renamed student keeps its old name, and a student deleted on another node its name, in the filter until the
+ * next rebuild, which only costs a DB query. The filter counts and false positive rates are exported as JMX
+ * attributes.
+ */
+@Service
+@ManagedResource(objectName = "com.swivel.ignite.registration:type=StudentNameFilter",
+        description = "Student name filter")
+@Slf4j
+public class StudentNameFilterService {
+
+    private static final int SYNC_PAGE_SIZE = 1000;
+    private static final long REPLAYED_CHANGES = 10000;
+    private final StudentRepository studentRepository;
+    private final ChangeFeedService changeFeedService;
+    private final long expectedNames;
+    private final double falsePositiveRate;
+    private final Object lock = new Object();
+    private final long maxStalenessMs;
+    private final Object syncLock = new Object();
+    private final LongAdder changeSyncCount = new LongAdder();
+    private final LongAdder definiteMissCount = new LongAdder();
+    private final LongAdder maybeCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+    private volatile CountingBloomFilter filter;
+    private CountingBloomFilter buildingFilter;
+    private volatile long caughtUpAt;
+    private long changeCursor = -1;
+
+    @Autowired
+    public StudentNameFilterService(StudentRepository studentRepository, ChangeFeedService changeFeedService,
+                                    @Value("${registration.nameFilter.expectedNames}") long expectedNames,
+                                    @Value("${registration.nameFilter.falsePositiveRate}") double falsePositiveRate,
+                                    @Value("${registration.nameFilter.syncIntervalMs}") long syncIntervalMs) {
+        this.studentRepository = studentRepository;
+        this.changeFeedService = changeFeedService;
+        this.expectedNames = expectedNames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxStalenessMs = 2 * syncIntervalMs;
+        // changes committed before the first build are kept in the filter it fills
+        this.buildingFilter = new CountingBloomFilter(expectedNames, falsePositiveRate);
+    }
+
+    /**
+     * This method checks a student of the given name might exist. It does not query the DB, so a student created on
+     * another node since the last read of the change log is reported missing.
+     *
+     * @param name student name
+     * @return false if no student of the name exists/ true if one might exist
+     */
+    public boolean mightExist(String name) {
+        CountingBloomFilter currentFilter = filter;
+        if (currentFilter == null || name == null)
+            return true;
+        if (currentFilter.mightContain(name)) {
+            maybeCount.increment();
+            return true;
+        }
+        // the names committed on other nodes are only known up to the last read of the change log
+        if (System.currentTimeMillis() - caughtUpAt > maxStalenessMs) {
+            maybeCount.increment();
+            return true;
+        }
+        definiteMissCount.increment();
+        return false;
+    }
+
+    /**
+     * This method records a name the filter passed that did not exist in the DB
+     */
+    public void recordFalsePositive() {
+        falsePositiveCount.increment();
+    }
+
+    /**
+     * This method follows the student names after the change is committed
+     *
+     * @param event registration event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        if (event.getName() == null)
+            return;
+        switch (event.getType()) {
+            case STUDENT_CREATED:
+            case STUDENT_UPDATED:
+                add(event.getName());
+                break;
+            case STUDENT_DELETED:
+                remove(event.getName());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * This method adds the names of the students created and renamed on any node since the last read of the change
+     * log. A read up to the end of the change log lets misses be answered for the changes committed before it started.
+     */
+    @Scheduled(fixedDelayString = "${registration.nameFilter.syncIntervalMs}")
+    public void syncChanges() {
+        synchronized (syncLock) {
+            if (changeCursor < 0)
+                return;
+            long startedAt = System.currentTimeMillis();
+            changeSyncCount.increment();
+            try {
+                List<ChangeLogEntry> changes;
+                do {
+                    changes = changeFeedService.getChanges(changeCursor, SYNC_PAGE_SIZE);
+                    for (ChangeLogEntry change : changes) {
+                        if (change.getName() != null && (change.getType() == RegistrationEventType.STUDENT_CREATED ||
+                                change.getType() == RegistrationEventType.STUDENT_UPDATED))
+                            add(change.getName());
+                        changeCursor = change.getId();
+                    }
+                } while (changes.size() == SYNC_PAGE_SIZE);
+                // a gap that may still commit leaves the misses answered from the last complete read
+                if (!changeFeedService.hasChangesAfter(changeCursor))
+                    caughtUpAt = startedAt;
+            } catch (RegistrationServiceException e) {
+                log.error("Failed to read change log for student name filter after cursor: {}", changeCursor, e);
+            }
+        }
+    }
+
+    /**
+     * This method builds the filter from the names of all students on startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * This method builds a new filter from the names of all students and swaps it in. The changes committed while
+     * the names are streamed are applied to both filters, so the new filter misses none of them.
+     */
+    @Scheduled(initialDelayString = "${registration.nameFilter.rebuildIntervalMs}",
+            fixedDelayString = "${registration.nameFilter.rebuildIntervalMs}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!initChangeCursor())
+            return;
+        CountingBloomFilter newFilter;
+        synchronized (lock) {
+            if (buildingFilter == null)
+                buildingFilter = new CountingBloomFilter(expectedNames, falsePositiveRate);
+            newFilter = buildingFilter;
+        }
+        try (Stream<String> names = studentRepository.streamAllNames()) {
+            names.forEach(newFilter::add);
+        } catch (DataAccessException e) {
+            synchronized (lock) {
+                buildingFilter = null;
+            }
+            log.error("Failed to build student name filter", e);
+            return;
+        }
+        synchronized (lock) {
+            filter = newFilter;
+            buildingFilter = null;
+        }
+        log.info("Built student name filter of {} names with estimated false positive rate: {}", newFilter.size(),
+                newFilter.estimateFalsePositiveRate());
+        syncChanges();
+    }
+
+    @ManagedAttribute(description = "Logins rejected by the filter without a DB query")
+    public long getDefiniteMissCount() {
+        return definiteMissCount.sum();
+    }
+
+    @ManagedAttribute(description = "Logins the filter passed to the DB")
+    public long getMaybeCount() {
+        return maybeCount.sum();
+    }
+
+    @ManagedAttribute(description = "Logins the filter passed of names not in the DB")
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.sum();
+    }
+
+    @ManagedAttribute(description = "Share of the logins of unknown names the filter passed")
+    public double getObservedFalsePositiveRate() {
+        long falsePositives = falsePositiveCount.sum();
+        long unknownNames = falsePositives + definiteMissCount.sum();
+        return unknownNames == 0 ? 0 : (double) falsePositives / unknownNames;
+    }
+
+    @ManagedAttribute(description = "False positive rate estimated from the filled counters")
+    public double getEstimatedFalsePositiveRate() {
+        CountingBloomFilter currentFilter = filter;
+        return currentFilter == null ? 1 : currentFilter.estimateFalsePositiveRate();
+    }
+
+    @ManagedAttribute(description = "Reads of the change log")
+    public long getChangeSyncCount() {
+        return changeSyncCount.sum();
+    }
+
+    @ManagedAttribute(description = "Names in the filter")
+    public long getNameCount() {
+        CountingBloomFilter currentFilter = filter;
+        return currentFilter == null ? 0 : currentFilter.size();
+    }
+
+    /**
+     * This method sets the change log cursor the filter follows before the first build. The cursor is set back a
+     * number of changes, so a change whose id was allocated before the latest one and committed after the names are
+     * streamed is still read. Reading a change again only adds a name twice, which keeps a false positive at most.
+     *
+     * @return true if the cursor is set/ false if reading it failed
+     */
+    private boolean initChangeCursor() {
+        synchronized (syncLock) {
+            if (changeCursor >= 0)
+                return true;
+            try {
+                changeCursor = Math.max(0, changeFeedService.getLatestCursor() - REPLAYED_CHANGES);
+                return true;
+            } catch (RegistrationServiceException e) {
+                log.error("Failed to read change log cursor, student name filter is not built", e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * This method adds a name to the current filter and to the filter being built
+     *
+     * @param name student name
+     */
+    private void add(String name) {
+        synchronized (lock) {
+            if (filter != null)
+                filter.add(name);
+            if (buildingFilter != null)
+                buildingFilter.add(name);
+        }
+    }
+
+    /**
+     * This method removes a name from the current filter. The filter being built may still read the name, which
+     * only leaves a false positive.
+     *
+     * @param name student name
+     */
+    private void remove(String name) {
+        synchronized (lock) {
+            if (filter != null)
+                filter.remove(name);
+        }
+    }
+}
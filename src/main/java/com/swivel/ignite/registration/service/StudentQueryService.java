@@ -0,0 +1,155 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
+import com.swivel.ignite.registration.dto.response.TuitionQueryResultDto;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.StudentQueryField;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.StudentSummary;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import com.swivel.ignite.registration.service.loader.DataLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Student Query Service
+ * <p>
+ * Resolves students with the selected fields of their tuition using one batched, de-duplicated load per entity
+ * type: one query for the students, one for their tuition and one for the roster sizes, each only when a selected
+ * field needs it.
+ */
+@Service
+public class StudentQueryService {
+
+    private final StudentRepository studentRepository;
+    private final TuitionRepository tuitionRepository;
+
+    @Autowired
+    public StudentQueryService(StudentRepository studentRepository, TuitionRepository tuitionRepository) {
+        this.studentRepository = studentRepository;
+        this.tuitionRepository = tuitionRepository;
+    }
+
+    /**
+     * This method resolves the selected fields of the given students
+     *
+     * @param studentIds student ids
+     * @param fields     selected fields
+     * @return student results in request order
+     */
+    public List<StudentQueryResultDto> queryStudents(List<String> studentIds, Set<StudentQueryField> fields) {
+        try {
+            DataLoader<String, StudentSummary> studentLoader = new DataLoader<>(this::loadStudents);
+            DataLoader<String, Tuition> tuitionLoader = new DataLoader<>(this::loadTuition);
+            DataLoader<String, Long> studentCountLoader = new DataLoader<>(this::loadStudentCounts);
+            boolean tuitionRequired = fields.contains(StudentQueryField.TUITION_NAME) ||
+                    fields.contains(StudentQueryField.TUITION_LOCATION);
+            boolean studentCountRequired = fields.contains(StudentQueryField.TUITION_STUDENT_COUNT);
+
+            studentLoader.loadAll(studentIds);
+            studentLoader.dispatch();
+            for (String studentId : studentIds) {
+                StudentSummary student = studentLoader.get(studentId);
+                if (student == null)
+                    continue;
+                if (tuitionRequired)
+                    tuitionLoader.load(student.getTuitionId());
+                if (studentCountRequired)
+                    studentCountLoader.load(student.getTuitionId());
+            }
+            tuitionLoader.dispatch();
+            studentCountLoader.dispatch();
+
+            List<StudentQueryResultDto> results = new ArrayList<>();
+            for (String studentId : studentIds) {
+                results.add(toResult(studentId, studentLoader.get(studentId), fields, tuitionLoader,
+                        studentCountLoader));
+            }
+            return results;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to query students from DB", e);
+        }
+    }
+
+    /**
+     * This method builds the result of a student with the selected fields
+     *
+     * @param studentId          student id
+     * @param student            student summary/ null if not found
+     * @param fields             selected fields
+     * @param tuitionLoader      dispatched tuition loader
+     * @param studentCountLoader dispatched student count loader
+     * @return student result
+     */
+    private StudentQueryResultDto toResult(String studentId, StudentSummary student, Set<StudentQueryField> fields,
+                                           DataLoader<String, Tuition> tuitionLoader,
+                                           DataLoader<String, Long> studentCountLoader) {
+        StudentQueryResultDto result = new StudentQueryResultDto(studentId, student != null);
+        if (student == null)
+            return result;
+        if (fields.contains(StudentQueryField.NAME))
+            result.setName(student.getName());
+        if (fields.contains(StudentQueryField.TUITION_ID))
+            result.setTuitionId(student.getTuitionId());
+        if (fields.contains(StudentQueryField.TUITION_JOINED_ON))
+            result.setTuitionJoinedOn(student.getTuitionJoinedOn());
+        String tuitionId = student.getTuitionId();
+        if (tuitionId != null && fields.stream().anyMatch(StudentQueryField::isTuitionField)) {
+            Tuition tuition = tuitionLoader.get(tuitionId);
+            Long studentCount = studentCountLoader.get(tuitionId);
+            result.setTuition(new TuitionQueryResultDto(tuitionId,
+                    tuition != null && fields.contains(StudentQueryField.TUITION_NAME) ? tuition.getName() : null,
+                    tuition != null && fields.contains(StudentQueryField.TUITION_LOCATION) ? tuition.getLocation() : null,
+                    fields.contains(StudentQueryField.TUITION_STUDENT_COUNT) ?
+                            (studentCount != null ? studentCount : 0L) : null));
+        }
+        return result;
+    }
+
+    /**
+     * This method is the batch function of the student loader
+     *
+     * @param studentIds student ids
+     * @return student summary by id
+     */
+    private Map<String, StudentSummary> loadStudents(Set<String> studentIds) {
+        Map<String, StudentSummary> students = new HashMap<>();
+        for (StudentSummary student : studentRepository.findSummariesByIdIn(studentIds)) {
+            students.put(student.getId(), student);
+        }
+        return students;
+    }
+
+    /**
+     * This method is the batch function of the tuition loader
+     *
+     * @param tuitionIds tuition ids
+     * @return tuition by id
+     */
+    private Map<String, Tuition> loadTuition(Set<String> tuitionIds) {
+        Map<String, Tuition> tuitionMap = new HashMap<>();
+        for (Tuition tuition : tuitionRepository.findAllById(tuitionIds)) {
+            tuitionMap.put(tuition.getId(), tuition);
+        }
+        return tuitionMap;
+    }
+
+    /**
+     * This method is the batch function of the student count loader
+     *
+     * @param tuitionIds tuition ids
+     * @return student count by tuition id
+     */
+    private Map<String, Long> loadStudentCounts(Set<String> tuitionIds) {
+        Map<String, Long> studentCounts = new HashMap<>();
+        for (TuitionStudentCount count : studentRepository.countByTuitionIdIn(tuitionIds)) {
+            studentCounts.put(count.getTuitionId(), count.getStudentCount());
+        }
+        return studentCounts;
+    }
+}
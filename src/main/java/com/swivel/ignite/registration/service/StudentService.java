@@ -1,73 +1,153 @@
 package com.swivel.ignite.registration.service;
 
 import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentSearchRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentUpdateRequestDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.PasswordHashingBusyException;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.StudentAlreadyExistsException;
 import com.swivel.ignite.registration.exception.StudentNotFoundException;
 import com.swivel.ignite.registration.exception.UsernamePasswordNotMatchException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
+import com.swivel.ignite.registration.repository.StudentEnrollment;
 import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.StudentSpecifications;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import com.swivel.ignite.registration.service.search.StudentSearchCursor;
+import com.swivel.ignite.registration.service.search.StudentSearchPage;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.util.Date;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Student Service
  */
 @Service
+@Slf4j
 public class StudentService {
 
     private final StudentRepository studentRepository;
     private final PaymentService paymentService;
+    private final PasswordService passwordService;
+    private final StudentNameFilterService studentNameFilterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int enrollmentChunkSize;
+    private final boolean softDelete;
 
     @Autowired
-    public StudentService(StudentRepository studentRepository, PaymentService paymentService) {
+    public StudentService(StudentRepository studentRepository, PaymentService paymentService,
+                          PasswordService passwordService, StudentNameFilterService studentNameFilterService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${registration.bulk.enrollmentChunkSize}") int enrollmentChunkSize,
+                          @Value("${registration.purge.softDelete}") boolean softDelete) {
         this.studentRepository = studentRepository;
         this.paymentService = paymentService;
+        this.passwordService = passwordService;
+        this.studentNameFilterService = studentNameFilterService;
+        this.eventPublisher = eventPublisher;
+        this.enrollmentChunkSize = enrollmentChunkSize;
+        this.softDelete = softDelete;
     }
 
     /**
      * This method creates a Student in the database
      *
-     * @param student student
+     * @param student student, with its password already hashed
      */
+    @Transactional
     public void createStudent(Student student) {
         try {
             if (isStudentExists(student.getId()))
                 throw new StudentAlreadyExistsException("Student already exists in DB");
             studentRepository.save(student);
+            eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                    student.getId(), null, student.getName()));
         } catch (DataAccessException e) {
             throw new RegistrationServiceException("Failed to save student to DB for student id: " + student.getId(), e);
         }
     }
 
     /**
-     * This method login a student
+     * This method creates a batch of new Students in the database in a single transaction
+     *
+     * @param students new students, with their passwords already hashed
+     */
+    @Transactional
+    public void createStudents(List<Student> students) {
+        try {
+            studentRepository.persistAll(students);
+            for (Student student : students) {
+                eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                        student.getId(), null, student.getName()));
+            }
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to save batch of " + students.size() + " students to DB", e);
+        }
+    }
+
+    /**
+     * This method login a student. A name the student name filter has never seen, and has not found in the change log
+     * since, is rejected without a query of the student table. A stored password hashed below the minimum cost, or
+     * stored in plaintext, is hashed again with the current cost on a successful login.
      *
      * @param requestDto StudentCreateRequestDto
      * @return Student
      */
     public Student login(StudentCreateRequestDto requestDto) {
+        if (!studentNameFilterService.mightExist(requestDto.getName()))
+            throw new StudentNotFoundException("Student not found for name: " + requestDto.getName());
         try {
             Optional<Student> optionalStudent = studentRepository.findByName(requestDto.getName());
-            if (!optionalStudent.isPresent())
+            if (!optionalStudent.isPresent()) {
+                studentNameFilterService.recordFalsePositive();
                 throw new StudentNotFoundException("Student not found in DB for name: " + requestDto.getName());
+            }
             Student student = optionalStudent.get();
-            if (!Objects.equals(student.getPassword(), requestDto.getPassword()))
+            if (!passwordService.matches(requestDto.getPassword(), student.getPassword()))
                 throw new UsernamePasswordNotMatchException("Username password not match for student");
+            if (passwordService.needsRehash(student.getPassword()))
+                return rehashPassword(student, requestDto.getPassword());
             return student;
         } catch (DataAccessException e) {
             throw new RegistrationServiceException("Failed to login the student", e);
         }
     }
 
+    /**
+     * This method replaces the stored password of a logged in student with a hash of the current cost. The login
+     * already succeeded, so a failed upgrade is only logged and retried on the next login.
+     *
+     * @param student     student
+     * @param rawPassword raw password
+     * @return Student
+     */
+    private Student rehashPassword(Student student, String rawPassword) {
+        String storedPassword = student.getPassword();
+        try {
+            student.setPassword(passwordService.hash(rawPassword));
+            return studentRepository.save(student);
+        } catch (PasswordHashingBusyException | DataAccessException e) {
+            log.warn("Upgrading the password hash of student of id: {} was failed", student.getId(), e);
+            student.setPassword(storedPassword);
+            return student;
+        }
+    }
+
     /**
      * This method returns a student by id
      *
@@ -86,20 +166,172 @@ public class StudentService {
     }
 
     /**
-     * This method deletes a student
+     * This method returns the students of the given ids
+     *
+     * @param studentIds student ids
+     * @return student by id, for the students that exist
+     */
+    public Map<String, Student> findAllById(Collection<String> studentIds) {
+        try {
+            Map<String, Student> students = new HashMap<>();
+            for (Student student : studentRepository.findByIdIn(new HashSet<>(studentIds))) {
+                students.put(student.getId(), student);
+            }
+            return students;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to read students by ids", e);
+        }
+    }
+
+    /**
+     * This method returns a page of the students of a tuition in id order
+     *
+     * @param tuitionId tuition id
+     * @param after     student id to start after/ null for the first page
+     * @param limit     page size
+     * @return students of the page
+     */
+    public List<Student> findByTuitionId(String tuitionId, String after, int limit) {
+        try {
+            return studentRepository.findByTuitionIdAndIdGreaterThanOrderByIdAsc(tuitionId, after != null ? after : "",
+                    PageRequest.of(0, limit));
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to find students of tuition of id: " + tuitionId, e);
+        }
+    }
+
+    /**
+     * This method returns a page of the students matching the search filters
+     *
+     * @param requestDto student search request dto
+     * @param limit      page size
+     * @return student search page
+     */
+    public StudentSearchPage searchStudents(StudentSearchRequestDto requestDto, int limit) {
+        try {
+            StudentSearchCursor.Order order = StudentSearchCursor.orderOf(requestDto);
+            Specification<Student> specification = Specification.where(null);
+            if (requestDto.getTuitionId() != null)
+                specification = specification.and(StudentSpecifications.inTuition(requestDto.getTuitionId()));
+            if (requestDto.getName() != null)
+                specification = specification.and(StudentSpecifications.nameStartsWith(requestDto.getName()));
+            if (requestDto.getJoinedFrom() != null)
+                specification = specification.and(StudentSpecifications.joinedOnOrAfter(requestDto.getJoinedFrom()));
+            if (requestDto.getJoinedTo() != null)
+                specification = specification.and(StudentSpecifications.joinedBefore(requestDto.getJoinedTo()));
+            if (requestDto.getAfter() != null)
+                specification = specification.and(StudentSearchCursor.after(order, requestDto.getAfter()));
+            List<Student> students = studentRepository.findPage(specification, order.getSort(), limit + 1);
+            if (students.size() <= limit)
+                return new StudentSearchPage(students, null);
+            List<Student> page = students.subList(0, limit);
+            return new StudentSearchPage(page, StudentSearchCursor.encode(order, page.get(limit - 1)));
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to search students", e);
+        }
+    }
+
+    /**
+     * This method returns the ids of the students enrolled in each of the given tuition
+     *
+     * @param tuitionIds tuition ids
+     * @return student ids by tuition id, with an empty set for tuition without students
+     */
+    public Map<String, Set<String>> findStudentIdsByTuitionIds(Collection<String> tuitionIds) {
+        try {
+            Map<String, Set<String>> studentIds = new HashMap<>();
+            for (String tuitionId : tuitionIds) {
+                studentIds.put(tuitionId, new HashSet<>());
+            }
+            if (tuitionIds.isEmpty())
+                return studentIds;
+            for (StudentEnrollment enrollment : studentRepository.findEnrollmentsByTuitionIdIn(tuitionIds)) {
+                studentIds.get(enrollment.getTuitionId()).add(enrollment.getStudentId());
+            }
+            return studentIds;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to find student ids by tuition ids", e);
+        }
+    }
+
+    /**
+     * This method counts the students enrolled in each of the given tuition
+     *
+     * @param tuitionIds tuition ids
+     * @return student count by tuition id, with zero for tuition without students
+     */
+    public Map<String, Long> countByTuitionIds(Collection<String> tuitionIds) {
+        try {
+            Map<String, Long> studentCounts = new HashMap<>();
+            for (String tuitionId : tuitionIds) {
+                studentCounts.put(tuitionId, 0L);
+            }
+            if (tuitionIds.isEmpty())
+                return studentCounts;
+            for (TuitionStudentCount count : studentRepository.countByTuitionIdIn(tuitionIds)) {
+                studentCounts.put(count.getTuitionId(), count.getStudentCount());
+            }
+            return studentCounts;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to count students by tuition ids", e);
+        }
+    }
+
+    /**
+     * This method deletes a student. In soft delete mode the student is only marked deleted, which hides it from
+     * all reads, and the payment cascade and row delete are left to the purger.
      *
      * @param student student
      */
     @Transactional
     public void deleteStudent(Student student) {
         try {
-            paymentService.deleteByStudentId(student.getId());
-            studentRepository.delete(student);
+            if (softDelete) {
+                student.setDeletedOn(new Date());
+                studentRepository.save(student);
+            } else {
+                paymentService.deleteByStudentId(student.getId());
+                studentRepository.delete(student);
+            }
+            eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_DELETED,
+                    student.getId(), student.getTuition() != null ? student.getTuition().getId() : null,
+                    student.getName()));
         } catch (DataAccessException | IOException e) {
             throw new RegistrationServiceException("Failed to delete student of id: " + student.getId(), e);
         }
     }
 
+    /**
+     * This method changes the given fields of a student. The update is checked against the version the change was
+     * based on, so a concurrent change is reported as a conflict instead of being overwritten, and only the changed
+     * columns are written.
+     *
+     * @param student    student
+     * @param requestDto student update request dto, with the password already hashed
+     * @return Student
+     */
+    @Transactional
+    public Student updateStudent(Student student, StudentUpdateRequestDto requestDto) {
+        try {
+            if (!requestDto.getVersion().equals(student.getVersion()))
+                throw new VersionConflictException("Student of id: " + student.getId() + " is at version: " +
+                        student.getVersion());
+            if (requestDto.getName() != null)
+                student.setName(requestDto.getName());
+            if (requestDto.getPassword() != null)
+                student.setPassword(requestDto.getPassword());
+            Student updatedStudent = studentRepository.saveAndFlush(student);
+            eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_UPDATED,
+                    student.getId(), student.getTuition() != null ? student.getTuition().getId() : null,
+                    requestDto.getName()));
+            return updatedStudent;
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Student of id: " + student.getId() + " was changed concurrently", e);
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to update student of id: " + student.getId(), e);
+        }
+    }
+
     /**
      * This method add a student to a tuition
      *
@@ -107,11 +339,15 @@ public class StudentService {
      * @param tuition tuition
      * @return Student
      */
+    @Transactional
     public Student addStudentToTuition(Student student, Tuition tuition) {
         try {
             student.setTuition(tuition);
             student.setTuitionJoinedOn(new Date());
-            return studentRepository.save(student);
+            Student savedStudent = studentRepository.save(student);
+            eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED,
+                    student.getId(), tuition.getId()));
+            return savedStudent;
         } catch (DataAccessException e) {
             throw new RegistrationServiceException("Failed to add student of id: " + student.getId() + " to tuition", e);
         }
@@ -123,16 +359,135 @@ public class StudentService {
      * @param student student
      * @return Student
      */
+    @Transactional
     public Student removeStudentFromTuition(Student student) {
         try {
+            Tuition tuition = student.getTuition();
             student.setTuition(null);
             student.setTuitionJoinedOn(null);
-            return studentRepository.save(student);
+            Student savedStudent = studentRepository.save(student);
+            if (tuition != null)
+                eventPublisher.publishEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_REMOVED,
+                        student.getId(), tuition.getId()));
+            return savedStudent;
         } catch (DataAccessException e) {
             throw new RegistrationServiceException("Failed to remove student of id: " + student.getId() + " from tuition", e);
         }
     }
 
+    /**
+     * This method enrolls a list of students in a tuition using one set based UPDATE per chunk of students
+     *
+     * @param tuition    tuition
+     * @param studentIds student ids
+     * @return outcome per student id in request order
+     */
+    @Transactional
+    public Map<String, BulkEnrollmentStatusType> enrollStudents(Tuition tuition, List<String> studentIds) {
+        Map<String, BulkEnrollmentStatusType> outcomes = new LinkedHashMap<>();
+        try {
+            Date joinedOn = new Date();
+            for (List<String> chunk : chunk(studentIds)) {
+                Map<String, String> enrollments = findEnrollmentsForUpdate(chunk);
+                List<String> enrollable = new ArrayList<>();
+                for (String studentId : chunk) {
+                    if (!enrollments.containsKey(studentId)) {
+                        outcomes.put(studentId, BulkEnrollmentStatusType.NOT_FOUND);
+                    } else if (enrollments.get(studentId) == null) {
+                        enrollable.add(studentId);
+                        outcomes.put(studentId, BulkEnrollmentStatusType.ENROLLED);
+                    } else if (tuition.getId().equals(enrollments.get(studentId))) {
+                        outcomes.put(studentId, BulkEnrollmentStatusType.ALREADY_ENROLLED);
+                    } else {
+                        outcomes.put(studentId, BulkEnrollmentStatusType.ENROLLED_ELSEWHERE);
+                    }
+                }
+                if (!enrollable.isEmpty())
+                    studentRepository.enrollAll(enrollable, tuition, joinedOn);
+                publishEvents(RegistrationEventType.STUDENT_ENROLLED, enrollable, tuition);
+            }
+            return outcomes;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to enroll students to tuition of id: " + tuition.getId(), e);
+        }
+    }
+
+    /**
+     * This method removes a list of students from a tuition using one set based UPDATE per chunk of students
+     *
+     * @param tuition    tuition
+     * @param studentIds student ids
+     * @return outcome per student id in request order
+     */
+    @Transactional
+    public Map<String, BulkEnrollmentStatusType> removeStudentsFromTuition(Tuition tuition, List<String> studentIds) {
+        Map<String, BulkEnrollmentStatusType> outcomes = new LinkedHashMap<>();
+        try {
+            for (List<String> chunk : chunk(studentIds)) {
+                Map<String, String> enrollments = findEnrollmentsForUpdate(chunk);
+                List<String> removable = new ArrayList<>();
+                for (String studentId : chunk) {
+                    if (!enrollments.containsKey(studentId)) {
+                        outcomes.put(studentId, BulkEnrollmentStatusType.NOT_FOUND);
+                    } else if (tuition.getId().equals(enrollments.get(studentId))) {
+                        removable.add(studentId);
+                        outcomes.put(studentId, BulkEnrollmentStatusType.REMOVED);
+                    } else {
+                        outcomes.put(studentId, BulkEnrollmentStatusType.NOT_ENROLLED);
+                    }
+                }
+                if (!removable.isEmpty())
+                    studentRepository.unenrollAll(removable, tuition);
+                publishEvents(RegistrationEventType.STUDENT_REMOVED, removable, tuition);
+            }
+            return outcomes;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to remove students from tuition of id: " + tuition.getId(), e);
+        }
+    }
+
+    /**
+     * This method locks the given students and returns the tuition id each of them is enrolled in
+     *
+     * @param studentIds student ids
+     * @return tuition id (null if not enrolled) by student id, for the students that exist
+     */
+    private Map<String, String> findEnrollmentsForUpdate(List<String> studentIds) {
+        Map<String, String> enrollments = new HashMap<>();
+        for (StudentEnrollment enrollment : studentRepository.findEnrollmentsForUpdate(studentIds)) {
+            enrollments.put(enrollment.getStudentId(), enrollment.getTuitionId());
+        }
+        return enrollments;
+    }
+
+    /**
+     * This method publishes an event of the given type for each of the students
+     *
+     * @param type       event type
+     * @param studentIds student ids
+     * @param tuition    tuition
+     */
+    private void publishEvents(RegistrationEventType type, List<String> studentIds, Tuition tuition) {
+        for (String studentId : studentIds) {
+            eventPublisher.publishEvent(RegistrationEvent.ofStudent(type, studentId, tuition.getId()));
+        }
+    }
+
+    /**
+     * This method splits the distinct student ids into chunks of the configured enrollment chunk size
+     *
+     * @param studentIds student ids
+     * @return chunks of student ids
+     */
+    private List<List<String>> chunk(List<String> studentIds) {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += enrollmentChunkSize) {
+            chunks.add(distinctIds.subList(from, Math.min(from + enrollmentChunkSize, distinctIds.size())));
+        }
+        return chunks;
+    }
+
     /**
      * This method checks if student already exists in the DB
      *
@@ -0,0 +1,154 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.SearchMode;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.service.search.SearchPage;
+import com.swivel.ignite.registration.service.search.TuitionSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tuition Search Service
+ * <p>
+ * Searches tuition names and locations using an in-memory n-gram index that is built on startup and updated from
+ * tuition events once they are committed. The index is rebuilt from the DB periodically, picking up the changes
+ * committed by the other nodes. The DB mode runs the same search as a LIKE query for comparison.
+ */
+@Service
+@Slf4j
+public class TuitionSearchService {
+
+    private final TuitionRepository tuitionRepository;
+    private final TuitionSearchIndex tuitionSearchIndex = new TuitionSearchIndex();
+    private final Object lock = new Object();
+    private List<RegistrationEvent> eventsDuringRebuild;
+
+    @Autowired
+    public TuitionSearchService(TuitionRepository tuitionRepository) {
+        this.tuitionRepository = tuitionRepository;
+    }
+
+    /**
+     * This method returns a page of the tuition matching a query, best match first
+     *
+     * @param query query
+     * @param mode  search mode
+     * @param page  page number starting from 0
+     * @param size  page size
+     * @return search page
+     */
+    public SearchPage search(String query, SearchMode mode, int page, int size) {
+        if (mode == SearchMode.DB)
+            return searchDb(query, page, size);
+        return tuitionSearchIndex.search(query, getOffset(page, size), size);
+    }
+
+    /**
+     * This method applies a tuition event to the index after its transaction commits, or immediately when published
+     * outside a transaction
+     *
+     * @param event registration event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        synchronized (lock) {
+            if (apply(event) && eventsDuringRebuild != null)
+                eventsDuringRebuild.add(event);
+        }
+    }
+
+    /**
+     * This method builds the index from all tuition on startup and periodically after. The events applied while the
+     * tuition are read are applied again on the new index, as the read may have missed them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${registration.search.rebuildIntervalMs}",
+            fixedDelayString = "${registration.search.rebuildIntervalMs}")
+    public void rebuildIndex() {
+        synchronized (lock) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<Tuition> tuitionList = tuitionRepository.findAll();
+            synchronized (lock) {
+                tuitionSearchIndex.rebuild(tuitionList);
+                eventsDuringRebuild.forEach(this::apply);
+            }
+            log.info("Built tuition search index of {} tuition", tuitionSearchIndex.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to build tuition search index", e);
+        } finally {
+            synchronized (lock) {
+                eventsDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * This method applies a tuition event to the index
+     *
+     * @param event registration event
+     * @return true if it is a tuition event
+     */
+    private boolean apply(RegistrationEvent event) {
+        switch (event.getType()) {
+            case TUITION_CREATED:
+            case TUITION_UPDATED:
+                tuitionSearchIndex.add(event.getTuitionId(), event.getName(), event.getLocation());
+                return true;
+            case TUITION_DELETED:
+                tuitionSearchIndex.remove(event.getTuitionId());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * This method returns the number of matches before a page, capped so a large page number can't overflow
+     *
+     * @param page page number starting from 0
+     * @param size page size
+     * @return offset
+     */
+    private static int getOffset(int page, int size) {
+        return (int) Math.min((long) page * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * This method runs a search as a LIKE query, ranking and paging the matches the same way as the index
+     *
+     * @param query query
+     * @param page  page number starting from 0
+     * @param size  page size
+     * @return search page
+     */
+    private SearchPage searchDb(String query, int page, int size) {
+        try {
+            String normalizedQuery = TuitionSearchIndex.normalize(query);
+            List<Tuition> matches = new ArrayList<>(tuitionRepository
+                    .findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(normalizedQuery, normalizedQuery));
+            matches.sort(Comparator.comparingInt((Tuition tuition) -> TuitionSearchIndex.rank(tuition, normalizedQuery))
+                    .thenComparing(Tuition::getName)
+                    .thenComparing(Tuition::getId));
+            int from = Math.min(getOffset(page, size), matches.size());
+            return new SearchPage(matches.size(), matches.subList(from, (int) Math.min((long) from + size,
+                    matches.size())));
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to search tuition in DB for query: " + query, e);
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.swivel.ignite.registration.service;
 
+import com.swivel.ignite.registration.dto.request.TuitionUpdateRequestDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
 import com.swivel.ignite.registration.repository.TuitionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Tuition Service
@@ -25,13 +30,18 @@ public class TuitionService {
     private final StudentService studentService;
     private final TuitionRepository tuitionRepository;
     private final PaymentService paymentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean softDelete;
 
     @Autowired
     public TuitionService(TuitionRepository tuitionRepository, StudentService studentService,
-                          PaymentService paymentService) {
+                          PaymentService paymentService, ApplicationEventPublisher eventPublisher,
+                          @Value("${registration.purge.softDelete}") boolean softDelete) {
         this.studentService = studentService;
         this.tuitionRepository = tuitionRepository;
         this.paymentService = paymentService;
+        this.eventPublisher = eventPublisher;
+        this.softDelete = softDelete;
     }
 
     /**
@@ -39,16 +49,51 @@ public class TuitionService {
      *
      * @param tuition tuition
      */
+    @Transactional
     public void createTuition(Tuition tuition) {
         try {
             if (isTuitionExists(tuition.getName()))
                 throw new TuitionAlreadyExistsException("Tuition already exists in DB");
             tuitionRepository.save(tuition);
+            eventPublisher.publishEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED, tuition));
         } catch (DataAccessException e) {
             throw new RegistrationServiceException("Failed to save tuition to DB for tuition id: {}" + tuition.getId(), e);
         }
     }
 
+    /**
+     * This method changes the given fields of a tuition. The update is checked against the version the change was
+     * based on, so a concurrent change is reported as a conflict instead of being overwritten, and only the changed
+     * columns are written.
+     *
+     * @param tuition    tuition
+     * @param requestDto tuition update request dto
+     * @return Tuition
+     */
+    @Transactional
+    public Tuition updateTuition(Tuition tuition, TuitionUpdateRequestDto requestDto) {
+        try {
+            if (!requestDto.getVersion().equals(tuition.getVersion()))
+                throw new VersionConflictException("Tuition of id: " + tuition.getId() + " is at version: " +
+                        tuition.getVersion());
+            if (requestDto.getName() != null && !requestDto.getName().equals(tuition.getName())) {
+                if (isTuitionExists(requestDto.getName()))
+                    throw new TuitionAlreadyExistsException("Tuition already exists in DB");
+                tuition.setName(requestDto.getName());
+            }
+            if (requestDto.getLocation() != null)
+                tuition.setLocation(requestDto.getLocation());
+            Tuition updatedTuition = tuitionRepository.saveAndFlush(tuition);
+            eventPublisher.publishEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_UPDATED,
+                    updatedTuition));
+            return updatedTuition;
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Tuition of id: " + tuition.getId() + " was changed concurrently", e);
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to update tuition of id: " + tuition.getId(), e);
+        }
+    }
+
     /**
      * This method finds a tuition by id
      *
@@ -67,19 +112,44 @@ public class TuitionService {
     }
 
     /**
-     * This method deletes a tuition
+     * This method returns the tuition of the given ids
+     *
+     * @param tuitionIds tuition ids
+     * @return tuition by id, for the tuition that exist
+     */
+    public Map<String, Tuition> findAllById(Collection<String> tuitionIds) {
+        try {
+            Map<String, Tuition> tuitionMap = new HashMap<>();
+            for (Tuition tuition : tuitionRepository.findByIdIn(new HashSet<>(tuitionIds))) {
+                tuitionMap.put(tuition.getId(), tuition);
+            }
+            return tuitionMap;
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to read tuition by ids", e);
+        }
+    }
+
+    /**
+     * This method deletes a tuition. In soft delete mode the tuition is only marked deleted, which hides it from
+     * all reads, and unenrolling its students, the payment cascade and the row delete are left to the purger.
      *
      * @param tuition tuition
      */
     @Transactional
     public void deleteTuition(Tuition tuition) {
         try {
-            Set<Student> students = tuition.getStudents();
-            for (Student s : students) {
-                studentService.removeStudentFromTuition(s);
+            if (softDelete) {
+                tuition.setDeletedOn(new Date());
+                tuitionRepository.save(tuition);
+            } else {
+                Set<Student> students = tuition.getStudents();
+                for (Student s : students) {
+                    studentService.removeStudentFromTuition(s);
+                }
+                paymentService.deleteByTuitionId(tuition.getId());
+                tuitionRepository.delete(tuition);
             }
-            paymentService.deleteByTuitionId(tuition.getId());
-            tuitionRepository.delete(tuition);
+            eventPublisher.publishEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_DELETED, tuition));
         } catch (DataAccessException | IOException e) {
             throw new RegistrationServiceException("Failed to delete tuition of id: " + tuition.getId(), e);
         }
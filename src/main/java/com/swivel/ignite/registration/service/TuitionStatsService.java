@@ -0,0 +1,348 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.entity.TuitionStats;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.repository.TuitionStatsRepository;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import com.swivel.ignite.registration.service.stats.LocationStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tuition Stats Service
+ * <p>
+ * Keeps the enrollment count of every tuition and the tuition and student totals of every location in memory, so
+ * reading them never touches the database. The tuition_stats table holds the counts shared by all nodes. Every node
+ * applies its registration events to its counters once the change is committed and keeps them as deltas, which are
+ * periodically added to the table with atomic updates. The counters are then re-read from the table, so the changes
+ * of the other nodes are seen within the persist interval. A reconciliation job recounts from the student table to
+ * fix any drift (e.g. from changes made outside the service).
+ */
+@Service
+@Slf4j
+public class TuitionStatsService {
+
+    private final TuitionStatsRepository tuitionStatsRepository;
+    private final TuitionRepository tuitionRepository;
+    private final StudentRepository studentRepository;
+    private final Map<String, TuitionStats> tuitionStatsMap = new ConcurrentHashMap<>();
+    private final Map<String, LocationStats> locationStatsMap = new ConcurrentHashMap<>();
+    private final Map<String, String> createdTuitionLocations = new HashMap<>();
+    private final Map<String, String> movedTuitionLocations = new HashMap<>();
+    private final Map<String, Long> studentCountDeltas = new HashMap<>();
+    private final Set<String> deletedTuitionIds = new HashSet<>();
+
+    @Autowired
+    public TuitionStatsService(TuitionStatsRepository tuitionStatsRepository, TuitionRepository tuitionRepository,
+                               StudentRepository studentRepository) {
+        this.tuitionStatsRepository = tuitionStatsRepository;
+        this.tuitionRepository = tuitionRepository;
+        this.studentRepository = studentRepository;
+    }
+
+    /**
+     * This method returns the stats of a tuition
+     *
+     * @param tuitionId tuition id
+     * @return TuitionStats
+     */
+    public TuitionStats getTuitionStats(String tuitionId) {
+        TuitionStats tuitionStats = tuitionStatsMap.get(tuitionId);
+        if (tuitionStats == null)
+            throw new TuitionNotFoundException("Tuition stats not found for tuition id: " + tuitionId);
+        return tuitionStats;
+    }
+
+    /**
+     * This method returns the stats of all tuition
+     *
+     * @return list of tuition stats
+     */
+    public List<TuitionStats> getAllTuitionStats() {
+        return new ArrayList<>(tuitionStatsMap.values());
+    }
+
+    /**
+     * This method returns the totals of all locations
+     *
+     * @return list of location stats
+     */
+    public List<LocationStats> getLocationStats() {
+        return new ArrayList<>(locationStatsMap.values());
+    }
+
+    /**
+     * This method applies a registration event to the counters after its transaction commits, or immediately when
+     * published outside a transaction
+     *
+     * @param event registration event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRegistrationEvent(RegistrationEvent event) {
+        switch (event.getType()) {
+            case TUITION_CREATED:
+                if (!tuitionStatsMap.containsKey(event.getTuitionId())) {
+                    putTuitionStats(new TuitionStats(event.getTuitionId(), event.getLocation(), 0));
+                    createdTuitionLocations.put(event.getTuitionId(), event.getLocation());
+                    deletedTuitionIds.remove(event.getTuitionId());
+                }
+                break;
+            case TUITION_UPDATED:
+                if (moveTuitionStats(event.getTuitionId(), event.getLocation()))
+                    movedTuitionLocations.put(event.getTuitionId(), event.getLocation());
+                break;
+            case TUITION_DELETED:
+                if (removeTuitionStats(event.getTuitionId()) != null) {
+                    createdTuitionLocations.remove(event.getTuitionId());
+                    movedTuitionLocations.remove(event.getTuitionId());
+                    studentCountDeltas.remove(event.getTuitionId());
+                    deletedTuitionIds.add(event.getTuitionId());
+                }
+                break;
+            case STUDENT_ENROLLED:
+                addStudents(event.getTuitionId(), 1);
+                break;
+            case STUDENT_REMOVED:
+                addStudents(event.getTuitionId(), -1);
+                break;
+            case STUDENT_DELETED:
+                if (event.getTuitionId() != null)
+                    addStudents(event.getTuitionId(), -1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * This method loads the persisted stats on startup, reconciling when there are none
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStats() {
+        try {
+            List<TuitionStats> persistedStats = tuitionStatsRepository.findAll();
+            if (persistedStats.isEmpty()) {
+                reconcileStats();
+                return;
+            }
+            replaceStats(persistedStats);
+            log.info("Loaded stats of {} tuition", persistedStats.size());
+        } catch (DataAccessException | RegistrationServiceException e) {
+            log.error("Failed to load tuition stats from DB", e);
+        }
+    }
+
+    /**
+     * This method adds the local changes to the shared counters in the DB and re-reads them, picking up the changes
+     * of the other nodes
+     */
+    @Scheduled(fixedDelayString = "${registration.stats.persistIntervalMs}")
+    public void persistStats() {
+        if (!writeChanges())
+            return;
+        try {
+            replaceStats(tuitionStatsRepository.findAll());
+        } catch (DataAccessException e) {
+            log.error("Failed to read tuition stats from DB", e);
+        }
+    }
+
+    /**
+     * This method recounts the stats of all tuition from the DB and replaces the shared counters. A delta another
+     * node writes between the recount and the replacement of its counter is lost until the next reconciliation.
+     */
+    @Scheduled(cron = "${registration.stats.reconcileCron}")
+    public void reconcileStats() {
+        try {
+            // the local deltas are of committed changes, so the recount has them
+            writeChanges();
+            List<Tuition> tuitionList = tuitionRepository.findAll();
+            Map<String, Long> studentCounts = new HashMap<>();
+            for (TuitionStudentCount count : studentRepository.countGroupByTuitionId()) {
+                studentCounts.put(count.getTuitionId(), count.getStudentCount());
+            }
+            Map<String, TuitionStats> previousStats = new HashMap<>();
+            for (TuitionStats tuitionStats : tuitionStatsRepository.findAll()) {
+                previousStats.put(tuitionStats.getTuitionId(), tuitionStats);
+            }
+            int drifted = 0;
+            List<TuitionStats> reconciledStats = new ArrayList<>();
+            for (Tuition tuition : tuitionList) {
+                long studentCount = studentCounts.getOrDefault(tuition.getId(), 0L);
+                TuitionStats previous = previousStats.remove(tuition.getId());
+                if (previous == null || previous.getStudentCount() != studentCount)
+                    drifted++;
+                reconciledStats.add(new TuitionStats(tuition.getId(), tuition.getLocation(), studentCount));
+            }
+            Set<String> staleIds = previousStats.keySet();
+            drifted += staleIds.size();
+            tuitionStatsRepository.saveAll(reconciledStats);
+            if (!staleIds.isEmpty())
+                tuitionStatsRepository.deleteByTuitionIdIn(staleIds);
+            replaceStats(reconciledStats);
+            log.info("Reconciled stats of {} tuition, {} counters drifted", tuitionList.size(), drifted);
+        } catch (DataAccessException e) {
+            throw new RegistrationServiceException("Failed to reconcile tuition stats", e);
+        }
+    }
+
+    /**
+     * This method writes the local changes to the DB. The student counts are written as deltas, so the changes
+     * written by the other nodes are kept. Changes that failed to be written are kept for the next run.
+     *
+     * @return true if the changes are written/ false if not
+     */
+    private boolean writeChanges() {
+        Map<String, String> createdLocations;
+        Map<String, String> movedLocations;
+        Map<String, Long> deltas;
+        Set<String> deletedIds;
+        synchronized (this) {
+            createdLocations = new HashMap<>(createdTuitionLocations);
+            movedLocations = new HashMap<>(movedTuitionLocations);
+            deltas = new HashMap<>(studentCountDeltas);
+            deletedIds = new HashSet<>(deletedTuitionIds);
+            createdTuitionLocations.clear();
+            movedTuitionLocations.clear();
+            studentCountDeltas.clear();
+            deletedTuitionIds.clear();
+        }
+        boolean deltasWritten = false;
+        try {
+            createdLocations.forEach(tuitionStatsRepository::insertIfMissing);
+            movedLocations.forEach(tuitionStatsRepository::updateLocation);
+            if (!deltas.isEmpty())
+                tuitionStatsRepository.addStudentCounts(deltas);
+            deltasWritten = true;
+            if (!deletedIds.isEmpty())
+                tuitionStatsRepository.deleteByTuitionIdIn(deletedIds);
+            log.debug("Persisted stats of {} new tuition, counts of {} tuition and removed stats of {} tuition",
+                    createdLocations.size(), deltas.size(), deletedIds.size());
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Failed to persist tuition stats to DB", e);
+            synchronized (this) {
+                // the deltas are written in one transaction, so they are kept only when none of them was written
+                createdLocations.forEach(createdTuitionLocations::putIfAbsent);
+                movedLocations.forEach(movedTuitionLocations::putIfAbsent);
+                if (!deltasWritten)
+                    deltas.forEach((tuitionId, delta) -> studentCountDeltas.merge(tuitionId, delta, Long::sum));
+                deletedTuitionIds.addAll(deletedIds);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * This method replaces the counters by the given persisted stats, with the local changes not yet written applied
+     *
+     * @param persistedStats stats read from the DB
+     */
+    private synchronized void replaceStats(List<TuitionStats> persistedStats) {
+        tuitionStatsMap.clear();
+        locationStatsMap.clear();
+        for (TuitionStats tuitionStats : persistedStats) {
+            String tuitionId = tuitionStats.getTuitionId();
+            if (deletedTuitionIds.contains(tuitionId))
+                continue;
+            putTuitionStats(new TuitionStats(tuitionId,
+                    movedTuitionLocations.getOrDefault(tuitionId, tuitionStats.getLocation()),
+                    tuitionStats.getStudentCount() + studentCountDeltas.getOrDefault(tuitionId, 0L)));
+        }
+        createdTuitionLocations.forEach((tuitionId, location) -> {
+            if (!tuitionStatsMap.containsKey(tuitionId))
+                putTuitionStats(new TuitionStats(tuitionId, location, studentCountDeltas.getOrDefault(tuitionId, 0L)));
+        });
+    }
+
+    /**
+     * This method adds the stats of a tuition to the counters
+     *
+     * @param tuitionStats tuition stats
+     */
+    private void putTuitionStats(TuitionStats tuitionStats) {
+        tuitionStatsMap.put(tuitionStats.getTuitionId(), tuitionStats);
+        addLocationTotals(tuitionStats.getLocation(), 1, tuitionStats.getStudentCount());
+    }
+
+    /**
+     * This method removes the stats of a tuition from the counters
+     *
+     * @param tuitionId tuition id
+     * @return removed stats, null if the tuition has none
+     */
+    private TuitionStats removeTuitionStats(String tuitionId) {
+        TuitionStats tuitionStats = tuitionStatsMap.remove(tuitionId);
+        if (tuitionStats != null)
+            addLocationTotals(tuitionStats.getLocation(), -1, -tuitionStats.getStudentCount());
+        return tuitionStats;
+    }
+
+    /**
+     * This method moves the stats of a tuition to its new location
+     *
+     * @param tuitionId tuition id
+     * @param location  location of the tuition
+     * @return true if the stats moved/ false if the tuition has none or is already there
+     */
+    private boolean moveTuitionStats(String tuitionId, String location) {
+        TuitionStats tuitionStats = tuitionStatsMap.get(tuitionId);
+        if (tuitionStats == null || tuitionStats.getLocation().equals(location))
+            return false;
+        removeTuitionStats(tuitionId);
+        putTuitionStats(new TuitionStats(tuitionId, location, tuitionStats.getStudentCount()));
+        return true;
+    }
+
+    /**
+     * This method adds to the student count of a tuition and its location, and to the delta written to the DB
+     *
+     * @param tuitionId tuition id
+     * @param delta     number of students added, negative when removed
+     */
+    private void addStudents(String tuitionId, long delta) {
+        if (tuitionId == null || deletedTuitionIds.contains(tuitionId))
+            return;
+        // the tuition may be created on another node and not read yet, the delta is written to its stats anyway
+        studentCountDeltas.merge(tuitionId, delta, Long::sum);
+        TuitionStats tuitionStats = tuitionStatsMap.get(tuitionId);
+        if (tuitionStats == null) {
+            log.debug("No stats for tuition of id: {}, counting the change on the next read", tuitionId);
+            return;
+        }
+        tuitionStatsMap.put(tuitionId, new TuitionStats(tuitionId, tuitionStats.getLocation(),
+                tuitionStats.getStudentCount() + delta));
+        addLocationTotals(tuitionStats.getLocation(), 0, delta);
+    }
+
+    /**
+     * This method adds to the totals of a location, dropping the location once it has no tuition
+     *
+     * @param location          location
+     * @param tuitionCountDelta number of tuition added
+     * @param studentCountDelta number of students added
+     */
+    private void addLocationTotals(String location, long tuitionCountDelta, long studentCountDelta) {
+        LocationStats locationStats = locationStatsMap.get(location);
+        long tuitionCount = (locationStats != null ? locationStats.getTuitionCount() : 0) + tuitionCountDelta;
+        long studentCount = (locationStats != null ? locationStats.getStudentCount() : 0) + studentCountDelta;
+        if (tuitionCount <= 0)
+            locationStatsMap.remove(location);
+        else
+            locationStatsMap.put(location, new LocationStats(location, tuitionCount, studentCount));
+    }
+}
@@ -0,0 +1,180 @@
+package com.swivel.ignite.registration.service.bloom;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Counting Bloom filter of strings.
+ * <p>
+ * Every string increments one byte counter at each of its {@code k} positions, so it can be removed again by
+ * decrementing them. {@link #mightContain(String)} never answers false for a string that was added and not
+ * removed, and answers true for other strings with about the configured false positive rate. A counter that
+ * reaches 255 stays there, which only keeps a few extra positives. The positions come from one 64-bit hash split
+ * into two 32-bit hashes combined as {@code h1 + i * h2}.
+ */
+public class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 0xFF;
+    private static final double LN2 = Math.log(2);
+    private final byte[] counters;
+    private final int hashCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long size;
+    private int nonZeroCounters;
+
+    /**
+     * @param expectedInsertions number of strings the filter is sized for
+     * @param falsePositiveRate  target false positive rate at the expected number of strings
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long counterCount = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.counters = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(64, counterCount))];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / insertions * LN2));
+    }
+
+    /**
+     * This method adds a string
+     *
+     * @param value string
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                int count = counters[index] & MAX_COUNT;
+                if (count == 0)
+                    nonZeroCounters++;
+                if (count < MAX_COUNT)
+                    counters[index] = (byte) (count + 1);
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method removes a string that was added before. Removing a string that was not added can drop other
+     * strings, so callers only remove what they added.
+     *
+     * @param value string
+     */
+    public void remove(String value) {
+        long hash = hash(value);
+        lock.writeLock().lock();
+        try {
+            if (!containsLocked(hash))
+                return;
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                int count = counters[index] & MAX_COUNT;
+                if (count < MAX_COUNT) {
+                    counters[index] = (byte) (count - 1);
+                    if (count == 1)
+                        nonZeroCounters--;
+                }
+            }
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method checks a string might have been added
+     *
+     * @param value string
+     * @return false if the string was definitely not added/ true if it might have been
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        lock.readLock().lock();
+        try {
+            return containsLocked(hash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method returns the number of strings added and not removed
+     *
+     * @return size
+     */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method estimates the current false positive rate from the share of non zero counters
+     *
+     * @return estimated false positive rate
+     */
+    public double estimateFalsePositiveRate() {
+        lock.readLock().lock();
+        try {
+            return Math.pow((double) nonZeroCounters / counters.length, hashCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method returns the number of counters
+     *
+     * @return number of counters
+     */
+    public int getCounterCount() {
+        return counters.length;
+    }
+
+    /**
+     * This method returns the number of positions per string
+     *
+     * @return number of hashes
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private boolean containsLocked(long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[index(hash, i)] == 0)
+                return false;
+        }
+        return true;
+    }
+
+    private int index(long hash, int i) {
+        int combinedHash = (int) hash + i * (int) (hash >>> 32);
+        return (combinedHash & Integer.MAX_VALUE) % counters.length;
+    }
+
+    /**
+     * This method returns the 64-bit FNV-1a hash of a string with a final avalanche mix
+     *
+     * @param value string
+     * @return hash
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
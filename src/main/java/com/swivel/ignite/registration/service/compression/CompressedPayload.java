@@ -0,0 +1,25 @@
+package com.swivel.ignite.registration.service.compression;
+
+import lombok.Getter;
+
+/**
+ * Compressed response body kept with the body it was compressed from, so it is only reused for the same body
+ */
+@Getter
+public class CompressedPayload {
+
+    private final byte[] body;
+    private final byte[] compressedBody;
+    private final ContentCoding coding;
+
+    /**
+     * @param body           uncompressed body
+     * @param compressedBody compressed body
+     * @param coding         content coding
+     */
+    public CompressedPayload(byte[] body, byte[] compressedBody, ContentCoding coding) {
+        this.body = body;
+        this.compressedBody = compressedBody;
+        this.coding = coding;
+    }
+}
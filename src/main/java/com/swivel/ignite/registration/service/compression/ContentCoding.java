@@ -0,0 +1,76 @@
+package com.swivel.ignite.registration.service.compression;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings a response can be compressed with, in the order of preference at an equal quality. A new coding,
+ * e.g. br with a Brotli encoder on the classpath, is added here and negotiated like the others.
+ */
+@Getter
+public enum ContentCoding {
+
+    GZIP("gzip") {
+        @Override
+        protected OutputStream wrap(OutputStream out, int level) throws IOException {
+            return new GZIPOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        protected OutputStream wrap(OutputStream out, int level) {
+            // the stream's own deflater is ended on close, unlike one passed in
+            return new DeflaterOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    };
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * This method returns the coding of an Accept-Encoding/ Content-Encoding token
+     *
+     * @param token coding token
+     * @return content coding/ null if it is not supported
+     */
+    public static ContentCoding fromToken(String token) {
+        for (ContentCoding coding : values()) {
+            if (coding.token.equalsIgnoreCase(token))
+                return coding;
+        }
+        return null;
+    }
+
+    /**
+     * This method compresses bytes
+     *
+     * @param body  bytes
+     * @param level deflate level from 1 (fastest) to 9 (smallest)
+     * @return compressed bytes
+     */
+    public byte[] compress(byte[] body, int level) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = wrap(compressed, level)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    protected abstract OutputStream wrap(OutputStream out, int level) throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.swivel.ignite.registration.service.idempotency;
+
+import lombok.Getter;
+
+/**
+ * First response of a request sent with an idempotency key, replayed for its retries
+ */
+@Getter
+public class IdempotentResponse {
+
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+    private final long createdAt;
+
+    /**
+     * @param fingerprint method, path and body hash of the request
+     * @param status      response status
+     * @param contentType response content type/ null
+     * @param body        response body
+     * @param createdAt   time the response was stored
+     */
+    public IdempotentResponse(String fingerprint, int status, String contentType, byte[] body, long createdAt) {
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+}
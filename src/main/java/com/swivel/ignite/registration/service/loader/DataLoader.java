@@ -0,0 +1,83 @@
+package com.swivel.ignite.registration.service.loader;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Request scoped batching loader.
+ * <p>
+ * Keys are queued with {@link #load(Object)} while a response is being resolved and loaded together with a single
+ * call of the batch function on {@link #dispatch()}. Loaded values, including misses, are cached so every key is
+ * fetched at most once per loader.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class DataLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final Map<K, V> cache = new HashMap<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+    private int dispatchCount;
+
+    /**
+     * @param batchFunction loads the values of a set of keys, omitting keys that don't exist
+     */
+    public DataLoader(Function<Set<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * This method queues a key to be loaded on the next dispatch
+     *
+     * @param key key
+     */
+    public void load(K key) {
+        if (key != null && !cache.containsKey(key))
+            pending.add(key);
+    }
+
+    /**
+     * This method queues keys to be loaded on the next dispatch
+     *
+     * @param keys keys
+     */
+    public void loadAll(Collection<K> keys) {
+        for (K key : keys) {
+            load(key);
+        }
+    }
+
+    /**
+     * This method loads all queued keys with one call of the batch function
+     */
+    public void dispatch() {
+        if (pending.isEmpty())
+            return;
+        Map<K, V> loaded = batchFunction.apply(new HashSet<>(pending));
+        for (K key : pending) {
+            cache.put(key, loaded.get(key));
+        }
+        pending.clear();
+        dispatchCount++;
+    }
+
+    /**
+     * This method returns the loaded value of a key
+     *
+     * @param key key
+     * @return value/ null if the key doesn't exist or was not loaded
+     */
+    public V get(K key) {
+        return key != null ? cache.get(key) : null;
+    }
+
+    /**
+     * This method returns the number of batch function calls made by this loader
+     *
+     * @return dispatch count
+     */
+    public int getDispatchCount() {
+        return dispatchCount;
+    }
+}
@@ -0,0 +1,169 @@
+package com.swivel.ignite.registration.service.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter keyed by an arbitrary string.
+ * <p>
+ * Every key has a bucket of {@code capacity} tokens refilled continuously at {@code refillPerMinute}; a request
+ * takes one token or is throttled. The buckets are split over a fixed number of stripes, each a small LRU map
+ * guarded by its own lock, so concurrent requests for different keys rarely contend. Memory is bounded by the
+ * number of stripes times the keys kept per stripe: a full stripe drops its least recently used bucket, and idle
+ * buckets, which would be full again anyway, are swept by {@link #evictIdle(long)}.
+ */
+public class TokenBucketLimiter {
+
+    private final Stripe[] stripes;
+    private final int capacity;
+    private final double refillPerNano;
+
+    /**
+     * @param capacity         max tokens of a bucket, the allowed burst
+     * @param refillPerMinute  tokens added to a bucket per minute
+     * @param stripeCount      number of stripes, rounded up to a power of two
+     * @param maxKeysPerStripe max buckets kept per stripe
+     */
+    public TokenBucketLimiter(int capacity, double refillPerMinute, int stripeCount, int maxKeysPerStripe) {
+        int size = stripeCount > 1 ? Integer.highestOneBit(stripeCount - 1) << 1 : 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+    }
+
+    /**
+     * This method takes a token from the bucket of a key
+     *
+     * @param key key
+     * @return true if the request is allowed/ false if it is throttled
+     */
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    /**
+     * This method takes a token from the bucket of a key at the given time
+     *
+     * @param key      key
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return true if the request is allowed/ false if it is throttled
+     */
+    public boolean tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, nowNanos);
+                stripe.buckets.put(key, bucket);
+            } else {
+                refill(bucket, nowNanos);
+            }
+            if (bucket.tokens < 1)
+                return false;
+            bucket.tokens--;
+            return true;
+        }
+    }
+
+    /**
+     * This method drops the buckets not used for the given time
+     *
+     * @param idleNanos idle time
+     * @return number of dropped buckets
+     */
+    public int evictIdle(long idleNanos) {
+        return evictIdle(idleNanos, System.nanoTime());
+    }
+
+    /**
+     * This method drops the buckets not used for the given time before the given time
+     *
+     * @param idleNanos idle time
+     * @param nowNanos  current {@link System#nanoTime()}
+     * @return number of dropped buckets
+     */
+    public int evictIdle(long idleNanos, long nowNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // access ordered, so the idle buckets come first
+                Iterator<Bucket> iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext() && nowNanos - iterator.next().lastRefillNanos >= idleNanos) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * This method returns the number of buckets kept
+     *
+     * @return number of buckets
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * This method adds the tokens earned since the last refill, up to the capacity
+     *
+     * @param bucket   bucket
+     * @param nowNanos current time
+     */
+    private void refill(Bucket bucket, long nowNanos) {
+        long elapsedNanos = nowNanos - bucket.lastRefillNanos;
+        if (elapsedNanos > 0) {
+            bucket.tokens = Math.min(capacity, bucket.tokens + elapsedNanos * refillPerNano);
+            bucket.lastRefillNanos = nowNanos;
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Stripe of the bucket map with its own lock
+     */
+    private static final class Stripe {
+
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    /**
+     * Tokens of a key
+     */
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.swivel.ignite.registration.service.search;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Page of tuition search results with the total number of matches
+ */
+@Getter
+public class SearchPage {
+
+    private final long total;
+    private final List<Tuition> tuitionList;
+
+    public SearchPage(long total, List<Tuition> tuitionList) {
+        this.total = total;
+        this.tuitionList = tuitionList;
+    }
+}
@@ -0,0 +1,120 @@
+package com.swivel.ignite.registration.service.search;
+
+import com.swivel.ignite.registration.dto.request.StudentSearchRequestDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.exception.InvalidCursorException;
+import com.swivel.ignite.registration.repository.StudentSpecifications;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset cursor of the student search.
+ * <p>
+ * The search is ordered by the column of the index that serves its most selective filter, with the id as tie
+ * breaker, so every page is an index range scan. A cursor is the base64url encoding of the order and the
+ * (column value, id) of the last student of a page.
+ */
+public final class StudentSearchCursor {
+
+    private static final char SEPARATOR = '\n';
+
+    private StudentSearchCursor() {
+    }
+
+    /**
+     * Search orders, each matching one of the student indexes
+     */
+    @Getter
+    public enum Order {
+
+        ID(Sort.by("id")),
+        NAME(Sort.by("name", "id")),
+        JOINED_ON(Sort.by("tuitionJoinedOn", "id"));
+
+        private final Sort sort;
+
+        Order(Sort sort) {
+            this.sort = sort;
+        }
+    }
+
+    /**
+     * This method returns the order of a search: the roster order when filtering by tuition, otherwise the order
+     * of the name or joined date filter
+     *
+     * @param requestDto student search request dto
+     * @return Order
+     */
+    public static Order orderOf(StudentSearchRequestDto requestDto) {
+        if (requestDto.getTuitionId() != null)
+            return Order.ID;
+        if (requestDto.getName() != null)
+            return Order.NAME;
+        if (requestDto.getJoinedFrom() != null || requestDto.getJoinedTo() != null)
+            return Order.JOINED_ON;
+        return Order.ID;
+    }
+
+    /**
+     * This method returns the cursor after a student
+     *
+     * @param order   search order
+     * @param student last student of a page
+     * @return cursor
+     */
+    public static String encode(Order order, Student student) {
+        String value;
+        switch (order) {
+            case NAME:
+                value = student.getName();
+                break;
+            case JOINED_ON:
+                value = String.valueOf(student.getTuitionJoinedOn().getTime());
+                break;
+            default:
+                value = "";
+                break;
+        }
+        String cursor = order.name() + SEPARATOR + value + SEPARATOR + student.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method returns the keyset filter of the students after a cursor
+     *
+     * @param order  search order
+     * @param cursor cursor
+     * @return Specification
+     */
+    public static Specification<Student> after(Order order, String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid base64", e);
+        }
+        int valueStart = decoded.indexOf(SEPARATOR);
+        int idStart = decoded.lastIndexOf(SEPARATOR);
+        if (valueStart < 0 || valueStart == idStart || !order.name().equals(decoded.substring(0, valueStart)))
+            throw new InvalidCursorException("Cursor doesn't belong to a search in " + order + " order");
+        String value = decoded.substring(valueStart + 1, idStart);
+        String id = decoded.substring(idStart + 1);
+        switch (order) {
+            case NAME:
+                return StudentSpecifications.nameAfter(value, id);
+            case JOINED_ON:
+                try {
+                    return StudentSpecifications.joinedOnAfter(new Date(Long.parseLong(value)), id);
+                } catch (NumberFormatException e) {
+                    throw new InvalidCursorException("Cursor has an invalid joined date", e);
+                }
+            default:
+                return StudentSpecifications.idAfter(id);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.swivel.ignite.registration.service.search;
+
+import com.swivel.ignite.registration.entity.Student;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Page of student search results with the cursor of the next page
+ */
+@Getter
+public class StudentSearchPage {
+
+    private final List<Student> students;
+    private final String nextCursor;
+
+    public StudentSearchPage(List<Student> students, String nextCursor) {
+        this.students = students;
+        this.nextCursor = nextCursor;
+    }
+}
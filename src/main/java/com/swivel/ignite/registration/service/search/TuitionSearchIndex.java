@@ -0,0 +1,237 @@
+package com.swivel.ignite.registration.service.search;
+
+import com.swivel.ignite.registration.entity.Tuition;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory n-gram index over tuition names and locations.
+ * <p>
+ * Every substring of up to {@link #MAX_GRAM_LENGTH} characters of the lower cased name and location is mapped to
+ * the ids of the tuition containing it. A query is answered by intersecting the postings of its grams, starting
+ * from the smallest, and verifying the remaining candidates with a substring check, so lookups don't depend on the
+ * size of the catalog. Matches are ranked by where the query matches: exact name, name prefix, name word prefix,
+ * name substring, location prefix and location substring.
+ */
+public class TuitionSearchIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+    private final Map<String, Tuition> tuitionMap = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * This method adds or replaces a tuition in the index
+     *
+     * @param tuitionId tuition id
+     * @param name      tuition name
+     * @param location  tuition location
+     */
+    public void add(String tuitionId, String name, String location) {
+        Tuition tuition = new Tuition();
+        tuition.setId(tuitionId);
+        tuition.setName(name);
+        tuition.setLocation(location);
+        lock.writeLock().lock();
+        try {
+            removeLocked(tuitionId);
+            tuitionMap.put(tuitionId, tuition);
+            for (String gram : grams(tuition)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(tuitionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method removes a tuition from the index
+     *
+     * @param tuitionId tuition id
+     */
+    public void remove(String tuitionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(tuitionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method replaces the content of the index with the given tuition
+     *
+     * @param tuitionList tuition list
+     */
+    public void rebuild(List<Tuition> tuitionList) {
+        lock.writeLock().lock();
+        try {
+            tuitionMap.clear();
+            postings.clear();
+            for (Tuition tuition : tuitionList) {
+                add(tuition.getId(), tuition.getName(), tuition.getLocation());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method returns a page of the tuition matching a query, best match first
+     *
+     * @param query  query
+     * @param offset number of matches to skip
+     * @param limit  page size
+     * @return search page
+     */
+    public SearchPage search(String query, int offset, int limit) {
+        String normalizedQuery = normalize(query);
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String tuitionId : candidates(normalizedQuery)) {
+                Tuition tuition = tuitionMap.get(tuitionId);
+                int rank = rank(tuition, normalizedQuery);
+                if (rank >= 0)
+                    matches.add(new Match(tuition, rank));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt((Match match) -> match.rank)
+                .thenComparing(match -> match.tuition.getName())
+                .thenComparing(match -> match.tuition.getId()));
+        List<Tuition> page = new ArrayList<>();
+        for (int i = offset; i < Math.min((long) offset + limit, matches.size()); i++) {
+            page.add(matches.get(i).tuition);
+        }
+        return new SearchPage(matches.size(), page);
+    }
+
+    /**
+     * This method returns the number of indexed tuition
+     *
+     * @return size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tuitionMap.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method ranks a tuition for a query, lower is better
+     *
+     * @param tuition         tuition
+     * @param normalizedQuery normalized query
+     * @return rank/ -1 if the tuition doesn't match
+     */
+    public static int rank(Tuition tuition, String normalizedQuery) {
+        String name = normalize(tuition.getName());
+        String location = normalize(tuition.getLocation());
+        if (name.equals(normalizedQuery))
+            return 0;
+        if (name.startsWith(normalizedQuery))
+            return 1;
+        if (name.contains(" " + normalizedQuery))
+            return 2;
+        if (name.contains(normalizedQuery))
+            return 3;
+        if (location.startsWith(normalizedQuery))
+            return 4;
+        if (location.contains(normalizedQuery))
+            return 5;
+        return -1;
+    }
+
+    /**
+     * This method lower cases and trims a text
+     *
+     * @param text text
+     * @return normalized text
+     */
+    public static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * This method returns the ids of the tuition containing every gram of the query
+     *
+     * @param normalizedQuery normalized query
+     * @return candidate tuition ids
+     */
+    private Set<String> candidates(String normalizedQuery) {
+        int gramLength = Math.min(MAX_GRAM_LENGTH, normalizedQuery.length());
+        if (gramLength == 0)
+            return Collections.emptySet();
+        List<Set<String>> gramPostings = new ArrayList<>();
+        for (int i = 0; i + gramLength <= normalizedQuery.length(); i++) {
+            Set<String> tuitionIds = postings.get(normalizedQuery.substring(i, i + gramLength));
+            if (tuitionIds == null)
+                return Collections.emptySet();
+            gramPostings.add(tuitionIds);
+        }
+        gramPostings.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>(gramPostings.get(0));
+        for (int i = 1; i < gramPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(gramPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * This method removes a tuition from the index, the write lock must be held
+     *
+     * @param tuitionId tuition id
+     */
+    private void removeLocked(String tuitionId) {
+        Tuition tuition = tuitionMap.remove(tuitionId);
+        if (tuition == null)
+            return;
+        for (String gram : grams(tuition)) {
+            Set<String> tuitionIds = postings.get(gram);
+            if (tuitionIds != null) {
+                tuitionIds.remove(tuitionId);
+                if (tuitionIds.isEmpty())
+                    postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * This method returns all grams of the name and location of a tuition
+     *
+     * @param tuition tuition
+     * @return grams
+     */
+    private static Set<String> grams(Tuition tuition) {
+        Set<String> grams = new HashSet<>();
+        for (String text : Arrays.asList(normalize(tuition.getName()), normalize(tuition.getLocation()))) {
+            for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+                for (int i = 0; i + length <= text.length(); i++) {
+                    grams.add(text.substring(i, i + length));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Ranked match of a search
+     */
+    private static class Match {
+
+        private final Tuition tuition;
+        private final int rank;
+
+        private Match(Tuition tuition, int rank) {
+            this.tuition = tuition;
+            this.rank = rank;
+        }
+    }
+}
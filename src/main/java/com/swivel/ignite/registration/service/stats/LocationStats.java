@@ -0,0 +1,20 @@
+package com.swivel.ignite.registration.service.stats;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of the tuition and student totals of a location
+ */
+@Getter
+public class LocationStats {
+
+    private final String location;
+    private final long tuitionCount;
+    private final long studentCount;
+
+    public LocationStats(String location, long tuitionCount, long studentCount) {
+        this.location = location;
+        this.tuitionCount = tuitionCount;
+        this.studentCount = studentCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.swivel.ignite.registration.service.token;
+
+import lombok.Getter;
+
+/**
+ * Signed session token of a logged in student
+ */
+@Getter
+public class SessionToken {
+
+    private final String value;
+    private final String tokenId;
+    private final String studentId;
+    private final String keyId;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    /**
+     * @param value     encoded and signed token
+     * @param tokenId   random token id, used to revoke the token
+     * @param studentId student id
+     * @param keyId     id of the signing key
+     * @param issuedAt  time the token was issued
+     * @param expiresAt time the token expires
+     */
+    public SessionToken(String value, String tokenId, String studentId, String keyId, long issuedAt,
+                        long expiresAt) {
+        this.value = value;
+        this.tokenId = tokenId;
+        this.studentId = studentId;
+        this.keyId = keyId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.swivel.ignite.registration.wrapper;
+
+import com.swivel.ignite.registration.dto.response.CompactErrorResponseDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.ResponseStatusType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Error responses
+ * <p>
+ * The error response of an error status is fully determined by the status, so the response of every status is
+ * built and encoded to json once, and the controllers, the exception handler and the filters share them instead of
+ * building and serializing a new wrapper per error. The compact error of the v2 api is kept the same way.
+ */
+public final class ErrorResponses {
+
+    public static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
+    private static final Map<ErrorResponseStatusType, ErrorResponseWrapper> WRAPPERS =
+            new EnumMap<>(ErrorResponseStatusType.class);
+    private static final Map<ErrorResponseStatusType, byte[]> ENCODED_WRAPPERS =
+            new EnumMap<>(ErrorResponseStatusType.class);
+    private static final Map<Integer, CompactErrorResponseDto> COMPACT_ERRORS = new HashMap<>();
+    private static final Map<ErrorResponseStatusType, byte[]> ENCODED_COMPACT_ERRORS =
+            new EnumMap<>(ErrorResponseStatusType.class);
+
+    static {
+        for (ErrorResponseStatusType status : ErrorResponseStatusType.values()) {
+            ErrorResponseWrapper wrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, status.getMessage(),
+                    null, ERROR_MESSAGE, status.getCode());
+            WRAPPERS.put(status, wrapper);
+            ENCODED_WRAPPERS.put(status, wrapper.toJson().getBytes(StandardCharsets.UTF_8));
+            CompactErrorResponseDto compactError = new CompactErrorResponseDto(status.getCode(),
+                    status.getMessage());
+            COMPACT_ERRORS.put(status.getCode(), compactError);
+            ENCODED_COMPACT_ERRORS.put(status, compactError.toJson().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * This method returns the shared error response wrapper of an error status
+     *
+     * @param status error status
+     * @return error response wrapper
+     */
+    public static ErrorResponseWrapper getWrapper(ErrorResponseStatusType status) {
+        return WRAPPERS.get(status);
+    }
+
+    /**
+     * This method returns the shared compact error of an error code
+     *
+     * @param errorCode error code
+     * @return compact error/ null if the code is not of an error status
+     */
+    public static CompactErrorResponseDto getCompactError(int errorCode) {
+        return COMPACT_ERRORS.get(errorCode);
+    }
+
+    /**
+     * This method returns a response of the encoded error response of an error status. The body is shared, so it
+     * must only be written.
+     *
+     * @param httpStatus http status
+     * @param status     error status
+     * @return error response
+     */
+    public static ResponseEntity<byte[]> getResponse(HttpStatus httpStatus, ErrorResponseStatusType status) {
+        return getResponse(httpStatus, status, false);
+    }
+
+    /**
+     * This method returns a response of the encoded error response, or compact error, of an error status. The body
+     * is shared, so it must only be written.
+     *
+     * @param httpStatus http status
+     * @param status     error status
+     * @param compact    true for the compact error of the v2 api
+     * @return error response
+     */
+    public static ResponseEntity<byte[]> getResponse(HttpStatus httpStatus, ErrorResponseStatusType status,
+                                                     boolean compact) {
+        return ResponseEntity.status(httpStatus).contentType(MediaType.APPLICATION_JSON_UTF8)
+                .body(getEncoded(status, compact));
+    }
+
+    /**
+     * This method writes the encoded error response of an error status to a servlet response
+     *
+     * @param response   response
+     * @param httpStatus http status
+     * @param status     error status
+     */
+    public static void write(HttpServletResponse response, HttpStatus httpStatus, ErrorResponseStatusType status)
+            throws IOException {
+        write(response, httpStatus, status, false);
+    }
+
+    /**
+     * This method writes the encoded error response, or compact error, of an error status to a servlet response
+     *
+     * @param response   response
+     * @param httpStatus http status
+     * @param status     error status
+     * @param compact    true for the compact error of the v2 api
+     */
+    public static void write(HttpServletResponse response, HttpStatus httpStatus, ErrorResponseStatusType status,
+                             boolean compact) throws IOException {
+        byte[] body = getEncoded(status, compact);
+        response.setStatus(httpStatus.value());
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] getEncoded(ErrorResponseStatusType status, boolean compact) {
+        return compact ? ENCODED_COMPACT_ERRORS.get(status) : ENCODED_WRAPPERS.get(status);
+    }
+}
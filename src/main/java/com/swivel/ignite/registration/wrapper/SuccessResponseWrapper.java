@@ -2,12 +2,14 @@ package com.swivel.ignite.registration.wrapper;
 
 import com.swivel.ignite.registration.dto.response.ResponseDto;
 import com.swivel.ignite.registration.enums.ResponseStatusType;
+import com.swivel.ignite.registration.serializer.GenerateSerializer;
 import lombok.Getter;
 
 /**
  * Success response wrapper
  */
 @Getter
+@GenerateSerializer
 public class SuccessResponseWrapper extends ResponseWrapper {
 
     private final ResponseDto data;
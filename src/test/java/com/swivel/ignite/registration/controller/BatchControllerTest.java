@@ -0,0 +1,260 @@
+package com.swivel.ignite.registration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.ResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.filter.RateLimitFilter;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.wrapper.ErrorResponseWrapper;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class tests {@link BatchController} class
+ */
+class BatchControllerTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String BATCH_URI = "/api/v1/batch";
+    private static final int MAX_OPERATIONS = 3;
+    private static final String CREATE_AND_ENROLL_BATCH = "{\"transactional\":%s,\"operations\":[" +
+            "{\"id\":\"create\",\"type\":\"CREATE_STUDENT\",\"body\":{\"name\":\"Mohamed Nawaz\",\"password\":\"1\"}}," +
+            "{\"id\":\"add\",\"type\":\"ADD_STUDENT_TO_TUITION\"," +
+            "\"params\":{\"studentId\":\"${create.studentId}\",\"tuitionId\":\"" + TUITION_ID + "\"}}," +
+            "{\"type\":\"GET_STUDENT\",\"params\":{\"studentId\":\"${add.studentId}\"}}]}";
+    private static final String LOGIN_OPERATION = "{\"type\":\"LOGIN_STUDENT\"," +
+            "\"body\":{\"name\":\"Mohamed Nawaz\",\"password\":\"1\"}}";
+    private MockMvc mockMvc;
+    @Mock
+    private StudentController studentController;
+    @Mock
+    private TuitionController tuitionController;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private RateLimitService rateLimitService;
+    private final TransactionStatus transactionStatus = new SimpleTransactionStatus();
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(transactionStatus);
+        when(rateLimitService.tryAcquireClient(anyString())).thenReturn(true);
+        BatchController batchController = new BatchController(studentController, tuitionController,
+                transactionManager, new ObjectMapper(), rateLimitService, MAX_OPERATIONS);
+        mockMvc = MockMvcBuilders.standaloneSetup(batchController).build();
+    }
+
+    /**
+     * Start of tests for execute batch
+     * Api context: /api/v1/batch
+     */
+    @Test
+    void Should_ResolveReferencesAndCommit_When_ExecutingTransactionalBatchIsSuccessful() throws Exception {
+        when(studentController.createStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        when(studentController.addStudentToTuition(STUDENT_ID, TUITION_ID)).thenReturn(getSuccessResponse());
+        when(studentController.getStudentById(STUDENT_ID, null)).thenReturn(getSuccessResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(String.format(CREATE_AND_ENROLL_BATCH, true))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.EXECUTED_BATCH.getCode()))
+                .andExpect(jsonPath("$.data.transactional").value(true))
+                .andExpect(jsonPath("$.data.rolledBack").value(false))
+                .andExpect(jsonPath("$.data.results[0].id").value("create"))
+                .andExpect(jsonPath("$.data.results[1].httpStatus").value(200))
+                .andExpect(jsonPath("$.data.results[2].response.data.studentId").value(STUDENT_ID));
+        verify(transactionManager).commit(transactionStatus);
+        assertFalse(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    void Should_SkipRemainingAndRollback_When_ExecutingTransactionalBatchForFailedOperation() throws Exception {
+        when(studentController.createStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        when(studentController.addStudentToTuition(anyString(), anyString())).thenReturn(getErrorResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(String.format(CREATE_AND_ENROLL_BATCH, true))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rolledBack").value(true))
+                .andExpect(jsonPath("$.data.results[1].httpStatus").value(400))
+                .andExpect(jsonPath("$.data.results[1].response.errorCode").value(ErrorResponseStatusType
+                        .TUITION_NOT_FOUND.getCode()))
+                .andExpect(jsonPath("$.data.results[2].executed").value(false))
+                .andExpect(jsonPath("$.data.results[2].httpStatus").value(HttpStatus.FAILED_DEPENDENCY.value()));
+        verify(studentController, never()).getStudentById(anyString(), any());
+        assertTrue(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    void Should_ReturnErrorOfException_When_ExecutingBatchForOperationThrowingException() throws Exception {
+        when(studentController.createStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        when(studentController.addStudentToTuition(anyString(), anyString()))
+                .thenThrow(new TuitionNotFoundException(TUITION_ID));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(String.format(CREATE_AND_ENROLL_BATCH, true))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rolledBack").value(true))
+                .andExpect(jsonPath("$.data.results[1].httpStatus").value(400))
+                .andExpect(jsonPath("$.data.results[1].response.errorCode").value(ErrorResponseStatusType
+                        .TUITION_NOT_FOUND.getCode()));
+        assertTrue(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    void Should_ReturnInvalidReference_When_ExecutingBatchReferencingFailedOperation() throws Exception {
+        when(studentController.createStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        when(studentController.addStudentToTuition(anyString(), anyString())).thenReturn(getErrorResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(String.format(CREATE_AND_ENROLL_BATCH, false))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rolledBack").value(false))
+                .andExpect(jsonPath("$.data.results[2].httpStatus").value(400))
+                .andExpect(jsonPath("$.data.results[2].response.errorCode").value(ErrorResponseStatusType
+                        .INVALID_BATCH_REFERENCE.getCode()));
+        verify(transactionManager, never()).getTransaction(any(TransactionDefinition.class));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_ExecutingBatchForMissingRequiredParams() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content("{\"operations\":[{\"type\":\"GET_STUDENT\"}]}")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_ExecutingBatchForTooManyOperations() throws Exception {
+        String operation = "{\"type\":\"GET_TUITION\",\"params\":{\"tuitionId\":\"" + TUITION_ID + "\"}}";
+        String batch = "{\"operations\":[" + String.join(",", operation, operation, operation, operation) + "]}";
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_OPERATIONS.getCode()));
+        verify(tuitionController, never()).getTuitionById(anyString(), any());
+    }
+
+    @Test
+    void Should_ThrottleLogins_When_ExecutingBatchOfLoginsBeyondClientBurst() throws Exception {
+        when(rateLimitService.tryAcquireClient(anyString())).thenReturn(true, false);
+        when(studentController.loginStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        String batch = "{\"operations\":[" + String.join(",", LOGIN_OPERATION, LOGIN_OPERATION, LOGIN_OPERATION)
+                + "]}";
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[0].httpStatus").value(200))
+                .andExpect(jsonPath("$.data.results[1].httpStatus").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+                .andExpect(jsonPath("$.data.results[1].response.errorCode").value(ErrorResponseStatusType
+                        .CLIENT_RATE_LIMITED.getCode()))
+                .andExpect(jsonPath("$.data.results[2].httpStatus").value(HttpStatus.TOO_MANY_REQUESTS.value()));
+        verify(studentController, times(1)).loginStudent(any(StudentCreateRequestDto.class));
+        verify(rateLimitService, times(3)).tryAcquireClient("127.0.0.1");
+    }
+
+    @Test
+    void Should_ThrottleBatchesAndTheirLogins_When_ClientExceedsItsBurst() throws Exception {
+        RateLimitService limiter = new RateLimitService(3, 1, 100, 1, 4, 16, 60000);
+        BatchController batchController = new BatchController(studentController, tuitionController,
+                transactionManager, new ObjectMapper(), limiter, MAX_OPERATIONS);
+        MockMvc limitedMockMvc = MockMvcBuilders.standaloneSetup(batchController)
+                .addFilters(new RateLimitFilter(limiter, Arrays.asList("/api/v1/student/login", BATCH_URI)))
+                .build();
+        when(studentController.loginStudent(any(StudentCreateRequestDto.class))).thenReturn(getSuccessResponse());
+        String batch = "{\"operations\":[" + String.join(",", LOGIN_OPERATION, LOGIN_OPERATION, LOGIN_OPERATION)
+                + "]}";
+
+        limitedMockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[1].httpStatus").value(200))
+                .andExpect(jsonPath("$.data.results[2].httpStatus").value(HttpStatus.TOO_MANY_REQUESTS.value()));
+        limitedMockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content(batch)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.CLIENT_RATE_LIMITED.getCode()));
+        verify(studentController, times(2)).loginStudent(any(StudentCreateRequestDto.class));
+    }
+
+    @Test
+    void Should_NotTakeClientTokens_When_ExecutingBatchOfReads() throws Exception {
+        when(tuitionController.getTuitionById(TUITION_ID, null)).thenReturn(getSuccessResponse());
+        String operation = "{\"type\":\"GET_TUITION\",\"params\":{\"tuitionId\":\"" + TUITION_ID + "\"}}";
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BATCH_URI)
+                        .content("{\"operations\":[" + operation + "]}")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[0].httpStatus").value(200));
+        verify(rateLimitService, never()).tryAcquireClient(anyString());
+    }
+
+    /**
+     * This method returns a sample success response of a student action
+     *
+     * @return success response
+     */
+    private ResponseEntity<ResponseWrapper> getSuccessResponse() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setName(STUDENT_NAME);
+        return new ResponseEntity<>(new SuccessResponseWrapper(ResponseStatusType.SUCCESS, "message",
+                new StudentResponseDto(student), "display message", 2000), HttpStatus.OK);
+    }
+
+    /**
+     * This method returns a sample bad request response
+     *
+     * @return bad request response
+     */
+    private ResponseEntity<ResponseWrapper> getErrorResponse() {
+        return new ResponseEntity<>(new ErrorResponseWrapper(ResponseStatusType.ERROR,
+                ErrorResponseStatusType.TUITION_NOT_FOUND.getMessage(), null, "display message",
+                ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()), HttpStatus.BAD_REQUEST);
+    }
+}
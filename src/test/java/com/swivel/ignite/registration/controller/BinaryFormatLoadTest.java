@@ -0,0 +1,111 @@
+package com.swivel.ignite.registration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.dto.response.TuitionListResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class compares the encode time, decode time and bytes on the wire of JSON, CBOR and Smile for a
+ * {@link TuitionListResponseDto}. It is tagged {@code load} and only runs with the {@code load-test} profile:
+ * {@code mvn test -Pload-test}.
+ * <p>
+ * The mappers are built as the message converters build them. The list is decoded to a tree, as a calling service
+ * without the response classes would read it. The best time of each format over the rounds is printed.
+ */
+@Tag("load")
+class BinaryFormatLoadTest {
+
+    private static final int TUITION_COUNT = 100;
+    private static final int STUDENTS_PER_TUITION = 30;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    void Should_WriteFewerBytes_When_TuitionListIsEncodedInBinaryFormat() throws Exception {
+        TuitionListResponseDto responseDto = getSampleTuitionListResponseDto();
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+        int jsonBytes = measure("JSON", jsonMapper, responseDto);
+        int cborBytes = measure("CBOR", cborMapper, responseDto);
+        int smileBytes = measure("Smile", smileMapper, responseDto);
+
+        assertTrue(cborBytes < jsonBytes);
+        assertTrue(smileBytes < jsonBytes);
+    }
+
+    /**
+     * This method prints the bytes, best encode time and best decode time of a format
+     *
+     * @param format      format name
+     * @param mapper      object mapper of the format
+     * @param responseDto tuition list response dto
+     * @return encoded bytes
+     */
+    private int measure(String format, ObjectMapper mapper, TuitionListResponseDto responseDto) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(responseDto);
+        assertEquals(TUITION_COUNT, mapper.readTree(encoded).get("tuitionList").size());
+        double encodeMicros = Double.MAX_VALUE;
+        double decodeMicros = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long bytes = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                bytes += mapper.writeValueAsBytes(responseDto).length;
+            }
+            encodeMicros = Math.min(encodeMicros, (System.nanoTime() - start) / 1e3 / ITERATIONS);
+            long nodes = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                JsonNode tree = mapper.readTree(encoded);
+                nodes += tree.size();
+            }
+            decodeMicros = Math.min(decodeMicros, (System.nanoTime() - start) / 1e3 / ITERATIONS);
+            // uses the output, so the iterations are not optimized away
+            assertTrue(bytes > 0 && nodes > 0);
+        }
+        System.out.printf("TuitionListResponseDto %s: %d bytes, encode: %.1f us, decode: %.1f us%n", format,
+                encoded.length, encodeMicros, decodeMicros);
+        return encoded.length;
+    }
+
+    /**
+     * This method returns a sample tuition list response dto
+     *
+     * @return TuitionListResponseDto
+     */
+    private TuitionListResponseDto getSampleTuitionListResponseDto() {
+        List<TuitionResponseDto> tuitionList = new ArrayList<>();
+        for (int i = 0; i < TUITION_COUNT; i++) {
+            Tuition tuition = new Tuition();
+            tuition.setId("tid-" + (100000000 + i));
+            tuition.setName("Perera Tuition " + i);
+            tuition.setLocation("Nittambuwa");
+            tuition.setVersion((long) i);
+            Set<Student> students = new HashSet<>();
+            for (int j = 0; j < STUDENTS_PER_TUITION; j++) {
+                Student student = new Student();
+                student.setId("sid-" + (100000000 + i * STUDENTS_PER_TUITION + j));
+                students.add(student);
+            }
+            tuition.setStudents(students);
+            tuitionList.add(new TuitionResponseDto(tuition));
+        }
+        return new TuitionListResponseDto(tuitionList);
+    }
+}
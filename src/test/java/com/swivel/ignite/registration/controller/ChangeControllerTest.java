@@ -0,0 +1,141 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.ChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link ChangeController} class
+ */
+class ChangeControllerTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR_STATUS = "ERROR";
+    private static final String ERROR = "ERROR";
+    private static final String GET_CHANGES_URI = "/api/v1/changes";
+    private static final int DEFAULT_LIMIT = 2;
+    private static final int MAX_LIMIT = 3;
+    private static final long MAX_WAIT_MS = 1000;
+    private MockMvc mockMvc;
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ChangeController(changeFeedService, DEFAULT_LIMIT, MAX_LIMIT,
+                MAX_WAIT_MS)).build();
+    }
+
+    /**
+     * Start of tests for get changes
+     * Api context: /api/v1/changes
+     */
+    @Test
+    void Should_ReturnOk_When_GettingChangesIsSuccessful() throws Exception {
+        when(changeFeedService.awaitChanges(anyLong(), anyInt(), anyLong())).thenReturn(
+                CompletableFuture.completedFuture(Collections.singletonList(getSampleEntry(8))));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_CHANGES_URI).param("since", "7")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_CHANGES.getCode()))
+                .andExpect(jsonPath("$.data.changes[0].cursor").value(8))
+                .andExpect(jsonPath("$.data.changes[0].type").value(RegistrationEventType.STUDENT_ENROLLED.name()))
+                .andExpect(jsonPath("$.data.nextCursor").value(8));
+        verify(changeFeedService, times(1)).awaitChanges(7, DEFAULT_LIMIT, 0);
+    }
+
+    @Test
+    void Should_ReturnRequestedCursor_When_ThereAreNoChanges() throws Exception {
+        when(changeFeedService.awaitChanges(anyLong(), anyInt(), anyLong())).thenReturn(
+                CompletableFuture.completedFuture(Collections.emptyList()));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_CHANGES_URI).param("since", "7")
+                        .param("wait", "60000").accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changes").isEmpty())
+                .andExpect(jsonPath("$.data.nextCursor").value(7));
+        verify(changeFeedService, times(1)).awaitChanges(eq(7L), eq(DEFAULT_LIMIT), eq(MAX_WAIT_MS));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingChangesWithInvalidLimit() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_CHANGES_URI)
+                        .param("limit", String.valueOf(MAX_LIMIT + 1)).accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_LIMIT.getCode()));
+        verifyZeroInteractions(changeFeedService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingChangesWithNegativeCursor() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_CHANGES_URI).param("since", "-1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_CURSOR.getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_GettingChangesIsFailed() throws Exception {
+        CompletableFuture<List<ChangeLogEntry>> future = new CompletableFuture<>();
+        future.completeExceptionally(new RegistrationServiceException(ERROR));
+        when(changeFeedService.awaitChanges(anyLong(), anyInt(), anyLong())).thenReturn(future);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_CHANGES_URI)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS));
+    }
+
+    /**
+     * This method returns a sample change log entry
+     *
+     * @param id entry id
+     * @return ChangeLogEntry
+     */
+    private ChangeLogEntry getSampleEntry(long id) {
+        ChangeLogEntry entry = new ChangeLogEntry(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED,
+                STUDENT_ID, TUITION_ID));
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,172 @@
+package com.swivel.ignite.registration.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.exception.StudentNotFoundException;
+import com.swivel.ignite.registration.service.PasswordService;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.StudentBulkRegistrationService;
+import com.swivel.ignite.registration.service.StudentQueryService;
+import com.swivel.ignite.registration.service.StudentService;
+import com.swivel.ignite.registration.service.TuitionService;
+import com.swivel.ignite.registration.wrapper.ResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class load tests the failed login path of {@link StudentController} class. It is tagged {@code load} and
+ * only runs with the {@code load-test} profile: {@code mvn test -Pload-test}.
+ * <p>
+ * The same unknown name login is driven from several threads, alternately throwing the stackless
+ * {@link StudentNotFoundException} and throwing it with a cause that fills in the stack trace, as the exception did
+ * before it was made stackless. The login is called {@value #CONTAINER_STACK_DEPTH} frames deep, about the depth of
+ * a controller under the servlet container and filters, as the cost of a stack trace grows with the depth. The best
+ * throughput of each kind over the rounds is printed.
+ */
+@Tag("load")
+class LoginLoadTest {
+
+    private static final String STUDENT_NAME = "Unknown Student";
+    private static final String STUDENT_PASSWORD = "123456789";
+    private static final int MAX_BATCH_READ_IDS = 100;
+    private static final int CONTAINER_STACK_DEPTH = 100;
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 5;
+    private static final int REQUESTS_PER_THREAD = 20000;
+    private final Logger controllerLogger = (Logger) LoggerFactory.getLogger(StudentController.class);
+    private final Logger exceptionHandlerLogger = (Logger) LoggerFactory.getLogger(RegistrationExceptionHandler.class);
+    private StudentController studentController;
+    private StudentService studentService;
+    @Mock
+    private TuitionService tuitionService;
+    @Mock
+    private StudentBulkRegistrationService studentBulkRegistrationService;
+    @Mock
+    private StudentQueryService studentQueryService;
+    @Mock
+    private PasswordService passwordService;
+    @Mock
+    private SessionTokenService sessionTokenService;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        // stub only mocks, which do not record the millions of calls
+        studentService = mock(StudentService.class, withSettings().stubOnly());
+        rateLimitService = mock(RateLimitService.class, withSettings().stubOnly());
+        studentController = new StudentController(studentService, tuitionService, studentBulkRegistrationService,
+                studentQueryService, passwordService, sessionTokenService, rateLimitService, MAX_BATCH_READ_IDS);
+        when(rateLimitService.tryAcquireLoginName(anyString())).thenReturn(true);
+        // keeps the warnings of the failed logins out of the measurement and the build output
+        controllerLogger.setLevel(Level.ERROR);
+        exceptionHandlerLogger.setLevel(Level.ERROR);
+    }
+
+    @AfterEach
+    void tearDown() {
+        controllerLogger.setLevel(null);
+        exceptionHandlerLogger.setLevel(null);
+    }
+
+    @Test
+    void Should_ServeMoreFailedLogins_When_NotFoundExceptionIsStackless() throws Exception {
+        assertEquals(0, new StudentNotFoundException(STUDENT_NAME).getStackTrace().length);
+
+        double stacklessThroughput = 0;
+        double stackTraceThroughput = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            stacklessThroughput = Math.max(stacklessThroughput,
+                    measureThroughput(() -> new StudentNotFoundException(STUDENT_NAME)));
+            stackTraceThroughput = Math.max(stackTraceThroughput, measureThroughput(() ->
+                    new StudentNotFoundException(STUDENT_NAME, new RuntimeException(STUDENT_NAME))));
+        }
+
+        System.out.printf("Failed logins per second with stack trace: %.0f, stackless: %.0f, gain: %.2fx%n",
+                stackTraceThroughput, stacklessThroughput, stacklessThroughput / stackTraceThroughput);
+        assertTrue(stacklessThroughput > stackTraceThroughput);
+    }
+
+    /**
+     * This method measures the failed logins served per second when the service throws the given exception
+     *
+     * @param exception supplier of the exception thrown by the service
+     * @return failed logins per second
+     */
+    private double measureThroughput(Supplier<StudentNotFoundException> exception) throws Exception {
+        when(studentService.login(any(StudentCreateRequestDto.class))).thenAnswer(invocation -> {
+            throw exception.get();
+        });
+        StudentCreateRequestDto requestDto = getSampleStudentCreateRequestDto();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        assertEquals(HttpStatus.BAD_REQUEST, loginAtDepth(requestDto, CONTAINER_STACK_DEPTH)
+                                .getStatusCode());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return (double) THREADS * REQUESTS_PER_THREAD / (System.nanoTime() - start) * 1e9;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * This method calls the login the given number of frames deep, mapping a thrown exception to its error response
+     * the way the exception handler does for a request
+     *
+     * @param requestDto login request dto
+     * @param depth      frames to add
+     * @return login response
+     */
+    private ResponseEntity<ResponseWrapper> loginAtDepth(StudentCreateRequestDto requestDto, int depth) {
+        if (depth > 0)
+            return loginAtDepth(requestDto, depth - 1);
+        try {
+            return studentController.loginStudent(requestDto);
+        } catch (StudentNotFoundException e) {
+            return RegistrationExceptionHandler.getErrorResponse(e, "login of student name: " + STUDENT_NAME);
+        }
+    }
+
+    /**
+     * This method returns a sample login request dto
+     *
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        StudentCreateRequestDto requestDto = new StudentCreateRequestDto();
+        requestDto.setName(STUDENT_NAME);
+        requestDto.setPassword(STUDENT_PASSWORD);
+        return requestDto;
+    }
+}
@@ -0,0 +1,145 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.request.StudentQueryRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
+import com.swivel.ignite.registration.dto.response.TuitionQueryResultDto;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.StudentQueryField;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.StudentQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link QueryController} class
+ */
+class QueryControllerTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String UNKNOWN_STUDENT_ID = "sid-unknown";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_NAME = "Perera Tuition";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR_STATUS = "ERROR";
+    private static final String ERROR = "ERROR";
+    private static final int MAX_BATCH_READ_IDS = 2;
+    private static final String QUERY_STUDENTS_URI = "/api/v1/query/students";
+    private MockMvc mockMvc;
+    @Mock
+    private StudentQueryService studentQueryService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        QueryController queryController = new QueryController(studentQueryService, MAX_BATCH_READ_IDS);
+        mockMvc = MockMvcBuilders.standaloneSetup(queryController).build();
+    }
+
+    /**
+     * Start of tests for query students
+     * Api context: /api/v1/query/students
+     */
+    @Test
+    void Should_ReturnOk_When_QueryingStudentsIsSuccessful() throws Exception {
+        when(studentQueryService.queryStudents(anyList(), anySet())).thenReturn(getSampleResults());
+        StudentQueryRequestDto dto = getSampleRequestDto(Arrays.asList(STUDENT_ID, UNKNOWN_STUDENT_ID));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(QUERY_STUDENTS_URI)
+                        .content(dto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.QUERIED_STUDENTS.getCode()))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.students[0].tuition.name").value(TUITION_NAME))
+                .andExpect(jsonPath("$.data.students[0].tuition.location").doesNotExist())
+                .andExpect(jsonPath("$.data.students[1].found").value(false));
+        verify(studentQueryService).queryStudents(dto.getStudentIds(), EnumSet.of(StudentQueryField.TUITION_NAME));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_QueryingStudentsForMissingRequiredFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(QUERY_STUDENTS_URI)
+                        .content(getSampleRequestDto(Collections.emptyList()).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_QueryingStudentsForUnknownFields() throws Exception {
+        StudentQueryRequestDto dto = getSampleRequestDto(Collections.singletonList(STUDENT_ID));
+        dto.setFields(Collections.singletonList("password"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(QUERY_STUDENTS_URI)
+                        .content(dto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.UNKNOWN_FIELDS.getCode()));
+        verifyZeroInteractions(studentQueryService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_QueryingStudentsForTooManyIds() throws Exception {
+        StudentQueryRequestDto dto = getSampleRequestDto(Arrays.asList(STUDENT_ID, UNKNOWN_STUDENT_ID, "sid-3"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(QUERY_STUDENTS_URI)
+                        .content(dto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_IDS.getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_QueryingStudentsIsFailed() throws Exception {
+        when(studentQueryService.queryStudents(anyList(), anySet()))
+                .thenThrow(new RegistrationServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(QUERY_STUDENTS_URI)
+                        .content(getSampleRequestDto(Collections.singletonList(STUDENT_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR
+                        .getCode()));
+    }
+
+    /**
+     * This method returns a sample StudentQueryRequestDto
+     *
+     * @param studentIds student ids
+     * @return StudentQueryRequestDto
+     */
+    private StudentQueryRequestDto getSampleRequestDto(List<String> studentIds) {
+        StudentQueryRequestDto dto = new StudentQueryRequestDto();
+        dto.setStudentIds(studentIds);
+        dto.setFields(Collections.singletonList("tuition.name"));
+        return dto;
+    }
+
+    /**
+     * This method returns sample student query results
+     *
+     * @return student query results
+     */
+    private List<StudentQueryResultDto> getSampleResults() {
+        StudentQueryResultDto found = new StudentQueryResultDto(STUDENT_ID, true);
+        found.setTuition(new TuitionQueryResultDto(TUITION_ID, TUITION_NAME, null, null));
+        return Arrays.asList(found, new StudentQueryResultDto(UNKNOWN_STUDENT_ID, false));
+    }
+}
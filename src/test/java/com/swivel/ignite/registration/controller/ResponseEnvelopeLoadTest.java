@@ -0,0 +1,114 @@
+package com.swivel.ignite.registration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.dto.response.ResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.ResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.wrapper.ErrorResponses;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class compares the payload size and serialization time of the v1 envelope and the bare v2 responses. It is
+ * tagged {@code load} and only runs with the {@code load-test} profile: {@code mvn test -Pload-test}.
+ * <p>
+ * The success response of a student and the error response of a status are serialized with a shared
+ * {@link ObjectMapper}, as the message converter does, alternating the v1 and v2 bodies. The encoded sizes and the
+ * best time per serialization of each over the rounds are printed.
+ */
+@Tag("load")
+class ResponseEnvelopeLoadTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
+    private static final int ROUNDS = 5;
+    private static final int SERIALIZATIONS = 200000;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void Should_WriteSmallerAndFasterBody_When_StudentIsReturnedWithoutEnvelope() throws Exception {
+        StudentResponseDto data = new StudentResponseDto(getSampleStudent());
+        SuccessResponseWrapper wrapper = new SuccessResponseWrapper(ResponseStatusType.SUCCESS,
+                SuccessResponseStatusType.GET_STUDENT.getMessage(), data, SUCCESS_MESSAGE,
+                SuccessResponseStatusType.GET_STUDENT.getCode());
+
+        assertTrue(compare("Student", wrapper, data));
+    }
+
+    @Test
+    void Should_WriteSmallerAndFasterBody_When_ErrorIsReturnedCompact() throws Exception {
+        ErrorResponseStatusType status = ErrorResponseStatusType.STUDENT_NOT_FOUND;
+
+        assertTrue(compare("Error", ErrorResponses.getWrapper(status), ErrorResponses.getCompactError(
+                status.getCode())));
+    }
+
+    /**
+     * This method prints the payload sizes and serialization times of a v1 and v2 body
+     *
+     * @param name response name
+     * @param v1   v1 body
+     * @param v2   v2 body
+     * @return true if the v2 body is both smaller and faster to serialize
+     */
+    private boolean compare(String name, Object v1, ResponseDto v2) throws Exception {
+        int v1Size = objectMapper.writeValueAsBytes(v1).length;
+        int v2Size = objectMapper.writeValueAsBytes(v2).length;
+        double v1Nanos = Double.MAX_VALUE;
+        double v2Nanos = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            v1Nanos = Math.min(v1Nanos, measureNanos(v1));
+            v2Nanos = Math.min(v2Nanos, measureNanos(v2));
+        }
+        System.out.printf("%s response v1: %d bytes, %.0f ns, v2: %d bytes, %.0f ns, saved: %.0f%% bytes, %.0f%% " +
+                        "time%n", name, v1Size, v1Nanos, v2Size, v2Nanos, 100.0 * (v1Size - v2Size) / v1Size,
+                100 * (v1Nanos - v2Nanos) / v1Nanos);
+        return v2Size < v1Size && v2Nanos < v1Nanos;
+    }
+
+    /**
+     * This method measures the time per serialization of a body
+     *
+     * @param body body
+     * @return nanoseconds per serialization
+     */
+    private double measureNanos(Object body) throws Exception {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SERIALIZATIONS; i++) {
+            bytes += objectMapper.writeValueAsBytes(body).length;
+        }
+        double nanos = (double) (System.nanoTime() - start) / SERIALIZATIONS;
+        // uses the output, so the serializations are not optimized away
+        assertTrue(bytes > 0);
+        return nanos;
+    }
+
+    /**
+     * This method returns a sample student enrolled in a tuition
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setName(STUDENT_NAME);
+        student.setTuition(tuition);
+        student.setTuitionJoinedOn(new Date());
+        student.setVersion(3L);
+        return student;
+    }
+}
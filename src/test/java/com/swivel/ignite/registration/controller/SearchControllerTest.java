@@ -0,0 +1,191 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.dto.request.StudentSearchRequestDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SearchMode;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.InvalidCursorException;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.service.StudentService;
+import com.swivel.ignite.registration.service.TuitionSearchService;
+import com.swivel.ignite.registration.service.search.SearchPage;
+import com.swivel.ignite.registration.service.search.StudentSearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link SearchController} class
+ */
+class SearchControllerTest {
+
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_NAME = "Perera Tuition";
+    private static final String TUITION_LOCATION = "Nittambuwa";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+    private static final int DEFAULT_PAGE_SIZE = 2;
+    private static final int MAX_PAGE_SIZE = 3;
+    private static final String SEARCH_TUITION_URI = "/api/v1/search/tuition";
+    private static final String SEARCH_STUDENTS_URI = "/api/v1/search/students";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String NEXT_CURSOR = "next-cursor";
+    private MockMvc mockMvc;
+    @Mock
+    private TuitionSearchService tuitionSearchService;
+    @Mock
+    private StudentService studentService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        SearchController searchController = new SearchController(tuitionSearchService, studentService,
+                DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        mockMvc = MockMvcBuilders.standaloneSetup(searchController).build();
+    }
+
+    /**
+     * Start of tests for search tuition
+     * Api context: /api/v1/search/tuition
+     */
+    @Test
+    void Should_ReturnOk_When_SearchingTuitionIsSuccessful() throws Exception {
+        when(tuitionSearchService.search(anyString(), any(SearchMode.class), anyInt(), anyInt())).thenReturn(
+                new SearchPage(1, Collections.singletonList(getSampleTuition())));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", "per")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.SEARCHED_TUITION.getCode()))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.mode").value("INDEX"))
+                .andExpect(jsonPath("$.data.tuitionList[0].name").value(TUITION_NAME))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentIds").doesNotExist());
+        verify(tuitionSearchService).search("per", SearchMode.INDEX, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void Should_SearchDb_When_SearchingTuitionInDbMode() throws Exception {
+        when(tuitionSearchService.search(anyString(), any(SearchMode.class), anyInt(), anyInt())).thenReturn(
+                new SearchPage(0, Collections.emptyList()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", "per").param("mode", "db")
+                        .param("page", "1").param("size", "3").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.mode").value("DB"));
+        verify(tuitionSearchService).search("per", SearchMode.DB, 1, 3);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingTuitionForMissingQuery() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", " ")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingTuitionForInvalidPageSize() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", "per")
+                        .param("size", String.valueOf(MAX_PAGE_SIZE + 1)).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_LIMIT.getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingTuitionForUnknownMode() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", "per").param("mode", "fuzzy")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.UNKNOWN_SEARCH_MODE.getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_SearchingTuitionIsFailed() throws Exception {
+        when(tuitionSearchService.search(anyString(), any(SearchMode.class), anyInt(), anyInt()))
+                .thenThrow(new RegistrationServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_TUITION_URI).param("q", "per").param("mode", "db")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode()));
+    }
+
+    /**
+     * Start of tests for search students
+     * Api context: /api/v1/search/students
+     */
+    @Test
+    void Should_ReturnOk_When_SearchingStudentsIsSuccessful() throws Exception {
+        when(studentService.searchStudents(any(StudentSearchRequestDto.class), anyInt())).thenReturn(
+                new StudentSearchPage(Collections.singletonList(getSampleStudent()), NEXT_CURSOR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_STUDENTS_URI).param("name", "Moh")
+                        .param("joinedFrom", "2022-01-01T00:00:00.000Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.SEARCHED_STUDENTS.getCode()))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.nextCursor").value(NEXT_CURSOR));
+        verify(studentService).searchStudents(argThat(dto -> "Moh".equals(dto.getName()) &&
+                dto.getJoinedFrom() != null), eq(DEFAULT_PAGE_SIZE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingStudentsForInvalidDateRange() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_STUDENTS_URI)
+                        .param("joinedFrom", "2022-02-01T00:00:00.000Z").param("joinedTo", "2022-01-01T00:00:00.000Z")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode()));
+        verify(studentService, never()).searchStudents(any(StudentSearchRequestDto.class), anyInt());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_SearchingStudentsForInvalidCursor() throws Exception {
+        when(studentService.searchStudents(any(StudentSearchRequestDto.class), anyInt()))
+                .thenThrow(new InvalidCursorException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_STUDENTS_URI).param("after", "%%")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_CURSOR.getCode()));
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        return student;
+    }
+
+    /**
+     * This method returns a sample tuition
+     *
+     * @return Tuition
+     */
+    private Tuition getSampleTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setName(TUITION_NAME);
+        tuition.setLocation(TUITION_LOCATION);
+        return tuition;
+    }
+}
@@ -0,0 +1,102 @@
+package com.swivel.ignite.registration.controller;
+
+import com.swivel.ignite.registration.entity.TuitionStats;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.service.TuitionStatsService;
+import com.swivel.ignite.registration.service.stats.LocationStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link StatsController} class
+ */
+class StatsControllerTest {
+
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_LOCATION = "Nittambuwa";
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+    private static final String GET_TUITION_STATS_URI = "/api/v1/stats/tuition/{tuitionId}";
+    private static final String GET_ALL_TUITION_STATS_URI = "/api/v1/stats/tuition";
+    private static final String GET_LOCATION_STATS_URI = "/api/v1/stats/location";
+    private MockMvc mockMvc;
+    @Mock
+    private TuitionStatsService tuitionStatsService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StatsController(tuitionStatsService)).build();
+    }
+
+    /**
+     * Start of tests for get tuition stats
+     * Api context: /api/v1/stats/tuition/{tuitionId}
+     */
+    @Test
+    void Should_ReturnOk_When_GettingTuitionStatsIsSuccessful() throws Exception {
+        when(tuitionStatsService.getTuitionStats(anyString())).thenReturn(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 3));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_STATS_URI.replace("{tuitionId}", TUITION_ID))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_TUITION_STATS.getCode()))
+                .andExpect(jsonPath("$.data.studentCount").value(3));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionStatsForTuitionNotFound() throws Exception {
+        when(tuitionStatsService.getTuitionStats(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_STATS_URI.replace("{tuitionId}", TUITION_ID))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+    }
+
+    /**
+     * Start of tests for get all tuition stats
+     * Api context: /api/v1/stats/tuition
+     */
+    @Test
+    void Should_ReturnOk_When_GettingAllTuitionStats() throws Exception {
+        when(tuitionStatsService.getAllTuitionStats()).thenReturn(Collections.singletonList(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 3)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_STATS_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tuitionStats[0].tuitionId").value(TUITION_ID));
+    }
+
+    /**
+     * Start of tests for get location stats
+     * Api context: /api/v1/stats/location
+     */
+    @Test
+    void Should_ReturnOk_When_GettingLocationStats() throws Exception {
+        when(tuitionStatsService.getLocationStats()).thenReturn(Collections.singletonList(
+                new LocationStats(TUITION_LOCATION, 2, 5)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_LOCATION_STATS_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_LOCATION_STATS.getCode()))
+                .andExpect(jsonPath("$.data.locationStats[0].location").value(TUITION_LOCATION))
+                .andExpect(jsonPath("$.data.locationStats[0].studentCount").value(5));
+    }
+}
@@ -1,27 +1,50 @@
 package com.swivel.ignite.registration.controller;
 
 import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentUpdateRequestDto;
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
 import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.StudentQueryField;
 import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.exception.PasswordHashingBusyException;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.StudentAlreadyExistsException;
 import com.swivel.ignite.registration.exception.StudentNotFoundException;
 import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
+import com.swivel.ignite.registration.filter.SessionTokenFilter;
+import com.swivel.ignite.registration.service.PasswordService;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.StudentBulkRegistrationService;
+import com.swivel.ignite.registration.service.StudentQueryService;
 import com.swivel.ignite.registration.service.StudentService;
 import com.swivel.ignite.registration.service.TuitionService;
+import com.swivel.ignite.registration.service.token.SessionToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import static org.mockito.ArgumentMatchers.any;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -34,27 +57,53 @@ class StudentControllerTest {
     private static final String TUITION_ID = "tid-123456789";
     private static final String STUDENT_NAME = "Mohamed Nawaz";
     private static final String STUDENT_PASSWORD = "123456789";
+    private static final String PASSWORD_HASH = "$2a$10$hash";
     private static final String SUCCESS_STATUS = "SUCCESS";
     private static final String ERROR_STATUS = "ERROR";
     private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
     private static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
     private static final String ERROR = "ERROR";
     private static final String CREATE_STUDENT_URI = "/api/v1/student/create";
+    private static final String LOGIN_STUDENT_URI = "/api/v1/student/login";
+    private static final String LOGOUT_STUDENT_URI = "/api/v1/student/logout";
+    private static final String SESSION_TOKEN = "payload.signature";
+    private static final String BULK_CREATE_STUDENT_URI = "/api/v1/student/create/bulk";
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
     private static final String GET_STUDENT_BY_ID_URI = "/api/v1/student/get/{studentId}";
+    private static final String GET_STUDENTS_BY_IDS_URI = "/api/v1/student/get/batch";
+    private static final String UNKNOWN_STUDENT_ID = "sid-unknown";
+    private static final int MAX_BATCH_READ_IDS = 2;
     private static final String DELETE_STUDENT_URI = "/api/v1/student/delete/{studentId}";
+    private static final String UPDATE_STUDENT_URI = "/api/v1/student/update/{studentId}";
     private static final String ADD_STUDENT_TO_TUITION_URI = "/api/v1/student/add/{studentId}/{tuitionId}";
     private static final String REMOVE_STUDENT_FROM_TUITION_URI = "/api/v1/student/remove/{studentId}/{tuitionId}";
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
     private MockMvc mockMvc;
     @Mock
     private StudentService studentService;
     @Mock
     private TuitionService tuitionService;
+    @Mock
+    private StudentBulkRegistrationService studentBulkRegistrationService;
+    @Mock
+    private StudentQueryService studentQueryService;
+    @Mock
+    private PasswordService passwordService;
+    @Mock
+    private SessionTokenService sessionTokenService;
+    @Mock
+    private RateLimitService rateLimitService;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        StudentController studentController = new StudentController(studentService, tuitionService);
-        mockMvc = MockMvcBuilders.standaloneSetup(studentController).build();
+        StudentController studentController = new StudentController(studentService, tuitionService,
+                studentBulkRegistrationService, studentQueryService, passwordService, sessionTokenService,
+                rateLimitService, MAX_BATCH_READ_IDS);
+        mockMvc = MockMvcBuilders.standaloneSetup(studentController)
+                .setControllerAdvice(new RegistrationExceptionHandler()).build();
+        when(passwordService.hash(anyString())).thenReturn(PASSWORD_HASH);
+        when(rateLimitService.tryAcquireLoginName(anyString())).thenReturn(true);
     }
 
     /**
@@ -77,6 +126,44 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
     }
 
+    @Test
+    void Should_SaveHashedPassword_When_CreatingStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(CREATE_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(passwordService).hash(STUDENT_PASSWORD);
+        verify(studentService).createStudent(argThat(student -> PASSWORD_HASH.equals(student.getPassword())));
+    }
+
+    @Test
+    void Should_ReturnCbor_When_CreatingStudentWithCborBody() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(CREATE_STUDENT_URI)
+                        .content(cborMapper.writeValueAsBytes(getSampleStudentCreateRequestDto()))
+                        .contentType(APPLICATION_CBOR).accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+        JsonNode response = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(SuccessResponseStatusType.CREATE_STUDENT.getCode(), response.get("statusCode").asInt());
+        assertEquals(STUDENT_NAME, response.get("data").get("name").asText());
+        verify(studentService).createStudent(argThat(student -> STUDENT_NAME.equals(student.getName())));
+    }
+
+    @Test
+    void Should_ReturnServiceUnavailable_When_CreatingStudentForPasswordHashingBusy() throws Exception {
+        when(passwordService.hash(anyString())).thenThrow(new PasswordHashingBusyException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(CREATE_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.PASSWORD_HASHING_BUSY.getCode()));
+        verifyZeroInteractions(studentService);
+    }
+
     @Test
     void Should_ReturnBadRequest_When_CreatingStudentForMissingRequiredFields() throws Exception {
         StudentCreateRequestDto dto = getSampleStudentCreateRequestDto();
@@ -129,6 +216,26 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for bulk create students
+     * Api context: /api/v1/student/create/bulk
+     */
+    @Test
+    void Should_ReturnOk_When_BulkCreatingStudentsIsSuccessful() throws Exception {
+        doNothing().when(studentBulkRegistrationService).registerStudents(any(InputStream.class),
+                any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(APPLICATION_NDJSON_VALUE).accept(APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON_VALUE));
+        verify(studentBulkRegistrationService).registerStudents(any(InputStream.class), any(OutputStream.class));
+    }
+
     /**
      * Start of tests for get student by id
      * Api context: /api/v1/student/get/{studentId}
@@ -149,6 +256,37 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnSelectedFields_When_GettingStudentByIdWithFields() throws Exception {
+        StudentQueryResultDto result = new StudentQueryResultDto(STUDENT_ID, true);
+        result.setName(STUDENT_NAME);
+        when(studentQueryService.queryStudents(anyList(), anySet())).thenReturn(Collections.singletonList(result));
+
+        String uri = GET_STUDENT_BY_ID_URI.replace("{studentId}", STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).param("fields", "name")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.GET_STUDENT.getCode()))
+                .andExpect(jsonPath("$.data.studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.name").value(STUDENT_NAME))
+                .andExpect(jsonPath("$.data.tuitionId").doesNotExist());
+        verify(studentQueryService).queryStudents(Collections.singletonList(STUDENT_ID),
+                EnumSet.of(StudentQueryField.NAME));
+        verify(studentService, never()).findById(anyString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentByIdWithFieldsForStudentNotFound() throws Exception {
+        when(studentQueryService.queryStudents(anyList(), anySet())).thenReturn(
+                Collections.singletonList(new StudentQueryResultDto(STUDENT_ID, false)));
+
+        String uri = GET_STUDENT_BY_ID_URI.replace("{studentId}", STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).param("fields", "tuition.name")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode()));
+    }
+
     @Test
     void Should_ReturnBadRequest_When_GettingStudentByIdForStudentNotFound() throws Exception {
         when(studentService.findById(anyString())).thenThrow(new StudentNotFoundException(ERROR));
@@ -164,6 +302,17 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnJsonError_When_GettingStudentByIdAcceptingCborForStudentNotFound() throws Exception {
+        when(studentService.findById(anyString())).thenThrow(new StudentNotFoundException(ERROR));
+
+        String uri = GET_STUDENT_BY_ID_URI.replace("{studentId}", STUDENT_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).accept(APPLICATION_CBOR))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode()));
+    }
+
     @Test
     void Should_ReturnInternalServerError_When_GettingStudentByIdIsFailed() throws Exception {
         when(studentService.findById(anyString())).thenThrow(new RegistrationServiceException(ERROR));
@@ -181,6 +330,60 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for get students by ids
+     * Api context: /api/v1/student/get/batch
+     */
+    @Test
+    void Should_ReturnStudentsInRequestOrder_When_GettingStudentsByIdsIsSuccessful() throws Exception {
+        when(studentService.findAllById(anyCollection())).thenReturn(
+                Collections.singletonMap(STUDENT_ID, getSampleStudent()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENTS_BY_IDS_URI)
+                        .param("ids", UNKNOWN_STUDENT_ID, STUDENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_STUDENTS.getCode()))
+                .andExpect(jsonPath("$.data.students[0].id").value(UNKNOWN_STUDENT_ID))
+                .andExpect(jsonPath("$.data.students[0].found").value(false))
+                .andExpect(jsonPath("$.data.students[1].found").value(true))
+                .andExpect(jsonPath("$.data.students[1].data.studentId").value(STUDENT_ID));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentsByIdsForTooManyIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENTS_BY_IDS_URI)
+                        .param("ids", "sid-1", "sid-2", "sid-3")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_IDS.getCode()));
+        verify(studentService, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingStudentsByIdsForMissingIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENTS_BY_IDS_URI)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_GettingStudentsByIdsIsFailed() throws Exception {
+        when(studentService.findAllById(anyCollection())).thenThrow(new RegistrationServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_STUDENTS_BY_IDS_URI)
+                        .param("ids", STUDENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR
+                        .getCode()));
+    }
+
     /**
      * Start of tests for delete student
      * Api context: /api/v1/student/delete/{studentId}
@@ -234,6 +437,187 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for login student
+     * Api context: /api/v1/student/login
+     */
+    @Test
+    void Should_ReturnOkWithSessionToken_When_LoginStudentIsSuccessful() throws Exception {
+        when(studentService.login(any(StudentCreateRequestDto.class))).thenReturn(getSampleStudent());
+        when(sessionTokenService.issue(STUDENT_ID)).thenReturn(getSampleSessionToken());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(LOGIN_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.LOGIN_STUDENT.getCode()))
+                .andExpect(jsonPath("$.data.studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.token").value(SESSION_TOKEN));
+    }
+
+    @Test
+    void Should_ReturnTooManyRequests_When_LoginStudentIsThrottled() throws Exception {
+        when(rateLimitService.tryAcquireLoginName(STUDENT_NAME)).thenReturn(false);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(LOGIN_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.LOGIN_RATE_LIMITED.getCode()));
+        verifyZeroInteractions(studentService);
+    }
+
+    @Test
+    void Should_ReturnServiceUnavailable_When_LoginStudentForPasswordHashingBusy() throws Exception {
+        when(studentService.login(any(StudentCreateRequestDto.class)))
+                .thenThrow(new PasswordHashingBusyException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(LOGIN_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.PASSWORD_HASHING_BUSY.getCode()));
+    }
+
+    /**
+     * Start of tests for logout student
+     * Api context: /api/v1/student/logout
+     */
+    @Test
+    void Should_ReturnOkAndRevokeToken_When_LogoutStudentWithSessionToken() throws Exception {
+        SessionToken sessionToken = getSampleSessionToken();
+
+        mockMvc.perform(MockMvcRequestBuilders.post(LOGOUT_STUDENT_URI)
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, sessionToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.LOGOUT_STUDENT.getCode()));
+        verify(sessionTokenService).revoke(sessionToken);
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_LogoutStudentWithoutSessionToken() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(LOGOUT_STUDENT_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_SESSION_TOKEN.getCode()));
+        verifyZeroInteractions(sessionTokenService);
+    }
+
+    /**
+     * Start of tests for update student
+     * Api context: /api/v1/student/update/{studentId}
+     */
+    @Test
+    void Should_ReturnOk_When_UpdatingStudentIsSuccessful() throws Exception {
+        Student student = getSampleStudent();
+        student.setName(STUDENT_NAME);
+        student.setVersion(1L);
+        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.updateStudent(any(Student.class), any(StudentUpdateRequestDto.class))).thenReturn(student);
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content(getSampleStudentUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.UPDATE_STUDENT.getCode()))
+                .andExpect(jsonPath("$.data.name").value(STUDENT_NAME))
+                .andExpect(jsonPath("$.data.version").value(1));
+    }
+
+    @Test
+    void Should_HashPasswordAndRevokeSessions_When_UpdatingStudentPassword() throws Exception {
+        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.updateStudent(any(Student.class), any(StudentUpdateRequestDto.class)))
+                .thenReturn(getSampleStudent());
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content("{\"password\":\"" + STUDENT_PASSWORD + "\",\"version\":0}")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(studentService).updateStudent(any(Student.class),
+                argThat(requestDto -> PASSWORD_HASH.equals(requestDto.getPassword())));
+        verify(sessionTokenService).revokeStudent(STUDENT_ID);
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_UpdatingStudentWithoutSessionToken() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .content("{\"password\":\"" + STUDENT_PASSWORD + "\",\"version\":0}")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_SESSION_TOKEN.getCode()));
+        verifyZeroInteractions(studentService, passwordService);
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_UpdatingStudentWithSessionTokenOfAnotherStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", "sid-other"))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content("{\"password\":\"" + STUDENT_PASSWORD + "\",\"version\":0}")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_ACCESS_DENIED.getCode()));
+        verifyZeroInteractions(studentService, passwordService);
+        verify(sessionTokenService, never()).revokeStudent(anyString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UpdatingStudentWithoutVersion() throws Exception {
+        StudentUpdateRequestDto requestDto = getSampleStudentUpdateRequestDto();
+        requestDto.setVersion(null);
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content(requestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode()));
+        verifyZeroInteractions(studentService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UpdatingStudentForStudentNotFound() throws Exception {
+        when(studentService.findById(anyString())).thenThrow(new StudentNotFoundException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content(getSampleStudentUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void Should_ReturnConflict_When_UpdatingStudentForVersionConflict() throws Exception {
+        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.updateStudent(any(Student.class), any(StudentUpdateRequestDto.class)))
+                .thenThrow(new VersionConflictException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content(getSampleStudentUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.VERSION_CONFLICT.getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_UpdatingStudentIsFailed() throws Exception {
+        when(studentService.findById(anyString())).thenReturn(getSampleStudent());
+        when(studentService.updateStudent(any(Student.class), any(StudentUpdateRequestDto.class)))
+                .thenThrow(new RegistrationServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_STUDENT_URI.replace("{studentId}", STUDENT_ID))
+                        .requestAttr(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE, getSampleSessionToken())
+                        .content(getSampleStudentUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode()));
+    }
+
     /**
      * Start of tests for add student to tuition
      * Api context: /api/v1/student/add/{studentId}/{tuitionId}
@@ -441,6 +825,18 @@ class StudentControllerTest {
         return requestDto;
     }
 
+    /**
+     * This method returns a sample StudentUpdateRequestDto
+     *
+     * @return StudentUpdateRequestDto
+     */
+    private StudentUpdateRequestDto getSampleStudentUpdateRequestDto() {
+        StudentUpdateRequestDto requestDto = new StudentUpdateRequestDto();
+        requestDto.setName(STUDENT_NAME);
+        requestDto.setVersion(0L);
+        return requestDto;
+    }
+
     /**
      * This method returns a sample student
      *
@@ -452,6 +848,16 @@ class StudentControllerTest {
         return student;
     }
 
+    /**
+     * This method returns a sample session token
+     *
+     * @return SessionToken
+     */
+    private SessionToken getSampleSessionToken() {
+        long now = System.currentTimeMillis();
+        return new SessionToken(SESSION_TOKEN, "token-id", STUDENT_ID, "k1", now, now + 60000);
+    }
+
     /**
      * This method returns a sample tuition
      *
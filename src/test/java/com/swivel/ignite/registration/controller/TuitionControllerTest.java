@@ -1,26 +1,39 @@
 package com.swivel.ignite.registration.controller;
 
 import com.swivel.ignite.registration.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.TuitionStudentsRequestDto;
+import com.swivel.ignite.registration.dto.request.TuitionUpdateRequestDto;
+import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
 import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
 import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
+import com.swivel.ignite.registration.service.RosterStreamService;
+import com.swivel.ignite.registration.service.StudentService;
 import com.swivel.ignite.registration.service.TuitionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +44,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class TuitionControllerTest {
 
     private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_ID = "sid-123456789";
     private static final String TUITION_NAME = "Perera Tuition";
     private static final String TUITION_LOCATION = "Nittambuwa";
     private static final String SUCCESS_STATUS = "SUCCESS";
@@ -41,16 +55,34 @@ class TuitionControllerTest {
     private static final String CREATE_TUITION_URI = "/api/v1/tuition/create";
     private static final String GET_TUITION_BY_ID_URI = "/api/v1/tuition/get/{tuitionId}";
     private static final String DELETE_TUITION_ID_URI = "/api/v1/tuition/delete/{tuitionId}";
+    private static final String UPDATE_TUITION_URI = "/api/v1/tuition/update/{tuitionId}";
     private static final String GET_ALL_TUITION_URI = "/api/v1/tuition/get/all";
+    private static final String GET_TUITION_BY_IDS_URI = "/api/v1/tuition/get/batch";
+    private static final String UNKNOWN_TUITION_ID = "tid-unknown";
+    private static final int MAX_BATCH_READ_IDS = 2;
+    private static final int DEFAULT_ROSTER_PAGE_SIZE = 2;
+    private static final int MAX_ROSTER_PAGE_SIZE = 3;
+    private static final String GET_TUITION_STUDENTS_URI = "/api/v1/tuition/{tuitionId}/students";
+    private static final String ENROLL_STUDENTS_URI = "/api/v1/tuition/{tuitionId}/students";
+    private static final String REMOVE_STUDENTS_URI = "/api/v1/tuition/{tuitionId}/students/remove";
+    private static final String STREAM_TUITION_STUDENTS_URI = "/api/v1/tuition/{tuitionId}/students/stream";
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
     private MockMvc mockMvc;
     @Mock
     private TuitionService tuitionService;
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private RosterStreamService rosterStreamService;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        TuitionController tuitionController = new TuitionController(tuitionService);
-        mockMvc = MockMvcBuilders.standaloneSetup(tuitionController).build();
+        TuitionController tuitionController = new TuitionController(tuitionService, studentService,
+                rosterStreamService, MAX_BATCH_READ_IDS, DEFAULT_ROSTER_PAGE_SIZE, MAX_ROSTER_PAGE_SIZE);
+        mockMvc = MockMvcBuilders.standaloneSetup(tuitionController)
+                .setControllerAdvice(new RegistrationExceptionHandler()).build();
     }
 
     /**
@@ -74,6 +106,22 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnSmile_When_CreatingTuitionWithSmileBody() throws Exception {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post(CREATE_TUITION_URI)
+                        .content(smileMapper.writeValueAsBytes(getSampleTuitionCreateRequestDto()))
+                        .contentType(APPLICATION_SMILE).accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+        JsonNode response = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(SuccessResponseStatusType.CREATE_TUITION.getCode(), response.get("statusCode").asInt());
+        assertEquals(TUITION_NAME, response.get("data").get("name").asText());
+        verify(tuitionService).createTuition(argThat(tuition -> TUITION_NAME.equals(tuition.getName())));
+    }
+
     @Test
     void Should_ReturnBadRequest_When_CreatingTuitionForMissingRequiredFields() throws Exception {
         TuitionCreateRequestDto dto = getSampleTuitionCreateRequestDto();
@@ -126,6 +174,67 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for update tuition
+     * Api context: /api/v1/tuition/update/{tuitionId}
+     */
+    @Test
+    void Should_ReturnOk_When_UpdatingTuitionIsSuccessful() throws Exception {
+        Tuition tuition = getSampleTuition();
+        tuition.setLocation(TUITION_LOCATION);
+        tuition.setVersion(1L);
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.updateTuition(any(Tuition.class), any(TuitionUpdateRequestDto.class))).thenReturn(tuition);
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_TUITION_URI.replace("{tuitionId}", TUITION_ID))
+                        .content(getSampleTuitionUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.UPDATE_TUITION.getCode()))
+                .andExpect(jsonPath("$.data.location").value(TUITION_LOCATION))
+                .andExpect(jsonPath("$.data.version").value(1))
+                .andExpect(jsonPath("$.data.studentIds").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UpdatingTuitionWithEmptyField() throws Exception {
+        TuitionUpdateRequestDto requestDto = getSampleTuitionUpdateRequestDto();
+        requestDto.setName(" ");
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_TUITION_URI.replace("{tuitionId}", TUITION_ID))
+                        .content(requestDto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode()));
+        verifyZeroInteractions(tuitionService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UpdatingTuitionToExistingName() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.updateTuition(any(Tuition.class), any(TuitionUpdateRequestDto.class)))
+                .thenThrow(new TuitionAlreadyExistsException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_TUITION_URI.replace("{tuitionId}", TUITION_ID))
+                        .content(getSampleTuitionUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_ALREADY_EXISTS.getCode()));
+    }
+
+    @Test
+    void Should_ReturnConflict_When_UpdatingTuitionForVersionConflict() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.updateTuition(any(Tuition.class), any(TuitionUpdateRequestDto.class)))
+                .thenThrow(new VersionConflictException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch(UPDATE_TUITION_URI.replace("{tuitionId}", TUITION_ID))
+                        .content(getSampleTuitionUpdateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.VERSION_CONFLICT.getCode()));
+    }
+
     /**
      * Start of tests for get tuition by id
      * Api context: /api/v1/tuition/get/{tuitionId}
@@ -238,6 +347,8 @@ class TuitionControllerTest {
     @Test
     void Should_ReturnOk_When_GettingAllTuitionIsSuccessful() throws Exception {
         when(tuitionService.getAll()).thenReturn(getSampleTuitionList());
+        when(studentService.findStudentIdsByTuitionIds(anyCollection())).thenReturn(
+                Collections.singletonMap(TUITION_ID, Collections.singleton(STUDENT_ID)));
 
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -249,9 +360,52 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.RETURNED_ALL_TUITION
                         .getCode()))
                 .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentIds[0]").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentCount").doesNotExist())
                 .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnCbor_When_GettingAllTuitionAcceptingCbor() throws Exception {
+        when(tuitionService.getAll()).thenReturn(getSampleTuitionList());
+        when(studentService.findStudentIdsByTuitionIds(anyCollection())).thenReturn(
+                Collections.singletonMap(TUITION_ID, Collections.singleton(STUDENT_ID)));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI).accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+        JsonNode tuition = new ObjectMapper(new CBORFactory()).readTree(result.getResponse()
+                .getContentAsByteArray()).get("data").get("tuitionList").get(0);
+        assertEquals(TUITION_ID, tuition.get("tuitionId").asText());
+        assertEquals(STUDENT_ID, tuition.get("studentIds").get(0).asText());
+    }
+
+    @Test
+    void Should_ReturnStudentCountWithoutRoster_When_GettingAllTuitionWithStudentCountField() throws Exception {
+        when(tuitionService.getAll()).thenReturn(getSampleTuitionList());
+        when(studentService.countByTuitionIds(anyCollection())).thenReturn(Collections.singletonMap(TUITION_ID, 3L));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI).param("fields", "name,studentCount")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentCount").value(3))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentIds").doesNotExist())
+                .andExpect(jsonPath("$.data.tuitionList[0].location").doesNotExist());
+        verify(studentService, never()).findStudentIdsByTuitionIds(anyCollection());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingAllTuitionForUnknownFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI).param("fields", "students")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.UNKNOWN_FIELDS.getCode()));
+        verify(tuitionService, never()).getAll();
+    }
+
     @Test
     void Should_ReturnInternalServerError_When_GettingAllTuitionIsFailed() throws Exception {
         when(tuitionService.getAll()).thenThrow(new RegistrationServiceException(ERROR));
@@ -268,6 +422,259 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for get tuition by ids
+     * Api context: /api/v1/tuition/get/batch
+     */
+    @Test
+    void Should_ReturnTuitionInRequestOrder_When_GettingTuitionByIdsIsSuccessful() throws Exception {
+        when(tuitionService.findAllById(anyCollection())).thenReturn(
+                Collections.singletonMap(TUITION_ID, getSampleTuition()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_BY_IDS_URI)
+                        .param("ids", TUITION_ID, UNKNOWN_TUITION_ID)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_TUITION_LIST.getCode()))
+                .andExpect(jsonPath("$.data.tuitionList[0].found").value(true))
+                .andExpect(jsonPath("$.data.tuitionList[0].data.tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.tuitionList[1].id").value(UNKNOWN_TUITION_ID))
+                .andExpect(jsonPath("$.data.tuitionList[1].found").value(false));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionByIdsForTooManyIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_BY_IDS_URI)
+                        .param("ids", "tid-1", "tid-2", "tid-3")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_IDS.getCode()));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_GettingTuitionByIdsIsFailed() throws Exception {
+        when(tuitionService.findAllById(anyCollection())).thenThrow(new RegistrationServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_TUITION_BY_IDS_URI)
+                        .param("ids", TUITION_ID)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR
+                        .getCode()));
+    }
+
+    /**
+     * Start of tests for get tuition students
+     * Api context: /api/v1/tuition/{tuitionId}/students
+     */
+    @Test
+    void Should_ReturnPageWithNextCursor_When_GettingTuitionStudentsHasMoreStudents() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(studentService.findByTuitionId(anyString(), any(), anyInt())).thenReturn(Arrays.asList(
+                getSampleStudent("sid-1"), getSampleStudent("sid-2"), getSampleStudent("sid-3")));
+
+        String uri = GET_TUITION_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).param("after", "sid-0")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.READ_TUITION_STUDENTS.getCode()))
+                .andExpect(jsonPath("$.data.students.length()").value(2))
+                .andExpect(jsonPath("$.data.students[1].studentId").value("sid-2"))
+                .andExpect(jsonPath("$.data.nextCursor").value("sid-2"));
+        verify(studentService).findByTuitionId(TUITION_ID, "sid-0", DEFAULT_ROSTER_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void Should_ReturnLastPage_When_GettingTuitionStudentsHasNoMoreStudents() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(studentService.findByTuitionId(anyString(), any(), anyInt())).thenReturn(
+                Collections.singletonList(getSampleStudent(STUDENT_ID)));
+
+        String uri = GET_TUITION_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.students[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionStudentsForInvalidLimit() throws Exception {
+        String uri = GET_TUITION_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri).param("limit", String.valueOf(MAX_ROSTER_PAGE_SIZE + 1))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_LIMIT.getCode()));
+        verify(studentService, never()).findByTuitionId(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionStudentsForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        String uri = GET_TUITION_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+    }
+
+    /**
+     * Start of tests for stream tuition students
+     * Api context: /api/v1/tuition/{tuitionId}/students/stream
+     */
+    @Test
+    void Should_StartEventStream_When_StreamingTuitionStudentsIsSuccessful() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(rosterStreamService.subscribe(anyString())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(STREAM_TUITION_STUDENTS_URI.replace("{tuitionId}", TUITION_ID))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+        verify(rosterStreamService, times(1)).subscribe(TUITION_ID);
+    }
+
+    @Test
+    void Should_SendErrorEvent_When_StreamingTuitionStudentsForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(STREAM_TUITION_STUDENTS_URI
+                        .replace("{tuitionId}", TUITION_ID)).accept(MediaType.TEXT_EVENT_STREAM))
+                .andReturn();
+        String content = result.getResponse().getContentAsString();
+        assertTrue(content.startsWith("event:error"));
+        assertTrue(content.contains(String.valueOf(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode())));
+        verifyZeroInteractions(rosterStreamService);
+    }
+
+    /**
+     * Start of tests for enroll students
+     * Api context: /api/v1/tuition/{tuitionId}/students
+     */
+    @Test
+    void Should_ReturnOk_When_EnrollingStudentsIsSuccessful() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(studentService.enrollStudents(any(Tuition.class), anyList())).thenReturn(
+                getSampleOutcomes(BulkEnrollmentStatusType.ENROLLED));
+
+        String uri = ENROLL_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(getSampleTuitionStudentsRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.ENROLL_TUITION_STUDENTS
+                        .getMessage()))
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.ENROLL_TUITION_STUDENTS
+                        .getCode()))
+                .andExpect(jsonPath("$.data.tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.data.students[0].status").value("ENROLLED"))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_EnrollingStudentsForMissingRequiredFields() throws Exception {
+        TuitionStudentsRequestDto dto = new TuitionStudentsRequestDto();
+        dto.setStudentIds(Collections.emptyList());
+
+        String uri = ENROLL_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(dto.toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_EnrollingStudentsForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        String uri = ENROLL_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(getSampleTuitionStudentsRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+        verify(studentService, never()).enrollStudents(any(Tuition.class), anyList());
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_EnrollingStudentsIsFailed() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(studentService.enrollStudents(any(Tuition.class), anyList()))
+                .thenThrow(new RegistrationServiceException(ERROR));
+
+        String uri = ENROLL_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(getSampleTuitionStudentsRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR
+                        .getCode()));
+    }
+
+    /**
+     * Start of tests for remove students
+     * Api context: /api/v1/tuition/{tuitionId}/students/remove
+     */
+    @Test
+    void Should_ReturnOk_When_RemovingStudentsIsSuccessful() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(studentService.removeStudentsFromTuition(any(Tuition.class), anyList())).thenReturn(
+                getSampleOutcomes(BulkEnrollmentStatusType.REMOVED));
+
+        String uri = REMOVE_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(getSampleTuitionStudentsRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.REMOVE_TUITION_STUDENTS
+                        .getCode()))
+                .andExpect(jsonPath("$.data.students[0].status").value("REMOVED"));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_RemovingStudentsForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        String uri = REMOVE_STUDENTS_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .content(getSampleTuitionStudentsRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+    }
+
+    /**
+     * This method returns a sample TuitionStudentsRequestDto
+     *
+     * @return TuitionStudentsRequestDto
+     */
+    private TuitionStudentsRequestDto getSampleTuitionStudentsRequestDto() {
+        TuitionStudentsRequestDto requestDto = new TuitionStudentsRequestDto();
+        requestDto.setStudentIds(Collections.singletonList(STUDENT_ID));
+        return requestDto;
+    }
+
+    /**
+     * This method returns sample bulk enrollment outcomes
+     *
+     * @param status outcome of the sample student
+     * @return outcome per student id
+     */
+    private Map<String, BulkEnrollmentStatusType> getSampleOutcomes(BulkEnrollmentStatusType status) {
+        Map<String, BulkEnrollmentStatusType> outcomes = new LinkedHashMap<>();
+        outcomes.put(STUDENT_ID, status);
+        return outcomes;
+    }
+
     /**
      * This method returns a sample TuitionCreateRequestDto
      *
@@ -280,6 +687,18 @@ class TuitionControllerTest {
         return requestDto;
     }
 
+    /**
+     * This method returns a sample TuitionUpdateRequestDto
+     *
+     * @return TuitionUpdateRequestDto
+     */
+    private TuitionUpdateRequestDto getSampleTuitionUpdateRequestDto() {
+        TuitionUpdateRequestDto requestDto = new TuitionUpdateRequestDto();
+        requestDto.setLocation(TUITION_LOCATION);
+        requestDto.setVersion(0L);
+        return requestDto;
+    }
+
     /**
      * This method returns a sample tuition
      *
@@ -291,6 +710,19 @@ class TuitionControllerTest {
         return tuition;
     }
 
+    /**
+     * This method returns a sample student of the sample tuition
+     *
+     * @param studentId student id
+     * @return Student
+     */
+    private Student getSampleStudent(String studentId) {
+        Student student = new Student();
+        student.setId(studentId);
+        student.setTuition(getSampleTuition());
+        return student;
+    }
+
     /**
      * This method returns a sample tuition list
      *
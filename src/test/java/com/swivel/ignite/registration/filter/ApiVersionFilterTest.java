@@ -0,0 +1,202 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.controller.CompactResponseBodyAdvice;
+import com.swivel.ignite.registration.controller.RegistrationExceptionHandler;
+import com.swivel.ignite.registration.controller.StudentController;
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.exception.StudentNotFoundException;
+import com.swivel.ignite.registration.service.PasswordService;
+import com.swivel.ignite.registration.service.RateLimitService;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.StudentBulkRegistrationService;
+import com.swivel.ignite.registration.service.StudentQueryService;
+import com.swivel.ignite.registration.service.StudentService;
+import com.swivel.ignite.registration.service.TuitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This class tests {@link ApiVersionFilter} and {@link CompactResponseBodyAdvice} classes
+ */
+class ApiVersionFilterTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String STUDENT_PASSWORD = "123456789";
+    private static final String PASSWORD_HASH = "$2a$10$hash";
+    private static final String ERROR = "ERROR";
+    private static final String V1_GET_STUDENT_URI = "/api/v1/student/get/" + STUDENT_ID;
+    private static final String V2_GET_STUDENT_URI = "/api/v2/student/get/" + STUDENT_ID;
+    private static final String V2_CREATE_STUDENT_URI = "/api/v2/student/create";
+    private static final String V2_DELETE_STUDENT_URI = "/api/v2/student/delete/" + STUDENT_ID;
+    private static final int MAX_BATCH_READ_IDS = 2;
+    private MockMvc mockMvc;
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private TuitionService tuitionService;
+    @Mock
+    private StudentBulkRegistrationService studentBulkRegistrationService;
+    @Mock
+    private StudentQueryService studentQueryService;
+    @Mock
+    private PasswordService passwordService;
+    @Mock
+    private SessionTokenService sessionTokenService;
+    @Mock
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        StudentController studentController = new StudentController(studentService, tuitionService,
+                studentBulkRegistrationService, studentQueryService, passwordService, sessionTokenService,
+                rateLimitService, MAX_BATCH_READ_IDS);
+        mockMvc = MockMvcBuilders.standaloneSetup(studentController)
+                .setControllerAdvice(new RegistrationExceptionHandler(), new CompactResponseBodyAdvice())
+                .addFilters(new ApiVersionFilter()).build();
+        when(passwordService.hash(anyString())).thenReturn(PASSWORD_HASH);
+    }
+
+    /**
+     * Start of tests for the v2 api
+     */
+    @Test
+    void Should_ReturnBareData_When_GettingStudentOfV2() throws Exception {
+        when(studentService.findById(STUDENT_ID)).thenReturn(getSampleStudent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(V2_GET_STUDENT_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.status").doesNotExist())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnCreated_When_CreatingStudentOfV2() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(V2_CREATE_STUDENT_URI)
+                        .content(getSampleStudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value(STUDENT_NAME));
+    }
+
+    @Test
+    void Should_ReturnNoContent_When_DeletingStudentOfV2() throws Exception {
+        when(studentService.findById(STUDENT_ID)).thenReturn(getSampleStudent());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete(V2_DELETE_STUDENT_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void Should_ReturnCompactError_When_GettingStudentOfV2ForStudentNotFound() throws Exception {
+        when(studentService.findById(STUDENT_ID)).thenThrow(new StudentNotFoundException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(V2_GET_STUDENT_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode()))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.STUDENT_NOT_FOUND.getMessage()))
+                .andExpect(jsonPath("$.status").doesNotExist())
+                .andExpect(jsonPath("$.displayMessage").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnCompactError_When_CreatingStudentOfV2ForMissingFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(V2_CREATE_STUDENT_URI)
+                        .content(new StudentCreateRequestDto().toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS.getCode()))
+                .andExpect(jsonPath("$.errorCode").doesNotExist());
+    }
+
+    @Test
+    void Should_ReturnSmallerBody_When_GettingStudentOfV2() throws Exception {
+        when(studentService.findById(STUDENT_ID)).thenReturn(getSampleStudent());
+
+        int v1Length = mockMvc.perform(MockMvcRequestBuilders.get(V1_GET_STUDENT_URI)
+                .accept(MediaType.APPLICATION_JSON)).andReturn().getResponse().getContentAsByteArray().length;
+        int v2Length = mockMvc.perform(MockMvcRequestBuilders.get(V2_GET_STUDENT_URI)
+                .accept(MediaType.APPLICATION_JSON)).andReturn().getResponse().getContentAsByteArray().length;
+
+        assertTrue(v2Length < v1Length);
+    }
+
+    /**
+     * Start of tests for the v1 api
+     */
+    @Test
+    void Should_ReturnEnvelope_When_GettingStudentOfV1() throws Exception {
+        when(studentService.findById(STUDENT_ID)).thenReturn(getSampleStudent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(V1_GET_STUDENT_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.studentId").value(STUDENT_ID));
+    }
+
+    @Test
+    void Should_PassRequestUnchanged_When_PathIsOfV1() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", V1_GET_STUDENT_URI);
+        MockFilterChain chain = new MockFilterChain();
+        new ApiVersionFilter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+        assertFalse(ApiVersionFilter.isV2(request));
+    }
+
+    @Test
+    void Should_PassRequestOfV1Path_When_PathIsOfV2() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", V2_GET_STUDENT_URI);
+        MockFilterChain chain = new MockFilterChain();
+        new ApiVersionFilter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(V1_GET_STUDENT_URI, ((HttpServletRequest) chain.getRequest()).getRequestURI());
+        assertTrue(ApiVersionFilter.isV2(request));
+    }
+
+    /**
+     * This method returns a sample StudentCreateRequestDto
+     *
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        StudentCreateRequestDto requestDto = new StudentCreateRequestDto();
+        requestDto.setName(STUDENT_NAME);
+        requestDto.setPassword(STUDENT_PASSWORD);
+        return requestDto;
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setName(STUDENT_NAME);
+        return student;
+    }
+}
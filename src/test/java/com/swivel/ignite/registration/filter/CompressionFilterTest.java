@@ -0,0 +1,165 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.service.CompressionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link CompressionFilter} class
+ */
+class CompressionFilterTest {
+
+    private static final String GET_ALL_TUITION_URI = "/api/v1/tuition/get/all";
+    private static final String GET_TUITION_BATCH_URI = "/api/v1/tuition/get/batch";
+    private static final String GET_STUDENT_URI = "/api/v1/student/get/sid-123456789";
+    private static final int MIN_SIZE = 256;
+    private CompressionService compressionService;
+    private CompressionFilter compressionFilter;
+    private String responseBody;
+    private String responseContentType;
+
+    @BeforeEach
+    void setUp() {
+        compressionService = new CompressionService(6, 4);
+        compressionFilter = new CompressionFilter(compressionService, Arrays.asList(GET_ALL_TUITION_URI,
+                GET_TUITION_BATCH_URI), Collections.singletonList(GET_ALL_TUITION_URI),
+                Arrays.asList(MediaType.APPLICATION_JSON_VALUE, "application/cbor"), MIN_SIZE);
+        responseBody = getSampleBody(100);
+        responseContentType = MediaType.APPLICATION_JSON_UTF8_VALUE;
+    }
+
+    @Test
+    void Should_CompressWithGzip_When_ClientAcceptsGzip() throws Exception {
+        MockHttpServletResponse response = perform(GET_TUITION_BATCH_URI, "gzip, deflate");
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertTrue(response.getContentAsByteArray().length < responseBody.length());
+        assertEquals(responseBody, new String(StreamUtils.copyToByteArray(new GZIPInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray()))), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void Should_CompressWithDeflate_When_ClientPrefersDeflate() throws Exception {
+        MockHttpServletResponse response = perform(GET_TUITION_BATCH_URI, "gzip;q=0.5, deflate");
+
+        assertEquals("deflate", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(responseBody, new String(StreamUtils.copyToByteArray(new InflaterInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray()))), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void Should_SendUncompressed_When_ClientAcceptsNoSupportedCoding() throws Exception {
+        MockHttpServletResponse response = perform(GET_TUITION_BATCH_URI, "br");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(responseBody, response.getContentAsString());
+    }
+
+    @Test
+    void Should_SendUncompressed_When_BodyIsBelowMinSize() throws Exception {
+        responseBody = getSampleBody(1);
+        MockHttpServletResponse response = perform(GET_TUITION_BATCH_URI, "gzip");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(responseBody, response.getContentAsString());
+        assertEquals(responseBody.length(), response.getContentLength());
+    }
+
+    @Test
+    void Should_SendUncompressed_When_MediaTypeIsNotAllowed() throws Exception {
+        responseContentType = MediaType.TEXT_PLAIN_VALUE;
+        MockHttpServletResponse response = perform(GET_TUITION_BATCH_URI, "gzip");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(responseBody, response.getContentAsString());
+    }
+
+    @Test
+    void Should_PassThrough_When_PathIsNotCompressed() throws Exception {
+        MockHttpServletResponse response = perform(GET_STUDENT_URI, "gzip");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.VARY));
+        assertEquals(responseBody, response.getContentAsString());
+    }
+
+    @Test
+    void Should_ReuseCompressedBody_When_CachedResponseIsUnchanged() throws Exception {
+        byte[] firstBody = perform(GET_ALL_TUITION_URI, "gzip").getContentAsByteArray();
+        byte[] secondBody = perform(GET_ALL_TUITION_URI, "gzip").getContentAsByteArray();
+
+        assertArrayEquals(firstBody, secondBody);
+        assertEquals(1, compressionService.getCompressedCount());
+        assertEquals(1, compressionService.getCacheHitCount());
+    }
+
+    @Test
+    void Should_CompressAgain_When_CachedResponseIsChanged() throws Exception {
+        perform(GET_ALL_TUITION_URI, "gzip");
+        responseBody = getSampleBody(101);
+        MockHttpServletResponse response = perform(GET_ALL_TUITION_URI, "gzip");
+
+        assertEquals(2, compressionService.getCompressedCount());
+        assertEquals(0, compressionService.getCacheHitCount());
+        assertEquals(responseBody, new String(StreamUtils.copyToByteArray(new GZIPInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray()))), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method runs a GET request through the filter to a servlet that writes the response body
+     *
+     * @param uri            request uri
+     * @param acceptEncoding Accept-Encoding header
+     * @return response
+     */
+    private MockHttpServletResponse perform(String uri, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(responseContentType);
+                resp.getOutputStream().write(responseBody.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        compressionFilter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    /**
+     * This method returns a sample tuition list body
+     *
+     * @param count number of tuition
+     * @return json body
+     */
+    private String getSampleBody(int count) {
+        StringBuilder body = new StringBuilder("{\"tuitionList\":[");
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"tuitionId\":\"tid-").append(100000000 + i)
+                    .append("\",\"name\":\"Perera Tuition\",\"location\":\"Nittambuwa\"}");
+        }
+        return body.append("]}").toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.entity.IdempotencyRecord;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.repository.IdempotencyRecordRepository;
+import com.swivel.ignite.registration.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link IdempotencyFilter} class
+ */
+class IdempotencyFilterTest {
+
+    private static final String CREATE_STUDENT_URI = "/api/v1/student/create";
+    private static final String GET_STUDENT_URI = "/api/v1/student/get/sid-123456789";
+    private static final String KEY = "key-123456789";
+    private static final String ERROR = "ERROR";
+    private static final String REQUEST_BODY = "{\"name\":\"Mohamed Nawaz\",\"password\":\"123456\"}";
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter idempotencyFilter;
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        IdempotencyService idempotencyService = new IdempotencyService(idempotencyRecordRepository, 60000, 10,
+                30000);
+        idempotencyFilter = new IdempotencyFilter(idempotencyService, Arrays.asList(CREATE_STUDENT_URI,
+                "/api/v1/student/add/**"), 16, 200, 10);
+    }
+
+    @Test
+    void Should_ReplayFirstResponse_When_RequestIsRetriedWithSameKey() throws Exception {
+        MockHttpServletResponse firstResponse = perform(getSampleRequest(CREATE_STUDENT_URI, KEY, REQUEST_BODY));
+        MockHttpServletResponse retryResponse = perform(getSampleRequest(CREATE_STUDENT_URI, KEY, REQUEST_BODY));
+
+        assertEquals(1, executions.get());
+        assertEquals(firstResponse.getContentAsString(), retryResponse.getContentAsString());
+        assertEquals("sid-1:" + REQUEST_BODY, retryResponse.getContentAsString());
+        assertEquals("true", retryResponse.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_KeyIsReusedForDifferentRequest() throws Exception {
+        perform(getSampleRequest(CREATE_STUDENT_URI, KEY, REQUEST_BODY));
+        MockHttpServletResponse response = perform(getSampleRequest(CREATE_STUDENT_URI, KEY, "{}"));
+
+        assertEquals(1, executions.get());
+        assertEquals(400, response.getStatus());
+        assertTrue(response.getContentAsString().contains(String.valueOf(
+                ErrorResponseStatusType.IDEMPOTENCY_KEY_REUSED.getCode())));
+    }
+
+    @Test
+    void Should_ReplayResponseOfOtherNode_When_KeyIsClaimedOnOtherNode() throws Exception {
+        String fingerprint = "POST " + CREATE_STUDENT_URI + " " + Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(REQUEST_BODY.getBytes()));
+        doThrow(new DataIntegrityViolationException(ERROR)).when(idempotencyRecordRepository)
+                .insertClaim(eq(KEY), anyString(), anyString(), any());
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new IdempotencyRecord(KEY, fingerprint, IdempotencyRecord.PENDING_STATUS, null,
+                        null, new Date())))
+                .thenReturn(Optional.of(new IdempotencyRecord(KEY, fingerprint, 201, MediaType.APPLICATION_JSON_VALUE,
+                        "sid-0".getBytes(), new Date())));
+        MockHttpServletResponse response = perform(getSampleRequest(CREATE_STUDENT_URI, KEY, REQUEST_BODY));
+
+        assertEquals(0, executions.get());
+        assertEquals(201, response.getStatus());
+        assertEquals("sid-0", response.getContentAsString());
+    }
+
+    @Test
+    void Should_ReturnConflict_When_ExecutionOnOtherNodeDoesNotEnd() throws Exception {
+        doThrow(new DataIntegrityViolationException(ERROR)).when(idempotencyRecordRepository)
+                .insertClaim(eq(KEY), anyString(), anyString(), any());
+        MockHttpServletResponse response = perform(getSampleRequest(CREATE_STUDENT_URI, KEY, REQUEST_BODY));
+
+        assertEquals(0, executions.get());
+        assertEquals(409, response.getStatus());
+        assertTrue(response.getContentAsString().contains(String.valueOf(
+                ErrorResponseStatusType.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode())));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_KeyIsTooLong() throws Exception {
+        MockHttpServletResponse response = perform(getSampleRequest(CREATE_STUDENT_URI,
+                "key-longer-than-sixteen-characters", REQUEST_BODY));
+
+        assertEquals(0, executions.get());
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    void Should_ExecuteEveryRequest_When_RequestHasNoKeyOrPathIsNotCovered() throws Exception {
+        perform(getSampleRequest(CREATE_STUDENT_URI, null, REQUEST_BODY));
+        perform(getSampleRequest(CREATE_STUDENT_URI, null, REQUEST_BODY));
+        perform(getSampleRequest(GET_STUDENT_URI, KEY, REQUEST_BODY));
+        perform(getSampleRequest(GET_STUDENT_URI, KEY, REQUEST_BODY));
+
+        assertEquals(4, executions.get());
+    }
+
+    /**
+     * This method runs a request through the filter to a servlet that echoes the body with an execution count
+     *
+     * @param request request
+     * @return response
+     */
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                String body = req.getReader().readLine();
+                resp.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+                resp.getWriter().write("sid-" + executions.incrementAndGet() + ":" + body);
+            }
+        };
+        idempotencyFilter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    /**
+     * This method returns a sample POST request
+     *
+     * @param uri  request uri
+     * @param key  idempotency key/ null
+     * @param body request body
+     * @return MockHttpServletRequest
+     */
+    private MockHttpServletRequest getSampleRequest(String uri, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes());
+        if (key != null)
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        return request;
+    }
+}
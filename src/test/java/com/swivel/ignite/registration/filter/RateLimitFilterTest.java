@@ -0,0 +1,55 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link RateLimitFilter} class
+ */
+class RateLimitFilterTest {
+
+    private static final String LOGIN_STUDENT_URI = "/api/v1/student/login";
+    private static final String GET_STUDENT_URI = "/api/v1/student/get/sid-123456789";
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitService rateLimitService = new RateLimitService(1, 1, 1, 1, 4, 16, 60000);
+        rateLimitFilter = new RateLimitFilter(rateLimitService, Collections.singletonList(LOGIN_STUDENT_URI));
+    }
+
+    @Test
+    void Should_ReturnTooManyRequests_When_ClientExceedsItsBurst() throws Exception {
+        MockFilterChain firstChain = new MockFilterChain();
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", LOGIN_STUDENT_URI),
+                new MockHttpServletResponse(), firstChain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", LOGIN_STUDENT_URI), response, chain);
+
+        assertNotNull(firstChain.getRequest());
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertTrue(response.getContentAsString().contains(String.valueOf(
+                ErrorResponseStatusType.CLIENT_RATE_LIMITED.getCode())));
+    }
+
+    @Test
+    void Should_PassThrough_When_PathIsNotLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            rateLimitFilter.doFilter(new MockHttpServletRequest("GET", GET_STUDENT_URI),
+                    new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.swivel.ignite.registration.filter;
+
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.repository.SessionRevocationRepository;
+import com.swivel.ignite.registration.service.SessionTokenService;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * This class tests {@link SessionTokenFilter} class
+ */
+class SessionTokenFilterTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String GET_STUDENT_URI = "/api/v1/student/get/sid-123456789";
+    private static final String UPDATE_STUDENT_URI = "/api/v1/student/update/sid-123456789";
+    private SessionTokenService sessionTokenService;
+    private SessionTokenFilter sessionTokenFilter;
+
+    @BeforeEach
+    void setUp() {
+        sessionTokenService = new SessionTokenService(mock(SessionRevocationRepository.class),
+                Collections.singletonList("k1:secret-of-at-least-thirty-two-bytes"), "k1", 60000, 60000);
+        sessionTokenFilter = new SessionTokenFilter(sessionTokenService,
+                Collections.singletonList("/api/v1/student/update/**"));
+    }
+
+    @Test
+    void Should_ExposeSessionToken_When_TokenIsValid() throws Exception {
+        MockHttpServletRequest request = getSampleRequest(GET_STUDENT_URI,
+                "Bearer " + sessionTokenService.issue(STUDENT_ID).getValue());
+        MockFilterChain chain = new MockFilterChain();
+        sessionTokenFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(STUDENT_ID, ((SessionToken) request.getAttribute(SessionTokenFilter.SESSION_TOKEN_ATTRIBUTE))
+                .getStudentId());
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_TokenIsInvalid() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        sessionTokenFilter.doFilter(getSampleRequest(GET_STUDENT_URI, "Bearer invalid.token"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains(String.valueOf(
+                ErrorResponseStatusType.INVALID_SESSION_TOKEN.getCode())));
+    }
+
+    @Test
+    void Should_PassThrough_When_TokenIsNotSentForOptionalPath() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        sessionTokenFilter.doFilter(getSampleRequest(GET_STUDENT_URI, null), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_TokenIsNotSentForRequiredPath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        sessionTokenFilter.doFilter(getSampleRequest(UPDATE_STUDENT_URI, null), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+    }
+
+    /**
+     * This method returns a sample request
+     *
+     * @param uri           request uri
+     * @param authorization authorization header/ null
+     * @return MockHttpServletRequest
+     */
+    private MockHttpServletRequest getSampleRequest(String uri, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (authorization != null)
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        return request;
+    }
+}
@@ -0,0 +1,163 @@
+package com.swivel.ignite.registration.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.dto.response.ResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentLoginResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionListResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.ResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.enums.TuitionField;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the serializers generated by the serializer processor and {@link GeneratedSerializerModule}
+ * class against reflective Jackson serialization
+ */
+class GeneratedSerializerModuleTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String TUITION_NAME = "Perera Tuition";
+    private static final String TUITION_LOCATION = "Nittambuwa";
+    private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper generatedMapper;
+
+    @BeforeEach
+    void setUp() {
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().build();
+        generatedMapper = Jackson2ObjectMapperBuilder.json().modules(new GeneratedSerializerModule()).build();
+    }
+
+    @Test
+    void Should_UseGeneratedSerializers_When_ModuleIsRegistered() throws Exception {
+        for (Class<?> type : Arrays.asList(SuccessResponseWrapper.class, StudentResponseDto.class,
+                TuitionResponseDto.class, TuitionListResponseDto.class)) {
+            assertTrue(generatedMapper.getSerializerProviderInstance().findValueSerializer(type).getClass()
+                    .getSimpleName().endsWith("JsonSerializer"));
+        }
+    }
+
+    @Test
+    void Should_WriteSameJson_When_StudentIsSerialized() throws Exception {
+        assertSameJson(new StudentResponseDto(getSampleStudent()));
+    }
+
+    @Test
+    void Should_WriteSameJson_When_StudentWithoutTuitionIsSerialized() throws Exception {
+        Student student = getSampleStudent();
+        student.setTuition(null);
+        student.setTuitionJoinedOn(null);
+        student.setVersion(null);
+
+        assertSameJson(new StudentResponseDto(student));
+    }
+
+    @Test
+    void Should_LeaveOutNullFields_When_TuitionWithSelectedFieldsIsSerialized() throws Exception {
+        TuitionResponseDto responseDto = new TuitionResponseDto(getSampleTuition(), EnumSet.of(TuitionField.NAME),
+                null, 3L);
+
+        assertSameJson(responseDto);
+        JsonNode json = generatedMapper.readTree(generatedMapper.writeValueAsBytes(responseDto));
+        assertFalse(json.has("location"));
+        assertFalse(json.has("studentIds"));
+    }
+
+    @Test
+    void Should_WriteSameJson_When_WrappedTuitionListIsSerialized() throws Exception {
+        TuitionListResponseDto data = new TuitionListResponseDto(Arrays.asList(
+                new TuitionResponseDto(getSampleTuition()), new TuitionResponseDto(new Tuition())));
+
+        assertSameJson(getSampleWrapper(SuccessResponseStatusType.RETURNED_ALL_TUITION, data));
+    }
+
+    @Test
+    void Should_WriteSameJson_When_WrapperWithoutDataIsSerialized() throws Exception {
+        assertSameJson(getSampleWrapper(SuccessResponseStatusType.DELETE_STUDENT, null));
+    }
+
+    @Test
+    void Should_KeepSubclassFields_When_SubclassOfGeneratedTypeIsSerialized() throws Exception {
+        long now = System.currentTimeMillis();
+        StudentLoginResponseDto data = new StudentLoginResponseDto(getSampleStudent(), new SessionToken(
+                "payload.signature", "token-id", STUDENT_ID, "k1", now, now + 60000));
+
+        assertSameJson(getSampleWrapper(SuccessResponseStatusType.LOGIN_STUDENT, data));
+        assertTrue(generatedMapper.readTree(generatedMapper.writeValueAsBytes(data)).has("token"));
+    }
+
+    /**
+     * This method asserts the generated serializers write the same json as reflective Jackson
+     *
+     * @param value value to serialize
+     */
+    private void assertSameJson(Object value) throws Exception {
+        JsonNode expected = reflectiveMapper.readTree(reflectiveMapper.writeValueAsBytes(value));
+        JsonNode actual = generatedMapper.readTree(generatedMapper.writeValueAsBytes(value));
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * This method returns a sample success response wrapper
+     *
+     * @param status success status
+     * @param data   response data
+     * @return SuccessResponseWrapper
+     */
+    private SuccessResponseWrapper getSampleWrapper(SuccessResponseStatusType status, ResponseDto data) {
+        return new SuccessResponseWrapper(ResponseStatusType.SUCCESS, status.getMessage(), data, SUCCESS_MESSAGE,
+                status.getCode());
+    }
+
+    /**
+     * This method returns a sample tuition with an enrolled student
+     *
+     * @return Tuition
+     */
+    private Tuition getSampleTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setName(TUITION_NAME);
+        tuition.setLocation(TUITION_LOCATION);
+        tuition.setVersion(2L);
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        tuition.setStudents(Collections.singleton(student));
+        return tuition;
+    }
+
+    /**
+     * This method returns a sample student enrolled in a tuition
+     *
+     * @return Student
+     */
+    private Student getSampleStudent() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setName(STUDENT_NAME);
+        student.setTuition(tuition);
+        student.setTuitionJoinedOn(new Date());
+        student.setVersion(1L);
+        return student;
+    }
+}
@@ -0,0 +1,226 @@
+package com.swivel.ignite.registration.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.dto.response.CompactErrorResponseDto;
+import com.swivel.ignite.registration.dto.response.ResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentListResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentLoginResponseDto;
+import com.swivel.ignite.registration.dto.response.StudentResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionListResponseDto;
+import com.swivel.ignite.registration.dto.response.TuitionResponseDto;
+import com.swivel.ignite.registration.entity.Student;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.ErrorResponseStatusType;
+import com.swivel.ignite.registration.enums.ResponseStatusType;
+import com.swivel.ignite.registration.enums.SuccessResponseStatusType;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import com.swivel.ignite.registration.wrapper.ErrorResponseWrapper;
+import com.swivel.ignite.registration.wrapper.SuccessResponseWrapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class benchmarks the serializers generated by the serializer processor against reflective Jackson with JMH,
+ * measuring the throughput and the bytes allocated per serialization of a wrapped student and of a wrapped tuition
+ * list. It is tagged {@code load} and only runs with the {@code load-test} profile: {@code mvn test -Pload-test}.
+ * <p>
+ * The benchmarks run in the test JVM, as both mappers run in the one JVM of the service, and each mapper first
+ * writes the other response types of the service, so its bean serializer is not compiled for one type only. The
+ * two mappers are run alternately over {@value #ROUNDS} rounds and the best throughput of each is compared, as a
+ * shared machine speeds up and slows down over the minutes of the run. Only the gain on the student is asserted,
+ * as the tuition list is mostly student ids, which both mappers write alike.
+ */
+@Tag("load")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final int TUITION_COUNT = 20;
+    private static final int STUDENTS_PER_TUITION = 30;
+    private static final int ROUNDS = 5;
+    private static final int WARM_UP_SERIALIZATIONS = 5000;
+    private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+    @Param({"STUDENT", "TUITION_LIST"})
+    public String payload;
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper generatedMapper;
+    private SuccessResponseWrapper response;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().build();
+        generatedMapper = Jackson2ObjectMapperBuilder.json().modules(new GeneratedSerializerModule()).build();
+        SuccessResponseWrapper studentResponse = getSampleWrapper(SuccessResponseStatusType.GET_STUDENT,
+                new StudentResponseDto(getSampleStudent(0)));
+        SuccessResponseWrapper tuitionListResponse = getSampleWrapper(SuccessResponseStatusType.RETURNED_ALL_TUITION,
+                getSampleTuitionList());
+        response = "STUDENT".equals(payload) ? studentResponse : tuitionListResponse;
+        List<Object> otherResponses = getSampleOtherResponses();
+        otherResponses.add(studentResponse);
+        otherResponses.add(tuitionListResponse);
+        for (int i = 0; i < WARM_UP_SERIALIZATIONS; i++) {
+            for (Object otherResponse : otherResponses) {
+                reflectiveMapper.writeValueAsBytes(otherResponse);
+                generatedMapper.writeValueAsBytes(otherResponse);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] reflective() throws Exception {
+        return reflectiveMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] generated() throws Exception {
+        return generatedMapper.writeValueAsBytes(response);
+    }
+
+    @Test
+    void Should_SerializeFaster_When_SerializersAreGenerated() throws RunnerException {
+        for (String payloadName : new String[]{"STUDENT", "TUITION_LIST"}) {
+            double reflectiveThroughput = 0;
+            double generatedThroughput = 0;
+            double reflectiveAllocation = 0;
+            double generatedAllocation = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                RunResult reflectiveResult = run("reflective", payloadName);
+                RunResult generatedResult = run("generated", payloadName);
+                reflectiveThroughput = Math.max(reflectiveThroughput, reflectiveResult.getPrimaryResult().getScore());
+                generatedThroughput = Math.max(generatedThroughput, generatedResult.getPrimaryResult().getScore());
+                reflectiveAllocation = reflectiveResult.getSecondaryResults().get(ALLOCATION_PER_OPERATION)
+                        .getScore();
+                generatedAllocation = generatedResult.getSecondaryResults().get(ALLOCATION_PER_OPERATION).getScore();
+            }
+
+            System.out.printf("%s serializations per second reflective: %.0f, generated: %.0f, gain: %.2fx; " +
+                            "bytes allocated per serialization reflective: %.0f, generated: %.0f%n", payloadName,
+                    reflectiveThroughput, generatedThroughput, generatedThroughput / reflectiveThroughput,
+                    reflectiveAllocation, generatedAllocation);
+            if ("STUDENT".equals(payloadName))
+                assertTrue(generatedThroughput > reflectiveThroughput);
+        }
+    }
+
+    /**
+     * This method runs one benchmark method for a payload
+     *
+     * @param method      benchmark method
+     * @param payloadName payload
+     * @return run result
+     */
+    private RunResult run(String method, String payloadName) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ResponseSerializationBenchmark.class.getName() + "\\." + method + "$")
+                .param("payload", payloadName)
+                .forks(0)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+        return new Runner(options).runSingle();
+    }
+
+    /**
+     * This method returns a sample success response wrapper
+     *
+     * @param status success status
+     * @param data   response data
+     * @return SuccessResponseWrapper
+     */
+    private SuccessResponseWrapper getSampleWrapper(SuccessResponseStatusType status, ResponseDto data) {
+        return new SuccessResponseWrapper(ResponseStatusType.SUCCESS, status.getMessage(), data,
+                "Successfully returned the data.", status.getCode());
+    }
+
+    /**
+     * This method returns sample responses of the other types the service writes
+     *
+     * @return responses
+     */
+    private List<Object> getSampleOtherResponses() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS_PER_TUITION; i++) {
+            students.add(getSampleStudent(i));
+        }
+        long now = System.currentTimeMillis();
+        List<Object> responses = new ArrayList<>();
+        responses.add(getSampleWrapper(SuccessResponseStatusType.LOGIN_STUDENT, new StudentLoginResponseDto(
+                getSampleStudent(0), new SessionToken("payload.signature", "token-id", "sid-100000000", "k1", now,
+                now + 60000))));
+        responses.add(getSampleWrapper(SuccessResponseStatusType.GET_STUDENT, new StudentListResponseDto(students)));
+        responses.add(new ErrorResponseWrapper(ResponseStatusType.ERROR,
+                ErrorResponseStatusType.STUDENT_NOT_FOUND.getMessage(), null, "Student not found.",
+                ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode()));
+        responses.add(new CompactErrorResponseDto(ErrorResponseStatusType.STUDENT_NOT_FOUND.getCode(),
+                ErrorResponseStatusType.STUDENT_NOT_FOUND.getMessage()));
+        return responses;
+    }
+
+    /**
+     * This method returns a sample tuition list with enrolled students
+     *
+     * @return TuitionListResponseDto
+     */
+    private TuitionListResponseDto getSampleTuitionList() {
+        List<TuitionResponseDto> tuitionList = new ArrayList<>();
+        for (int i = 0; i < TUITION_COUNT; i++) {
+            Tuition tuition = new Tuition();
+            tuition.setId("tid-" + (100000000 + i));
+            tuition.setName("Perera Tuition " + i);
+            tuition.setLocation("Nittambuwa");
+            tuition.setVersion((long) i);
+            Set<Student> students = new HashSet<>();
+            for (int j = 0; j < STUDENTS_PER_TUITION; j++) {
+                students.add(getSampleStudent(i * STUDENTS_PER_TUITION + j));
+            }
+            tuition.setStudents(students);
+            tuitionList.add(new TuitionResponseDto(tuition));
+        }
+        return new TuitionListResponseDto(tuitionList);
+    }
+
+    /**
+     * This method returns a sample student
+     *
+     * @param index student index
+     * @return Student
+     */
+    private Student getSampleStudent(int index) {
+        Student student = new Student();
+        student.setId("sid-" + (100000000 + index));
+        student.setName("Mohamed Nawaz " + index);
+        student.setTuitionJoinedOn(new Date());
+        student.setVersion(1L);
+        return student;
+    }
+}
@@ -0,0 +1,232 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.ChangeLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link ChangeFeedService} class
+ */
+class ChangeFeedServiceTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final long GAP_GRACE_MS = 5000;
+    private static final long SHORT_GAP_GRACE_MS = 50;
+    private static final String ERROR = "ERROR";
+    private ChangeFeedService changeFeedService;
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        changeFeedService = new ChangeFeedService(changeLogRepository, GAP_GRACE_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeedService.shutdown();
+    }
+
+    /**
+     * Start of tests for recordChange method
+     */
+    @Test
+    void Should_InsertChangeLogEntry_When_RecordingChangeOutsideTransaction() {
+        changeFeedService.recordChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED,
+                STUDENT_ID, TUITION_ID));
+
+        List<ChangeLogEntry> entries = captureInsertedEntries();
+        assertEquals(1, entries.size());
+        assertEquals(RegistrationEventType.STUDENT_ENROLLED, entries.get(0).getType());
+        assertEquals(STUDENT_ID, entries.get(0).getStudentId());
+        assertEquals(TUITION_ID, entries.get(0).getTuitionId());
+    }
+
+    @Test
+    void Should_InsertChangeLogEntriesOnce_When_TransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeedService.recordChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                    STUDENT_ID, null));
+            changeFeedService.recordChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED,
+                    STUDENT_ID, TUITION_ID));
+            verify(changeLogRepository, never()).insertAll(anyList());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                    .getSynchronizations()) {
+                synchronization.beforeCommit(false);
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        List<ChangeLogEntry> entries = captureInsertedEntries();
+        assertEquals(2, entries.size());
+        assertEquals(RegistrationEventType.STUDENT_CREATED, entries.get(0).getType());
+        assertEquals(RegistrationEventType.STUDENT_ENROLLED, entries.get(1).getType());
+    }
+
+    @Test
+    void Should_NotInsertChangeLogEntries_When_TransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeedService.recordChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                    STUDENT_ID, null));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                    .getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(changeLogRepository, never()).insertAll(anyList());
+    }
+
+    /**
+     * Start of tests for getChanges method
+     */
+    @Test
+    void Should_ReturnChanges_When_IdsHaveNoGap() {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(
+                Arrays.asList(getSampleEntry(3, 0), getSampleEntry(4, 0)));
+
+        assertEquals(2, changeFeedService.getChanges(2, 10).size());
+    }
+
+    @Test
+    void Should_StopAtGap_When_GapIsWithinGracePeriod() {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(
+                Arrays.asList(getSampleEntry(3, 0), getSampleEntry(5, 0)));
+
+        List<ChangeLogEntry> changes = changeFeedService.getChanges(2, 10);
+
+        assertEquals(1, changes.size());
+        assertEquals(Long.valueOf(3), changes.get(0).getId());
+    }
+
+    @Test
+    void Should_StopAtGap_When_EntryAfterGapIsOlderThanGracePeriod() {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(
+                Arrays.asList(getSampleEntry(3, 0), getSampleEntry(5, GAP_GRACE_MS * 2)));
+
+        assertEquals(1, changeFeedService.getChanges(2, 10).size());
+    }
+
+    @Test
+    void Should_SkipGap_When_GapWasSeenForGracePeriod() throws Exception {
+        ChangeFeedService shortGraceService = new ChangeFeedService(changeLogRepository, SHORT_GAP_GRACE_MS);
+        try {
+            when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(
+                    Arrays.asList(getSampleEntry(3, 0), getSampleEntry(5, 0)));
+
+            assertEquals(1, shortGraceService.getChanges(2, 10).size());
+            Thread.sleep(SHORT_GAP_GRACE_MS * 2);
+            assertEquals(2, shortGraceService.getChanges(2, 10).size());
+        } finally {
+            shortGraceService.shutdown();
+        }
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_ReadingChangesFailed() {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenThrow(new DataAccessException(ERROR) {
+                });
+
+        assertThrows(RegistrationServiceException.class, () -> changeFeedService.getChanges(0, 10));
+    }
+
+    /**
+     * Start of tests for awaitChanges method
+     */
+    @Test
+    void Should_CompleteImmediately_When_ChangesAreAvailable() {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(
+                Collections.singletonList(getSampleEntry(1, 0)));
+
+        CompletableFuture<List<ChangeLogEntry>> future = changeFeedService.awaitChanges(0, 10, 1000);
+
+        assertTrue(future.isDone());
+        assertEquals(1, future.join().size());
+    }
+
+    @Test
+    void Should_CompleteWithChanges_When_ChangeIsCommittedWhileWaiting() throws Exception {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.singletonList(getSampleEntry(1, 0)));
+
+        CompletableFuture<List<ChangeLogEntry>> future = changeFeedService.awaitChanges(0, 10, 10000);
+        assertFalse(future.isDone());
+        changeFeedService.onChangeCommitted(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                STUDENT_ID, null));
+
+        assertEquals(1, future.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void Should_CompleteEmpty_When_WaitRunsOut() throws Exception {
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        CompletableFuture<List<ChangeLogEntry>> future = changeFeedService.awaitChanges(0, 10, 50);
+
+        assertTrue(future.get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    /**
+     * This method returns the entries inserted in the change log
+     *
+     * @return change log entries
+     */
+    @SuppressWarnings("unchecked")
+    private List<ChangeLogEntry> captureInsertedEntries() {
+        ArgumentCaptor<List<ChangeLogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository, times(1)).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    /**
+     * This method returns a sample change log entry
+     *
+     * @param id    entry id
+     * @param ageMs age of the entry
+     * @return ChangeLogEntry
+     */
+    private ChangeLogEntry getSampleEntry(long id, long ageMs) {
+        ChangeLogEntry entry = new ChangeLogEntry(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED,
+                STUDENT_ID, TUITION_ID));
+        entry.setId(id);
+        entry.setCreatedAt(new Date(System.currentTimeMillis() - ageMs));
+        return entry;
+    }
+}
@@ -0,0 +1,148 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.service.compression.ContentCoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link CompressionService} class
+ */
+class CompressionServiceTest {
+
+    private static final String CACHE_KEY = "/api/v1/tuition/get/all";
+    private CompressionService compressionService;
+
+    @BeforeEach
+    void setUp() {
+        compressionService = new CompressionService(6, 1);
+    }
+
+    /**
+     * Start of tests for negotiate method
+     */
+    @Test
+    void Should_ReturnGzip_When_ClientAcceptsGzipAndDeflateEqually() {
+        assertEquals(ContentCoding.GZIP, compressionService.negotiate("deflate, gzip"));
+    }
+
+    @Test
+    void Should_ReturnCodingOfHighestQuality_When_QualitiesDiffer() {
+        assertEquals(ContentCoding.DEFLATE, compressionService.negotiate("gzip;q=0.4, deflate;q=0.8, br"));
+    }
+
+    @Test
+    void Should_ReturnCodingNotRefused_When_WildcardIsAccepted() {
+        assertEquals(ContentCoding.DEFLATE, compressionService.negotiate("gzip;q=0, *"));
+    }
+
+    @Test
+    void Should_ReturnNull_When_NoSupportedCodingIsAccepted() {
+        assertNull(compressionService.negotiate(null));
+        assertNull(compressionService.negotiate("identity"));
+        assertNull(compressionService.negotiate("br, *;q=0"));
+    }
+
+    /**
+     * Start of tests for compress method
+     */
+    @Test
+    void Should_ExportRatio_When_BodyIsCompressed() throws Exception {
+        byte[] body = getSampleBody();
+        byte[] compressedBody = compressionService.compress(body, ContentCoding.GZIP);
+
+        assertEquals(1, compressionService.getCompressedCount());
+        assertEquals(body.length, compressionService.getBytesIn());
+        assertEquals(compressedBody.length, compressionService.getBytesOut());
+        assertEquals((double) body.length / compressedBody.length, compressionService.getCompressionRatio());
+        assertTrue(compressionService.getCompressionRatio() > 1);
+    }
+
+    /**
+     * Start of tests for compressCached method
+     */
+    @Test
+    void Should_KeepCompressedBodyPerCoding_When_BodyIsCompressedWithBothCodings() throws Exception {
+        byte[] body = getSampleBody();
+        byte[] gzipBody = compressionService.compressCached(CACHE_KEY, body, ContentCoding.GZIP);
+        byte[] deflateBody = compressionService.compressCached(CACHE_KEY, body, ContentCoding.DEFLATE);
+
+        assertFalse(Arrays.equals(gzipBody, deflateBody));
+        assertEquals(2, compressionService.getCompressedCount());
+        assertEquals(0, compressionService.getCacheHitCount());
+    }
+
+    @Test
+    void Should_InflateToBody_When_BodyIsCompressedWithDeflate() throws Exception {
+        byte[] body = getSampleBody();
+        for (int level : new int[]{Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION}) {
+            byte[] deflateBody = ContentCoding.DEFLATE.compress(body, level);
+            assertArrayEquals(body, inflate(deflateBody));
+            assertArrayEquals(deflate(body, level), deflateBody);
+        }
+    }
+
+    /**
+     * This method deflates a body with a deflater of the given level
+     *
+     * @param body  body bytes
+     * @param level deflate level
+     * @return deflate coded body
+     */
+    private byte[] deflate(byte[] body, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream deflateBody = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                deflateBody.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return deflateBody.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * This method inflates a deflate coded body
+     *
+     * @param deflateBody deflate coded body
+     * @return body bytes
+     */
+    private byte[] inflate(byte[] deflateBody) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflateBody))) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return body.toByteArray();
+        }
+    }
+
+    /**
+     * This method returns a sample repetitive body
+     *
+     * @return body bytes
+     */
+    private byte[] getSampleBody() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            body.append("{\"tuitionId\":\"tid-").append(i).append("\",\"location\":\"Nittambuwa\"}");
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
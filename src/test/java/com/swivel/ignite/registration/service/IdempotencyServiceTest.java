@@ -0,0 +1,191 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.IdempotencyRecord;
+import com.swivel.ignite.registration.repository.IdempotencyRecordRepository;
+import com.swivel.ignite.registration.service.idempotency.IdempotentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link IdempotencyService} class
+ */
+class IdempotencyServiceTest {
+
+    private static final String KEY = "key-123456789";
+    private static final String OTHER_KEY = "key-987654321";
+    private static final String FINGERPRINT = "POST /api/v1/student/create hash";
+    private static final long TTL_MS = 60000;
+    private static final long CLAIM_TIMEOUT_MS = 30000;
+    private static final String ERROR = "ERROR";
+    private IdempotencyService idempotencyService;
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, TTL_MS, 1, CLAIM_TIMEOUT_MS);
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    /**
+     * Start of tests for findResponse method
+     */
+    @Test
+    void Should_ReturnCachedResponse_When_ResponseIsCompleted() {
+        when(idempotencyRecordRepository.completeClaim(eq(KEY), anyString(), eq(200), any(), any(), any()))
+                .thenReturn(1);
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+        idempotencyService.complete(KEY, getSampleResponse(200, System.currentTimeMillis()));
+
+        assertEquals(200, idempotencyService.findResponse(KEY).getStatus());
+        verify(idempotencyRecordRepository, times(1)).completeClaim(eq(KEY), anyString(), eq(200), any(), any(),
+                any());
+        verify(idempotencyRecordRepository, never()).deleteClaim(anyString(), anyString());
+        verify(idempotencyRecordRepository, never()).save(any(IdempotencyRecord.class));
+        verify(idempotencyRecordRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void Should_ReadRecordFromDB_When_ResponseIsNotCached() {
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(KEY,
+                FINGERPRINT, 200, null, new byte[0], new Date())));
+
+        assertEquals(FINGERPRINT, idempotencyService.findResponse(KEY).getFingerprint());
+        idempotencyService.findResponse(KEY);
+        verify(idempotencyRecordRepository, times(1)).findById(KEY);
+    }
+
+    @Test
+    void Should_ReturnNull_When_RecordIsPending() {
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(KEY,
+                FINGERPRINT, IdempotencyRecord.PENDING_STATUS, null, null, new Date())));
+
+        assertNull(idempotencyService.findResponse(KEY));
+    }
+
+    @Test
+    void Should_ReturnNull_When_RecordIsExpired() {
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(KEY,
+                FINGERPRINT, 200, null, new byte[0], new Date(System.currentTimeMillis() - TTL_MS * 2))));
+
+        assertNull(idempotencyService.findResponse(KEY));
+    }
+
+    @Test
+    void Should_EvictLeastRecentlyUsedResponse_When_CacheIsFull() {
+        idempotencyService.complete(KEY, getSampleResponse(200, System.currentTimeMillis()));
+        idempotencyService.complete(OTHER_KEY, getSampleResponse(200, System.currentTimeMillis()));
+
+        assertNull(idempotencyService.findResponse(KEY));
+        assertNotNull(idempotencyService.findResponse(OTHER_KEY));
+    }
+
+    @Test
+    void Should_ReturnNull_When_ReadingRecordFailed() {
+        when(idempotencyRecordRepository.findById(anyString())).thenThrow(new DataAccessException(ERROR) {
+        });
+
+        assertNull(idempotencyService.findResponse(KEY));
+    }
+
+    /**
+     * Start of tests for claim method
+     */
+    @Test
+    void Should_ReturnInFlightExecution_When_KeyIsAlreadyClaimed() {
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+        CompletableFuture<Void> inFlight = idempotencyService.claim(KEY, FINGERPRINT);
+
+        assertNotNull(inFlight);
+        assertFalse(inFlight.isDone());
+        idempotencyService.complete(KEY, getSampleResponse(201, System.currentTimeMillis()));
+        assertTrue(inFlight.isDone());
+        assertNull(idempotencyService.claim(OTHER_KEY, FINGERPRINT));
+        verify(idempotencyRecordRepository, times(1)).insertClaim(eq(KEY), eq(FINGERPRINT), anyString(), any());
+    }
+
+    @Test
+    void Should_ReturnPendingExecution_When_KeyIsClaimedOnOtherNode() {
+        doThrow(new DataIntegrityViolationException(ERROR)).when(idempotencyRecordRepository)
+                .insertClaim(eq(KEY), anyString(), anyString(), any());
+        CompletableFuture<Void> inFlight = idempotencyService.claim(KEY, FINGERPRINT);
+
+        assertNotNull(inFlight);
+        assertFalse(inFlight.isDone());
+        assertNotNull(idempotencyService.claim(KEY, FINGERPRINT));
+        verify(idempotencyRecordRepository, times(2)).takeOverClaim(eq(KEY), eq(FINGERPRINT), anyString(), any(),
+                any(), any());
+    }
+
+    @Test
+    void Should_TakeOverClaim_When_ClaimOfOtherNodeTimedOut() {
+        doThrow(new DataIntegrityViolationException(ERROR)).when(idempotencyRecordRepository)
+                .insertClaim(eq(KEY), anyString(), anyString(), any());
+        when(idempotencyRecordRepository.takeOverClaim(eq(KEY), eq(FINGERPRINT), anyString(), any(), any(), any()))
+                .thenReturn(1);
+
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+    }
+
+    @Test
+    void Should_ClaimOnThisNode_When_ClaimingRecordFailed() {
+        doThrow(new DataAccessException(ERROR) {
+        }).when(idempotencyRecordRepository).insertClaim(eq(KEY), anyString(), anyString(), any());
+
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+        idempotencyService.complete(KEY, getSampleResponse(201, System.currentTimeMillis()));
+        verify(idempotencyRecordRepository, never()).completeClaim(anyString(), anyString(), anyInt(), any(), any(),
+                any());
+    }
+
+    /**
+     * Start of tests for complete method
+     */
+    @Test
+    void Should_NotStoreResponse_When_ResponseIsServerError() {
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+        idempotencyService.complete(KEY, getSampleResponse(500, System.currentTimeMillis()));
+
+        assertNull(idempotencyService.findResponse(KEY));
+        assertNull(idempotencyService.claim(KEY, FINGERPRINT));
+        verify(idempotencyRecordRepository, times(1)).deleteClaim(eq(KEY), anyString());
+        verify(idempotencyRecordRepository, never()).completeClaim(anyString(), anyString(), anyInt(), any(), any(),
+                any());
+    }
+
+    /**
+     * Start of tests for purgeExpiredRecords method
+     */
+    @Test
+    void Should_DeleteRecordsOlderThanTtl_When_PurgingExpiredRecords() {
+        long before = System.currentTimeMillis();
+        idempotencyService.purgeExpiredRecords();
+
+        verify(idempotencyRecordRepository, times(1)).deleteByCreatedAtBefore(argThat(date ->
+                date.getTime() <= before - TTL_MS + 1000 && date.getTime() >= before - TTL_MS));
+    }
+
+    /**
+     * This method returns a sample response
+     *
+     * @param status    response status
+     * @param createdAt time the response was stored
+     * @return IdempotentResponse
+     */
+    private IdempotentResponse getSampleResponse(int status, long createdAt) {
+        return new IdempotentResponse(FINGERPRINT, status, null, new byte[0], createdAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.swivel.ignite.registration.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link PasswordService} class
+ */
+class PasswordServiceTest {
+
+    private static final String PASSWORD = "123456789";
+    private static final String OTHER_PASSWORD = "987654321";
+    private static final int COST = 4;
+    private PasswordService passwordService;
+
+    @BeforeEach
+    void setUp() {
+        passwordService = new PasswordService(1, 4, 0, COST, COST, 0, 10000);
+        passwordService.calibrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordService.shutdown();
+    }
+
+    /**
+     * Start of tests for calibrate method
+     */
+    @Test
+    void Should_KeepCostWithinBounds_When_Calibrating() {
+        PasswordService calibratedService = new PasswordService(1, 4, 60000, COST, COST + 2, 0, 10000);
+        calibratedService.calibrate();
+        assertEquals(COST + 2, calibratedService.getCost());
+        assertEquals(COST, passwordService.getCost());
+        calibratedService.shutdown();
+    }
+
+    @Test
+    void Should_UsePinnedCost_When_CostIsConfigured() {
+        PasswordService pinnedService = new PasswordService(1, 4, 60000, COST, COST + 2, COST + 1, 10000);
+        pinnedService.calibrate();
+        assertEquals(COST + 1, pinnedService.getCost());
+        pinnedService.shutdown();
+    }
+
+    /**
+     * Start of tests for hash and matches methods
+     */
+    @Test
+    void Should_MatchPassword_When_CheckingAgainstItsHash() {
+        String hash = passwordService.hash(PASSWORD);
+
+        assertNotEquals(PASSWORD, hash);
+        assertTrue(passwordService.matches(PASSWORD, hash));
+        assertFalse(passwordService.matches(OTHER_PASSWORD, hash));
+        assertFalse(passwordService.needsRehash(hash));
+    }
+
+    @Test
+    void Should_MatchLegacyPlaintextPassword_When_StoredPasswordIsNotAHash() {
+        assertTrue(passwordService.matches(PASSWORD, PASSWORD));
+        assertFalse(passwordService.matches(OTHER_PASSWORD, PASSWORD));
+        assertFalse(passwordService.matches(PASSWORD, null));
+        assertTrue(passwordService.needsRehash(PASSWORD));
+    }
+
+    @Test
+    void Should_NeedRehash_When_HashCostIsBelowMinCost() {
+        PasswordService strongerService = new PasswordService(1, 4, 0, COST + 1, COST + 1, 0, 10000);
+        String hash = passwordService.hash(PASSWORD);
+
+        assertTrue(strongerService.needsRehash(hash));
+        assertTrue(strongerService.matches(PASSWORD, hash));
+        strongerService.shutdown();
+    }
+
+    @Test
+    void Should_NotNeedRehash_When_HashCostIsWithinBoundsButDiffersFromCurrentCost() {
+        PasswordService higherCostService = new PasswordService(1, 4, 0, COST, COST + 1, COST + 1, 10000);
+        higherCostService.calibrate();
+        String higherCostHash = higherCostService.hash(PASSWORD);
+
+        assertFalse(passwordService.needsRehash(higherCostHash));
+        assertFalse(higherCostService.needsRehash(passwordService.hash(PASSWORD)));
+        higherCostService.shutdown();
+    }
+
+    /**
+     * Start of tests for hashAll method
+     */
+    @Test
+    void Should_HashAllPasswordsInOrder_When_BatchIsLargerThanTheQueue() {
+        List<String> passwords = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8");
+        List<String> hashes = passwordService.hashAll(passwords);
+
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(passwordService.matches(passwords.get(i), hashes.get(i)));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.repository.JobLeaseRepository;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link PurgeService} class
+ */
+class PurgeServiceTest {
+
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final int CHUNK_SIZE = 2;
+    private static final int CHUNKS_PER_RUN = 2;
+    private static final long LEASE_MS = 60000;
+    private static final String ERROR = "ERROR";
+    private PurgeService purgeService;
+    @Mock
+    private TuitionRepository tuitionRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        purgeService = new PurgeService(tuitionRepository, studentRepository, jobLeaseRepository, paymentService,
+                eventPublisher, transactionManager, CHUNK_SIZE, CHUNKS_PER_RUN, LEASE_MS);
+        when(jobLeaseRepository.renew(anyString(), anyString(), any(Date.class), any(Date.class))).thenReturn(1);
+        when(tuitionRepository.findDeletedIds(anyInt())).thenReturn(Collections.emptyList());
+        when(studentRepository.findDeletedIds(anyInt())).thenReturn(Collections.emptyList());
+    }
+
+    /**
+     * Start of tests for purge method
+     */
+    @Test
+    void Should_UnenrollStudentsAndPurgeTuition_When_TuitionIsSoftDeleted() throws IOException {
+        when(tuitionRepository.findDeletedIds(CHUNKS_PER_RUN)).thenReturn(Collections.singletonList(TUITION_ID));
+        when(studentRepository.findAnyIdsByTuitionId(TUITION_ID, CHUNK_SIZE))
+                .thenReturn(Collections.singletonList(STUDENT_ID));
+
+        purgeService.purge();
+        verify(studentRepository).unenrollAnyByIdIn(Collections.singletonList(STUDENT_ID));
+        verify(eventPublisher).publishEvent(any(RegistrationEvent.class));
+        verify(paymentService).deleteByTuitionId(TUITION_ID);
+        verify(tuitionRepository).purgeById(TUITION_ID);
+        verify(studentRepository).findDeletedIds(CHUNK_SIZE);
+    }
+
+    @Test
+    void Should_StopAtChunkBudget_When_TuitionHasMoreStudentsThanARun() throws IOException {
+        when(tuitionRepository.findDeletedIds(CHUNKS_PER_RUN)).thenReturn(Collections.singletonList(TUITION_ID));
+        when(studentRepository.findAnyIdsByTuitionId(TUITION_ID, CHUNK_SIZE))
+                .thenReturn(Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID));
+
+        purgeService.purge();
+        verify(studentRepository, times(CHUNKS_PER_RUN)).unenrollAnyByIdIn(anyCollection());
+        verify(paymentService, never()).deleteByTuitionId(anyString());
+        verify(tuitionRepository, never()).purgeById(anyString());
+        verify(studentRepository, never()).findDeletedIds(anyInt());
+    }
+
+    @Test
+    void Should_PurgeStudent_When_StudentIsSoftDeleted() throws IOException {
+        when(studentRepository.findDeletedIds(CHUNK_SIZE)).thenReturn(Collections.singletonList(STUDENT_ID));
+
+        purgeService.purge();
+        verify(paymentService).deleteByStudentId(STUDENT_ID);
+        verify(studentRepository).purgeById(STUDENT_ID);
+    }
+
+    @Test
+    void Should_KeepStudent_When_DeletingPaymentsIsFailed() throws IOException {
+        when(studentRepository.findDeletedIds(CHUNK_SIZE)).thenReturn(Collections.singletonList(STUDENT_ID));
+        doThrow(new IOException(ERROR)).when(paymentService).deleteByStudentId(STUDENT_ID);
+
+        purgeService.purge();
+        verify(studentRepository, never()).purgeById(anyString());
+    }
+
+    @Test
+    void Should_NotPurge_When_LeaseIsHeldByOtherNode() throws IOException {
+        when(tuitionRepository.findDeletedIds(CHUNKS_PER_RUN)).thenReturn(Collections.singletonList(TUITION_ID));
+        when(studentRepository.findDeletedIds(CHUNK_SIZE)).thenReturn(Collections.singletonList(STUDENT_ID));
+        when(jobLeaseRepository.renew(anyString(), anyString(), any(Date.class), any(Date.class))).thenReturn(0);
+        doThrow(new DataIntegrityViolationException(ERROR)).when(jobLeaseRepository)
+                .insertLease(anyString(), anyString(), any(Date.class));
+
+        purgeService.purge();
+        verify(studentRepository, never()).unenrollAnyByIdIn(anyCollection());
+        verify(studentRepository, never()).findDeletedIds(anyInt());
+        verifyZeroInteractions(paymentService, eventPublisher);
+    }
+
+    @Test
+    void Should_InsertLease_When_JobHasNoLease() throws IOException {
+        when(studentRepository.findDeletedIds(CHUNK_SIZE)).thenReturn(Collections.singletonList(STUDENT_ID));
+        when(jobLeaseRepository.renew(anyString(), anyString(), any(Date.class), any(Date.class))).thenReturn(0);
+
+        purgeService.purge();
+        verify(jobLeaseRepository).insertLease(eq("purge"), anyString(), any(Date.class));
+        verify(paymentService).deleteByStudentId(STUDENT_ID);
+    }
+
+    @Test
+    void Should_NotThrow_When_ReadingSoftDeletedRowsIsFailed() {
+        when(tuitionRepository.findDeletedIds(anyInt())).thenThrow(new DataAccessException(ERROR) {
+        });
+
+        purgeService.purge();
+        verifyZeroInteractions(paymentService, eventPublisher);
+    }
+}
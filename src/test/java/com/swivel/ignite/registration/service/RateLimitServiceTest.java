@@ -0,0 +1,87 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.service.ratelimit.TokenBucketLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link RateLimitService} and {@link TokenBucketLimiter} classes
+ */
+class RateLimitServiceTest {
+
+    private static final String CLIENT_IP = "10.0.0.1";
+    private static final String OTHER_CLIENT_IP = "10.0.0.2";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RateLimitService(2, 1, 1, 1, 4, 16, 60000);
+    }
+
+    /**
+     * Start of tests for tryAcquireClient and tryAcquireLoginName methods
+     */
+    @Test
+    void Should_ThrottleAndCount_When_ClientExceedsItsBurst() {
+        assertTrue(rateLimitService.tryAcquireClient(CLIENT_IP));
+        assertTrue(rateLimitService.tryAcquireClient(CLIENT_IP));
+        assertFalse(rateLimitService.tryAcquireClient(CLIENT_IP));
+        assertTrue(rateLimitService.tryAcquireClient(OTHER_CLIENT_IP));
+        assertEquals(1, rateLimitService.getThrottledClientCount());
+        assertEquals(2, rateLimitService.getClientBucketCount());
+    }
+
+    @Test
+    void Should_ThrottleAndCount_When_NameExceedsItsLoginAttempts() {
+        assertTrue(rateLimitService.tryAcquireLoginName(STUDENT_NAME));
+        assertFalse(rateLimitService.tryAcquireLoginName(STUDENT_NAME));
+        assertEquals(1, rateLimitService.getThrottledLoginNameCount());
+        assertEquals(0, rateLimitService.getThrottledClientCount());
+    }
+
+    /**
+     * Start of tests for TokenBucketLimiter
+     */
+    @Test
+    void Should_RefillTokens_When_TimePasses() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, 4, 16);
+        long now = 0;
+
+        assertTrue(limiter.tryAcquire(CLIENT_IP, now));
+        assertTrue(limiter.tryAcquire(CLIENT_IP, now));
+        assertFalse(limiter.tryAcquire(CLIENT_IP, now));
+        assertTrue(limiter.tryAcquire(CLIENT_IP, now + MINUTE_NANOS / 60));
+        assertFalse(limiter.tryAcquire(CLIENT_IP, now + MINUTE_NANOS / 60));
+        assertTrue(limiter.tryAcquire(CLIENT_IP, now + MINUTE_NANOS));
+        assertTrue(limiter.tryAcquire(CLIENT_IP, now + MINUTE_NANOS));
+        assertFalse(limiter.tryAcquire(CLIENT_IP, now + MINUTE_NANOS));
+    }
+
+    @Test
+    void Should_BoundBuckets_When_ManyKeysAreSeen() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 2, 3);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("10.0.1." + i, 0);
+        }
+
+        assertTrue(limiter.size() <= 6);
+    }
+
+    @Test
+    void Should_EvictIdleBuckets_When_IdleTimePassed() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 4, 16);
+        limiter.tryAcquire(CLIENT_IP, 0);
+        limiter.tryAcquire(OTHER_CLIENT_IP, MINUTE_NANOS);
+
+        assertEquals(1, limiter.evictIdle(MINUTE_NANOS, MINUTE_NANOS + 1));
+        assertEquals(1, limiter.size());
+        assertFalse(limiter.tryAcquire(OTHER_CLIENT_IP, MINUTE_NANOS + 1));
+        assertTrue(limiter.tryAcquire(CLIENT_IP, MINUTE_NANOS + 1));
+    }
+}
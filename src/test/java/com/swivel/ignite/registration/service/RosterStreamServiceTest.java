@@ -0,0 +1,269 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.dto.response.RosterEventResponseDto;
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link RosterStreamService} class
+ */
+class RosterStreamServiceTest {
+
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String OTHER_TUITION_ID = "tid-987654321";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final int BUFFER_SIZE = 2;
+    private static final long TIMEOUT_MS = 60000;
+    private static final long WRITE_TIMEOUT_MS = 50;
+    private static final long WAIT_SECONDS = 5;
+    private static final String ERROR = "ERROR";
+    private static final long LATEST_CURSOR = 42;
+    private RosterStreamService rosterStreamService;
+    private long changeId = LATEST_CURSOR;
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        rosterStreamService = new RosterStreamService(changeFeedService, BUFFER_SIZE, TIMEOUT_MS, WRITE_TIMEOUT_MS,
+                1) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter(timeoutMs);
+            }
+        };
+        when(changeFeedService.getLatestCursor()).thenReturn(LATEST_CURSOR);
+        rosterStreamService.followChanges();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterStreamService.shutdown();
+    }
+
+    /**
+     * Start of tests for subscribe method
+     */
+    @Test
+    void Should_AddSubscriber_When_Subscribing() {
+        assertNotNull(rosterStreamService.subscribe(TUITION_ID));
+        rosterStreamService.subscribe(TUITION_ID);
+
+        assertEquals(2, rosterStreamService.getSubscriberCount(TUITION_ID));
+        assertEquals(0, rosterStreamService.getSubscriberCount(OTHER_TUITION_ID));
+    }
+
+    /**
+     * Start of tests for followChanges method
+     */
+    @Test
+    void Should_ReadChangesAfterLatestChange_When_FollowingChanges() {
+        rosterStreamService.followChanges();
+
+        verify(changeFeedService, times(1)).getLatestCursor();
+        verify(changeFeedService, times(1)).getChanges(eq(LATEST_CURSOR), anyInt());
+    }
+
+    @Test
+    void Should_ContinueAfterLastChange_When_FollowingChanges() {
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID, TUITION_ID));
+        rosterStreamService.followChanges();
+
+        verify(changeFeedService, times(1)).getChanges(eq(LATEST_CURSOR + 1), anyInt());
+    }
+
+    @Test
+    void Should_NotThrow_When_ReadingChangeLogIsFailed() {
+        rosterStreamService.subscribe(TUITION_ID);
+        when(changeFeedService.getChanges(anyLong(), anyInt())).thenThrow(new RegistrationServiceException(ERROR));
+
+        rosterStreamService.followChanges();
+
+        assertEquals(1, rosterStreamService.getSubscriberCount(TUITION_ID));
+    }
+
+    @Test
+    void Should_KeepSubscribers_When_PushingEnrollmentEvents() {
+        rosterStreamService.subscribe(TUITION_ID);
+
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID, TUITION_ID));
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED, STUDENT_ID, null));
+
+        assertEquals(1, rosterStreamService.getSubscriberCount(TUITION_ID));
+    }
+
+    @Test
+    void Should_DeliverEventsInOrder_When_PushingEnrollmentEvents() throws InterruptedException {
+        RecordingEmitter emitter = (RecordingEmitter) rosterStreamService.subscribe(TUITION_ID);
+
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID, TUITION_ID));
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_REMOVED, OTHER_STUDENT_ID, TUITION_ID));
+
+        assertEquals("event:STUDENT_ENROLLED\ndata:" + STUDENT_ID + "\n\n",
+                emitter.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("event:STUDENT_REMOVED\ndata:" + OTHER_STUDENT_ID + "\n\n",
+                emitter.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void Should_DropSubscriber_When_ItsBufferOverflows() throws InterruptedException {
+        RecordingEmitter emitter = (RecordingEmitter) rosterStreamService.subscribe(TUITION_ID);
+        emitter.stall();
+        RegistrationEvent event = RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID,
+                TUITION_ID);
+
+        commitChange(event);
+        assertTrue(emitter.sendStarted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            commitChange(event);
+            assertEquals(1, rosterStreamService.getSubscriberCount(TUITION_ID));
+        }
+        commitChange(event);
+
+        assertEquals(0, rosterStreamService.getSubscriberCount(TUITION_ID));
+        assertTrue(emitter.interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(emitter.sent.isEmpty());
+    }
+
+    @Test
+    void Should_CloseStreams_When_TuitionIsDeleted() {
+        rosterStreamService.subscribe(TUITION_ID);
+        rosterStreamService.subscribe(OTHER_TUITION_ID);
+
+        commitChange(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_DELETED, getSampleTuition()));
+
+        assertEquals(0, rosterStreamService.getSubscriberCount(TUITION_ID));
+        assertEquals(1, rosterStreamService.getSubscriberCount(OTHER_TUITION_ID));
+    }
+
+    /**
+     * Start of tests for sendHeartbeats method
+     */
+    @Test
+    void Should_KeepSubscribers_When_SendingHeartbeats() {
+        rosterStreamService.subscribe(TUITION_ID);
+
+        rosterStreamService.sendHeartbeats();
+
+        assertEquals(1, rosterStreamService.getSubscriberCount(TUITION_ID));
+    }
+
+    @Test
+    void Should_SendHeartbeatComment_When_SendingHeartbeats() throws InterruptedException {
+        RecordingEmitter emitter = (RecordingEmitter) rosterStreamService.subscribe(TUITION_ID);
+
+        rosterStreamService.sendHeartbeats();
+
+        assertEquals(":heartbeat\n\n", emitter.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Start of tests for dropStalledSubscribers method
+     */
+    @Test
+    void Should_DropStalledSubscriberAndServeOthers_When_WriteTimesOut() throws InterruptedException {
+        RecordingEmitter stalledEmitter = (RecordingEmitter) rosterStreamService.subscribe(TUITION_ID);
+        stalledEmitter.stall();
+        RecordingEmitter otherEmitter = (RecordingEmitter) rosterStreamService.subscribe(OTHER_TUITION_ID);
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID, TUITION_ID));
+        assertTrue(stalledEmitter.sendStarted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        rosterStreamService.dropStalledSubscribers();
+        assertEquals(1, rosterStreamService.getSubscriberCount(TUITION_ID));
+        Thread.sleep(WRITE_TIMEOUT_MS * 2);
+        rosterStreamService.dropStalledSubscribers();
+
+        assertEquals(0, rosterStreamService.getSubscriberCount(TUITION_ID));
+        assertTrue(stalledEmitter.interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        commitChange(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_ENROLLED, STUDENT_ID, OTHER_TUITION_ID));
+        assertNotNull(otherEmitter.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    /**
+     * This method commits a change to the change log and lets the follower read it
+     *
+     * @param event registration event of the change
+     */
+    private void commitChange(RegistrationEvent event) {
+        ChangeLogEntry entry = new ChangeLogEntry(event);
+        entry.setId(++changeId);
+        when(changeFeedService.getChanges(anyLong(), anyInt())).thenReturn(Collections.singletonList(entry))
+                .thenReturn(Collections.emptyList());
+        rosterStreamService.followChanges();
+    }
+
+    /**
+     * This method returns a sample tuition
+     *
+     * @return Tuition
+     */
+    private Tuition getSampleTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setName("Perera Tuition");
+        tuition.setLocation("Nittambuwa");
+        return tuition;
+    }
+
+    /**
+     * SSE emitter recording the payloads sent to it, optionally stalling every write until it is interrupted
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile boolean stalled;
+
+        private RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        private void stall() {
+            stalled = true;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (stalled) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new ClosedByInterruptException();
+                }
+            }
+            StringBuilder payload = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                payload.append(data.getData() instanceof RosterEventResponseDto ?
+                        ((RosterEventResponseDto) data.getData()).getStudentId() : data.getData());
+            }
+            sent.add(payload.toString());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.SessionRevocation;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.repository.SessionRevocationRepository;
+import com.swivel.ignite.registration.service.token.SessionToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link SessionTokenService} class
+ */
+class SessionTokenServiceTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OLD_KEY = "k1:old-secret-of-at-least-thirty-two-bytes";
+    private static final String NEW_KEY = "k2:new-secret-of-at-least-thirty-two-bytes";
+    private static final long TTL_MS = 60000;
+    private static final long SYNC_OVERLAP_MS = 60000;
+    private static final String ERROR = "ERROR";
+    @Mock
+    private SessionRevocationRepository sessionRevocationRepository;
+    private SessionTokenService sessionTokenService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        sessionTokenService = createService(Collections.singletonList(OLD_KEY), "k1", TTL_MS);
+    }
+
+    /**
+     * Start of tests for issue and verify methods
+     */
+    @Test
+    void Should_VerifyToken_When_TokenWasIssued() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        SessionToken verifiedToken = sessionTokenService.verify(sessionToken.getValue());
+
+        assertNotNull(verifiedToken);
+        assertEquals(STUDENT_ID, verifiedToken.getStudentId());
+        assertEquals(sessionToken.getTokenId(), verifiedToken.getTokenId());
+        assertEquals(sessionToken.getExpiresAt(), verifiedToken.getExpiresAt());
+    }
+
+    @Test
+    void Should_RejectToken_When_TokenIsTamperedWith() {
+        String value = sessionTokenService.issue(STUDENT_ID).getValue();
+        int separatorIndex = value.lastIndexOf('.');
+        String otherPayload = sessionTokenService.issue("sid-987654321").getValue().substring(0,
+                value.lastIndexOf('.'));
+
+        assertNull(sessionTokenService.verify(otherPayload + value.substring(separatorIndex)));
+        assertNull(sessionTokenService.verify(value.substring(0, separatorIndex) + ".AAAA"));
+        assertNull(sessionTokenService.verify("not-a-token"));
+        assertNull(sessionTokenService.verify("%%%.%%%"));
+    }
+
+    @Test
+    void Should_RejectToken_When_TokenIsExpired() {
+        SessionTokenService expiringService = createService(Collections.singletonList(OLD_KEY), "k1", 0);
+
+        assertNull(expiringService.verify(expiringService.issue(STUDENT_ID).getValue()));
+    }
+
+    @Test
+    void Should_VerifyTokenOfOldKey_When_KeyIsRotated() {
+        String oldValue = sessionTokenService.issue(STUDENT_ID).getValue();
+        SessionTokenService rotatedService = createService(Arrays.asList(OLD_KEY, NEW_KEY), "k2", TTL_MS);
+        SessionTokenService retiredService = createService(Collections.singletonList(NEW_KEY), "k2", TTL_MS);
+
+        assertNotNull(rotatedService.verify(oldValue));
+        assertEquals("k2", rotatedService.issue(STUDENT_ID).getKeyId());
+        assertNull(retiredService.verify(oldValue));
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_ActiveKeyIsNotConfigured() {
+        assertThrows(IllegalArgumentException.class, () ->
+                createService(Collections.singletonList(OLD_KEY), "k2", TTL_MS));
+        assertThrows(IllegalArgumentException.class, () ->
+                createService(Collections.singletonList("k1"), "k1", TTL_MS));
+    }
+
+    /**
+     * Start of tests for revoke methods
+     */
+    @Test
+    void Should_RejectToken_When_TokenIsRevoked() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        SessionToken otherToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.revoke(sessionToken);
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+        assertNotNull(sessionTokenService.verify(otherToken.getValue()));
+    }
+
+    @Test
+    void Should_RejectAllTokensOfStudent_When_StudentIsDeleted() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.onRegistrationEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_DELETED,
+                STUDENT_ID, null));
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+    }
+
+    @Test
+    void Should_KeepRevocation_When_PurgingBeforeTokenExpiry() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.revoke(sessionToken);
+        sessionTokenService.purgeRevocations();
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+    }
+
+    @Test
+    void Should_SaveRevocation_When_TokenIsRevoked() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.revoke(sessionToken);
+
+        ArgumentCaptor<SessionRevocation> captor = ArgumentCaptor.forClass(SessionRevocation.class);
+        verify(sessionRevocationRepository).save(captor.capture());
+        assertEquals(SessionRevocation.TOKEN_PREFIX + sessionToken.getTokenId(),
+                captor.getValue().getRevocationKey());
+        assertEquals(sessionToken.getExpiresAt(), captor.getValue().getExpiresAt().getTime());
+    }
+
+    @Test
+    void Should_RevokeOnThisNode_When_SavingRevocationIsFailed() {
+        when(sessionRevocationRepository.save(any(SessionRevocation.class))).thenThrow(
+                new DataAccessException(ERROR) {
+                });
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.revoke(sessionToken);
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+    }
+
+    /**
+     * Start of tests for syncRevocations method
+     */
+    @Test
+    void Should_RejectToken_When_TokenWasRevokedOnOtherNode() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        SessionToken otherToken = sessionTokenService.issue("sid-987654321");
+        long now = System.currentTimeMillis();
+        when(sessionRevocationRepository.findByRevokedAtAfter(any(Date.class))).thenReturn(Arrays.asList(
+                new SessionRevocation(SessionRevocation.TOKEN_PREFIX + sessionToken.getTokenId(), new Date(now),
+                        new Date(sessionToken.getExpiresAt())),
+                new SessionRevocation(SessionRevocation.STUDENT_PREFIX + "sid-987654321", new Date(now),
+                        new Date(now + TTL_MS))));
+        sessionTokenService.syncRevocations();
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+        assertNull(sessionTokenService.verify(otherToken.getValue()));
+    }
+
+    @Test
+    void Should_KeepRevocations_When_ReadingRevocationsIsFailed() {
+        SessionToken sessionToken = sessionTokenService.issue(STUDENT_ID);
+        sessionTokenService.revoke(sessionToken);
+        when(sessionRevocationRepository.findByRevokedAtAfter(any(Date.class))).thenThrow(
+                new DataAccessException(ERROR) {
+                });
+        sessionTokenService.syncRevocations();
+
+        assertNull(sessionTokenService.verify(sessionToken.getValue()));
+    }
+
+    /**
+     * This method returns a session token service of the given keys
+     *
+     * @param keys        keys as keyId:secret pairs
+     * @param activeKeyId active key id
+     * @param ttlMs       token ttl
+     * @return SessionTokenService
+     */
+    private SessionTokenService createService(List<String> keys, String activeKeyId, long ttlMs) {
+        return new SessionTokenService(sessionRevocationRepository, keys, activeKeyId, ttlMs, SYNC_OVERLAP_MS);
+    }
+}
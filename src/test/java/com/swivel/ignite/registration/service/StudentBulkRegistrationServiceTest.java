@@ -0,0 +1,115 @@
+package com.swivel.ignite.registration.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentBulkRegistrationService} class
+ */
+class StudentBulkRegistrationServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final String ERROR = "ERROR";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private PasswordService passwordService;
+    private StudentBulkRegistrationService studentBulkRegistrationService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        studentBulkRegistrationService = new StudentBulkRegistrationService(studentService, passwordService,
+                objectMapper, BATCH_SIZE);
+        when(passwordService.hashAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * Start of tests for registerStudents method
+     */
+    @Test
+    void Should_CreateStudentsInBatches_When_RegisteringNdjsonStudents() throws IOException {
+        String body = "{\"name\":\"A\",\"password\":\"1\"}\n{\"name\":\"B\",\"password\":\"2\"}\n" +
+                "{\"name\":\"C\",\"password\":\"3\"}\n";
+
+        List<JsonNode> rows = register(body);
+        verify(studentService, times(2)).createStudents(anyList());
+        assertEquals(3, rows.size());
+        assertEquals("CREATED", rows.get(2).get("status").asText());
+        assertEquals("C", rows.get(2).get("name").asText());
+    }
+
+    @Test
+    void Should_CreateStudents_When_RegisteringJsonArrayOfStudents() throws IOException {
+        String body = "[{\"name\":\"A\",\"password\":\"1\"},{\"name\":\"B\",\"password\":\"2\"}]";
+
+        List<JsonNode> rows = register(body);
+        verify(studentService).createStudents(anyList());
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(1).get("index").asInt());
+    }
+
+    @Test
+    void Should_ReturnMissingRequiredFields_When_RegisteringStudentWithoutPassword() throws IOException {
+        String body = "{\"name\":\"A\"}\n{\"name\":\"B\",\"password\":\"2\"}";
+
+        List<JsonNode> rows = register(body);
+        assertEquals("MISSING_REQUIRED_FIELDS", rows.get(0).get("status").asText());
+        assertEquals("CREATED", rows.get(1).get("status").asText());
+    }
+
+    @Test
+    void Should_ReturnMalformedRequest_When_RegisteringMalformedRow() throws IOException {
+        String body = "{\"name\":\"A\",\"password\":\"1\"}\n{\"name\":";
+
+        List<JsonNode> rows = register(body);
+        assertEquals(2, rows.size());
+        assertEquals("CREATED", rows.get(0).get("status").asText());
+        assertEquals("MALFORMED_REQUEST", rows.get(1).get("status").asText());
+    }
+
+    @Test
+    void Should_ReturnFailed_When_SavingBatchIsFailed() throws IOException {
+        doThrow(new RegistrationServiceException(ERROR)).when(studentService).createStudents(anyList());
+        String body = "{\"name\":\"A\",\"password\":\"1\"}";
+
+        List<JsonNode> rows = register(body);
+        assertEquals("FAILED", rows.get(0).get("status").asText());
+    }
+
+    /**
+     * This method runs a bulk registration and parses the NDJSON result rows
+     *
+     * @param body request body
+     * @return result rows
+     * @throws IOException
+     */
+    private List<JsonNode> register(String body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        studentBulkRegistrationService.registerStudents(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), outputStream);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : outputStream.toString("UTF-8").split("\n")) {
+            if (!line.isEmpty())
+                rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+}
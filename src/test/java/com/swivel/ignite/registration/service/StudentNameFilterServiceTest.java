@@ -0,0 +1,238 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.ChangeLogEntry;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.service.bloom.CountingBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentNameFilterService} and {@link CountingBloomFilter} classes
+ */
+class StudentNameFilterServiceTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String OTHER_STUDENT_NAME = "Other Student";
+    private static final String UNKNOWN_NAME = "Unknown Student";
+    private static final String ERROR = "ERROR";
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private ChangeFeedService changeFeedService;
+    private StudentNameFilterService studentNameFilterService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        studentNameFilterService = new StudentNameFilterService(studentRepository, changeFeedService, 1000, 0.01,
+                1000);
+    }
+
+    /**
+     * Start of tests for mightExist method
+     */
+    @Test
+    void Should_PassEveryName_When_FilterIsNotBuilt() {
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(0, studentNameFilterService.getDefiniteMissCount());
+    }
+
+    @Test
+    void Should_RejectUnknownName_When_FilterIsBuilt() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME, OTHER_STUDENT_NAME));
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(STUDENT_NAME));
+        assertFalse(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(1, studentNameFilterService.getDefiniteMissCount());
+        assertEquals(2, studentNameFilterService.getNameCount());
+    }
+
+    @Test
+    void Should_PassName_When_StudentWasCreatedOnOtherNodeBeforeLastSync() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        when(changeFeedService.getChanges(anyLong(), anyInt())).thenReturn(Collections.singletonList(
+                getSampleChange(1, RegistrationEventType.STUDENT_CREATED, OTHER_STUDENT_NAME)))
+                .thenReturn(Collections.emptyList());
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(OTHER_STUDENT_NAME));
+        assertFalse(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(1, studentNameFilterService.getDefiniteMissCount());
+    }
+
+    @Test
+    void Should_NotReadChangeLog_When_NameIsMissed() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        studentNameFilterService.rebuild();
+
+        assertFalse(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertFalse(studentNameFilterService.mightExist(OTHER_STUDENT_NAME));
+        verify(changeFeedService, times(1)).getChanges(anyLong(), anyInt());
+        assertEquals(1, studentNameFilterService.getChangeSyncCount());
+    }
+
+    @Test
+    void Should_PassUnknownName_When_LastSyncIsStale() throws InterruptedException {
+        studentNameFilterService = new StudentNameFilterService(studentRepository, changeFeedService, 1000, 0.01, 0);
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        studentNameFilterService.rebuild();
+        Thread.sleep(5);
+
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(0, studentNameFilterService.getDefiniteMissCount());
+    }
+
+    @Test
+    void Should_PassUnknownName_When_ChangeLogIsBehindGap() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        when(changeFeedService.hasChangesAfter(anyLong())).thenReturn(true);
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(0, studentNameFilterService.getDefiniteMissCount());
+    }
+
+    @Test
+    void Should_PassUnknownName_When_ReadingChangeLogIsFailed() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        when(changeFeedService.getChanges(anyLong(), anyInt())).thenThrow(new RegistrationServiceException(ERROR));
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+    }
+
+    @Test
+    void Should_NotBuildFilter_When_ReadingChangeLogCursorIsFailed() {
+        when(changeFeedService.getLatestCursor()).thenThrow(new RegistrationServiceException(ERROR));
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+        assertEquals(0, studentNameFilterService.getNameCount());
+    }
+
+    @Test
+    void Should_PassEveryName_When_BuildingFilterIsFailed() {
+        when(studentRepository.streamAllNames()).thenThrow(new DataAccessException(ERROR) {
+        });
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(UNKNOWN_NAME));
+    }
+
+    /**
+     * Start of tests for onRegistrationEvent method
+     */
+    @Test
+    void Should_KeepCreatedName_When_StudentIsCreatedBeforeFirstBuild() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.empty());
+        studentNameFilterService.onRegistrationEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                STUDENT_ID, null, STUDENT_NAME));
+        studentNameFilterService.rebuild();
+
+        assertTrue(studentNameFilterService.mightExist(STUDENT_NAME));
+    }
+
+    @Test
+    void Should_FollowNames_When_StudentsAreCreatedAndDeleted() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        studentNameFilterService.rebuild();
+        studentNameFilterService.onRegistrationEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_CREATED,
+                STUDENT_ID, null, OTHER_STUDENT_NAME));
+        studentNameFilterService.onRegistrationEvent(RegistrationEvent.ofStudent(RegistrationEventType.STUDENT_DELETED,
+                STUDENT_ID, null, STUDENT_NAME));
+
+        assertTrue(studentNameFilterService.mightExist(OTHER_STUDENT_NAME));
+        assertFalse(studentNameFilterService.mightExist(STUDENT_NAME));
+    }
+
+    /**
+     * Start of tests for getObservedFalsePositiveRate method
+     */
+    @Test
+    void Should_ReturnShareOfUnknownNamesPassed_When_FalsePositivesAreRecorded() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        studentNameFilterService.rebuild();
+        studentNameFilterService.mightExist(UNKNOWN_NAME);
+        studentNameFilterService.recordFalsePositive();
+
+        assertEquals(0.5, studentNameFilterService.getObservedFalsePositiveRate());
+    }
+
+    /**
+     * Start of tests for syncChanges method
+     */
+    @Test
+    void Should_AddRenamedName_When_StudentWasRenamedOnOtherNode() {
+        when(studentRepository.streamAllNames()).thenReturn(Stream.of(STUDENT_NAME));
+        studentNameFilterService.rebuild();
+        when(changeFeedService.getChanges(anyLong(), anyInt())).thenReturn(Collections.singletonList(
+                getSampleChange(1, RegistrationEventType.STUDENT_UPDATED, OTHER_STUDENT_NAME)))
+                .thenReturn(Collections.emptyList());
+        studentNameFilterService.syncChanges();
+
+        assertTrue(studentNameFilterService.mightExist(OTHER_STUDENT_NAME));
+        assertEquals(2, studentNameFilterService.getChangeSyncCount());
+        assertEquals(2, studentNameFilterService.getNameCount());
+    }
+
+    /**
+     * Start of tests for CountingBloomFilter
+     */
+    @Test
+    void Should_KeepFalsePositiveRateNearTarget_When_FilterIsFull() {
+        CountingBloomFilter filter = new CountingBloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.add("student-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain("student-" + i));
+            if (filter.mightContain("unknown-" + i))
+                falsePositives++;
+        }
+        assertTrue(falsePositives < 200);
+        assertTrue(filter.estimateFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void Should_IgnoreRemove_When_NameWasNotAdded() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        filter.add(STUDENT_NAME);
+        filter.remove(UNKNOWN_NAME);
+
+        assertTrue(filter.mightContain(STUDENT_NAME));
+        assertEquals(1, filter.size());
+    }
+
+    /**
+     * This method returns a sample change log entry
+     *
+     * @param id   entry id
+     * @param type change type
+     * @param name student name
+     * @return ChangeLogEntry
+     */
+    private ChangeLogEntry getSampleChange(long id, RegistrationEventType type, String name) {
+        ChangeLogEntry entry = new ChangeLogEntry(RegistrationEvent.ofStudent(type, STUDENT_ID, null, name));
+        entry.setId(id);
+        return entry;
+    }
+}
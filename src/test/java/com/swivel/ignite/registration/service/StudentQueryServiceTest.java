@@ -0,0 +1,165 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.dto.response.StudentQueryResultDto;
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.StudentQueryField;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.StudentSummary;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentQueryService} class
+ */
+class StudentQueryServiceTest {
+
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final String UNKNOWN_STUDENT_ID = "sid-unknown";
+    private static final String STUDENT_NAME = "Mohamed Nawaz";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_NAME = "Perera Tuition";
+    private static final String TUITION_LOCATION = "Nittambuwa";
+    private static final String ERROR = "ERROR";
+    private StudentQueryService studentQueryService;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private TuitionRepository tuitionRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        studentQueryService = new StudentQueryService(studentRepository, tuitionRepository);
+    }
+
+    /**
+     * Start of tests for queryStudents method
+     */
+    @Test
+    void Should_LoadEachTuitionOnce_When_QueryingStudentsOfSameTuition() {
+        when(studentRepository.findSummariesByIdIn(anyCollection())).thenReturn(Arrays.asList(
+                getSampleStudentSummary(STUDENT_ID), getSampleStudentSummary(OTHER_STUDENT_ID)));
+        when(tuitionRepository.findAllById(anyCollection())).thenReturn(Collections.singletonList(getSampleTuition()));
+        when(studentRepository.countByTuitionIdIn(anyCollection())).thenReturn(
+                Collections.singletonList(getSampleTuitionStudentCount()));
+
+        List<StudentQueryResultDto> results = studentQueryService.queryStudents(
+                Arrays.asList(STUDENT_ID, UNKNOWN_STUDENT_ID, OTHER_STUDENT_ID, STUDENT_ID),
+                EnumSet.allOf(StudentQueryField.class));
+
+        assertEquals(4, results.size());
+        assertEquals(STUDENT_NAME, results.get(0).getName());
+        assertEquals(TUITION_NAME, results.get(0).getTuition().getName());
+        assertEquals(TUITION_LOCATION, results.get(0).getTuition().getLocation());
+        assertEquals(Long.valueOf(2L), results.get(0).getTuition().getStudentCount());
+        assertFalse(results.get(1).isFound());
+        assertNull(results.get(1).getName());
+        assertTrue(results.get(2).isFound());
+        verify(studentRepository, times(1)).findSummariesByIdIn(
+                new HashSet<>(Arrays.asList(STUDENT_ID, UNKNOWN_STUDENT_ID, OTHER_STUDENT_ID)));
+        verify(tuitionRepository, times(1)).findAllById(Collections.singleton(TUITION_ID));
+        verify(studentRepository, times(1)).countByTuitionIdIn(Collections.singleton(TUITION_ID));
+    }
+
+    @Test
+    void Should_NotLoadTuition_When_QueryingStudentsWithoutTuitionFields() {
+        when(studentRepository.findSummariesByIdIn(anyCollection())).thenReturn(
+                Collections.singletonList(getSampleStudentSummary(STUDENT_ID)));
+
+        List<StudentQueryResultDto> results = studentQueryService.queryStudents(
+                Collections.singletonList(STUDENT_ID), EnumSet.of(StudentQueryField.NAME));
+
+        assertEquals(STUDENT_NAME, results.get(0).getName());
+        assertNull(results.get(0).getTuitionId());
+        assertNull(results.get(0).getTuition());
+        verify(tuitionRepository, never()).findAllById(anyCollection());
+        verify(studentRepository, never()).countByTuitionIdIn(anyCollection());
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_QueryingStudentsIsFailed() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+        Set<StudentQueryField> fields = EnumSet.of(StudentQueryField.NAME);
+
+        when(studentRepository.findSummariesByIdIn(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentQueryService.queryStudents(studentIds, fields));
+        assertEquals("Failed to query students from DB", exception.getMessage());
+    }
+
+    /**
+     * This method returns a sample StudentSummary
+     *
+     * @param studentId student id
+     * @return StudentSummary
+     */
+    private StudentSummary getSampleStudentSummary(String studentId) {
+        return new StudentSummary() {
+            @Override
+            public String getId() {
+                return studentId;
+            }
+
+            @Override
+            public String getName() {
+                return STUDENT_NAME;
+            }
+
+            @Override
+            public Date getTuitionJoinedOn() {
+                return new Date();
+            }
+
+            @Override
+            public String getTuitionId() {
+                return TUITION_ID;
+            }
+        };
+    }
+
+    /**
+     * This method returns a sample TuitionStudentCount
+     *
+     * @return TuitionStudentCount
+     */
+    private TuitionStudentCount getSampleTuitionStudentCount() {
+        return new TuitionStudentCount() {
+            @Override
+            public String getTuitionId() {
+                return TUITION_ID;
+            }
+
+            @Override
+            public long getStudentCount() {
+                return 2L;
+            }
+        };
+    }
+
+    /**
+     * This method returns a sample Tuition
+     *
+     * @return Tuition
+     */
+    private Tuition getSampleTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setName(TUITION_NAME);
+        tuition.setLocation(TUITION_LOCATION);
+        return tuition;
+    }
+}
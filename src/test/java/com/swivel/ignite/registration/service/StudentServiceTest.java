@@ -1,23 +1,42 @@
 package com.swivel.ignite.registration.service;
 
+import com.swivel.ignite.registration.dto.request.StudentCreateRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentSearchRequestDto;
+import com.swivel.ignite.registration.dto.request.StudentUpdateRequestDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.BulkEnrollmentStatusType;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.InvalidCursorException;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.StudentAlreadyExistsException;
 import com.swivel.ignite.registration.exception.StudentNotFoundException;
+import com.swivel.ignite.registration.exception.UsernamePasswordNotMatchException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
+import com.swivel.ignite.registration.repository.StudentEnrollment;
 import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import com.swivel.ignite.registration.service.search.StudentSearchPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -28,17 +47,31 @@ class StudentServiceTest {
 
     private static final String STUDENT_ID = "sid-123456789";
     private static final String TUITION_ID = "tid-123456789";
+    private static final String OTHER_TUITION_ID = "tid-987654321";
     private static final String ERROR = "ERROR";
+    private static final String STUDENT_NAME = "Student";
+    private static final String PASSWORD = "password";
+    private static final String PASSWORD_HASH = "$2a$10$hash";
+    private static final String NEW_PASSWORD_HASH = "$2a$12$hash";
+    private static final int ENROLLMENT_CHUNK_SIZE = 2;
     @Mock
     private PaymentService paymentService;
     @Mock
     private StudentRepository studentRepository;
+    @Mock
+    private PasswordService passwordService;
+    @Mock
+    private StudentNameFilterService studentNameFilterService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     private StudentService studentService;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        studentService = new StudentService(studentRepository, paymentService);
+        when(studentNameFilterService.mightExist(anyString())).thenReturn(true);
+        studentService = new StudentService(studentRepository, paymentService, passwordService,
+                studentNameFilterService, eventPublisher, ENROLLMENT_CHUNK_SIZE, false);
     }
 
     /**
@@ -49,6 +82,8 @@ class StudentServiceTest {
         when(studentRepository.findById(anyString())).thenReturn(Optional.empty());
         studentService.createStudent(getSampleStudent());
         verify(studentRepository).save(any(Student.class));
+        verify(eventPublisher).publishEvent(argThat((RegistrationEvent event) ->
+                event.getType() == RegistrationEventType.STUDENT_CREATED));
     }
 
     @Test
@@ -86,6 +121,93 @@ class StudentServiceTest {
                 exception.getMessage());
     }
 
+    /**
+     * Start of tests for createStudents method
+     */
+    @Test
+    void Should_CreateStudents_When_CreatingStudentsIsSuccessful() {
+        List<Student> students = Collections.singletonList(getSampleStudent());
+
+        studentService.createStudents(students);
+        verify(studentRepository).persistAll(students);
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_CreatingStudentsIsFailed() {
+        List<Student> students = Collections.singletonList(getSampleStudent());
+
+        doThrow(new DataAccessException(ERROR) {
+        }).when(studentRepository).persistAll(students);
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.createStudents(students));
+        assertEquals("Failed to save batch of 1 students to DB", exception.getMessage());
+    }
+
+    /**
+     * Start of tests for login method
+     */
+    @Test
+    void Should_ReturnStudent_When_LoginIsSuccessful() {
+        when(studentRepository.findByName(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        when(passwordService.matches(PASSWORD, PASSWORD_HASH)).thenReturn(true);
+        when(passwordService.needsRehash(PASSWORD_HASH)).thenReturn(false);
+
+        assertEquals(STUDENT_ID, studentService.login(getSampleStudentCreateRequestDto()).getId());
+        verify(passwordService, never()).hash(anyString());
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    void Should_UpgradePasswordHash_When_LoginWithOutdatedHash() {
+        when(studentRepository.findByName(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        when(passwordService.matches(PASSWORD, PASSWORD_HASH)).thenReturn(true);
+        when(passwordService.needsRehash(PASSWORD_HASH)).thenReturn(true);
+        when(passwordService.hash(PASSWORD)).thenReturn(NEW_PASSWORD_HASH);
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(NEW_PASSWORD_HASH, studentService.login(getSampleStudentCreateRequestDto()).getPassword());
+        verify(studentRepository).save(any(Student.class));
+    }
+
+    @Test
+    void Should_KeepStoredHash_When_UpgradingPasswordHashIsFailed() {
+        when(studentRepository.findByName(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        when(passwordService.matches(PASSWORD, PASSWORD_HASH)).thenReturn(true);
+        when(passwordService.needsRehash(PASSWORD_HASH)).thenReturn(true);
+        when(passwordService.hash(PASSWORD)).thenReturn(NEW_PASSWORD_HASH);
+        when(studentRepository.save(any(Student.class))).thenThrow(new OptimisticLockingFailureException(ERROR));
+
+        assertEquals(PASSWORD_HASH, studentService.login(getSampleStudentCreateRequestDto()).getPassword());
+    }
+
+    @Test
+    void Should_ThrowUsernamePasswordNotMatchException_When_LoginWithWrongPassword() {
+        when(studentRepository.findByName(anyString())).thenReturn(Optional.of(getSampleStudent()));
+        when(passwordService.matches(PASSWORD, PASSWORD_HASH)).thenReturn(false);
+
+        assertThrows(UsernamePasswordNotMatchException.class, () ->
+                studentService.login(getSampleStudentCreateRequestDto()));
+        verify(passwordService, never()).needsRehash(anyString());
+    }
+
+    @Test
+    void Should_ThrowStudentNotFoundExceptionWithoutDbQuery_When_NameFilterRejectsName() {
+        when(studentNameFilterService.mightExist(STUDENT_NAME)).thenReturn(false);
+
+        assertThrows(StudentNotFoundException.class, () ->
+                studentService.login(getSampleStudentCreateRequestDto()));
+        verifyZeroInteractions(studentRepository);
+    }
+
+    @Test
+    void Should_RecordFalsePositive_When_NameFilterPassesUnknownName() {
+        when(studentRepository.findByName(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(StudentNotFoundException.class, () ->
+                studentService.login(getSampleStudentCreateRequestDto()));
+        verify(studentNameFilterService).recordFalsePositive();
+    }
+
     /**
      * Start of tests for findById method
      */
@@ -112,6 +234,138 @@ class StudentServiceTest {
         assertEquals("Failed to find student by id for student id: " + STUDENT_ID, exception.getMessage());
     }
 
+    /**
+     * Start of tests for findAllById method
+     */
+    @Test
+    void Should_ReturnStudentsById_When_FindingStudentsByIdsIsSuccessful() {
+        when(studentRepository.findByIdIn(anyCollection())).thenReturn(Collections.singletonList(getSampleStudent()));
+        Map<String, Student> students = studentService.findAllById(Arrays.asList(STUDENT_ID, "sid-unknown"));
+        assertEquals(1, students.size());
+        assertEquals(STUDENT_ID, students.get(STUDENT_ID).getId());
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_FindingStudentsByIdsIsFailed() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+
+        when(studentRepository.findByIdIn(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.findAllById(studentIds));
+        assertEquals("Failed to read students by ids", exception.getMessage());
+    }
+
+    /**
+     * Start of tests for findByTuitionId method
+     */
+    @Test
+    void Should_StartFromFirstStudent_When_FindingStudentsByTuitionIdWithoutCursor() {
+        when(studentRepository.findByTuitionIdAndIdGreaterThanOrderByIdAsc(anyString(), anyString(),
+                any(Pageable.class))).thenReturn(Collections.singletonList(getSampleStudent()));
+        assertEquals(1, studentService.findByTuitionId(TUITION_ID, null, 3).size());
+        verify(studentRepository).findByTuitionIdAndIdGreaterThanOrderByIdAsc(TUITION_ID, "", PageRequest.of(0, 3));
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_FindingStudentsByTuitionIdIsFailed() {
+        when(studentRepository.findByTuitionIdAndIdGreaterThanOrderByIdAsc(anyString(), anyString(),
+                any(Pageable.class))).thenThrow(new DataAccessException(ERROR) {
+        });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.findByTuitionId(TUITION_ID, STUDENT_ID, 3));
+        assertEquals("Failed to find students of tuition of id: " + TUITION_ID, exception.getMessage());
+    }
+
+    /**
+     * Start of tests for searchStudents method
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_ReturnNextCursorInNameOrder_When_SearchingStudentsByNameHasMoreStudents() {
+        StudentSearchRequestDto requestDto = new StudentSearchRequestDto();
+        requestDto.setName("Moh");
+        when(studentRepository.findPage(any(Specification.class), any(Sort.class), anyInt())).thenReturn(
+                Arrays.asList(getSampleStudent(), getSampleStudent()));
+
+        StudentSearchPage page = studentService.searchStudents(requestDto, 1);
+        assertEquals(1, page.getStudents().size());
+        verify(studentRepository).findPage(any(Specification.class), eq(Sort.by("name", "id")), eq(2));
+
+        requestDto.setAfter(page.getNextCursor());
+        studentService.searchStudents(requestDto, 1);
+        requestDto.setName(null);
+        assertThrows(InvalidCursorException.class, () -> studentService.searchStudents(requestDto, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_SearchInRosterOrderWithoutCursor_When_SearchingStudentsByTuitionIsLastPage() {
+        StudentSearchRequestDto requestDto = new StudentSearchRequestDto();
+        requestDto.setTuitionId(TUITION_ID);
+        requestDto.setName("Moh");
+        when(studentRepository.findPage(any(Specification.class), any(Sort.class), anyInt())).thenReturn(
+                Collections.singletonList(getSampleStudent()));
+
+        StudentSearchPage page = studentService.searchStudents(requestDto, 1);
+        assertNull(page.getNextCursor());
+        verify(studentRepository).findPage(any(Specification.class), eq(Sort.by("id")), eq(2));
+    }
+
+    @Test
+    void Should_ThrowInvalidCursorException_When_SearchingStudentsForMalformedCursor() {
+        StudentSearchRequestDto requestDto = new StudentSearchRequestDto();
+        requestDto.setAfter("%%");
+        assertThrows(InvalidCursorException.class, () -> studentService.searchStudents(requestDto, 1));
+    }
+
+    /**
+     * Start of tests for findStudentIdsByTuitionIds method
+     */
+    @Test
+    void Should_ReturnStudentIdsByTuitionId_When_FindingStudentIdsByTuitionIdsIsSuccessful() {
+        when(studentRepository.findEnrollmentsByTuitionIdIn(anyCollection())).thenReturn(
+                Collections.singletonList(getEnrollment(STUDENT_ID, TUITION_ID)));
+        Map<String, Set<String>> studentIds = studentService.findStudentIdsByTuitionIds(
+                Arrays.asList(TUITION_ID, OTHER_TUITION_ID));
+        assertEquals(Collections.singleton(STUDENT_ID), studentIds.get(TUITION_ID));
+        assertEquals(Collections.emptySet(), studentIds.get(OTHER_TUITION_ID));
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_FindingStudentIdsByTuitionIdsIsFailed() {
+        List<String> tuitionIds = Collections.singletonList(TUITION_ID);
+
+        when(studentRepository.findEnrollmentsByTuitionIdIn(anyCollection())).thenThrow(
+                new DataAccessException(ERROR) {
+                });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.findStudentIdsByTuitionIds(tuitionIds));
+        assertEquals("Failed to find student ids by tuition ids", exception.getMessage());
+    }
+
+    /**
+     * Start of tests for countByTuitionIds method
+     */
+    @Test
+    void Should_ReturnStudentCountByTuitionId_When_CountingStudentsByTuitionIdsIsSuccessful() {
+        when(studentRepository.countByTuitionIdIn(anyCollection())).thenReturn(Collections.singletonList(
+                new TuitionStudentCount() {
+                    @Override
+                    public String getTuitionId() {
+                        return TUITION_ID;
+                    }
+
+                    @Override
+                    public long getStudentCount() {
+                        return 3L;
+                    }
+                }));
+        Map<String, Long> studentCounts = studentService.countByTuitionIds(Arrays.asList(TUITION_ID, OTHER_TUITION_ID));
+        assertEquals(Long.valueOf(3L), studentCounts.get(TUITION_ID));
+        assertEquals(Long.valueOf(0L), studentCounts.get(OTHER_TUITION_ID));
+    }
+
     /**
      * Start of tests for deleteStudent method
      */
@@ -132,6 +386,63 @@ class StudentServiceTest {
         assertEquals("Failed to delete student of id: " + STUDENT_ID, exception.getMessage());
     }
 
+    @Test
+    void Should_MarkStudentDeleted_When_DeletingStudentInSoftDeleteMode() throws IOException {
+        studentService = new StudentService(studentRepository, paymentService, passwordService,
+                studentNameFilterService, eventPublisher, ENROLLMENT_CHUNK_SIZE, true);
+        Student student = getSampleStudent();
+        studentService.deleteStudent(student);
+        assertNotNull(student.getDeletedOn());
+        verify(studentRepository).save(student);
+        verify(studentRepository, never()).delete(any(Student.class));
+        verify(paymentService, never()).deleteByStudentId(anyString());
+        verify(eventPublisher).publishEvent(any(RegistrationEvent.class));
+    }
+
+    /**
+     * Start of tests for updateStudent method
+     */
+    @Test
+    void Should_UpdateGivenFields_When_UpdatingStudentIsSuccessful() {
+        Student student = getSampleStudent();
+        student.setName("Old Name");
+        student.setPassword("old-password");
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Student updatedStudent = studentService.updateStudent(student, getSampleStudentUpdateRequestDto(0L));
+
+        assertEquals("New Name", updatedStudent.getName());
+        assertEquals("old-password", updatedStudent.getPassword());
+        verify(eventPublisher).publishEvent(argThat((RegistrationEvent event) ->
+                event.getType() == RegistrationEventType.STUDENT_UPDATED));
+    }
+
+    @Test
+    void Should_ThrowVersionConflictException_When_UpdatingStudentForStaleVersion() {
+        assertThrows(VersionConflictException.class, () -> studentService.updateStudent(getSampleStudent(),
+                getSampleStudentUpdateRequestDto(1L)));
+        verify(studentRepository, never()).saveAndFlush(any(Student.class));
+        verifyZeroInteractions(eventPublisher);
+    }
+
+    @Test
+    void Should_ThrowVersionConflictException_When_UpdatingStudentForConcurrentChange() {
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(
+                new OptimisticLockingFailureException(ERROR));
+
+        assertThrows(VersionConflictException.class, () -> studentService.updateStudent(getSampleStudent(),
+                getSampleStudentUpdateRequestDto(0L)));
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_UpdatingStudentIsFailed() {
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(new DataAccessException(ERROR) {
+        });
+
+        assertThrows(RegistrationServiceException.class, () -> studentService.updateStudent(getSampleStudent(),
+                getSampleStudentUpdateRequestDto(0L)));
+    }
+
     /**
      * Start of tests for addStudentToTuition method
      */
@@ -139,6 +450,8 @@ class StudentServiceTest {
     void Should_AddStudentToTuition_When_AddingStudentToTuitionIsSuccessful() {
         studentService.addStudentToTuition(getSampleStudent(), getSampleTuition());
         verify(studentRepository).save(any(Student.class));
+        verify(eventPublisher).publishEvent(argThat((RegistrationEvent event) ->
+                event.getType() == RegistrationEventType.STUDENT_ENROLLED && TUITION_ID.equals(event.getTuitionId())));
     }
 
     @Test
@@ -173,6 +486,91 @@ class StudentServiceTest {
         assertEquals("Failed to remove student of id: " + STUDENT_ID + " from tuition", exception.getMessage());
     }
 
+    /**
+     * Start of tests for enrollStudents method
+     */
+    @Test
+    void Should_ReturnOutcomePerStudent_When_EnrollingStudentsIsSuccessful() {
+        Tuition tuition = getSampleTuition();
+
+        when(studentRepository.findEnrollmentsForUpdate(anyCollection())).thenReturn(
+                Arrays.asList(getEnrollment("s1", null), getEnrollment("s2", TUITION_ID)),
+                Collections.singletonList(getEnrollment("s3", OTHER_TUITION_ID)));
+        Map<String, BulkEnrollmentStatusType> outcomes = studentService.enrollStudents(tuition,
+                Arrays.asList("s1", "s2", "s1", "s3", "s4"));
+        assertEquals(Arrays.asList("s1", "s2", "s3", "s4"), new ArrayList<>(outcomes.keySet()));
+        assertEquals(BulkEnrollmentStatusType.ENROLLED, outcomes.get("s1"));
+        assertEquals(BulkEnrollmentStatusType.ALREADY_ENROLLED, outcomes.get("s2"));
+        assertEquals(BulkEnrollmentStatusType.ENROLLED_ELSEWHERE, outcomes.get("s3"));
+        assertEquals(BulkEnrollmentStatusType.NOT_FOUND, outcomes.get("s4"));
+        verify(studentRepository).enrollAll(eq(Collections.singletonList("s1")), eq(tuition), any(Date.class));
+        verify(eventPublisher, times(1)).publishEvent(any(RegistrationEvent.class));
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_EnrollingStudentsIsFailed() {
+        Tuition tuition = getSampleTuition();
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+
+        when(studentRepository.findEnrollmentsForUpdate(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.enrollStudents(tuition, studentIds));
+        assertEquals("Failed to enroll students to tuition of id: " + TUITION_ID, exception.getMessage());
+    }
+
+    /**
+     * Start of tests for removeStudentsFromTuition method
+     */
+    @Test
+    void Should_ReturnOutcomePerStudent_When_RemovingStudentsFromTuitionIsSuccessful() {
+        Tuition tuition = getSampleTuition();
+
+        when(studentRepository.findEnrollmentsForUpdate(anyCollection())).thenReturn(
+                Arrays.asList(getEnrollment("s1", TUITION_ID), getEnrollment("s2", OTHER_TUITION_ID)));
+        Map<String, BulkEnrollmentStatusType> outcomes = studentService.removeStudentsFromTuition(tuition,
+                Arrays.asList("s1", "s2"));
+        assertEquals(BulkEnrollmentStatusType.REMOVED, outcomes.get("s1"));
+        assertEquals(BulkEnrollmentStatusType.NOT_ENROLLED, outcomes.get("s2"));
+        verify(studentRepository).unenrollAll(Collections.singletonList("s1"), tuition);
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_RemovingStudentsFromTuitionIsFailed() {
+        Tuition tuition = getSampleTuition();
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+
+        when(studentRepository.findEnrollmentsForUpdate(anyCollection())).thenReturn(
+                Collections.singletonList(getEnrollment(STUDENT_ID, TUITION_ID)));
+        when(studentRepository.unenrollAll(anyCollection(), any(Tuition.class))).thenThrow(
+                new DataAccessException(ERROR) {
+                });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                studentService.removeStudentsFromTuition(tuition, studentIds));
+        assertEquals("Failed to remove students from tuition of id: " + TUITION_ID, exception.getMessage());
+    }
+
+    /**
+     * This method returns a student enrollment projection
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @return StudentEnrollment
+     */
+    private StudentEnrollment getEnrollment(String studentId, String tuitionId) {
+        return new StudentEnrollment() {
+            @Override
+            public String getStudentId() {
+                return studentId;
+            }
+
+            @Override
+            public String getTuitionId() {
+                return tuitionId;
+            }
+        };
+    }
+
     /**
      * This method returns a sample student
      *
@@ -181,9 +579,37 @@ class StudentServiceTest {
     private Student getSampleStudent() {
         Student student = new Student();
         student.setId(STUDENT_ID);
+        student.setName(STUDENT_NAME);
+        student.setPassword(PASSWORD_HASH);
+        student.setVersion(0L);
         return student;
     }
 
+    /**
+     * This method returns a sample student login request dto
+     *
+     * @return StudentCreateRequestDto
+     */
+    private StudentCreateRequestDto getSampleStudentCreateRequestDto() {
+        StudentCreateRequestDto requestDto = new StudentCreateRequestDto();
+        requestDto.setName(STUDENT_NAME);
+        requestDto.setPassword(PASSWORD);
+        return requestDto;
+    }
+
+    /**
+     * This method returns a sample student update request dto that changes the name
+     *
+     * @param version version the change is based on
+     * @return StudentUpdateRequestDto
+     */
+    private StudentUpdateRequestDto getSampleStudentUpdateRequestDto(long version) {
+        StudentUpdateRequestDto requestDto = new StudentUpdateRequestDto();
+        requestDto.setName("New Name");
+        requestDto.setVersion(version);
+        return requestDto;
+    }
+
     /**
      * This method returns a sample Tuition
      *
@@ -0,0 +1,177 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.enums.SearchMode;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.RegistrationServiceException;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.service.search.SearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link TuitionSearchService} class
+ */
+class TuitionSearchServiceTest {
+
+    private static final String ERROR = "ERROR";
+    private TuitionSearchService tuitionSearchService;
+    @Mock
+    private TuitionRepository tuitionRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        tuitionSearchService = new TuitionSearchService(tuitionRepository);
+        when(tuitionRepository.findAll()).thenReturn(getSampleTuitionList());
+        tuitionSearchService.rebuildIndex();
+    }
+
+    /**
+     * Start of tests for search method
+     */
+    @Test
+    void Should_ReturnRankedMatches_When_SearchingIndex() {
+        SearchPage searchPage = tuitionSearchService.search("Per", SearchMode.INDEX, 0, 10);
+
+        assertEquals(3, searchPage.getTotal());
+        assertEquals(Arrays.asList("tid-1", "tid-3", "tid-2"), ids(searchPage.getTuitionList()));
+    }
+
+    @Test
+    void Should_ReturnPageOfMatches_When_SearchingIndexWithOffset() {
+        SearchPage searchPage = tuitionSearchService.search("per", SearchMode.INDEX, 1, 2);
+
+        assertEquals(3, searchPage.getTotal());
+        assertEquals(Arrays.asList("tid-2"), ids(searchPage.getTuitionList()));
+    }
+
+    @Test
+    void Should_ReturnEmptyPage_When_SearchingBeyondTheLastPageWithOverflowingOffset() {
+        when(tuitionRepository.findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(anyString(), anyString()))
+                .thenReturn(getSampleTuitionList().subList(0, 3));
+
+        for (SearchMode mode : SearchMode.values()) {
+            SearchPage searchPage = tuitionSearchService.search("per", mode, Integer.MAX_VALUE, 100);
+            assertEquals(3, searchPage.getTotal());
+            assertTrue(searchPage.getTuitionList().isEmpty());
+        }
+    }
+
+    @Test
+    void Should_MatchShortQueries_When_SearchingIndex() {
+        assertEquals(1, tuitionSearchService.search("g", SearchMode.INDEX, 0, 10).getTotal());
+        assertEquals(0, tuitionSearchService.search("xyz", SearchMode.INDEX, 0, 10).getTotal());
+    }
+
+    @Test
+    void Should_ReturnSameResultsAsIndex_When_SearchingDb() {
+        when(tuitionRepository.findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(anyString(), anyString()))
+                .thenReturn(getSampleTuitionList().subList(0, 3));
+
+        SearchPage searchPage = tuitionSearchService.search("per", SearchMode.DB, 0, 10);
+        assertEquals(ids(tuitionSearchService.search("per", SearchMode.INDEX, 0, 10).getTuitionList()),
+                ids(searchPage.getTuitionList()));
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_SearchingDbIsFailed() {
+        when(tuitionRepository.findByNameContainingIgnoreCaseOrLocationContainingIgnoreCase(anyString(), anyString()))
+                .thenThrow(new DataAccessException(ERROR) {
+                });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                tuitionSearchService.search("per", SearchMode.DB, 0, 10));
+        assertEquals("Failed to search tuition in DB for query: per", exception.getMessage());
+    }
+
+    /**
+     * Start of tests for onRegistrationEvent method
+     */
+    @Test
+    void Should_UpdateIndex_When_ApplyingTuitionEvents() {
+        Tuition tuition = getSampleTuition("tid-5", "Kandy Maths", "Kandy");
+        tuitionSearchService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                tuition));
+        assertEquals(1, tuitionSearchService.search("kandy", SearchMode.INDEX, 0, 10).getTotal());
+
+        tuitionSearchService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_DELETED,
+                tuition));
+        assertEquals(0, tuitionSearchService.search("kandy", SearchMode.INDEX, 0, 10).getTotal());
+    }
+
+    /**
+     * Start of tests for rebuildIndex method
+     */
+    @Test
+    void Should_PickUpChangesOfOtherNodesAndKeepConcurrentEvents_When_RebuildingIndex() {
+        Tuition otherNodeTuition = getSampleTuition("tid-5", "Kandy Maths", "Kandy");
+        Tuition concurrentTuition = getSampleTuition("tid-6", "Kandy Science", "Peradeniya");
+        when(tuitionRepository.findAll()).thenAnswer(invocation -> {
+            tuitionSearchService.onRegistrationEvent(RegistrationEvent.ofTuition(
+                    RegistrationEventType.TUITION_CREATED, concurrentTuition));
+            return Arrays.asList(getSampleTuition("tid-1", "Perera Tuition", "Nittambuwa"), otherNodeTuition);
+        });
+
+        tuitionSearchService.rebuildIndex();
+
+        assertEquals(Arrays.asList("tid-5", "tid-6"),
+                ids(tuitionSearchService.search("kandy", SearchMode.INDEX, 0, 10).getTuitionList()));
+        assertEquals(Arrays.asList("tid-1"),
+                ids(tuitionSearchService.search("perera", SearchMode.INDEX, 0, 10).getTuitionList()));
+    }
+
+    /**
+     * This method returns the ids of a tuition list
+     *
+     * @param tuitionList tuition list
+     * @return ids
+     */
+    private List<String> ids(List<Tuition> tuitionList) {
+        String[] ids = new String[tuitionList.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = tuitionList.get(i).getId();
+        }
+        return Arrays.asList(ids);
+    }
+
+    /**
+     * This method returns a sample tuition list
+     *
+     * @return Tuition List
+     */
+    private List<Tuition> getSampleTuitionList() {
+        return Arrays.asList(getSampleTuition("tid-1", "Perera Tuition", "Nittambuwa"),
+                getSampleTuition("tid-2", "Silva Classes", "Peradeniya"),
+                getSampleTuition("tid-3", "Advanced Perera Classes", "Colombo"),
+                getSampleTuition("tid-4", "Galle Academy", "Matara"));
+    }
+
+    /**
+     * This method returns a sample tuition
+     *
+     * @param id       tuition id
+     * @param name     tuition name
+     * @param location tuition location
+     * @return Tuition
+     */
+    private Tuition getSampleTuition(String id, String name, String location) {
+        Tuition tuition = new Tuition();
+        tuition.setId(id);
+        tuition.setName(name);
+        tuition.setLocation(location);
+        return tuition;
+    }
+}
@@ -1,23 +1,29 @@
 package com.swivel.ignite.registration.service;
 
+import com.swivel.ignite.registration.dto.request.TuitionUpdateRequestDto;
 import com.swivel.ignite.registration.entity.Student;
 import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
 import com.swivel.ignite.registration.exception.RegistrationServiceException;
 import com.swivel.ignite.registration.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.exception.VersionConflictException;
 import com.swivel.ignite.registration.repository.TuitionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.io.IOException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -37,11 +43,14 @@ class TuitionServiceTest {
     private PaymentService paymentService;
     @Mock
     private TuitionRepository tuitionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        tuitionService = new TuitionService(tuitionRepository, studentService, paymentService);
+        tuitionService = new TuitionService(tuitionRepository, studentService, paymentService, eventPublisher,
+                false);
     }
 
     /**
@@ -52,6 +61,8 @@ class TuitionServiceTest {
         when(tuitionRepository.findByName(anyString())).thenReturn(Optional.empty());
         tuitionService.createTuition(getSampleTuition());
         verify(tuitionRepository).save(any(Tuition.class));
+        verify(eventPublisher).publishEvent(argThat((RegistrationEvent event) ->
+                event.getType() == RegistrationEventType.TUITION_CREATED && TUITION_ID.equals(event.getTuitionId())));
     }
 
     @Test
@@ -87,6 +98,49 @@ class TuitionServiceTest {
         assertEquals("Failed to save tuition to DB for tuition id: {}" + TUITION_ID, exception.getMessage());
     }
 
+    /**
+     * Start of test for updateTuition method
+     */
+    @Test
+    void Should_UpdateGivenFields_When_UpdatingTuitionIsSuccessful() {
+        when(tuitionRepository.saveAndFlush(any(Tuition.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Tuition tuition = tuitionService.updateTuition(getSampleTuition(), getSampleTuitionUpdateRequestDto(0L));
+
+        assertEquals(TUITION_NAME, tuition.getName());
+        assertEquals("Gampaha", tuition.getLocation());
+        verify(tuitionRepository, never()).findByName(anyString());
+        verify(eventPublisher).publishEvent(argThat((RegistrationEvent event) ->
+                event.getType() == RegistrationEventType.TUITION_UPDATED && "Gampaha".equals(event.getLocation())));
+    }
+
+    @Test
+    void Should_ThrowTuitionAlreadyExistsException_When_UpdatingTuitionToExistingName() {
+        TuitionUpdateRequestDto requestDto = getSampleTuitionUpdateRequestDto(0L);
+        requestDto.setName("Silva Tuition");
+        when(tuitionRepository.findByName(anyString())).thenReturn(Optional.of(new Tuition()));
+
+        assertThrows(TuitionAlreadyExistsException.class, () -> tuitionService.updateTuition(getSampleTuition(),
+                requestDto));
+        verify(tuitionRepository, never()).saveAndFlush(any(Tuition.class));
+    }
+
+    @Test
+    void Should_ThrowVersionConflictException_When_UpdatingTuitionForStaleVersion() {
+        assertThrows(VersionConflictException.class, () -> tuitionService.updateTuition(getSampleTuition(),
+                getSampleTuitionUpdateRequestDto(1L)));
+        verify(tuitionRepository, never()).saveAndFlush(any(Tuition.class));
+    }
+
+    @Test
+    void Should_ThrowVersionConflictException_When_UpdatingTuitionForConcurrentChange() {
+        when(tuitionRepository.saveAndFlush(any(Tuition.class))).thenThrow(
+                new OptimisticLockingFailureException(ERROR));
+
+        assertThrows(VersionConflictException.class, () -> tuitionService.updateTuition(getSampleTuition(),
+                getSampleTuitionUpdateRequestDto(0L)));
+    }
+
     /**
      * Start of test for findById method
      */
@@ -113,6 +167,28 @@ class TuitionServiceTest {
         assertEquals("Failed to get tuition from DB for tuition id: " + TUITION_ID, exception.getMessage());
     }
 
+    /**
+     * Start of test for findAllById method
+     */
+    @Test
+    void Should_ReturnTuitionById_When_FindingTuitionByIdsIsSuccessful() {
+        when(tuitionRepository.findByIdIn(anyCollection())).thenReturn(getSampleTuitionList());
+        Map<String, Tuition> tuitionMap = tuitionService.findAllById(Arrays.asList(TUITION_ID, "tid-unknown"));
+        assertEquals(1, tuitionMap.size());
+        assertEquals(TUITION_NAME, tuitionMap.get(TUITION_ID).getName());
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_FindingTuitionByIdsIsFailed() {
+        List<String> ids = Collections.singletonList(TUITION_ID);
+
+        when(tuitionRepository.findByIdIn(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        RegistrationServiceException exception = assertThrows(RegistrationServiceException.class, () ->
+                tuitionService.findAllById(ids));
+        assertEquals("Failed to read tuition by ids", exception.getMessage());
+    }
+
     /**
      * Start of test for deleteTuition method
      */
@@ -137,6 +213,19 @@ class TuitionServiceTest {
         assertEquals("Failed to delete tuition of id: " + TUITION_ID, exception.getMessage());
     }
 
+    @Test
+    void Should_MarkTuitionDeleted_When_DeletingTuitionInSoftDeleteMode() throws IOException {
+        tuitionService = new TuitionService(tuitionRepository, studentService, paymentService, eventPublisher,
+                true);
+        Tuition tuition = getSampleTuition();
+        tuitionService.deleteTuition(tuition);
+        assertNotNull(tuition.getDeletedOn());
+        verify(tuitionRepository).save(tuition);
+        verify(tuitionRepository, never()).delete(any(Tuition.class));
+        verifyZeroInteractions(studentService, paymentService);
+        verify(eventPublisher).publishEvent(any(RegistrationEvent.class));
+    }
+
     /**
      * Start of test for getAll method
      */
@@ -165,9 +254,24 @@ class TuitionServiceTest {
         tuition.setId(TUITION_ID);
         tuition.setName(TUITION_NAME);
         tuition.setStudents(getSampleStudentSet());
+        tuition.setVersion(0L);
         return tuition;
     }
 
+    /**
+     * This method returns a sample tuition update request dto that keeps the name and changes the location
+     *
+     * @param version version the change is based on
+     * @return TuitionUpdateRequestDto
+     */
+    private TuitionUpdateRequestDto getSampleTuitionUpdateRequestDto(long version) {
+        TuitionUpdateRequestDto requestDto = new TuitionUpdateRequestDto();
+        requestDto.setName(TUITION_NAME);
+        requestDto.setLocation("Gampaha");
+        requestDto.setVersion(version);
+        return requestDto;
+    }
+
     /**
      * This method returns a sample Student
      *
@@ -0,0 +1,220 @@
+package com.swivel.ignite.registration.service;
+
+import com.swivel.ignite.registration.entity.Tuition;
+import com.swivel.ignite.registration.entity.TuitionStats;
+import com.swivel.ignite.registration.event.RegistrationEvent;
+import com.swivel.ignite.registration.event.RegistrationEventType;
+import com.swivel.ignite.registration.exception.TuitionNotFoundException;
+import com.swivel.ignite.registration.repository.StudentRepository;
+import com.swivel.ignite.registration.repository.TuitionRepository;
+import com.swivel.ignite.registration.repository.TuitionStatsRepository;
+import com.swivel.ignite.registration.repository.TuitionStudentCount;
+import com.swivel.ignite.registration.service.stats.LocationStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link TuitionStatsService} class
+ */
+class TuitionStatsServiceTest {
+
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String OTHER_TUITION_ID = "tid-987654321";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_LOCATION = "Nittambuwa";
+    private static final String ERROR = "ERROR";
+    private TuitionStatsService tuitionStatsService;
+    @Mock
+    private TuitionStatsRepository tuitionStatsRepository;
+    @Mock
+    private TuitionRepository tuitionRepository;
+    @Mock
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        tuitionStatsService = new TuitionStatsService(tuitionStatsRepository, tuitionRepository, studentRepository);
+    }
+
+    /**
+     * Start of tests for onRegistrationEvent method
+     */
+    @Test
+    void Should_UpdateTuitionAndLocationCounters_When_ApplyingRegistrationEvents() {
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                getSampleTuition(TUITION_ID)));
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                getSampleTuition(OTHER_TUITION_ID)));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_REMOVED));
+
+        assertEquals(1, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        LocationStats locationStats = tuitionStatsService.getLocationStats().get(0);
+        assertEquals(2, locationStats.getTuitionCount());
+        assertEquals(1, locationStats.getStudentCount());
+
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_DELETED,
+                getSampleTuition(TUITION_ID)));
+        assertThrows(TuitionNotFoundException.class, () -> tuitionStatsService.getTuitionStats(TUITION_ID));
+        locationStats = tuitionStatsService.getLocationStats().get(0);
+        assertEquals(1, locationStats.getTuitionCount());
+        assertEquals(0, locationStats.getStudentCount());
+    }
+
+    @Test
+    void Should_MoveCountersToNewLocation_When_TuitionLocationIsUpdated() {
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                getSampleTuition(TUITION_ID)));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        Tuition tuition = getSampleTuition(TUITION_ID);
+        tuition.setLocation("Gampaha");
+
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_UPDATED,
+                tuition));
+
+        assertEquals("Gampaha", tuitionStatsService.getTuitionStats(TUITION_ID).getLocation());
+        assertEquals(1, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        List<LocationStats> locationStats = tuitionStatsService.getLocationStats();
+        assertEquals(1, locationStats.size());
+        assertEquals("Gampaha", locationStats.get(0).getLocation());
+        assertEquals(1, locationStats.get(0).getStudentCount());
+    }
+
+    /**
+     * Start of tests for persistStats method
+     */
+    @Test
+    void Should_PersistOnlyChangedCounters_When_PersistingStats() {
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                getSampleTuition(TUITION_ID)));
+        tuitionStatsService.persistStats();
+        tuitionStatsService.persistStats();
+
+        verify(tuitionStatsRepository, times(1)).insertIfMissing(TUITION_ID, TUITION_LOCATION);
+        verify(tuitionStatsRepository, never()).addStudentCounts(anyMap());
+        verify(tuitionStatsRepository, never()).deleteByTuitionIdIn(anyCollection());
+        verify(tuitionStatsRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void Should_PersistDeltas_When_StudentsAreEnrolled() {
+        when(tuitionStatsRepository.findAll()).thenReturn(Collections.singletonList(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 5)));
+        tuitionStatsService.loadStats();
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_REMOVED));
+
+        assertEquals(6, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        tuitionStatsService.persistStats();
+
+        verify(tuitionStatsRepository).addStudentCounts(Collections.singletonMap(TUITION_ID, 1L));
+    }
+
+    @Test
+    void Should_ReadCountersOfOtherNodes_When_PersistingStats() {
+        tuitionStatsService.onRegistrationEvent(RegistrationEvent.ofTuition(RegistrationEventType.TUITION_CREATED,
+                getSampleTuition(TUITION_ID)));
+        when(tuitionStatsRepository.findAll()).thenReturn(Arrays.asList(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 3),
+                new TuitionStats(OTHER_TUITION_ID, TUITION_LOCATION, 2)));
+        tuitionStatsService.persistStats();
+
+        assertEquals(3, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        assertEquals(2, tuitionStatsService.getTuitionStats(OTHER_TUITION_ID).getStudentCount());
+        assertEquals(5, tuitionStatsService.getLocationStats().get(0).getStudentCount());
+    }
+
+    @Test
+    void Should_RetryOnNextRun_When_PersistingStatsIsFailed() {
+        when(tuitionStatsRepository.findAll()).thenReturn(Collections.singletonList(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 5)));
+        tuitionStatsService.loadStats();
+        tuitionStatsService.onRegistrationEvent(studentEvent(RegistrationEventType.STUDENT_ENROLLED));
+        doThrow(new DataAccessException(ERROR) {
+        }).doNothing().when(tuitionStatsRepository).addStudentCounts(anyMap());
+        tuitionStatsService.persistStats();
+
+        assertEquals(6, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        tuitionStatsService.persistStats();
+
+        verify(tuitionStatsRepository, times(2)).addStudentCounts(Collections.singletonMap(TUITION_ID, 1L));
+    }
+
+    /**
+     * Start of tests for reconcileStats method
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void Should_ReplaceDriftedCounters_When_ReconcilingStats() {
+        when(tuitionStatsRepository.findAll()).thenReturn(Collections.singletonList(
+                new TuitionStats(OTHER_TUITION_ID, TUITION_LOCATION, 1)));
+        when(tuitionRepository.findAll()).thenReturn(Collections.singletonList(getSampleTuition(TUITION_ID)));
+        when(studentRepository.countGroupByTuitionId()).thenReturn(Collections.singletonList(
+                new TuitionStudentCount() {
+                    @Override
+                    public String getTuitionId() {
+                        return TUITION_ID;
+                    }
+
+                    @Override
+                    public long getStudentCount() {
+                        return 4L;
+                    }
+                }));
+        tuitionStatsService.reconcileStats();
+
+        assertEquals(4, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        assertEquals(1, tuitionStatsService.getAllTuitionStats().size());
+        verify(tuitionStatsRepository).saveAll(anyIterable());
+        verify(tuitionStatsRepository).deleteByTuitionIdIn(Collections.singleton(OTHER_TUITION_ID));
+    }
+
+    /**
+     * Start of tests for loadStats method
+     */
+    @Test
+    void Should_LoadPersistedCountersWithoutReconciling_When_LoadingStats() {
+        when(tuitionStatsRepository.findAll()).thenReturn(Collections.singletonList(
+                new TuitionStats(TUITION_ID, TUITION_LOCATION, 2)));
+        tuitionStatsService.loadStats();
+
+        assertEquals(2, tuitionStatsService.getTuitionStats(TUITION_ID).getStudentCount());
+        verify(studentRepository, never()).countGroupByTuitionId();
+    }
+
+    /**
+     * This method returns an event of a student of the sample tuition
+     *
+     * @param type event type
+     * @return RegistrationEvent
+     */
+    private RegistrationEvent studentEvent(RegistrationEventType type) {
+        return RegistrationEvent.ofStudent(type, STUDENT_ID, TUITION_ID);
+    }
+
+    /**
+     * This method returns a sample tuition
+     *
+     * @param tuitionId tuition id
+     * @return Tuition
+     */
+    private Tuition getSampleTuition(String tuitionId) {
+        Tuition tuition = new Tuition();
+        tuition.setId(tuitionId);
+        tuition.setLocation(TUITION_LOCATION);
+        return tuition;
+    }
+}